@@ -160,7 +160,10 @@ export default function AdminUsersPage() {
       setDeleteDemoDataDialogOpen(false)
       setError(null)
       await loadUsers()
-      alert(`Demo-Daten erfolgreich gelöscht! ${result.deletedUsers} Demo-User wurden entfernt.`)
+      alert(
+        `Demo-Daten erfolgreich gelöscht! ${result.deletedUsers} Demo-User, ` +
+          `${result.deletedFeedbacks} Feedbacks und ${result.deletedComments} Kommentare wurden entfernt.`
+      )
     } catch (err: any) {
       setError(err.message || "Demo-Daten konnten nicht gelöscht werden")
     }
@@ -42,11 +42,12 @@ import {
 import { Textarea } from "@/components/ui/textarea"
 import { Label } from "@/components/ui/label"
 import {
-  getAllFeedbacks,
+  getFeedbackPageWithComments,
   updateFeedbackStatus,
   publishFeedback,
   unpublishFeedback,
   deleteFeedback,
+  moderateFeedbacks,
   getCommentsByFeedbackId,
   addComment,
   categoryLabels,
@@ -55,11 +56,15 @@ import {
   type Feedback,
   type Status,
   type Comment,
+  type FeedbackWithComments,
+  type BulkOperation,
 } from "@/lib/api"
 
 export default function StaffFeedbacksPage() {
   const [feedbacks, setFeedbacks] = useState<Feedback[]>([])
   const [loading, setLoading] = useState(true)
+  const [loadingMore, setLoadingMore] = useState(false)
+  const [nextCursor, setNextCursor] = useState<string | null>(null)
   const [error, setError] = useState<string | null>(null)
   const [selectedStatus, setSelectedStatus] = useState<Record<number, Status>>({})
   const [deleteDialogOpen, setDeleteDialogOpen] = useState<number | null>(null)
@@ -69,6 +74,8 @@ export default function StaffFeedbacksPage() {
   const [statusChangeComment, setStatusChangeComment] = useState<Record<number, string>>({})
   const [statusChangeDialogOpen, setStatusChangeDialogOpen] = useState<number | null>(null)
   const [pendingStatusChange, setPendingStatusChange] = useState<Record<number, Status>>({})
+  const [selectedIds, setSelectedIds] = useState<number[]>([])
+  const [bulkRunning, setBulkRunning] = useState(false)
 
   const currentUser = getStoredUser()
 
@@ -79,36 +86,32 @@ export default function StaffFeedbacksPage() {
     }
   }, [currentUser])
 
+  // Übernimmt eine geladene Seite; append hängt sie an die bisher geladenen Feedbacks an
+  const applyPage = (data: FeedbackWithComments[], cursor: string | null, append: boolean) => {
+    setFeedbacks((prev) => (append ? [...prev, ...data] : data))
+    setNextCursor(cursor)
+    // Initialisiere Status-Auswahl
+    const statusMap: Record<number, Status> = {}
+    data.forEach((f) => {
+      statusMap[f.id] = f.status as Status
+    })
+    setSelectedStatus((prev) => (append ? { ...prev, ...statusMap } : statusMap))
+
+    // Kommentare kommen direkt mit den Feedbacks
+    const commentsMap: Record<number, Comment[]> = {}
+    data.forEach((f) => {
+      commentsMap[f.id] = f.comments
+    })
+    setComments((prev) => (append ? { ...prev, ...commentsMap } : commentsMap))
+  }
+
   const loadFeedbacks = async () => {
     setLoading(true)
     setError(null)
     try {
-      const data = await getAllFeedbacks()
-      setFeedbacks(data)
-      // Initialisiere Status-Auswahl
-      const statusMap: Record<number, Status> = {}
-      data.forEach((f) => {
-        statusMap[f.id] = f.status as Status
-      })
-      setSelectedStatus(statusMap)
-      
-      // Kommentare für alle Feedbacks parallel laden
-      const commentsPromises = data.map(async (feedback) => {
-        try {
-          const feedbackComments = await getCommentsByFeedbackId(feedback.id)
-          return { feedbackId: feedback.id, comments: feedbackComments }
-        } catch (err) {
-          console.error(`Kommentare für Feedback ${feedback.id} konnten nicht geladen werden:`, err)
-          return { feedbackId: feedback.id, comments: [] }
-        }
-      })
-      
-      const commentsResults = await Promise.all(commentsPromises)
-      const commentsMap: Record<number, Comment[]> = {}
-      commentsResults.forEach((result) => {
-        commentsMap[result.feedbackId] = result.comments
-      })
-      setComments(commentsMap)
+      const page = await getFeedbackPageWithComments(null)
+      applyPage(page.items, page.nextCursor, false)
+      setSelectedIds([])
     } catch (err) {
       setError("Feedbacks konnten nicht geladen werden. Ist das Backend erreichbar?")
     } finally {
@@ -116,6 +119,22 @@ export default function StaffFeedbacksPage() {
     }
   }
 
+  const loadMoreFeedbacks = async () => {
+    if (!nextCursor) {
+      return
+    }
+    setLoadingMore(true)
+    setError(null)
+    try {
+      const page = await getFeedbackPageWithComments(nextCursor)
+      applyPage(page.items, page.nextCursor, true)
+    } catch (err) {
+      setError("Weitere Feedbacks konnten nicht geladen werden")
+    } finally {
+      setLoadingMore(false)
+    }
+  }
+
   useEffect(() => {
     loadFeedbacks()
   }, [])
@@ -216,6 +235,37 @@ export default function StaffFeedbacksPage() {
     }
   }
 
+  const toggleSelected = (feedbackId: number) => {
+    setSelectedIds((prev) =>
+      prev.includes(feedbackId) ? prev.filter((id) => id !== feedbackId) : [...prev, feedbackId]
+    )
+  }
+
+  const toggleAllSelected = () => {
+    setSelectedIds((prev) => (prev.length === feedbacks.length ? [] : feedbacks.map((f) => f.id)))
+  }
+
+  // Alle ausgewählten Feedbacks mit einem Request ändern (statt ein PUT pro Feedback)
+  const handleBulkModeration = async (change: Omit<BulkOperation, "id">) => {
+    setBulkRunning(true)
+    setError(null)
+    try {
+      const result = await moderateFeedbacks(selectedIds.map((id) => ({ id, ...change })))
+      if (result.failed > 0) {
+        const reasons = result.items
+          .filter((item) => item.outcome !== "UPDATED")
+          .slice(0, 3)
+          .map((item) => `#${item.id}: ${item.message ?? item.outcome}`)
+        setError(`${result.failed} von ${selectedIds.length} Änderungen fehlgeschlagen (${reasons.join("; ")})`)
+      }
+      await loadFeedbacks()
+    } catch (err: any) {
+      setError(err.message || "Feedbacks konnten nicht geändert werden")
+    } finally {
+      setBulkRunning(false)
+    }
+  }
+
   const formatDate = (dateString: string) => {
     try {
       return new Date(dateString).toLocaleDateString("de-DE", {
@@ -317,9 +367,43 @@ export default function StaffFeedbacksPage() {
           <CardTitle>Alle Feedbacks</CardTitle>
           <CardDescription>
             Verwalten Sie den Status und die Veröffentlichung von Feedbacks
+            {nextCursor && ` (die neuesten ${feedbacks.length} sind geladen)`}
           </CardDescription>
         </CardHeader>
         <CardContent>
+          {selectedIds.length > 0 && (
+            <div className="mb-4 flex flex-wrap items-center gap-2 rounded-md border bg-muted/50 p-3">
+              <span className="text-sm font-medium">{selectedIds.length} ausgewählt</span>
+              <Select
+                onValueChange={(value) => handleBulkModeration({ status: value as Status })}
+                disabled={bulkRunning}
+              >
+                <SelectTrigger className="w-44">
+                  <SelectValue placeholder="Status setzen" />
+                </SelectTrigger>
+                <SelectContent>
+                  <SelectItem value="OPEN">Offen</SelectItem>
+                  <SelectItem value="INPROGRESS">In Bearbeitung</SelectItem>
+                  <SelectItem value="DONE">Erledigt</SelectItem>
+                  <SelectItem value="CLOSED">Geschlossen</SelectItem>
+                </SelectContent>
+              </Select>
+              <Button size="sm" onClick={() => handleBulkModeration({ publish: true })} disabled={bulkRunning}>
+                Veröffentlichen
+              </Button>
+              <Button
+                size="sm"
+                variant="outline"
+                onClick={() => handleBulkModeration({ publish: false })}
+                disabled={bulkRunning}
+              >
+                Nicht veröffentlichen
+              </Button>
+              <Button size="sm" variant="ghost" onClick={() => setSelectedIds([])} disabled={bulkRunning}>
+                Auswahl aufheben
+              </Button>
+            </div>
+          )}
           {loading ? (
             <div className="flex items-center justify-center py-12">
               <RefreshCw className="size-8 animate-spin text-muted-foreground" />
@@ -334,6 +418,15 @@ export default function StaffFeedbacksPage() {
               <Table>
                 <TableHeader>
                   <TableRow>
+                    <TableHead className="w-8">
+                      <input
+                        type="checkbox"
+                        className="size-4"
+                        aria-label="Alle auswählen"
+                        checked={feedbacks.length > 0 && selectedIds.length === feedbacks.length}
+                        onChange={toggleAllSelected}
+                      />
+                    </TableHead>
                     <TableHead>#</TableHead>
                     <TableHead>Titel</TableHead>
                     <TableHead>Kategorie</TableHead>
@@ -352,6 +445,15 @@ export default function StaffFeedbacksPage() {
                     return (
                       <>
                         <TableRow key={feedback.id}>
+                          <TableCell>
+                            <input
+                              type="checkbox"
+                              className="size-4"
+                              aria-label={`Feedback ${feedback.id} auswählen`}
+                              checked={selectedIds.includes(feedback.id)}
+                              onChange={() => toggleSelected(feedback.id)}
+                            />
+                          </TableCell>
                           <TableCell className="font-medium">{feedback.id}</TableCell>
                           <TableCell>
                             <div className="max-w-xs truncate font-medium">
@@ -485,7 +587,7 @@ export default function StaffFeedbacksPage() {
                         </TableRow>
                         {isExpanded && (
                           <TableRow>
-                            <TableCell colSpan={7} className="bg-muted/50">
+                            <TableCell colSpan={8} className="bg-muted/50">
                               <div className="space-y-4 p-4">
                                 <div className="flex items-center justify-between">
                                   <h4 className="font-semibold">Kommentare</h4>
@@ -617,6 +719,14 @@ export default function StaffFeedbacksPage() {
               </Table>
             </div>
           )}
+          {!loading && nextCursor && (
+            <div className="flex justify-center pt-4">
+              <Button variant="outline" size="sm" onClick={loadMoreFeedbacks} disabled={loadingMore}>
+                <RefreshCw className={`mr-2 size-4 ${loadingMore ? "animate-spin" : ""}`} />
+                Weitere Feedbacks laden
+              </Button>
+            </div>
+          )}
         </CardContent>
       </Card>
     </div>
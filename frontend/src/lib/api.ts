@@ -6,6 +6,9 @@ export interface User {
   id: string
   email: { value: string } | string
   role: string
+  // Nur beim angemeldeten User (Antwort von /user/login)
+  accessToken?: string
+  expiresAt?: string
 }
 
 // Helper um Email als String zu bekommen (Backend gibt Objekt zurück)
@@ -57,6 +60,11 @@ export function getStoredUser(): User | null {
   }
 }
 
+// Zugriffstoken des angemeldeten Users für Admin-Endpunkte
+function authHeaders(user: User): Record<string, string> {
+  return user.accessToken ? { Authorization: `Bearer ${user.accessToken}` } : {}
+}
+
 export function logout() {
   localStorage.removeItem("user")
   window.location.href = "/"
@@ -71,6 +79,31 @@ export async function getAllFeedbacks(): Promise<Feedback[]> {
   return res.json()
 }
 
+export interface FeedbackWithComments extends Feedback {
+  comments: Comment[]
+}
+
+export interface FeedbackWithCommentsPage {
+  items: FeedbackWithComments[]
+  nextCursor: string | null
+}
+
+// Lädt eine Seite Feedbacks samt Kommentaren in einem Request (statt ein Request pro Feedback)
+export async function getFeedbackPageWithComments(
+  after: string | null,
+  limit = 100
+): Promise<FeedbackWithCommentsPage> {
+  const params = new URLSearchParams({ include: "comments", limit: String(limit) })
+  if (after) {
+    params.set("after", after)
+  }
+  const res = await fetch(`${API_BASE}/feedback?${params}`)
+  if (!res.ok) {
+    throw new Error("Feedbacks konnten nicht geladen werden")
+  }
+  return res.json()
+}
+
 export async function getFeedbackById(id: number): Promise<Feedback> {
   const res = await fetch(`${API_BASE}/feedback/${id}`)
   if (!res.ok) {
@@ -143,7 +176,7 @@ export async function createUserByAdmin(dto: { email: string; password: string;
     method: "POST",
     headers: {
       "Content-Type": "application/json",
-      "X-Admin-Id": getUserId(user),
+      ...authHeaders(user),
     },
     body: JSON.stringify(dto),
   })
@@ -177,7 +210,7 @@ export async function changeUserRole(userId: string, newRole: string): Promise<U
     method: "PUT",
     headers: {
       "Content-Type": "application/json",
-      "X-Admin-Id": getUserId(user),
+      ...authHeaders(user),
     },
     body: JSON.stringify({ role: newRole }),
   })
@@ -226,6 +259,35 @@ export async function unpublishFeedback(feedbackId: number): Promise<Feedback> {
   return res.json()
 }
 
+export interface BulkOperation {
+  id: number
+  status?: Status
+  publish?: boolean
+}
+
+export interface BulkItemResult {
+  id: number
+  outcome: "UPDATED" | "NOT_FOUND" | "REJECTED" | "CONFLICT"
+  message: string | null
+  status: Status | null
+  published: boolean | null
+}
+
+export async function moderateFeedbacks(
+  operations: BulkOperation[]
+): Promise<{ updated: number; failed: number; items: BulkItemResult[] }> {
+  const res = await fetch(`${API_BASE}/feedback/bulk`, {
+    method: "POST",
+    headers: { "Content-Type": "application/json" },
+    body: JSON.stringify({ operations }),
+  })
+  if (!res.ok) {
+    const error = await res.text()
+    throw new Error(error || "Feedbacks konnten nicht moderiert werden")
+  }
+  return res.json()
+}
+
 export async function deleteFeedback(feedbackId: number): Promise<void> {
   const user = getStoredUser()
   if (!user || user.role !== "ADMIN") {
@@ -235,7 +297,7 @@ export async function deleteFeedback(feedbackId: number): Promise<void> {
   const res = await fetch(`${API_BASE}/feedback/${feedbackId}`, {
     method: "DELETE",
     headers: {
-      "X-Admin-Id": getUserId(user),
+      ...authHeaders(user),
     },
   })
   if (!res.ok) {
@@ -305,7 +367,7 @@ export async function deleteUser(userId: string): Promise<void> {
   const res = await fetch(`${API_BASE}/user/${userId}`, {
     method: "DELETE",
     headers: {
-      "X-Admin-Id": getUserId(user),
+      ...authHeaders(user),
     },
   })
   if (!res.ok) {
@@ -315,7 +377,12 @@ export async function deleteUser(userId: string): Promise<void> {
 }
 
 // Demo-Daten API
-export async function deleteAllDemoData(): Promise<{ deletedUsers: number; message: string }> {
+export async function deleteAllDemoData(): Promise<{
+  deletedUsers: number
+  deletedFeedbacks: number
+  deletedComments: number
+  message: string
+}> {
   const user = getStoredUser()
   if (!user || user.role !== "ADMIN") {
     throw new Error("Nur Administratoren können Demo-Daten löschen")
@@ -324,7 +391,7 @@ export async function deleteAllDemoData(): Promise<{ deletedUsers: number; messa
   const res = await fetch(`${API_BASE}/admin/demo-data`, {
     method: "DELETE",
     headers: {
-      "X-Admin-Id": getUserId(user),
+      ...authHeaders(user),
     },
   })
   if (!res.ok) {
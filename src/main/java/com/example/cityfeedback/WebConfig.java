@@ -1,10 +1,14 @@
 package com.example.cityfeedback;
 
+import com.example.cityfeedback.usermanagement.application.UserPrincipalArgumentResolver;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class WebConfig {
 
@@ -19,6 +23,12 @@ public class WebConfig {
                         .allowedHeaders("*")
                         .allowCredentials(true);
             }
+
+            // Angemeldeter User aus dem Zugriffstoken (AccessTokenFilter) als Controller-Parameter
+            @Override
+            public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+                resolvers.add(new UserPrincipalArgumentResolver());
+            }
         };
     }
 }
@@ -0,0 +1,46 @@
+package com.example.cityfeedback.application;
+
+import com.example.cityfeedback.config.BoundedTtlCache;
+import com.example.cityfeedback.config.BoundedWorkPool;
+import com.example.cityfeedback.config.CacheRegistry;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Stellt Kennzahlen der In-Process-Caches und der begrenzten Thread-Pools bereit.
+ */
+@RestController
+@RequestMapping("/metrics")
+public class CacheMetricsController {
+
+    private final CacheRegistry cacheRegistry;
+    private final List<BoundedWorkPool> workPools;
+
+    public CacheMetricsController(CacheRegistry cacheRegistry, List<BoundedWorkPool> workPools) {
+        this.cacheRegistry = cacheRegistry;
+        this.workPools = workPools;
+    }
+
+    /**
+     * Gibt Größe, Treffer, Fehlzugriffe und Verdrängungen aller Caches zurück.
+     * GET /metrics/caches
+     */
+    @GetMapping("/caches")
+    public List<BoundedTtlCache.CacheStats> getCacheStats() {
+        return cacheRegistry.stats();
+    }
+
+    /**
+     * Gibt Threads, Warteschlangenlänge, abgelehnte Aufträge und Wartezeiten aller Pools zurück.
+     * GET /metrics/pools
+     */
+    @GetMapping("/pools")
+    public List<BoundedWorkPool.PoolStats> getPoolStats() {
+        return workPools.stream()
+                .map(BoundedWorkPool::stats)
+                .toList();
+    }
+}
@@ -1,12 +1,18 @@
 package com.example.cityfeedback.application;
 
+import com.example.cityfeedback.config.BoundedWorkPool;
+import com.example.cityfeedback.config.GroupCommitQueue;
+import com.example.cityfeedback.feedbackmanagement.domain.exceptions.ConcurrentFeedbackModificationException;
 import com.example.cityfeedback.feedbackmanagement.domain.exceptions.FeedbackNotFoundException;
+import com.example.cityfeedback.feedbackmanagement.domain.exceptions.SubmissionNotFoundException;
 import com.example.cityfeedback.usermanagement.domain.exceptions.EmailAlreadyExistsException;
 import com.example.cityfeedback.usermanagement.domain.exceptions.InvalidCredentialsException;
 import com.example.cityfeedback.usermanagement.domain.exceptions.UnauthorizedException;
 import com.example.cityfeedback.usermanagement.domain.exceptions.UserNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -26,8 +32,8 @@ public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
-    @ExceptionHandler(FeedbackNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleFeedbackNotFound(FeedbackNotFoundException ex) {
+    @ExceptionHandler({FeedbackNotFoundException.class, SubmissionNotFoundException.class})
+    public ResponseEntity<ErrorResponse> handleFeedbackNotFound(RuntimeException ex) {
         logger.warn("Feedback nicht gefunden: {}", ex.getMessage());
         ErrorResponse error = new ErrorResponse(
                 HttpStatus.NOT_FOUND.value(),
@@ -37,6 +43,19 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler({ConcurrentFeedbackModificationException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<ErrorResponse> handleConcurrentModification(RuntimeException ex) {
+        logger.warn("Gleichzeitige Änderung: {}", ex.getMessage());
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                ex instanceof ConcurrentFeedbackModificationException
+                        ? ex.getMessage()
+                        : "Der Datensatz wurde gleichzeitig geändert. Bitte erneut versuchen.",
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(UserNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleUserNotFound(UserNotFoundException ex) {
         logger.warn("Benutzer nicht gefunden: {}", ex.getMessage());
@@ -81,6 +100,19 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.FORBIDDEN);
     }
 
+    @ExceptionHandler({GroupCommitQueue.QueueFullException.class, BoundedWorkPool.PoolSaturatedException.class})
+    public ResponseEntity<ErrorResponse> handleQueueFull(RuntimeException ex) {
+        logger.warn("Überlastet: {}", ex.getMessage());
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Zu viele gleichzeitige Anfragen. Bitte in Kürze erneut versuchen.",
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationExceptions(
             MethodArgumentNotValidException ex) {
@@ -0,0 +1,76 @@
+package com.example.cityfeedback.application;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Schreibt große Listen elementweise in die HTTP-Antwort, ohne sie vorher im Speicher zu sammeln.
+ * 
+ * Unterstützte Formate:
+ * - NDJSON (application/x-ndjson): ein JSON-Objekt pro Zeile
+ * - JSON-Array (application/json): ein Array, das Element für Element geschrieben wird
+ */
+@Component
+public class JsonStreamWriter {
+
+    private final ObjectWriter writer;
+
+    public JsonStreamWriter(ObjectMapper objectMapper) {
+        // Den Servlet-OutputStream schließt Spring selbst
+        this.writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Erstellt eine Streaming-Antwort für die vom Producer gelieferten Elemente.
+     * Der Producer wird erst beim Schreiben der Antwort aufgerufen.
+     * 
+     * @param ndjson true für NDJSON, false für ein JSON-Array
+     * @param producer Liefert die Elemente nacheinander an den übergebenen Consumer
+     * @return ResponseEntity mit passendem Content-Type
+     */
+    public <T> ResponseEntity<StreamingResponseBody> stream(boolean ndjson, Consumer<Consumer<T>> producer) {
+        StreamingResponseBody body = ndjson
+                ? outputStream -> producer.accept(element -> {
+                    try {
+                        writer.writeValue(outputStream, element);
+                        outputStream.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                : outputStream -> {
+                    try (SequenceWriter array = writer.writeValuesAsArray(outputStream)) {
+                        producer.accept(element -> {
+                            try {
+                                array.write(element);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+                    }
+                };
+        MediaType contentType = ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON;
+        return ResponseEntity.ok().contentType(contentType).body(body);
+    }
+
+    /**
+     * Prüft, ob der Accept-Header NDJSON anfordert.
+     * 
+     * @param accept Wert des Accept-Headers (darf null sein)
+     * @return true, wenn application/x-ndjson akzeptiert wird
+     */
+    public static boolean acceptsNdjson(String accept) {
+        return accept != null && MediaType.parseMediaTypes(accept).stream()
+                .anyMatch(type -> type.equalsTypeAndSubtype(MediaType.APPLICATION_NDJSON));
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.cityfeedback.config;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Einfacher In-Process-Cache mit Größen- und Zeitbegrenzung.
+ * 
+ * - Größe: wird maxSize überschritten, fliegt der am längsten nicht genutzte Eintrag (LRU)
+ * - Zeit: Einträge sind nach Ablauf der TTL ungültig und werden beim nächsten Zugriff entfernt
+ * - Metriken: Treffer, Fehlzugriffe und Verdrängungen werden gezählt
+ * 
+ * Jede Invalidierung erhöht eine Generation. Ein Wert, dessen Laden vor einer Invalidierung
+ * begonnen hat, wird nicht mehr übernommen, damit kein veralteter Stand im Cache landet.
+ * 
+ * @param <K> Schlüsseltyp
+ * @param <V> Werttyp (sollte unveränderlich sein oder beim Auslesen kopiert werden)
+ */
+public class BoundedTtlCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedTtlCache(String name, int maxSize, Duration ttl) {
+        this(name, maxSize, ttl, System::nanoTime);
+    }
+
+    BoundedTtlCache(String name, int maxSize, Duration ttl, LongSupplier nanoTime) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize muss größer als 0 sein.");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("TTL muss größer als 0 sein.");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Liefert den Wert aus dem Cache oder lädt ihn über den Loader (Read-Through).
+     * Liefert der Loader null, wird nichts gecacht.
+     * 
+     * @param key Der Schlüssel
+     * @param loader Lädt den Wert bei einem Fehlzugriff
+     * @return Der Wert oder null
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt - nanoTime.getAsLong() > 0) {
+                    hits.increment();
+                    return entry.value;
+                }
+                entries.remove(key);
+                evictions.increment();
+            }
+            misses.increment();
+            loadGeneration = generation;
+        }
+
+        // Laden außerhalb des Locks, damit langsame Loader andere Zugriffe nicht blockieren
+        V value = loader.apply(key);
+        if (value != null) {
+            put(key, value, loadGeneration);
+        }
+        return value;
+    }
+
+    /**
+     * Legt einen bekannten Wert ab (Write-Through), z.B. nach einem Commit.
+     * Ein parallel begonnenes Laden wird verworfen, damit es den Wert nicht mit einem älteren Stand überschreibt.
+     * 
+     * @param key Der Schlüssel
+     * @param value Der Wert
+     */
+    public synchronized void put(K key, V value) {
+        generation++;
+        put(key, value, generation);
+    }
+
+    /**
+     * Entfernt einen Eintrag.
+     * 
+     * @param key Der Schlüssel
+     */
+    public synchronized void invalidate(K key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    /**
+     * Entfernt alle Einträge.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    /**
+     * @return Aktuelle Kennzahlen des Caches
+     */
+    public synchronized CacheStats stats() {
+        return new CacheStats(name, entries.size(), maxSize, hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private synchronized void put(K key, V value, long loadGeneration) {
+        if (loadGeneration != generation) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, nanoTime.getAsLong() + ttlNanos));
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxSize && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Kennzahlen eines Caches.
+     */
+    public static final class CacheStats {
+        private final String name;
+        private final int size;
+        private final int maxSize;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+
+        public CacheStats(String name, int size, int maxSize, long hits, long misses, long evictions) {
+            this.name = name;
+            this.size = size;
+            this.maxSize = maxSize;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public double getHitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.cityfeedback.config;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Begrenzter Thread-Pool für rechenintensive Arbeit (z.B. Passwort-Hashing) mit Zugangskontrolle.
+ *
+ * - Feste Anzahl Threads und eine begrenzte Warteschlange; die Wartezeit eines Auftrags ist damit
+ *   höchstens etwa (queueCapacity / threads) Auftragsdauern
+ * - Ist die Warteschlange voll, wird sofort {@link PoolSaturatedException} geworfen statt zu warten
+ * - Hat ein Auftrag länger als maxWait gewartet, wird er nicht mehr ausgeführt, sondern ebenfalls mit
+ *   PoolSaturatedException beendet (der Client hat meist schon aufgegeben)
+ * - Kennzahlen: Warteschlangenlänge, aktive Threads, erledigte, abgelehnte und verfallene Aufträge sowie
+ *   durchschnittliche und maximale Wartezeit bis zum Start eines Auftrags
+ * - {@link #close()} nimmt nichts mehr an und arbeitet die Warteschlange noch ab
+ */
+public class BoundedWorkPool implements AutoCloseable {
+
+    private final String name;
+    private final int threads;
+    private final int queueCapacity;
+    private final long waitLimitNanos;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * @param name Name für Threads und Metriken
+     * @param threads Anzahl Threads
+     * @param queueCapacity Maximale Anzahl wartender Aufträge
+     * @param maxWait Maximale Wartezeit bis zum Start eines Auftrags (0 = unbegrenzt)
+     */
+    public BoundedWorkPool(String name, int threads, int queueCapacity, Duration maxWait) {
+        if (threads <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("threads und queueCapacity müssen größer als 0 sein.");
+        }
+        if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("maxWait darf nicht negativ sein.");
+        }
+        this.name = name;
+        this.threads = threads;
+        this.queueCapacity = queueCapacity;
+        this.waitLimitNanos = maxWait.isZero() ? Long.MAX_VALUE : maxWait.toNanos();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Führt eine Aufgabe im Pool aus.
+     *
+     * @param task Die Aufgabe
+     * @return Future mit dem Ergebnis oder der Exception der Aufgabe
+     *         (PoolSaturatedException, wenn der Auftrag länger als maxWait gewartet hat)
+     * @throws PoolSaturatedException wenn die Warteschlange voll ist oder der Pool geschlossen wurde
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long submittedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                long waitNanos = System.nanoTime() - submittedAt;
+                recordWait(waitNanos);
+                if (waitNanos > waitLimitNanos) {
+                    expired.increment();
+                    future.completeExceptionally(new PoolSaturatedException("Auftrag hat im Pool '" + name + "' zu lange gewartet."));
+                    return;
+                }
+                try {
+                    future.complete(task.get());
+                } catch (RuntimeException | Error e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PoolSaturatedException("Pool '" + name + "' ist ausgelastet.");
+        }
+        return future;
+    }
+
+    private void recordWait(long waitNanos) {
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    /**
+     * @return Aktuelle Kennzahlen des Pools
+     */
+    public PoolStats stats() {
+        long started = completed.sum() + expired.sum();
+        return new PoolStats(name, threads, executor.getActiveCount(), executor.getQueue().size(), queueCapacity,
+                completed.sum(), rejected.sum(), expired.sum(),
+                started == 0 ? 0 : totalWaitNanos.sum() / started / 1_000_000.0,
+                maxWaitNanos.get() / 1_000_000.0);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Wird geworfen, wenn der Pool keine weiteren Aufträge annimmt.
+     */
+    public static class PoolSaturatedException extends RuntimeException {
+        public PoolSaturatedException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Kennzahlen eines Pools (Wartezeiten in Millisekunden).
+     */
+    public static final class PoolStats {
+        private final String name;
+        private final int threads;
+        private final int active;
+        private final int queueDepth;
+        private final int queueCapacity;
+        private final long completed;
+        private final long rejected;
+        private final long expired;
+        private final double averageWaitMillis;
+        private final double maxWaitMillis;
+
+        public PoolStats(String name, int threads, int active, int queueDepth, int queueCapacity,
+                         long completed, long rejected, long expired, double averageWaitMillis, double maxWaitMillis) {
+            this.name = name;
+            this.threads = threads;
+            this.active = active;
+            this.queueDepth = queueDepth;
+            this.queueCapacity = queueCapacity;
+            this.completed = completed;
+            this.rejected = rejected;
+            this.expired = expired;
+            this.averageWaitMillis = averageWaitMillis;
+            this.maxWaitMillis = maxWaitMillis;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public int getActive() {
+            return active;
+        }
+
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public long getCompleted() {
+            return completed;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        public long getExpired() {
+            return expired;
+        }
+
+        public double getAverageWaitMillis() {
+            return averageWaitMillis;
+        }
+
+        public double getMaxWaitMillis() {
+            return maxWaitMillis;
+        }
+    }
+}
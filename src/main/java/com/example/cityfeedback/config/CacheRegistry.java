@@ -0,0 +1,40 @@
+package com.example.cityfeedback.config;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * Erzeugt die In-Process-Caches der Anwendung und sammelt sie für die Metriken.
+ */
+@Component
+public class CacheRegistry {
+
+    private final List<BoundedTtlCache<?, ?>> caches = new CopyOnWriteArrayList<>();
+
+    /**
+     * Erzeugt einen neuen Cache und registriert ihn.
+     * 
+     * @param name Name des Caches (für Metriken)
+     * @param maxSize Maximale Anzahl Einträge
+     * @param ttl Lebensdauer eines Eintrags
+     * @return Der neue Cache
+     */
+    public <K, V> BoundedTtlCache<K, V> create(String name, int maxSize, Duration ttl) {
+        BoundedTtlCache<K, V> cache = new BoundedTtlCache<>(name, maxSize, ttl);
+        caches.add(cache);
+        return cache;
+    }
+
+    /**
+     * @return Kennzahlen aller registrierten Caches
+     */
+    public List<BoundedTtlCache.CacheStats> stats() {
+        return caches.stream()
+                .map(BoundedTtlCache::stats)
+                .collect(Collectors.toList());
+    }
+}
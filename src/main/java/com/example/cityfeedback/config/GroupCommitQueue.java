@@ -0,0 +1,202 @@
+package com.example.cityfeedback.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Begrenzte Warteschlange für Schreibzugriffe mit Gruppen-Commit (Write-Behind).
+ *
+ * - Aufrufer reichen einzelne Objekte ein und erhalten ein CompletableFuture
+ * - Ein Schreib-Thread sammelt bis zu batchSize Objekte oder wartet höchstens maxDelay
+ *   ab dem ersten Objekt und schreibt sie mit einem Aufruf des Writers (eine Transaktion)
+ * - Schlägt ein Block fehl, wird jedes Objekt einzeln erneut geschrieben, damit ein
+ *   fehlerhaftes Objekt die übrigen nicht mitreißt
+ * - Gegendruck: ist die Warteschlange voll, wartet der Aufrufer höchstens offerTimeout,
+ *   danach wird {@link QueueFullException} geworfen
+ * - {@link #close()} nimmt nichts mehr an, schreibt die Warteschlange leer und beendet den Thread;
+ *   ein gleichzeitiges submit() wird entweder noch geschrieben oder abgelehnt
+ *
+ * @param <T> Typ der zu schreibenden Objekte
+ */
+public class GroupCommitQueue<T> implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupCommitQueue.class);
+
+    private final String name;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final long offerTimeoutNanos;
+    private final Function<List<T>, List<T>> writer;
+    private final BlockingQueue<Pending<T>> queue;
+    private final Thread thread;
+
+    private volatile boolean accepting = true;
+
+    /**
+     * @param name Name für Thread und Logging
+     * @param capacity Maximale Anzahl wartender Objekte
+     * @param batchSize Maximale Anzahl Objekte pro Schreibvorgang
+     * @param maxDelay Maximale Wartezeit ab dem ersten Objekt eines Blocks
+     * @param offerTimeout Maximale Wartezeit eines Aufrufers bei voller Warteschlange
+     * @param writer Schreibt einen Block und liefert die gespeicherten Objekte in gleicher Reihenfolge
+     */
+    public GroupCommitQueue(String name, int capacity, int batchSize, Duration maxDelay, Duration offerTimeout,
+                            Function<List<T>, List<T>> writer) {
+        if (capacity <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("capacity und batchSize müssen größer als 0 sein.");
+        }
+        if (maxDelay.isNegative() || offerTimeout.isNegative()) {
+            throw new IllegalArgumentException("maxDelay und offerTimeout dürfen nicht negativ sein.");
+        }
+        this.name = name;
+        this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.thread = new Thread(this::run, "group-commit-" + name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Reiht ein Objekt zum Schreiben ein.
+     *
+     * @param item Das zu schreibende Objekt
+     * @return Future, das nach dem Commit mit dem gespeicherten Objekt abgeschlossen wird
+     *         (oder mit der Exception, die beim Schreiben auftrat)
+     * @throws QueueFullException wenn die Warteschlange voll ist oder geschlossen wurde
+     */
+    public CompletableFuture<T> submit(T item) {
+        if (!accepting) {
+            throw new QueueFullException("Schreibwarteschlange '" + name + "' ist geschlossen.");
+        }
+        Pending<T> pending = new Pending<>(item);
+        boolean queued;
+        try {
+            queued = queue.offer(pending, offerTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            throw new QueueFullException("Schreibwarteschlange '" + name + "' ist ausgelastet.");
+        }
+        // close() kann zwischen der Prüfung oben und offer() die Warteschlange bereits geleert haben.
+        // Liegt das Objekt dann noch darin, holt es niemand mehr ab: wieder entnehmen und ablehnen.
+        if (!accepting && queue.remove(pending)) {
+            throw new QueueFullException("Schreibwarteschlange '" + name + "' ist geschlossen.");
+        }
+        return pending.future;
+    }
+
+    /**
+     * @return Anzahl Objekte, die auf das Schreiben warten
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * Nimmt keine Objekte mehr an, schreibt alle wartenden Objekte und beendet den Schreib-Thread.
+     */
+    @Override
+    public void close() {
+        accepting = false;
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Objekte, die während des Schließens noch eingereiht wurden
+        List<Pending<T>> rest = new ArrayList<>(batchSize);
+        while (queue.drainTo(rest, batchSize) > 0) {
+            write(rest);
+            rest.clear();
+        }
+    }
+
+    private void run() {
+        List<Pending<T>> batch = new ArrayList<>(batchSize);
+        while (accepting || !queue.isEmpty()) {
+            try {
+                Pending<T> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < batchSize) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    Pending<T> next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                // Unterbrechung beendet nur das Warten; wartende Objekte werden trotzdem geschrieben
+                accepting = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Pending<T>> batch) {
+        try {
+            complete(batch, writer.apply(batch.stream().map(pending -> pending.item).toList()));
+        } catch (RuntimeException batchFailure) {
+            if (batch.size() == 1) {
+                batch.get(0).future.completeExceptionally(batchFailure);
+                return;
+            }
+            logger.warn("Gruppen-Commit '{}' mit {} Objekten fehlgeschlagen, schreibe einzeln: {}",
+                    name, batch.size(), batchFailure.getMessage());
+            for (Pending<T> pending : batch) {
+                try {
+                    complete(List.of(pending), writer.apply(List.of(pending.item)));
+                } catch (RuntimeException itemFailure) {
+                    pending.future.completeExceptionally(itemFailure);
+                }
+            }
+        }
+    }
+
+    private static <T> void complete(List<Pending<T>> batch, List<T> saved) {
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).future.complete(saved.get(i));
+        }
+    }
+
+    private static class Pending<T> {
+        private final T item;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private Pending(T item) {
+            this.item = item;
+        }
+    }
+
+    /**
+     * Wird geworfen, wenn ein Objekt nicht eingereiht werden kann (Warteschlange voll oder geschlossen).
+     */
+    public static class QueueFullException extends RuntimeException {
+        public QueueFullException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.cityfeedback.config;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Hilfsmethoden, um Aktionen an den Ausgang der aktuellen Transaktion zu koppeln.
+ * 
+ * Wird von In-Memory-Strukturen (Projektionen, Caches) verwendet, die mit der
+ * Datenbank konsistent bleiben müssen. Läuft keine Transaktion, wird die Aktion
+ * sofort ausgeführt bzw. ignoriert.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * Führt die Aktion nach erfolgreichem Commit aus (ohne Transaktion: sofort).
+     * 
+     * @param action Die auszuführende Aktion
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Führt die Aktion nach erfolgreichem Commit aus und hält dabei die Sperre vom Beginn des
+     * Commits bis zum Abschluss der Transaktion (ohne Transaktion: sofort unter der Sperre).
+     * Wer dieselbe Sperre exklusiv hält, sieht jeden Commit also entweder samt Aktion oder gar nicht.
+     * Alle Aktionen einer Transaktion teilen sich eine Sperrung.
+     * 
+     * @param lock Die während des Commits gehaltene Sperre
+     * @param action Die auszuführende Aktion
+     */
+    public static void afterCommitUnderLock(Lock lock, Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            lock.lock();
+            try {
+                action.run();
+            } finally {
+                lock.unlock();
+            }
+            return;
+        }
+        LockedCommit commit = (LockedCommit) TransactionSynchronizationManager.getResource(lock);
+        if (commit == null) {
+            commit = new LockedCommit(lock);
+            TransactionSynchronizationManager.bindResource(lock, commit);
+            TransactionSynchronizationManager.registerSynchronization(commit);
+        }
+        commit.actions.add(action);
+    }
+
+    /**
+     * Führt die Aktion nach Abschluss der Transaktion aus, egal ob Commit oder Rollback
+     * (ohne Transaktion: sofort).
+     * 
+     * @param action Die auszuführende Aktion
+     */
+    public static void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Führt die Aktion nur aus, wenn die aktuelle Transaktion zurückgerollt wird.
+     * Ohne Transaktion wird die Aktion nie ausgeführt.
+     * 
+     * @param action Die auszuführende (kompensierende) Aktion
+     */
+    public static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Sammelt die Aktionen einer Transaktion zu einer Sperre. Die Zuordnung ist als Ressource
+     * an die Transaktion gebunden und wird bei deren Aussetzen (REQUIRES_NEW) mit ausgesetzt.
+     */
+    private static final class LockedCommit implements TransactionSynchronization {
+
+        private final Lock lock;
+        private final List<Runnable> actions = new ArrayList<>();
+        private boolean locked;
+
+        private LockedCommit(Lock lock) {
+            this.lock = lock;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(lock);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(lock, this);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            lock.lock();
+            locked = true;
+        }
+
+        @Override
+        public void afterCommit() {
+            actions.forEach(Runnable::run);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(lock);
+            if (locked) {
+                locked = false;
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BulkModerationDTO {
+
+    @NotNull(message = "Operationen dürfen nicht null sein")
+    @Size(max = FeedbackService.MAX_BULK_OPERATIONS, message = "Es können maximal 10000 Operationen auf einmal ausgeführt werden")
+    @Valid
+    public List<@NotNull(message = "Operation darf nicht null sein") BulkOperationDTO> operations;
+}
@@ -0,0 +1,20 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Eine Operation innerhalb von POST /feedback/bulk.
+ * Status und Veröffentlichung sind optional; ist beides gesetzt, wird zuerst der Status geändert.
+ */
+public class BulkOperationDTO {
+
+    @NotNull(message = "Feedback-ID darf nicht null sein")
+    public Long id;
+
+    /** Neuer Status (optional). */
+    public Status status;
+
+    /** true = veröffentlichen, false = aus der Veröffentlichung nehmen (optional). */
+    public Boolean publish;
+}
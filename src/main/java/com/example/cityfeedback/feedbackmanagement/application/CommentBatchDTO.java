@@ -0,0 +1,13 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class CommentBatchDTO {
+
+    @NotNull(message = "Feedback-IDs dürfen nicht null sein")
+    @Size(max = FeedbackService.UNPAGED_LIMIT, message = "Es können maximal 1000 Feedback-IDs auf einmal abgefragt werden")
+    public List<Long> feedbackIds;
+}
@@ -3,35 +3,155 @@ package com.example.cityfeedback.feedbackmanagement.application;
 import com.example.cityfeedback.feedbackmanagement.domain.model.Feedback;
 import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
 import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status;
+import com.example.cityfeedback.application.JsonStreamWriter;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserPrincipal;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/feedback")
 public class FeedbackController {
 
     private final FeedbackService feedbackService;
+    private final JsonStreamWriter jsonStreamWriter;
 
-    public FeedbackController(FeedbackService feedbackService) {
+    public FeedbackController(FeedbackService feedbackService, JsonStreamWriter jsonStreamWriter) {
         this.feedbackService = feedbackService;
+        this.jsonStreamWriter = jsonStreamWriter;
     }
 
+    /**
+     * Gibt die neuesten Feedbacks zurück (begrenzt, siehe {@link FeedbackService#UNPAGED_LIMIT}).
+     * GET /feedback
+     *
+     * @deprecated stattdessen GET /feedback?limit= verwenden
+     */
+    @Deprecated
     @GetMapping
     public List<Feedback> getAllFeedbacks() {
         return this.feedbackService.getAllFeedbacks();
     }
 
+    /**
+     * Gibt alle Feedbacks gestreamt zurück (neueste zuerst), ohne sie vorher im Speicher zu sammeln.
+     * Als JSON-Array, bzw. als NDJSON bei Accept: application/x-ndjson.
+     * GET /feedback?stream=true
+     */
+    @GetMapping(params = {"stream=true", "!limit", "!include"})
+    public ResponseEntity<StreamingResponseBody> streamAllFeedbacks(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return jsonStreamWriter.stream(JsonStreamWriter.acceptsNdjson(accept), feedbackService::streamAllFeedbacks);
+    }
+
+    /**
+     * Gibt alle Feedbacks gestreamt als NDJSON zurück (neueste zuerst).
+     * GET /feedback mit Accept: application/x-ndjson
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllFeedbacksAsNdjson() {
+        return jsonStreamWriter.stream(true, feedbackService::streamAllFeedbacks);
+    }
+
+    /**
+     * Gibt eine Seite von Feedbacks per Keyset-Pagination zurück (neueste zuerst).
+     * GET /feedback?limit=50&after={nextCursor}
+     */
+    @GetMapping(params = {"limit", "!include"})
+    public FeedbackService.FeedbackPageDTO getFeedbackPage(
+            @RequestParam(required = false) String after,
+            @RequestParam Integer limit) {
+        return this.feedbackService.getFeedbackPage(after, limit);
+    }
+
+    /**
+     * Gibt die neuesten Feedbacks samt Kommentaren in einem Aufruf zurück
+     * (begrenzt, siehe {@link FeedbackService#UNPAGED_LIMIT}; für alle Feedbacks mit limit= blättern).
+     * GET /feedback?include=comments
+     */
+    @GetMapping(params = {"include=comments", "!limit"})
+    public List<FeedbackService.FeedbackWithCommentsDTO> getAllFeedbacksWithComments() {
+        return this.feedbackService.getAllFeedbacksWithComments();
+    }
+
+    /**
+     * Gibt eine Seite von Feedbacks samt Kommentaren zurück (neueste zuerst).
+     * GET /feedback?include=comments&limit=100&after={nextCursor}
+     */
+    @GetMapping(params = {"include=comments", "limit"})
+    public FeedbackService.FeedbackWithCommentsPageDTO getFeedbackPageWithComments(
+            @RequestParam(required = false) String after,
+            @RequestParam Integer limit) {
+        return this.feedbackService.getFeedbackPageWithComments(after, limit);
+    }
+
+    /**
+     * Volltextsuche über Titel und Inhalt, sortiert nach Relevanz.
+     * GET /feedback/search?q=strassenlaterne&limit=20
+     */
+    @GetMapping("/search")
+    public List<FeedbackService.FeedbackSearchResultDTO> searchFeedbacks(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        return feedbackService.searchFeedbacks(q, limit);
+    }
+
     @GetMapping("/{id}")
     public Feedback getFeedbackById(@PathVariable Long id) {
         return this.feedbackService.getFeedbackById(id);
     }
 
+    /**
+     * Legt ein Feedback an. Bei aktivem Gruppen-Commit wird die Antwort erst nach dem
+     * gemeinsamen Commit gesendet; ist die Warteschlange voll, folgt 503 mit Retry-After.
+     * POST /feedback
+     */
     @PostMapping
-    public Feedback createFeedback(@Valid @RequestBody FeedbackDTO dto) {
-        return feedbackService.createFeedback(dto);
+    public CompletableFuture<Feedback> createFeedback(@Valid @RequestBody FeedbackDTO dto) {
+        if (feedbackService.isGroupCommitEnabled()) {
+            return feedbackService.submitFeedback(dto);
+        }
+        return CompletableFuture.completedFuture(feedbackService.createFeedback(dto));
+    }
+
+    /**
+     * Nimmt ein Feedback asynchron an (Prefer: respond-async): Nach der Prüfung und dem Sichern
+     * im Journal folgt sofort 202 mit Tracking-Token, gespeichert wird im Hintergrund.
+     * Ist die asynchrone Annahme nicht aktiv, wird die Präferenz ignoriert (RFC 7240) und
+     * wie ohne Header geantwortet.
+     * POST /feedback
+     */
+    @PostMapping(headers = "Prefer=respond-async")
+    public CompletableFuture<ResponseEntity<?>> submitFeedbackAsync(@Valid @RequestBody FeedbackDTO dto) {
+        if (!feedbackService.isAsyncIngestEnabled()) {
+            return createFeedback(dto).thenApply(ResponseEntity::ok);
+        }
+        FeedbackService.SubmissionDTO submission = feedbackService.submitFeedbackAsync(dto);
+        return CompletableFuture.completedFuture(ResponseEntity.accepted()
+                .location(URI.create("/feedback/submissions/" + submission.getToken()))
+                .header("Preference-Applied", "respond-async")
+                .body(submission));
+    }
+
+    /**
+     * Verarbeitungsstand einer asynchron angenommenen Meldung.
+     * GET /feedback/submissions/{token}
+     */
+    @GetMapping("/submissions/{token}")
+    public FeedbackService.SubmissionDTO getSubmission(@PathVariable UUID token) {
+        return feedbackService.getSubmission(token);
     }
 
     // ===================================================================
@@ -88,6 +208,16 @@ public class FeedbackController {
         return feedbackService.updateFeedbackStatus(id, dto.status);
     }
 
+    /**
+     * Führt viele Status- und Veröffentlichungsänderungen in einem Aufruf aus
+     * und liefert ein Ergebnis pro Operation.
+     * POST /feedback/bulk
+     */
+    @PostMapping("/bulk")
+    public FeedbackService.BulkModerationResultDTO moderateFeedbacks(@Valid @RequestBody BulkModerationDTO dto) {
+        return feedbackService.moderateFeedbacks(dto.operations);
+    }
+
     /**
      * Veröffentlicht ein Feedback.
      * PUT /feedback/{id}/publish
@@ -108,14 +238,12 @@ public class FeedbackController {
 
     /**
      * Löscht ein Feedback komplett (nur für Admins).
-     * DELETE /feedback/{id}
+     * DELETE /feedback/{id} (Zugriffstoken eines Admins)
      */
     @DeleteMapping("/{id}")
     @org.springframework.web.bind.annotation.ResponseStatus(org.springframework.http.HttpStatus.NO_CONTENT)
-    public void deleteFeedback(
-            @RequestHeader(value = "X-Admin-Id", required = true) java.util.UUID adminId,
-            @PathVariable Long id) {
-        feedbackService.deleteFeedback(adminId, id);
+    public void deleteFeedback(UserPrincipal admin, @PathVariable Long id) {
+        feedbackService.deleteFeedback(admin, id);
     }
 
     // ===================================================================
@@ -127,10 +255,13 @@ public class FeedbackController {
      * POST /feedback/{id}/comments
      */
     @PostMapping("/{id}/comments")
-    public com.example.cityfeedback.feedbackmanagement.domain.model.Comment addComment(
+    public CompletableFuture<com.example.cityfeedback.feedbackmanagement.domain.model.Comment> addComment(
             @PathVariable Long id,
             @Valid @RequestBody com.example.cityfeedback.feedbackmanagement.application.CommentDTO dto) {
-        return feedbackService.addComment(id, dto.authorId, dto.content);
+        if (feedbackService.isGroupCommitEnabled()) {
+            return feedbackService.submitComment(id, dto.authorId, dto.content);
+        }
+        return CompletableFuture.completedFuture(feedbackService.addComment(id, dto.authorId, dto.content));
     }
 
     /**
@@ -143,6 +274,16 @@ public class FeedbackController {
         return feedbackService.getCommentsByFeedbackId(id);
     }
 
+    /**
+     * Gibt die Kommentare zu mehreren Feedbacks in einem Aufruf zurück.
+     * POST /feedback/comments:batch
+     */
+    @PostMapping("/comments:batch")
+    public Map<Long, List<com.example.cityfeedback.feedbackmanagement.domain.model.Comment>> getCommentsBatch(
+            @Valid @RequestBody CommentBatchDTO dto) {
+        return feedbackService.getCommentsByFeedbackIds(dto.feedbackIds);
+    }
+
     // ===================================================================
     // Öffentliche Endpunkte (ohne Login)
     // ===================================================================
@@ -150,9 +291,69 @@ public class FeedbackController {
     /**
      * Gibt alle veröffentlichten Feedbacks zurück.
      * GET /feedback/public
+     * 
+     * Liefert das vorgerenderte JSON aus dem PublicFeedbackCache, bei Accept-Encoding: gzip
+     * komprimiert. Stimmt If-None-Match mit dem ETag überein, wird 304 ohne Body geantwortet.
      */
     @GetMapping("/public")
-    public List<Feedback> getPublishedFeedbacks() {
-        return feedbackService.getPublishedFeedbacks();
+    public ResponseEntity<byte[]> getPublishedFeedbacks(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        PublicFeedbackCache.Snapshot snapshot = feedbackService.getPublishedFeedbacksSnapshot();
+
+        if (matchesEtag(ifNoneMatch, snapshot.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getEtag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.getGzippedJson());
+        }
+        return response.body(snapshot.getJson());
+    }
+
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        // If-None-Match verwendet den schwachen Vergleich, daher wird ein W/-Präfix ignoriert
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(candidate -> candidate.startsWith("W/") ? candidate.substring(2) : candidate)
+                .anyMatch(candidate -> candidate.equals("*") || candidate.equals(etag));
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        return Arrays.stream(acceptEncoding.split(","))
+                .map(coding -> coding.split(";"))
+                .filter(parts -> parts[0].trim().equalsIgnoreCase("gzip"))
+                .anyMatch(parts -> quality(parts) > 0);
+    }
+
+    /**
+     * Gewichtung (q-Wert) einer Kodierung aus Accept-Encoding, ohne Angabe 1. Ungültige Werte zählen als 0.
+     */
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
     }
 }
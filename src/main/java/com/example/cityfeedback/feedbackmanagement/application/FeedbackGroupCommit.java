@@ -0,0 +1,161 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import com.example.cityfeedback.config.GroupCommitQueue;
+import com.example.cityfeedback.feedbackmanagement.domain.model.Comment;
+import com.example.cityfeedback.feedbackmanagement.domain.model.Feedback;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.CommentRepository;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Optionaler Gruppen-Commit für neue Feedbacks und Kommentare (cityfeedback.group-commit.enabled).
+ *
+ * Bei Lastspitzen (z.B. Unwetter) werden viele Einzel-Commits zu wenigen Transaktionen gebündelt:
+ * Je eine Warteschlange für Feedbacks und Kommentare sammelt bis zu batch-size Einträge oder
+ * wartet höchstens max-delay und schreibt sie dann per JDBC-Batch in einer Transaktion.
+ * Standard ist max-delay=0: Geschrieben wird, was vorliegt; während des Schreibens sammelt sich
+ * der nächste Block. Eine Wartezeit lohnt sich nur, wenn ein Commit selbst teuer ist.
+ * Ist eine Warteschlange voll, wird nach offer-timeout mit 503 abgelehnt.
+ *
+ * Die Prüfungen (Pflichtfelder, User, Rolle) erfolgen vorher synchron im FeedbackService.
+ * Beim Herunterfahren werden keine neuen Einträge mehr angenommen und die Warteschlangen
+ * leer geschrieben, nachdem der Webserver keine Anfragen mehr annimmt.
+ */
+@Component
+public class FeedbackGroupCommit implements SmartLifecycle {
+
+    private final FeedbackRepository feedbackRepository;
+    private final CommentRepository commentRepository;
+    private final FeedbackStatisticsProjection statisticsProjection;
+    private final FeedbackSearchIndex searchIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int capacity;
+    private final int batchSize;
+    private final Duration maxDelay;
+    private final Duration offerTimeout;
+
+    private volatile GroupCommitQueue<Feedback> feedbacks;
+    private volatile GroupCommitQueue<Comment> comments;
+
+    public FeedbackGroupCommit(FeedbackRepository feedbackRepository,
+                               CommentRepository commentRepository,
+                               FeedbackStatisticsProjection statisticsProjection,
+                               FeedbackSearchIndex searchIndex,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${cityfeedback.group-commit.enabled:false}") boolean enabled,
+                               @Value("${cityfeedback.group-commit.queue-capacity:10000}") int capacity,
+                               @Value("${cityfeedback.group-commit.batch-size:200}") int batchSize,
+                               @Value("${cityfeedback.group-commit.max-delay:PT0S}") Duration maxDelay,
+                               @Value("${cityfeedback.group-commit.offer-timeout:PT0.1S}") Duration offerTimeout) {
+        this.feedbackRepository = feedbackRepository;
+        this.commentRepository = commentRepository;
+        this.statisticsProjection = statisticsProjection;
+        this.searchIndex = searchIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.maxDelay = maxDelay;
+        this.offerTimeout = offerTimeout;
+    }
+
+    /**
+     * @return true, wenn neue Feedbacks und Kommentare über die Warteschlangen geschrieben werden
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Reiht ein neues, bereits geprüftes Feedback zum Schreiben ein.
+     *
+     * @param feedback Das neue Feedback (ohne ID)
+     * @return Future mit dem gespeicherten Feedback (mit ID), abgeschlossen nach dem Commit
+     * @throws GroupCommitQueue.QueueFullException wenn die Warteschlange ausgelastet ist
+     * @throws IllegalStateException wenn der Gruppen-Commit nicht aktiv ist
+     */
+    public CompletableFuture<Feedback> submitFeedback(Feedback feedback) {
+        return queue(feedbacks).submit(feedback);
+    }
+
+    /**
+     * Reiht einen neuen, bereits geprüften Kommentar zum Schreiben ein.
+     *
+     * @param comment Der neue Kommentar (ohne ID)
+     * @return Future mit dem gespeicherten Kommentar (mit ID), abgeschlossen nach dem Commit
+     * @throws GroupCommitQueue.QueueFullException wenn die Warteschlange ausgelastet ist
+     * @throws IllegalStateException wenn der Gruppen-Commit nicht aktiv ist
+     */
+    public CompletableFuture<Comment> submitComment(Comment comment) {
+        return queue(comments).submit(comment);
+    }
+
+    private static <T> GroupCommitQueue<T> queue(GroupCommitQueue<T> queue) {
+        if (queue == null) {
+            throw new IllegalStateException("Gruppen-Commit ist nicht aktiv.");
+        }
+        return queue;
+    }
+
+    private List<Feedback> writeFeedbacks(List<Feedback> batch) {
+        return transactionTemplate.execute(status -> {
+            List<Feedback> saved = feedbackRepository.insertAll(batch);
+            saved.forEach(feedback -> {
+                statisticsProjection.recordCreated(feedback);
+                searchIndex.recordSaved(feedback);
+            });
+            return saved;
+        });
+    }
+
+    private List<Comment> writeComments(List<Comment> batch) {
+        return transactionTemplate.execute(status -> commentRepository.saveAll(batch));
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        feedbacks = new GroupCommitQueue<>("feedbacks", capacity, batchSize, maxDelay, offerTimeout, this::writeFeedbacks);
+        comments = new GroupCommitQueue<>("comments", capacity, batchSize, maxDelay, offerTimeout, this::writeComments);
+    }
+
+    @Override
+    public void stop() {
+        GroupCommitQueue<Feedback> feedbackQueue = feedbacks;
+        GroupCommitQueue<Comment> commentQueue = comments;
+        if (feedbackQueue != null) {
+            feedbackQueue.close();
+        }
+        if (commentQueue != null) {
+            commentQueue.close();
+        }
+        feedbacks = null;
+        comments = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return feedbacks != null;
+    }
+
+    /**
+     * Startet vor und stoppt nach dem Webserver (dessen Phase liegt bei DEFAULT_PHASE - 2048),
+     * damit beim Herunterfahren keine Anfragen mehr in die geleerten Warteschlangen laufen.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import com.example.cityfeedback.application.JsonStreamWriter;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserPrincipal;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+@RestController
+@RequestMapping("/admin/feedback-import")
+public class FeedbackImportController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final FeedbackImportService feedbackImportService;
+    private final JsonStreamWriter jsonStreamWriter;
+
+    public FeedbackImportController(FeedbackImportService feedbackImportService, JsonStreamWriter jsonStreamWriter) {
+        this.feedbackImportService = feedbackImportService;
+        this.jsonStreamWriter = jsonStreamWriter;
+    }
+
+    /**
+     * Importiert Feedbacks aus CSV (text/csv) oder NDJSON (application/x-ndjson) im Request-Body
+     * und liefert den Abschlussbericht.
+     * POST /admin/feedback-import (Zugriffstoken eines Admins)
+     */
+    @PostMapping(consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public FeedbackImportService.ImportReportDTO importFeedbacks(
+            UserPrincipal admin,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        try (FeedbackImportReader reader = feedbackImportService.openImport(
+                admin, body, FeedbackImportReader.Format.fromContentType(contentType))) {
+            return feedbackImportService.importFeedbacks(reader, progress -> { });
+        }
+    }
+
+    /**
+     * Wie oben, meldet aber nach jedem Block den Fortschritt als eigene NDJSON-Zeile;
+     * die letzte Zeile ist der Abschlussbericht (done: true).
+     * POST /admin/feedback-import mit Accept: application/x-ndjson
+     */
+    @PostMapping(consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+                 produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importFeedbacksWithProgress(
+            UserPrincipal admin,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        FeedbackImportReader reader = feedbackImportService.openImport(
+                admin, body, FeedbackImportReader.Format.fromContentType(contentType));
+        return jsonStreamWriter.<FeedbackImportService.ImportProgressDTO>stream(true, sink -> {
+            try (reader) {
+                sink.accept(feedbackImportService.importFeedbacks(reader, sink));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Liest Feedback-Datensätze für den Import nacheinander aus CSV oder NDJSON,
+ * ohne die Eingabe vollständig in den Speicher zu laden.
+ *
+ * Felder (CSV-Kopfzeile bzw. JSON-Attribute): userId, title, category, content (Pflicht)
+ * sowie feedbackDate, status, published (optional).
+ * CSV folgt RFC 4180: Trennzeichen Komma, Felder mit Komma, Anführungszeichen oder
+ * Zeilenumbruch stehen in Anführungszeichen, "" steht für ein Anführungszeichen.
+ */
+public class FeedbackImportReader implements Closeable {
+
+    /** Pflichtfelder jedes Datensatzes. */
+    static final List<String> REQUIRED_FIELDS = List.of("userId", "title", "category", "content");
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    /**
+     * Unterstützte Eingabeformate.
+     */
+    public enum Format {
+        CSV,
+        NDJSON;
+
+        /**
+         * Bestimmt das Format aus dem Content-Type (text/csv oder application/x-ndjson).
+         *
+         * @param contentType Wert des Content-Type-Headers
+         * @return Das passende Format
+         * @throws IllegalArgumentException wenn der Content-Type nicht unterstützt wird
+         */
+        public static Format fromContentType(String contentType) {
+            MediaType mediaType = contentType == null ? null : MediaType.parseMediaType(contentType);
+            if (mediaType != null && mediaType.equalsTypeAndSubtype(MediaType.parseMediaType("text/csv"))) {
+                return CSV;
+            }
+            if (mediaType != null && mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_NDJSON)) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("Nicht unterstütztes Importformat: " + contentType
+                    + " (erwartet text/csv oder application/x-ndjson)");
+        }
+    }
+
+    /**
+     * Ein gelesener Datensatz mit Zeilennummer (bei CSV die erste Zeile des Datensatzes).
+     * Konnte der Datensatz nicht gelesen werden, ist error gesetzt und values leer.
+     */
+    public static class Row {
+        private final long line;
+        private final Map<String, String> values;
+        private final String error;
+
+        Row(long line, Map<String, String> values, String error) {
+            this.line = line;
+            this.values = values;
+            this.error = error;
+        }
+
+        static Row failed(long line, String error) {
+            return new Row(line, Map.of(), error);
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        /**
+         * @param field Feldname
+         * @return Wert des Feldes oder null, wenn es fehlt oder leer ist
+         */
+        public String get(String field) {
+            String value = values.get(field);
+            return value == null || value.isEmpty() ? null : value;
+        }
+
+        public String getError() {
+            return error;
+        }
+    }
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final List<String> header;
+    private long lineNumber;
+
+    private FeedbackImportReader(BufferedReader reader, Format format, List<String> header, long lineNumber) {
+        this.reader = reader;
+        this.format = format;
+        this.header = header;
+        this.lineNumber = lineNumber;
+    }
+
+    /**
+     * Öffnet die Eingabe (UTF-8). Bei CSV wird sofort die Kopfzeile gelesen und geprüft,
+     * damit ein falsches Dateiformat vor dem eigentlichen Import auffällt.
+     *
+     * @param input Die Eingabe
+     * @param format CSV oder NDJSON
+     * @return Reader, der mit {@link #next()} Datensatz für Datensatz liefert
+     * @throws IllegalArgumentException wenn die CSV-Kopfzeile fehlt oder Pflichtspalten fehlen
+     * @throws IOException wenn die Eingabe nicht gelesen werden kann
+     */
+    public static FeedbackImportReader open(InputStream input, Format format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        if (format == Format.NDJSON) {
+            return new FeedbackImportReader(reader, format, null, 0);
+        }
+
+        String headerLine = reader.readLine();
+        if (headerLine == null || headerLine.isBlank()) {
+            throw new IllegalArgumentException("CSV-Import benötigt eine Kopfzeile mit den Spalten " + REQUIRED_FIELDS + ".");
+        }
+        if (headerLine.startsWith("\uFEFF")) {
+            headerLine = headerLine.substring(1);
+        }
+        List<String> header = new ArrayList<>();
+        for (String column : splitCsvLine(headerLine)) {
+            header.add(column.trim());
+        }
+        List<String> missing = REQUIRED_FIELDS.stream().filter(field -> !header.contains(field)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("In der CSV-Kopfzeile fehlen die Spalten " + missing + ".");
+        }
+        return new FeedbackImportReader(reader, format, header, 1);
+    }
+
+    /**
+     * Liest den nächsten Datensatz; leere Zeilen werden übersprungen.
+     *
+     * @return Der Datensatz oder null am Ende der Eingabe
+     * @throws IOException wenn die Eingabe nicht gelesen werden kann
+     */
+    public Row next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            lineNumber++;
+        } while (line != null && line.isBlank());
+        if (line == null) {
+            return null;
+        }
+        return format == Format.CSV ? parseCsvRecord(line) : parseJsonLine(line);
+    }
+
+    private Row parseCsvRecord(String firstLine) throws IOException {
+        long startLine = lineNumber;
+        List<String> fields = new ArrayList<>(header.size());
+        StringBuilder field = new StringBuilder();
+        String line = firstLine;
+        int i = 0;
+        boolean quoted = false;
+        boolean fieldStart = true;
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    fields.add(field.toString());
+                    break;
+                }
+                // Zeilenumbruch innerhalb eines Feldes in Anführungszeichen
+                line = reader.readLine();
+                if (line == null) {
+                    return Row.failed(startLine, "Anführungszeichen wird bis zum Dateiende nicht geschlossen.");
+                }
+                lineNumber++;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+                fieldStart = false;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+            } else {
+                field.append(c);
+                fieldStart = false;
+            }
+        }
+
+        if (fields.size() != header.size()) {
+            return Row.failed(startLine, "Erwartet " + header.size() + " Spalten, gefunden " + fields.size() + ".");
+        }
+        Map<String, String> values = new HashMap<>();
+        for (int column = 0; column < header.size(); column++) {
+            values.put(header.get(column), fields.get(column));
+        }
+        return new Row(startLine, values, null);
+    }
+
+    private Row parseJsonLine(String line) {
+        JsonNode node;
+        try {
+            node = JSON.readTree(line);
+        } catch (JsonProcessingException e) {
+            return Row.failed(lineNumber, "Ungültiges JSON: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return Row.failed(lineNumber, "Jede Zeile muss ein JSON-Objekt enthalten.");
+        }
+        Map<String, String> values = new HashMap<>();
+        node.properties().forEach(entry -> {
+            if (!entry.getValue().isNull()) {
+                values.put(entry.getKey(), entry.getValue().asText());
+            }
+        });
+        return new Row(lineNumber, values, null);
+    }
+
+    private static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,383 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import com.example.cityfeedback.feedbackmanagement.domain.model.Feedback;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackRepository;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status;
+import com.example.cityfeedback.usermanagement.domain.exceptions.UnauthorizedException;
+import com.example.cityfeedback.usermanagement.domain.exceptions.UserNotFoundException;
+import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserPrincipal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Massenimport von Feedbacks aus Altsystemen (CSV oder NDJSON).
+ *
+ * Die Eingabe wird als Stream gelesen und in Blöcken zu {@value #CHUNK_SIZE} Datensätzen verarbeitet:
+ * - Validierung jedes Datensatzes mit den Regeln des Feedback-Aggregats
+ * - Prüfung der User-IDs mit einer Abfrage pro Block (bekannte IDs werden über Blöcke hinweg gemerkt)
+ * - Einfügen per JDBC-Batch, jeder Block in einer eigenen Transaktion
+ *
+ * Fehlerhafte Datensätze werden mit Zeilennummer gemeldet und übersprungen, der Rest wird importiert.
+ * Nach jedem Block wird ein Fortschritt gemeldet.
+ */
+@Service
+public class FeedbackImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackImportService.class);
+
+    /** Anzahl Datensätze pro Block (und Transaktion). */
+    public static final int CHUNK_SIZE = 1000;
+
+    /** Maximale Anzahl Fehler, die im Bericht einzeln aufgeführt werden. */
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final FeedbackRepository feedbackRepository;
+    private final UserRepository userRepository;
+    private final FeedbackStatisticsProjection statisticsProjection;
+    private final PublicFeedbackCache publicFeedbackCache;
+    private final FeedbackSearchIndex searchIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    public FeedbackImportService(FeedbackRepository feedbackRepository,
+                                 UserRepository userRepository,
+                                 FeedbackStatisticsProjection statisticsProjection,
+                                 PublicFeedbackCache publicFeedbackCache,
+                                 FeedbackSearchIndex searchIndex,
+                                 PlatformTransactionManager transactionManager) {
+        this.feedbackRepository = feedbackRepository;
+        this.userRepository = userRepository;
+        this.statisticsProjection = statisticsProjection;
+        this.publicFeedbackCache = publicFeedbackCache;
+        this.searchIndex = searchIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Prüft die Berechtigung und öffnet die Eingabe für einen Import über die API.
+     * Eine ungültige CSV-Kopfzeile fällt dabei bereits auf, bevor eine Antwort geschrieben wird.
+     *
+     * @param admin Der ausführende, angemeldete User
+     * @param input Die Eingabe
+     * @param format CSV oder NDJSON
+     * @return Geöffneter Reader für {@link #importFeedbacks(FeedbackImportReader, Consumer)}
+     * @throws UnauthorizedException wenn der ausführende User kein Admin ist
+     * @throws IllegalArgumentException wenn die CSV-Kopfzeile ungültig ist
+     * @throws IOException wenn die Eingabe nicht gelesen werden kann
+     */
+    public FeedbackImportReader openImport(UserPrincipal admin, InputStream input, FeedbackImportReader.Format format)
+            throws IOException {
+        admin.requireAdmin("Nur Administratoren können Feedbacks importieren.");
+        return FeedbackImportReader.open(input, format);
+    }
+
+    /**
+     * Importiert alle Datensätze des Readers blockweise.
+     *
+     * @param reader Die geöffnete Eingabe (wird nicht geschlossen)
+     * @param progress Erhält nach jedem Block den aktuellen Fortschritt
+     * @return Abschlussbericht mit Zählern und den ersten {@value #MAX_REPORTED_ERRORS} Fehlern
+     * @throws IOException wenn die Eingabe nicht gelesen werden kann
+     */
+    public ImportReportDTO importFeedbacks(FeedbackImportReader reader, Consumer<ImportProgressDTO> progress)
+            throws IOException {
+        ImportRun run = new ImportRun();
+        List<FeedbackImportReader.Row> chunk = new ArrayList<>(CHUNK_SIZE);
+        FeedbackImportReader.Row row;
+        while ((row = reader.next()) != null) {
+            chunk.add(row);
+            if (chunk.size() == CHUNK_SIZE) {
+                importChunk(chunk, run);
+                chunk.clear();
+                progress.accept(run.progress());
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, run);
+            progress.accept(run.progress());
+        }
+
+        ImportReportDTO report = run.report();
+        logger.info("Feedback-Import abgeschlossen: {} Datensätze, {} importiert, {} fehlerhaft, {} ms",
+                report.getProcessed(), report.getImported(), report.getFailed(), report.getDurationMillis());
+        return report;
+    }
+
+    private void importChunk(List<FeedbackImportReader.Row> rows, ImportRun run) {
+        List<Feedback> candidates = new ArrayList<>(rows.size());
+        List<Long> candidateLines = new ArrayList<>(rows.size());
+        for (FeedbackImportReader.Row row : rows) {
+            run.processed++;
+            if (row.getError() != null) {
+                run.fail(row.getLine(), row.getError());
+                continue;
+            }
+            try {
+                candidates.add(toFeedback(row));
+                candidateLines.add(row.getLine());
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                run.fail(row.getLine(), e.getMessage());
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> unknown = new HashSet<>();
+        for (Feedback feedback : candidates) {
+            if (!run.knownUserIds.contains(feedback.getUserId()) && !run.missingUserIds.contains(feedback.getUserId())) {
+                unknown.add(feedback.getUserId());
+            }
+        }
+        if (!unknown.isEmpty()) {
+            Set<UUID> existing = userRepository.findExistingIds(unknown);
+            run.knownUserIds.addAll(existing);
+            unknown.removeAll(existing);
+            run.missingUserIds.addAll(unknown);
+        }
+
+        List<Feedback> valid = new ArrayList<>(candidates.size());
+        List<Long> validLines = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            Feedback feedback = candidates.get(i);
+            if (run.knownUserIds.contains(feedback.getUserId())) {
+                valid.add(feedback);
+                validLines.add(candidateLines.get(i));
+            } else {
+                run.fail(candidateLines.get(i), new UserNotFoundException(feedback.getUserId()).getMessage());
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                feedbackRepository.insertAll(valid);
+                boolean anyPublished = false;
+                for (Feedback feedback : valid) {
+                    statisticsProjection.recordCreated(feedback);
+                    searchIndex.recordSaved(feedback);
+                    anyPublished |= feedback.isPublished();
+                }
+                publicFeedbackCache.recordChange(false, anyPublished);
+            });
+            run.imported += valid.size();
+        } catch (RuntimeException e) {
+            // Der ganze Block wurde zurückgerollt
+            logger.warn("Import-Block ab Zeile {} fehlgeschlagen: {}", validLines.get(0), e.getMessage());
+            for (Long line : validLines) {
+                run.fail(line, "Block konnte nicht gespeichert werden: " + e.getMessage());
+            }
+        }
+    }
+
+    private static Feedback toFeedback(FeedbackImportReader.Row row) {
+        return Feedback.importHistorical(
+                row.get("title"),
+                parseEnum(Category.class, row.get("category"), "Kategorie"),
+                row.get("content"),
+                parseUserId(row.get("userId")),
+                parseDate(row.get("feedbackDate")),
+                parseEnum(Status.class, row.get("status"), "Status"),
+                parsePublished(row.get("published"))
+        );
+    }
+
+    private static UUID parseUserId(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("User-ID darf nicht leer sein.");
+        }
+        try {
+            return UUID.fromString(value.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Ungültige User-ID: " + value);
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String label) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Ungültige(r) " + label + ": " + value);
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Ungültiges Datum (erwartet JJJJ-MM-TT): " + value);
+        }
+    }
+
+    private static boolean parsePublished(String value) {
+        if (value == null) {
+            return false;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true", "1", "ja" -> true;
+            case "false", "0", "nein" -> false;
+            default -> throw new IllegalArgumentException("Ungültiger Wert für published: " + value);
+        };
+    }
+
+    /**
+     * Zwischenstand eines laufenden Imports.
+     */
+    private static class ImportRun {
+        private final long startNanos = System.nanoTime();
+        private final Set<UUID> knownUserIds = new HashSet<>();
+        private final Set<UUID> missingUserIds = new HashSet<>();
+        private final List<ImportErrorDTO> errors = new ArrayList<>();
+        private long processed;
+        private long imported;
+        private long failed;
+
+        void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportErrorDTO(line, message));
+            }
+        }
+
+        long elapsedMillis() {
+            return (System.nanoTime() - startNanos) / 1_000_000;
+        }
+
+        ImportProgressDTO progress() {
+            return new ImportProgressDTO(processed, imported, failed, elapsedMillis());
+        }
+
+        ImportReportDTO report() {
+            // Innerhalb eines Blocks werden unbekannte User erst nach den Formatfehlern gemeldet
+            List<ImportErrorDTO> sortedErrors = errors.stream()
+                    .sorted(Comparator.comparingLong(ImportErrorDTO::getLine))
+                    .toList();
+            return new ImportReportDTO(processed, imported, failed, elapsedMillis(), sortedErrors,
+                    failed > errors.size());
+        }
+    }
+
+    /**
+     * DTO für den Fortschritt eines Imports (nach jedem Block).
+     */
+    public static class ImportProgressDTO {
+        private final long processed;
+        private final long imported;
+        private final long failed;
+        private final long durationMillis;
+
+        public ImportProgressDTO(long processed, long imported, long failed, long durationMillis) {
+            this.processed = processed;
+            this.imported = imported;
+            this.failed = failed;
+            this.durationMillis = durationMillis;
+        }
+
+        public long getProcessed() {
+            return processed;
+        }
+
+        public long getImported() {
+            return imported;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        /**
+         * @return Verarbeitete Datensätze pro Sekunde seit Beginn des Imports
+         */
+        public long getRowsPerSecond() {
+            return durationMillis == 0 ? processed : processed * 1000 / durationMillis;
+        }
+
+        /**
+         * @return true beim Abschlussbericht, false bei Zwischenständen
+         */
+        public boolean isDone() {
+            return false;
+        }
+    }
+
+    /**
+     * DTO für den Abschlussbericht eines Imports.
+     */
+    public static class ImportReportDTO extends ImportProgressDTO {
+        private final List<ImportErrorDTO> errors;
+        private final boolean errorsTruncated;
+
+        public ImportReportDTO(long processed, long imported, long failed, long durationMillis,
+                               List<ImportErrorDTO> errors, boolean errorsTruncated) {
+            super(processed, imported, failed, durationMillis);
+            this.errors = errors;
+            this.errorsTruncated = errorsTruncated;
+        }
+
+        public List<ImportErrorDTO> getErrors() {
+            return errors;
+        }
+
+        /**
+         * @return true, wenn mehr als {@value FeedbackImportService#MAX_REPORTED_ERRORS} Fehler auftraten
+         */
+        public boolean isErrorsTruncated() {
+            return errorsTruncated;
+        }
+
+        @Override
+        public boolean isDone() {
+            return true;
+        }
+    }
+
+    /**
+     * DTO für einen fehlerhaften Datensatz.
+     */
+    public static class ImportErrorDTO {
+        private final long line;
+        private final String message;
+
+        public ImportErrorDTO(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
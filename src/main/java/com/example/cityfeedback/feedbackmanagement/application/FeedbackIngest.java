@@ -0,0 +1,317 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import com.example.cityfeedback.config.GroupCommitQueue;
+import com.example.cityfeedback.feedbackmanagement.domain.exceptions.SubmissionNotFoundException;
+import com.example.cityfeedback.feedbackmanagement.domain.model.Feedback;
+import com.example.cityfeedback.feedbackmanagement.domain.model.FeedbackSubmission;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackRepository;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackSubmissionRepository;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.SubmissionJournal;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.SubmissionStatus;
+import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Asynchrone Annahme von Meldungen (cityfeedback.ingest.enabled, POST /feedback mit Prefer: respond-async).
+ *
+ * Ablauf:
+ * - Der FeedbackService prüft die Meldung synchron (gleiche Regeln wie createFeedback)
+ * - Die Meldung wird mit Tracking-Token im lokalen Journal gesichert; danach antwortet der Server mit 202
+ * - Ein Hintergrund-Thread speichert die Meldungen blockweise als Feedbacks und hält in derselben
+ *   Transaktion den Stand (APPLIED/REJECTED) in feedback_submissions fest
+ * - Beim Start werden Journal-Segmente aus einem früheren Lauf wieder eingespielt; Meldungen mit
+ *   gespeichertem Stand werden übersprungen. Vollständig verarbeitete Segmente werden gelöscht.
+ *
+ * Höchstens capacity Meldungen sind gleichzeitig angenommen, aber noch nicht gespeichert;
+ * darüber hinaus wird nach offer-timeout mit 503 abgelehnt.
+ */
+@Component
+public class FeedbackIngest implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackIngest.class);
+
+    private final SubmissionJournal journal;
+    private final FeedbackSubmissionRepository submissionRepository;
+    private final FeedbackRepository feedbackRepository;
+    private final UserRepository userRepository;
+    private final FeedbackStatisticsProjection statisticsProjection;
+    private final FeedbackSearchIndex searchIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int capacity;
+    private final int batchSize;
+    private final Duration offerTimeout;
+
+    private final Semaphore permits;
+    /** Angenommene, noch nicht gespeicherte Meldungen. */
+    private final Map<UUID, FeedbackSubmission> pending = new ConcurrentHashMap<>();
+    /** Anzahl noch nicht verarbeiteter Meldungen je Journal-Segment. */
+    private final Map<Long, AtomicInteger> pendingPerSegment = new ConcurrentHashMap<>();
+
+    private volatile GroupCommitQueue<FeedbackSubmission> applier;
+
+    public FeedbackIngest(SubmissionJournal journal,
+                          FeedbackSubmissionRepository submissionRepository,
+                          FeedbackRepository feedbackRepository,
+                          UserRepository userRepository,
+                          FeedbackStatisticsProjection statisticsProjection,
+                          FeedbackSearchIndex searchIndex,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${cityfeedback.ingest.enabled:false}") boolean enabled,
+                          @Value("${cityfeedback.ingest.capacity:50000}") int capacity,
+                          @Value("${cityfeedback.ingest.batch-size:500}") int batchSize,
+                          @Value("${cityfeedback.ingest.offer-timeout:PT0.1S}") Duration offerTimeout) {
+        this.journal = journal;
+        this.submissionRepository = submissionRepository;
+        this.feedbackRepository = feedbackRepository;
+        this.userRepository = userRepository;
+        this.statisticsProjection = statisticsProjection;
+        this.searchIndex = searchIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.offerTimeout = offerTimeout;
+        this.permits = new Semaphore(capacity);
+    }
+
+    /**
+     * @return true, wenn Meldungen asynchron angenommen werden
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sichert ein bereits geprüftes Feedback im Journal und reiht es zum Speichern ein.
+     *
+     * @param feedback Das geprüfte, noch nicht gespeicherte Feedback
+     * @return Die angenommene Meldung (Status ACCEPTED) mit Tracking-Token
+     * @throws GroupCommitQueue.QueueFullException wenn bereits capacity Meldungen auf das Speichern warten
+     * @throws IllegalStateException wenn die asynchrone Annahme nicht aktiv ist
+     */
+    public FeedbackSubmission submit(Feedback feedback) {
+        GroupCommitQueue<FeedbackSubmission> queue = applier;
+        if (queue == null) {
+            throw new IllegalStateException("Asynchrone Annahme ist nicht aktiv.");
+        }
+        acquirePermit();
+        FeedbackSubmission submission = new FeedbackSubmission(UUID.randomUUID(), LocalDateTime.now(),
+                feedback.getUserId(), feedback.getTitle(), feedback.getCategory(), feedback.getContent());
+        long segment;
+        try {
+            // Vor dem Abschluss des Segments zählen, sonst könnte finished() es schon löschen
+            segment = journal.append(submission, this::registerPending);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        enqueue(queue, submission, segment);
+        return submission;
+    }
+
+    /**
+     * Liefert den Verarbeitungsstand einer Meldung.
+     *
+     * @param token Das Tracking-Token
+     * @return Stand der Meldung (ohne Feedback-Daten)
+     * @throws SubmissionNotFoundException wenn das Token unbekannt ist
+     */
+    public FeedbackSubmission getStatus(UUID token) {
+        FeedbackSubmission accepted = pending.get(token);
+        if (accepted != null) {
+            return new FeedbackSubmission(token, accepted.getReceivedAt(), SubmissionStatus.ACCEPTED, null, null);
+        }
+        return submissionRepository.findByToken(token)
+                .orElseThrow(() -> new SubmissionNotFoundException(token));
+    }
+
+    /**
+     * @return Anzahl angenommener, noch nicht gespeicherter Meldungen
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private void acquirePermit() {
+        try {
+            if (permits.tryAcquire(offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new GroupCommitQueue.QueueFullException("Asynchrone Annahme ist ausgelastet.");
+    }
+
+    private void registerPending(long segment) {
+        pendingPerSegment.computeIfAbsent(segment, key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    /**
+     * Reiht eine Meldung ein, deren Segment bereits in pendingPerSegment gezählt ist.
+     */
+    private void enqueue(GroupCommitQueue<FeedbackSubmission> queue, FeedbackSubmission submission, long segment) {
+        pending.put(submission.getToken(), submission);
+        try {
+            queue.submit(submission).whenComplete((applied, failure) -> finished(submission, segment, failure));
+        } catch (GroupCommitQueue.QueueFullException e) {
+            // Nur beim Herunterfahren möglich: die Meldung steht im Journal und wird beim nächsten Start eingespielt
+            logger.warn("Meldung {} wird beim nächsten Start eingespielt: {}", submission.getToken(), e.getMessage());
+            permits.release();
+        }
+    }
+
+    private void finished(FeedbackSubmission submission, long segment, Throwable failure) {
+        try {
+            if (failure != null && !recordFailure(submission, failure)) {
+                // Stand konnte nicht gespeichert werden: Segment bleibt für das Wiedereinspielen erhalten
+                return;
+            }
+            pending.remove(submission.getToken());
+            pendingPerSegment.get(segment).decrementAndGet();
+            releaseCompletedSegments();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean recordFailure(FeedbackSubmission submission, Throwable failure) {
+        logger.error("Meldung {} konnte nicht gespeichert werden", submission.getToken(), failure);
+        try {
+            submission.markRejected("Meldung konnte nicht gespeichert werden.");
+            transactionTemplate.executeWithoutResult(status -> submissionRepository.saveAll(List.of(submission)));
+            return true;
+        } catch (RuntimeException e) {
+            logger.error("Stand der Meldung {} konnte nicht gespeichert werden: {}", submission.getToken(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void releaseCompletedSegments() {
+        long current = journal.currentSegment();
+        pendingPerSegment.forEach((segment, count) -> {
+            if (segment < current && count.get() == 0 && pendingPerSegment.remove(segment, count)) {
+                journal.release(segment);
+            }
+        });
+    }
+
+    /**
+     * Speichert einen Block von Meldungen in einer Transaktion: Feedbacks per JDBC-Batch,
+     * dazu der Stand jeder Meldung in feedback_submissions.
+     */
+    private List<FeedbackSubmission> apply(List<FeedbackSubmission> batch) {
+        return transactionTemplate.execute(status -> {
+            Set<UUID> existingUsers = userRepository.findExistingIds(batch.stream()
+                    .map(FeedbackSubmission::getUserId)
+                    .collect(Collectors.toSet()));
+            List<FeedbackSubmission> accepted = new ArrayList<>(batch.size());
+            List<Feedback> feedbacks = new ArrayList<>(batch.size());
+            for (FeedbackSubmission submission : batch) {
+                if (!existingUsers.contains(submission.getUserId())) {
+                    submission.markRejected("Benutzer mit ID " + submission.getUserId() + " existiert nicht mehr.");
+                    continue;
+                }
+                try {
+                    feedbacks.add(submission.toFeedback());
+                    accepted.add(submission);
+                } catch (IllegalArgumentException e) {
+                    submission.markRejected(e.getMessage());
+                }
+            }
+            feedbackRepository.insertAll(feedbacks);
+            for (int i = 0; i < feedbacks.size(); i++) {
+                Feedback feedback = feedbacks.get(i);
+                accepted.get(i).markApplied(feedback.getId());
+                statisticsProjection.recordCreated(feedback);
+                searchIndex.recordSaved(feedback);
+            }
+            submissionRepository.saveAll(batch);
+            return batch;
+        });
+    }
+
+    /**
+     * Spielt Meldungen aus Journal-Segmenten eines früheren Laufs ein, die noch keinen Stand haben.
+     */
+    private void replay(GroupCommitQueue<FeedbackSubmission> queue) {
+        int replayed = 0;
+        for (Map.Entry<Long, List<FeedbackSubmission>> segment : journal.readClosedSegments().entrySet()) {
+            Set<UUID> processed = submissionRepository.findProcessedTokens(segment.getValue().stream()
+                    .map(FeedbackSubmission::getToken)
+                    .collect(Collectors.toList()));
+            List<FeedbackSubmission> open = segment.getValue().stream()
+                    .filter(submission -> !processed.contains(submission.getToken()))
+                    .collect(Collectors.toList());
+            if (open.isEmpty()) {
+                journal.release(segment.getKey());
+                continue;
+            }
+            // Alle offenen Meldungen vorab zählen, damit das Segment nicht nach der ersten gelöscht wird
+            pendingPerSegment.computeIfAbsent(segment.getKey(), key -> new AtomicInteger()).addAndGet(open.size());
+            for (FeedbackSubmission submission : open) {
+                permits.acquireUninterruptibly();
+                enqueue(queue, submission, segment.getKey());
+            }
+            replayed += open.size();
+        }
+        if (replayed > 0) {
+            logger.info("{} Meldungen aus dem Journal werden eingespielt", replayed);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        GroupCommitQueue<FeedbackSubmission> queue = new GroupCommitQueue<>("ingest", capacity, batchSize,
+                Duration.ZERO, Duration.ZERO, this::apply);
+        replay(queue);
+        applier = queue;
+    }
+
+    @Override
+    public void stop() {
+        GroupCommitQueue<FeedbackSubmission> queue = applier;
+        applier = null;
+        if (queue != null) {
+            queue.close();
+            journal.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return applier != null;
+    }
+
+    /**
+     * Startet vor und stoppt nach dem Webserver, wie der Gruppen-Commit.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
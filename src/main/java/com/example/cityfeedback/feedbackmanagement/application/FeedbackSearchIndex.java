@@ -0,0 +1,128 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import com.example.cityfeedback.config.TransactionCallbacks;
+import com.example.cityfeedback.feedbackmanagement.domain.model.Feedback;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Volltextindex über Titel und Inhalt aller Feedbacks (für GET /feedback/search).
+ *
+ * Der Index wird beim Start aus der Datenbank aufgebaut; die Textanalyse läuft dabei
+ * parallel in Batches. Danach wird er bei jeder Schreiboperation des FeedbackService
+ * nach dem Commit inkrementell angepasst. Änderungen, die während eines Neuaufbaus
+ * eintreffen, werden zusätzlich gepuffert und vor dem Austausch auf den neuen Index angewendet.
+ */
+@Component
+public class FeedbackSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackSearchIndex.class);
+
+    /** Anzahl Feedbacks, die gemeinsam (parallel) analysiert werden. */
+    private static final int REBUILD_BATCH_SIZE = 2000;
+
+    private final FeedbackRepository feedbackRepository;
+
+    private volatile InvertedIndex index = new InvertedIndex();
+
+    /** Während eines Neuaufbaus eingetroffene Änderungen (null, wenn kein Neuaufbau läuft). */
+    private List<Consumer<InvertedIndex>> pendingDuringRebuild;
+
+    public FeedbackSearchIndex(FeedbackRepository feedbackRepository) {
+        this.feedbackRepository = feedbackRepository;
+    }
+
+    /**
+     * Baut den Index beim Start der Anwendung auf.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        rebuild();
+    }
+
+    /**
+     * Baut den Index vollständig aus der Datenbank neu auf und ersetzt den aktuellen.
+     */
+    public void rebuild() {
+        synchronized (this) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+        InvertedIndex fresh = new InvertedIndex();
+        List<Feedback> batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+        try {
+            feedbackRepository.streamAll(feedback -> {
+                batch.add(feedback);
+                if (batch.size() == REBUILD_BATCH_SIZE) {
+                    addBatch(fresh, batch);
+                    batch.clear();
+                }
+            });
+            addBatch(fresh, batch);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            pendingDuringRebuild.forEach(change -> change.accept(fresh));
+            pendingDuringRebuild = null;
+            index = fresh;
+        }
+        logger.debug("Suchindex neu aufgebaut: {} Feedbacks", fresh.size());
+    }
+
+    /**
+     * Nimmt ein gespeichertes Feedback nach dem Commit in den Index auf.
+     *
+     * @param feedback Das gespeicherte Feedback
+     */
+    public void recordSaved(Feedback feedback) {
+        InvertedIndex.Document document = InvertedIndex.analyze(
+                feedback.getId(), feedback.getTitle(), feedback.getContent());
+        TransactionCallbacks.afterCommit(() -> apply(index -> index.put(document)));
+    }
+
+    /**
+     * Entfernt ein gelöschtes Feedback nach dem Commit aus dem Index.
+     *
+     * @param feedbackId Die ID des gelöschten Feedbacks
+     */
+    public void recordDeleted(Long feedbackId) {
+        TransactionCallbacks.afterCommit(() -> apply(index -> index.remove(feedbackId)));
+    }
+
+    /**
+     * Sucht Feedbacks nach Relevanz (BM25).
+     *
+     * @param query Suchtext
+     * @param limit Maximale Anzahl Treffer
+     * @return Treffer mit Feedback-ID und Score, bester Treffer zuerst
+     */
+    public List<InvertedIndex.Hit> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    private synchronized void apply(Consumer<InvertedIndex> change) {
+        change.accept(index);
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(change);
+        }
+    }
+
+    private static void addBatch(InvertedIndex target, List<Feedback> batch) {
+        batch.parallelStream()
+                .map(feedback -> InvertedIndex.analyze(feedback.getId(), feedback.getTitle(), feedback.getContent()))
+                .toList()
+                .forEach(target::put);
+    }
+}
@@ -2,43 +2,163 @@ package com.example.cityfeedback.feedbackmanagement.application;
 
 import com.example.cityfeedback.feedbackmanagement.domain.model.Feedback;
 import com.example.cityfeedback.feedbackmanagement.domain.model.Comment;
+import com.example.cityfeedback.feedbackmanagement.domain.model.FeedbackSubmission;
+import com.example.cityfeedback.feedbackmanagement.domain.exceptions.ConcurrentFeedbackModificationException;
 import com.example.cityfeedback.feedbackmanagement.domain.exceptions.FeedbackNotFoundException;
 import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackRepository;
 import com.example.cityfeedback.feedbackmanagement.domain.repositories.CommentRepository;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.FeedbackStatistics;
 import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.SubmissionStatus;
 import com.example.cityfeedback.usermanagement.domain.exceptions.UnauthorizedException;
 import com.example.cityfeedback.usermanagement.domain.exceptions.UserNotFoundException;
-import com.example.cityfeedback.usermanagement.domain.model.User;
 import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserPrincipal;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Service
 public class FeedbackService {
 
+    /** Standard-Seitengröße für die Keyset-Pagination. */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /** Maximale Seitengröße für die Keyset-Pagination. */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    /** Obergrenze für die ungeblätterte Liste aller Feedbacks. */
+    public static final int UNPAGED_LIMIT = 1000;
+
+    /** Maximale Versuche für einen Statusübergang bei gleichzeitigen Änderungen. */
+    static final int MAX_TRANSITION_ATTEMPTS = 5;
+
+    /** Standard-Trefferzahl der Volltextsuche. */
+    public static final int DEFAULT_SEARCH_LIMIT = 20;
+
+    /** Maximale Trefferzahl der Volltextsuche. */
+    public static final int MAX_SEARCH_LIMIT = 100;
+
+    /** Maximale Anzahl Operationen pro Massenmoderation. */
+    public static final int MAX_BULK_OPERATIONS = 10_000;
+
     private final FeedbackRepository feedbackRepository;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
+    private final FeedbackStatisticsProjection statisticsProjection;
+    private final PublicFeedbackCache publicFeedbackCache;
+    private final FeedbackSearchIndex searchIndex;
+    private final FeedbackGroupCommit groupCommit;
+    private final FeedbackIngest ingest;
 
     public FeedbackService(FeedbackRepository feedbackRepository, 
                           UserRepository userRepository,
-                          CommentRepository commentRepository) {
+                          CommentRepository commentRepository,
+                          FeedbackStatisticsProjection statisticsProjection,
+                          PublicFeedbackCache publicFeedbackCache,
+                          FeedbackSearchIndex searchIndex,
+                          FeedbackGroupCommit groupCommit,
+                          FeedbackIngest ingest) {
         this.feedbackRepository = feedbackRepository;
         this.userRepository = userRepository;
         this.commentRepository = commentRepository;
+        this.statisticsProjection = statisticsProjection;
+        this.publicFeedbackCache = publicFeedbackCache;
+        this.searchIndex = searchIndex;
+        this.groupCommit = groupCommit;
+        this.ingest = ingest;
     }
 
+    /**
+     * Gibt die neuesten Feedbacks zurück, begrenzt auf {@link #UNPAGED_LIMIT} Einträge.
+     * 
+     * @return Liste der neuesten Feedbacks (neueste zuerst)
+     * @deprecated Lädt bei großen Datenmengen nicht alle Feedbacks;
+     *             stattdessen {@link #getFeedbackPage(String, Integer)} verwenden.
+     */
+    @Deprecated
     public List<Feedback> getAllFeedbacks() {
-        return feedbackRepository.findAll();
+        return feedbackRepository.findPage(null, null, UNPAGED_LIMIT);
+    }
+
+    /**
+     * Übergibt alle Feedbacks nacheinander an den Consumer (neueste zuerst).
+     * Für Streaming-Antworten, bei denen nicht alle Feedbacks gleichzeitig im Speicher liegen sollen.
+     * 
+     * @param consumer Wird für jedes Feedback aufgerufen
+     */
+    public void streamAllFeedbacks(Consumer<Feedback> consumer) {
+        feedbackRepository.streamAll(consumer);
+    }
+
+    /**
+     * Gibt eine Seite von Feedbacks per Keyset-Pagination zurück (neueste zuerst).
+     * Der Cursor besteht aus Datum und ID des letzten Feedbacks der vorherigen Seite,
+     * sodass die Abfragezeit unabhängig von der Position in der Tabelle bleibt.
+     * 
+     * @param after Cursor der vorherigen Seite ({@code nextCursor}) oder null für die erste Seite
+     * @param limit Seitengröße (Standard {@value #DEFAULT_PAGE_SIZE}, maximal {@value #MAX_PAGE_SIZE})
+     * @return Seite mit Feedbacks und Cursor für die nächste Seite (null, wenn keine weitere Seite existiert)
+     * @throws IllegalArgumentException wenn Cursor oder Seitengröße ungültig sind
+     */
+    public FeedbackPageDTO getFeedbackPage(String after, Integer limit) {
+        int pageSize = pageSize(limit);
+        List<Feedback> feedbacks = findPageWithLookahead(after, pageSize);
+        return new FeedbackPageDTO(firstPage(feedbacks, pageSize), nextCursor(feedbacks, pageSize));
+    }
+
+    private static int pageSize(Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Seitengröße muss zwischen 1 und " + MAX_PAGE_SIZE + " liegen.");
+        }
+        return pageSize;
+    }
+
+    /**
+     * Lädt ein Element mehr als die Seitengröße, um zu erkennen, ob es eine weitere Seite gibt.
+     */
+    private List<Feedback> findPageWithLookahead(String after, int pageSize) {
+        LocalDate afterDate = null;
+        Long afterId = null;
+        if (after != null && !after.isBlank()) {
+            String[] parts = after.split("_", 2);
+            try {
+                afterDate = LocalDate.parse(parts[0]);
+                afterId = Long.parseLong(parts[1]);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Ungültiger Cursor: " + after);
+            }
+        }
+
+        return feedbackRepository.findPage(afterDate, afterId, pageSize + 1);
+    }
+
+    private static List<Feedback> firstPage(List<Feedback> feedbacks, int pageSize) {
+        return feedbacks.size() <= pageSize ? feedbacks : feedbacks.subList(0, pageSize);
+    }
+
+    private static String nextCursor(List<Feedback> feedbacks, int pageSize) {
+        if (feedbacks.size() <= pageSize) {
+            return null;
+        }
+        Feedback last = feedbacks.get(pageSize - 1);
+        return last.getFeedbackDate() + "_" + last.getId();
     }
 
     public Feedback getFeedbackById(Long id) {
@@ -48,21 +168,119 @@ public class FeedbackService {
 
     @Transactional
     public Feedback createFeedback(FeedbackDTO dto) {
+        Feedback feedback = prepareFeedback(dto);
+
+        Feedback saved = feedbackRepository.save(feedback);
+        statisticsProjection.recordCreated(saved);
+        searchIndex.recordSaved(saved);
+        return saved;
+    }
+
+    /**
+     * @return true, wenn neue Feedbacks und Kommentare per Gruppen-Commit geschrieben werden
+     */
+    public boolean isGroupCommitEnabled() {
+        return groupCommit.isEnabled();
+    }
+
+    /**
+     * Legt ein Feedback per Gruppen-Commit an: Das Feedback wird synchron geprüft, dann
+     * eingereiht und gemeinsam mit anderen in einer Transaktion geschrieben.
+     * 
+     * @param dto Die Feedback-Daten
+     * @return Future mit dem gespeicherten Feedback (mit ID)
+     * @throws IllegalArgumentException wenn die Daten unvollständig sind
+     * @throws UserNotFoundException wenn der User nicht existiert
+     * @throws com.example.cityfeedback.config.GroupCommitQueue.QueueFullException wenn die Warteschlange ausgelastet ist
+     * @throws IllegalStateException wenn der Gruppen-Commit nicht aktiv ist
+     */
+    public CompletableFuture<Feedback> submitFeedback(FeedbackDTO dto) {
+        return groupCommit.submitFeedback(prepareFeedback(dto));
+    }
+
+    /**
+     * @return true, wenn Meldungen asynchron (202 Accepted) angenommen werden können
+     */
+    public boolean isAsyncIngestEnabled() {
+        return ingest.isEnabled();
+    }
+
+    /**
+     * Nimmt ein Feedback asynchron an: Die Daten werden synchron geprüft (gleiche Regeln wie
+     * {@link #createFeedback(FeedbackDTO)}), dann im Journal gesichert und später gespeichert.
+     * 
+     * @param dto Die Feedback-Daten
+     * @return Stand der Meldung (ACCEPTED) mit Tracking-Token
+     * @throws IllegalArgumentException wenn die Daten unvollständig sind
+     * @throws UserNotFoundException wenn der User nicht existiert
+     * @throws com.example.cityfeedback.config.GroupCommitQueue.QueueFullException wenn die Annahme ausgelastet ist
+     * @throws IllegalStateException wenn die asynchrone Annahme nicht aktiv ist
+     */
+    public SubmissionDTO submitFeedbackAsync(FeedbackDTO dto) {
+        return SubmissionDTO.from(ingest.submit(prepareFeedback(dto)));
+    }
+
+    /**
+     * Liefert den Verarbeitungsstand einer asynchron angenommenen Meldung.
+     * 
+     * @param token Das Tracking-Token
+     * @return Stand der Meldung (ACCEPTED, APPLIED mit Feedback-ID oder REJECTED mit Grund)
+     * @throws com.example.cityfeedback.feedbackmanagement.domain.exceptions.SubmissionNotFoundException wenn das Token unbekannt ist
+     */
+    public SubmissionDTO getSubmission(java.util.UUID token) {
+        return SubmissionDTO.from(ingest.getStatus(token));
+    }
+
+    /**
+     * Prüft die Feedback-Daten und erzeugt das (noch nicht gespeicherte) Feedback.
+     */
+    private Feedback prepareFeedback(FeedbackDTO dto) {
         validateFeedbackDTO(dto);
 
-        // Prüfen, ob User existiert (lose Kopplung: nur ID-Prüfung) - funktional mit Optional
-        userRepository.findById(dto.userId)
-                .orElseThrow(() -> new UserNotFoundException(dto.userId));
+        // Prüfen, ob User existiert (lose Kopplung: nur ID-Prüfung, aus dem Rollen-Cache)
+        if (!userRepository.existsById(dto.userId)) {
+            throw new UserNotFoundException(dto.userId);
+        }
 
         // Factory-Methode des Aggregats verwenden
-        Feedback feedback = Feedback.create(
+        return Feedback.create(
                 dto.title,
                 dto.category,
                 dto.content,
                 dto.userId
         );
+    }
+
+    /**
+     * Volltextsuche über Titel und Inhalt aller Feedbacks.
+     * Umlaute werden gefaltet, Stoppwörter ignoriert und leicht vertippte Begriffe
+     * über Trigramm-Ähnlichkeit gefunden. Sortiert nach Relevanz (BM25).
+     * 
+     * @param query Suchtext
+     * @param limit Maximale Anzahl Treffer (Standard {@value #DEFAULT_SEARCH_LIMIT}, maximal {@value #MAX_SEARCH_LIMIT})
+     * @return Treffer, relevanteste zuerst
+     * @throws IllegalArgumentException wenn der Suchtext leer oder die Trefferzahl ungültig ist
+     */
+    public List<FeedbackSearchResultDTO> searchFeedbacks(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Suchtext darf nicht leer sein.");
+        }
+        int maxResults = limit == null ? DEFAULT_SEARCH_LIMIT : limit;
+        if (maxResults < 1 || maxResults > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException("Trefferzahl muss zwischen 1 und " + MAX_SEARCH_LIMIT + " liegen.");
+        }
 
-        return feedbackRepository.save(feedback);
+        // Treffer, die zwischenzeitlich gelöscht wurden, werden übersprungen
+        return searchIndex.search(query, maxResults).stream()
+                .flatMap(hit -> feedbackRepository.findById(hit.getFeedbackId()).stream()
+                        .map(feedback -> new FeedbackSearchResultDTO(
+                                feedback.getId(),
+                                feedback.getTitle(),
+                                feedback.getCategory().toString(),
+                                feedback.getStatus().toString(),
+                                feedback.getFeedbackDate(),
+                                hit.getScore())))
+                .collect(Collectors.toList());
     }
 
     /**
@@ -109,121 +327,99 @@ public class FeedbackService {
 
     /**
      * Gruppierung von Feedbacks nach Status mit Counting.
-     * Nutzt funktionale Konzepte: Stream API, Collectors.groupingBy(), Collectors.counting()
+     * Wird aus der In-Memory-Projektion beantwortet, ohne Datenbankzugriff.
      * 
      * @return Map mit Status als Key und Anzahl der Feedbacks als Value
      */
     public Map<com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status, Long> getFeedbackStatusStatistics() {
-        return feedbackRepository.findAll().stream()
-                .collect(Collectors.groupingBy(
-                        Feedback::getStatus,
-                        Collectors.counting()
-                ));
+        return statisticsProjection.getStatusCounts();
     }
 
     /**
      * Gruppierung von Feedbacks nach Kategorie mit Aggregation.
-     * Zeigt erweiterte Collection-Processing-Funktionalität.
+     * Es werden nur Kategorie und Titel geladen, nicht der Inhalt.
      * 
      * @return Map mit Kategorie als Key und Liste der Feedback-Titel als Value
      */
     public Map<com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category, List<String>> getFeedbackTitlesByCategory() {
-        return feedbackRepository.findAll().stream()
-                .collect(Collectors.groupingBy(
-                        Feedback::getCategory,
-                        Collectors.mapping(
-                                Feedback::getTitle,
-                                Collectors.toList()
-                        )
-                ));
+        return feedbackRepository.findTitlesByCategory();
     }
 
     /**
      * Komplexe Transformation mit mehreren Filtern.
-     * Filtert veröffentlichte Feedbacks, die nicht geschlossen sind,
-     * transformiert sie zu SummaryDTOs und sortiert nach Datum.
+     * Liefert veröffentlichte Feedbacks, die nicht geschlossen sind, als SummaryDTOs,
+     * sortiert nach Datum.
      * 
-     * Nutzt funktionale Konzepte:
-     * - Mehrfaches Filtering
-     * - Transformation (Mapping)
-     * - Sorting mit Comparator
+     * Filter und Sortierung erfolgen in der Datenbank; geladen werden nur die Spalten
+     * der Zusammenfassung (ohne den Inhalt).
      * 
      * @return Liste von FeedbackSummaryDTO, sortiert nach Feedback-Datum (neueste zuerst)
      */
     public List<FeedbackSummaryDTO> getPublishedActiveFeedbacksSummary() {
-        return feedbackRepository.findAll().stream()
-                .filter(Feedback::isPublished)  // Erster Filter: Nur veröffentlichte Feedbacks
-                .filter(f -> f.getStatus() != com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status.CLOSED)  // Zweiter Filter: Nicht geschlossen
-                .map(feedback -> new FeedbackSummaryDTO(  // Transformation zu DTO
-                        feedback.getId(),
-                        feedback.getTitle(),
-                        feedback.getCategory().toString(),
-                        feedback.getStatus().toString(),
-                        feedback.getFeedbackDate()
+        return feedbackRepository.findPublishedActiveSummaries().stream()
+                .map(summary -> new FeedbackSummaryDTO(  // Transformation zu DTO
+                        summary.getId(),
+                        summary.getTitle(),
+                        summary.getCategory().toString(),
+                        summary.getStatus().toString(),
+                        summary.getFeedbackDate()
                 ))
-                .sorted(Comparator.comparing(FeedbackSummaryDTO::getFeedbackDate).reversed())  // Sortierung nach Datum (neueste zuerst)
                 .collect(Collectors.toList());
     }
 
     /**
      * Aggregation/Reduktion: Berechnet Statistiken über alle Feedbacks.
-     * Nutzt funktionale Konzepte: Stream API, Reduktion, Optionale Werte
+     * Wird aus der In-Memory-Projektion beantwortet, die bei jeder Schreiboperation
+     * aktualisiert und periodisch mit der Datenbank abgeglichen wird.
      * 
      * @return FeedbackStatisticsDTO mit aggregierten Werten
      */
     public FeedbackStatisticsDTO getFeedbackStatistics() {
-        List<Feedback> allFeedbacks = feedbackRepository.findAll();
-        
-        if (allFeedbacks.isEmpty()) {
-            return new FeedbackStatisticsDTO(0L, 0L, 0L, 0L, null, null);
-        }
-
-        long totalCount = allFeedbacks.stream()
-                .count();
-
-        long publishedCount = allFeedbacks.stream()
-                .filter(Feedback::isPublished)
-                .count();
-
-        long closedCount = allFeedbacks.stream()
-                .filter(f -> f.getStatus() == com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status.CLOSED)
-                .count();
-
-        long openCount = allFeedbacks.stream()
-                .filter(f -> f.getStatus() == com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status.OPEN)
-                .count();
-
-        LocalDate oldestDate = allFeedbacks.stream()
-                .map(Feedback::getFeedbackDate)
-                .min(LocalDate::compareTo)
-                .orElse(null);
-
-        LocalDate newestDate = allFeedbacks.stream()
-                .map(Feedback::getFeedbackDate)
-                .max(LocalDate::compareTo)
-                .orElse(null);
-
-        return new FeedbackStatisticsDTO(totalCount, publishedCount, closedCount, openCount, oldestDate, newestDate);
+        FeedbackStatistics statistics = statisticsProjection.getStatistics();
+        return new FeedbackStatisticsDTO(
+                statistics.getTotalCount(),
+                statistics.getPublishedCount(),
+                statistics.getClosedCount(),
+                statistics.getOpenCount(),
+                statistics.getOldestDate(),
+                statistics.getNewestDate()
+        );
     }
 
     /**
      * Löscht alle Feedbacks eines bestimmten Users.
      * Wird verwendet, wenn ein User gelöscht wird.
+     * Die Anzahl der SQL-Anweisungen ist unabhängig von der Anzahl der Feedbacks und Kommentare.
      * 
      * @param userId Die UUID des Users, dessen Feedbacks gelöscht werden sollen
      */
     @Transactional
     public void deleteFeedbacksByUserId(java.util.UUID userId) {
-        // Finde alle Feedbacks des Users
-        List<Feedback> userFeedbacks = feedbackRepository.findByUserId(userId);
-        
-        // Lösche alle Kommentare dieser Feedbacks
-        userFeedbacks.stream()
-                .map(Feedback::getId)
-                .forEach(commentRepository::deleteByFeedbackId);
+        deleteFeedbacksByUserIds(List.of(userId));
+    }
+
+    /**
+     * Löscht alle Feedbacks und deren Kommentare für mehrere Users mengenbasiert.
+     * Pro angefangene 1000 Users wird je eine Anweisung für Kommentare und Feedbacks ausgeführt.
+     * 
+     * @param userIds Die UUIDs der Users, deren Feedbacks gelöscht werden sollen
+     * @return Anzahl gelöschter Feedbacks und Kommentare
+     */
+    @Transactional
+    public FeedbackDeletionDTO deleteFeedbacksByUserIds(Collection<java.util.UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return new FeedbackDeletionDTO(0, 0);
+        }
+        // Nur den Zustand laden, der für Projektion, Suchindex und Cache gebraucht wird
+        List<Feedback> userFeedbacks = feedbackRepository.findStatesByUserIds(userIds);
         
-        // Lösche die Feedbacks
-        feedbackRepository.deleteByUserId(userId);
+        // Mengenbasiert löschen: erst alle Kommentare, dann alle Feedbacks
+        int deletedComments = commentRepository.deleteByFeedbackUserIds(userIds);
+        int deletedFeedbacks = feedbackRepository.deleteByUserIds(userIds);
+        userFeedbacks.forEach(statisticsProjection::recordDeleted);
+        userFeedbacks.stream().map(Feedback::getId).forEach(searchIndex::recordDeleted);
+        publicFeedbackCache.recordChange(userFeedbacks.stream().anyMatch(Feedback::isPublished), false);
+        return new FeedbackDeletionDTO(deletedFeedbacks, deletedComments);
     }
 
 
@@ -237,9 +433,7 @@ public class FeedbackService {
      */
     @Transactional
     public Feedback updateFeedbackStatus(Long feedbackId, Status newStatus) {
-        Feedback feedback = getFeedbackById(feedbackId);
-        feedback.updateStatus(newStatus);
-        return feedbackRepository.save(feedback);
+        return transition(feedbackId, feedback -> feedback.updateStatus(newStatus), Feedback::getStatus);
     }
 
     /**
@@ -251,9 +445,7 @@ public class FeedbackService {
      */
     @Transactional
     public Feedback publishFeedback(Long feedbackId) {
-        Feedback feedback = getFeedbackById(feedbackId);
-        feedback.publish();
-        return feedbackRepository.save(feedback);
+        return transition(feedbackId, Feedback::publish, Feedback::isPublished);
     }
 
     /**
@@ -265,9 +457,147 @@ public class FeedbackService {
      */
     @Transactional
     public Feedback unpublishFeedback(Long feedbackId) {
+        return transition(feedbackId, Feedback::unpublish, Feedback::isPublished);
+    }
+
+    /**
+     * Führt einen Status- oder Veröffentlichungsübergang lock-frei per Compare-and-Set aus:
+     * Das Domain-Modell prüft die Regeln auf dem gelesenen Stand, danach wird der neue Zustand
+     * mit einem einzelnen UPDATE übernommen, sofern sich die Version nicht geändert hat.
+     * 
+     * Scheitert das Compare-and-Set, wird das Feedback neu geladen und der Übergang erneut
+     * geprüft (bei Verstoß wird der passende Domain-Fehler geworfen). Automatisch wiederholt
+     * wird nur, wenn die zwischenzeitliche Änderung das vom Übergang gesetzte Feld nicht
+     * berührt hat (z.B. Veröffentlichen parallel zu einem Statuswechsel). Andernfalls würde die
+     * Wiederholung die fremde Änderung überschreiben, daher wird der Konflikt gemeldet.
+     * 
+     * @param feedbackId Die ID des Feedbacks
+     * @param domainTransition Übergang im Domain-Modell (prüft die Regeln)
+     * @param changedField Das Feld, das der Übergang setzt
+     * @return Das Feedback im neuen Zustand
+     * @throws ConcurrentFeedbackModificationException bei einer nicht vertauschbaren gleichzeitigen
+     *         Änderung oder nach {@value #MAX_TRANSITION_ATTEMPTS} gescheiterten Versuchen
+     */
+    private Feedback transition(Long feedbackId, Consumer<Feedback> domainTransition,
+                                Function<Feedback, Object> changedField) {
         Feedback feedback = getFeedbackById(feedbackId);
-        feedback.unpublish();
-        return feedbackRepository.save(feedback);
+        Object originalValue = changedField.apply(feedback);
+        for (int attempt = 1; ; attempt++) {
+            long expectedVersion = feedback.getVersion();
+            Status oldStatus = feedback.getStatus();
+            boolean oldPublished = feedback.isPublished();
+            domainTransition.accept(feedback);
+            if (feedbackRepository.compareAndSetState(feedback, expectedVersion)) {
+                feedback.setVersion(expectedVersion + 1);
+                statisticsProjection.recordTransition(oldStatus, oldPublished, feedback);
+                publicFeedbackCache.recordChange(oldPublished, feedback.isPublished());
+                return feedback;
+            }
+            if (attempt == MAX_TRANSITION_ATTEMPTS) {
+                throw new ConcurrentFeedbackModificationException(feedbackId);
+            }
+
+            // Wirft FeedbackNotFoundException, falls das Feedback inzwischen gelöscht wurde
+            feedback = getFeedbackById(feedbackId);
+            if (!Objects.equals(originalValue, changedField.apply(feedback))) {
+                // Ein Domain-Fehler auf dem neuen Stand hat Vorrang vor dem Konflikt
+                domainTransition.accept(feedback);
+                throw new ConcurrentFeedbackModificationException(feedbackId);
+            }
+        }
+    }
+
+    /**
+     * Führt viele Status- und Veröffentlichungsänderungen in einer Transaktion aus.
+     * Nur für Mitarbeiter/Admins.
+     * 
+     * Der Zustand aller betroffenen Feedbacks wird mit einer einzigen Abfrage geladen,
+     * die Domain-Regeln werden pro Operation geprüft und alle geänderten Feedbacks anschließend
+     * in einem JDBC-Batch per Compare-and-Set geschrieben. Eine abgelehnte Operation
+     * verhindert die übrigen nicht. Mehrere Operationen auf dasselbe Feedback werden der
+     * Reihe nach angewendet.
+     * 
+     * @param operations Die Operationen (höchstens {@value #MAX_BULK_OPERATIONS})
+     * @return Ergebnis pro Operation (gleiche Reihenfolge) und Zusammenfassung
+     * @throws IllegalArgumentException wenn zu viele Operationen übergeben werden
+     */
+    @Transactional
+    public BulkModerationResultDTO moderateFeedbacks(List<BulkOperationDTO> operations) {
+        if (operations.size() > MAX_BULK_OPERATIONS) {
+            throw new IllegalArgumentException("Es können maximal " + MAX_BULK_OPERATIONS + " Operationen auf einmal ausgeführt werden.");
+        }
+
+        Map<Long, Feedback> feedbacksById = new HashMap<>();
+        feedbackRepository.findStatesByIds(operations.stream().map(operation -> operation.id).distinct().toList())
+                .forEach(feedback -> feedbacksById.put(feedback.getId(), feedback));
+        Map<Long, Feedback> originalsById = new HashMap<>();
+        feedbacksById.forEach((id, feedback) -> originalsById.put(id, copyState(feedback)));
+
+        BulkItemResultDTO[] results = new BulkItemResultDTO[operations.size()];
+        Map<Long, List<Integer>> appliedIndexesById = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            BulkOperationDTO operation = operations.get(i);
+            Feedback feedback = feedbacksById.get(operation.id);
+            if (feedback == null) {
+                results[i] = BulkItemResultDTO.failed(operation.id, BulkOutcome.NOT_FOUND,
+                        "Feedback mit ID " + operation.id + " wurde nicht gefunden.");
+                continue;
+            }
+            if (operation.status == null && operation.publish == null) {
+                results[i] = BulkItemResultDTO.failed(operation.id, BulkOutcome.REJECTED, "Keine Änderung angegeben.");
+                continue;
+            }
+            // Auf einer Kopie prüfen, damit eine teilweise abgelehnte Operation nichts verändert
+            Feedback candidate = copyState(feedback);
+            try {
+                if (operation.status != null) {
+                    candidate.updateStatus(operation.status);
+                }
+                if (Boolean.TRUE.equals(operation.publish)) {
+                    candidate.publish();
+                } else if (Boolean.FALSE.equals(operation.publish)) {
+                    candidate.unpublish();
+                }
+            } catch (IllegalStateException | IllegalArgumentException e) {
+                results[i] = BulkItemResultDTO.failed(operation.id, BulkOutcome.REJECTED, e.getMessage());
+                continue;
+            }
+            feedback.setStatus(candidate.getStatus());
+            feedback.setPublished(candidate.isPublished());
+            appliedIndexesById.computeIfAbsent(operation.id, id -> new ArrayList<>()).add(i);
+        }
+
+        List<Feedback> changed = appliedIndexesById.keySet().stream().map(feedbacksById::get).toList();
+        boolean[] written = changed.isEmpty() ? new boolean[0] : feedbackRepository.compareAndSetStates(changed);
+        boolean publicationTouched = false;
+        for (int k = 0; k < changed.size(); k++) {
+            Feedback feedback = changed.get(k);
+            Feedback original = originalsById.get(feedback.getId());
+            for (int index : appliedIndexesById.get(feedback.getId())) {
+                results[index] = written[k]
+                        ? BulkItemResultDTO.updated(feedback)
+                        : BulkItemResultDTO.failed(feedback.getId(), BulkOutcome.CONFLICT,
+                                "Feedback mit ID " + feedback.getId() + " wurde gleichzeitig geändert. Bitte erneut versuchen.");
+            }
+            if (written[k]) {
+                feedback.setVersion(feedback.getVersion() + 1);
+                statisticsProjection.recordTransition(original.getStatus(), original.isPublished(), feedback);
+                publicationTouched |= original.isPublished() || feedback.isPublished();
+            }
+        }
+        publicFeedbackCache.recordChange(publicationTouched, false);
+
+        return new BulkModerationResultDTO(List.of(results));
+    }
+
+    private static Feedback copyState(Feedback feedback) {
+        Feedback copy = new Feedback();
+        copy.setId(feedback.getId());
+        copy.setStatus(feedback.getStatus());
+        copy.setPublished(feedback.isPublished());
+        copy.setFeedbackDate(feedback.getFeedbackDate());
+        copy.setVersion(feedback.getVersion());
+        return copy;
     }
 
     /**
@@ -277,27 +607,29 @@ public class FeedbackService {
      * @return Liste aller veröffentlichten Feedbacks
      */
     public List<Feedback> getPublishedFeedbacks() {
-        return feedbackRepository.findAll().stream()
-                .filter(Feedback::isPublished)
-                .collect(Collectors.toList());
+        return feedbackRepository.findPublished();
+    }
+
+    /**
+     * Gibt alle veröffentlichten Feedbacks als vorgerendertes JSON aus dem Cache zurück.
+     * 
+     * @return Snapshot mit JSON, gzip-Variante, Version und ETag
+     */
+    public PublicFeedbackCache.Snapshot getPublishedFeedbacksSnapshot() {
+        return publicFeedbackCache.get();
     }
 
     /**
      * Löscht ein Feedback komplett (nur für Admins).
      * 
-     * @param adminId Die ID des ausführenden Admins
+     * @param admin Der ausführende, angemeldete User
      * @param feedbackId Die ID des zu löschenden Feedbacks
      * @throws UnauthorizedException wenn der ausführende User kein Admin ist
      * @throws FeedbackNotFoundException wenn das Feedback nicht gefunden wird
      */
     @Transactional
-    public void deleteFeedback(java.util.UUID adminId, Long feedbackId) {
-        User admin = userRepository.findById(adminId)
-                .orElseThrow(() -> new UserNotFoundException(adminId));
-        
-        if (admin.getRole() != UserRole.ADMIN) {
-            throw new UnauthorizedException("Nur Administratoren können Feedbacks löschen.");
-        }
+    public void deleteFeedback(UserPrincipal admin, Long feedbackId) {
+        admin.requireAdmin("Nur Administratoren können Feedbacks löschen.");
 
         Feedback feedback = getFeedbackById(feedbackId);
         
@@ -306,6 +638,9 @@ public class FeedbackService {
         
         // Lösche das Feedback
         feedbackRepository.delete(feedback);
+        statisticsProjection.recordDeleted(feedback);
+        publicFeedbackCache.recordChange(feedback.isPublished(), false);
+        searchIndex.recordDeleted(feedbackId);
     }
 
     /**
@@ -319,19 +654,41 @@ public class FeedbackService {
      */
     @Transactional
     public Comment addComment(Long feedbackId, java.util.UUID authorId, String content) {
+        return commentRepository.save(prepareComment(feedbackId, authorId, content));
+    }
+
+    /**
+     * Fügt einen Kommentar per Gruppen-Commit hinzu: Der Kommentar wird synchron geprüft, dann
+     * eingereiht und gemeinsam mit anderen in einer Transaktion geschrieben.
+     * 
+     * @param feedbackId Die ID des Feedbacks
+     * @param authorId Die ID des Autors (Mitarbeiter/Admin)
+     * @param content Der Kommentar-Text
+     * @return Future mit dem gespeicherten Kommentar (mit ID)
+     * @throws FeedbackNotFoundException wenn das Feedback nicht gefunden wird
+     * @throws com.example.cityfeedback.config.GroupCommitQueue.QueueFullException wenn die Warteschlange ausgelastet ist
+     * @throws IllegalStateException wenn der Gruppen-Commit nicht aktiv ist
+     */
+    public CompletableFuture<Comment> submitComment(Long feedbackId, java.util.UUID authorId, String content) {
+        return groupCommit.submitComment(prepareComment(feedbackId, authorId, content));
+    }
+
+    /**
+     * Prüft Feedback und Autor und erzeugt den (noch nicht gespeicherten) Kommentar.
+     */
+    private Comment prepareComment(Long feedbackId, java.util.UUID authorId, String content) {
         // Prüfen, ob Feedback existiert
         getFeedbackById(feedbackId);
         
-        // Prüfen, ob Autor existiert und Mitarbeiter/Admin ist
-        User author = userRepository.findById(authorId)
+        // Prüfen, ob Autor existiert und Mitarbeiter/Admin ist (nur die Rolle, aus dem Rollen-Cache)
+        UserRole authorRole = userRepository.findRoleById(authorId)
                 .orElseThrow(() -> new UserNotFoundException(authorId));
         
-        if (author.getRole() != UserRole.STAFF && author.getRole() != UserRole.ADMIN) {
+        if (authorRole != UserRole.STAFF && authorRole != UserRole.ADMIN) {
             throw new UnauthorizedException("Nur Mitarbeiter und Administratoren können Kommentare hinzufügen.");
         }
 
-        Comment comment = new Comment(feedbackId, authorId, content);
-        return commentRepository.save(comment);
+        return new Comment(feedbackId, authorId, content);
     }
 
     /**
@@ -344,6 +701,280 @@ public class FeedbackService {
         return commentRepository.findByFeedbackId(feedbackId);
     }
 
+    /**
+     * Gibt die Kommentare zu mehreren Feedbacks mit einer Abfrage zurück.
+     * 
+     * @param feedbackIds Die IDs der Feedbacks (maximal {@link #UNPAGED_LIMIT})
+     * @return Map von Feedback-ID auf deren Kommentare (älteste zuerst)
+     * @throws IllegalArgumentException wenn keine oder zu viele IDs übergeben werden
+     */
+    public Map<Long, List<Comment>> getCommentsByFeedbackIds(List<Long> feedbackIds) {
+        if (feedbackIds == null) {
+            throw new IllegalArgumentException("Feedback-IDs dürfen nicht null sein.");
+        }
+        if (feedbackIds.size() > UNPAGED_LIMIT) {
+            throw new IllegalArgumentException("Es können maximal " + UNPAGED_LIMIT + " Feedback-IDs auf einmal abgefragt werden.");
+        }
+        if (feedbackIds.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Feedback-IDs dürfen nicht null sein.");
+        }
+        return commentRepository.findByFeedbackIds(feedbackIds);
+    }
+
+    /**
+     * Gibt die neuesten Feedbacks (wie {@link #getAllFeedbacks()}) samt ihrer Kommentare zurück.
+     * Die Kommentare werden mit einer einzigen Abfrage für alle Feedbacks geladen.
+     * 
+     * @return Liste der neuesten Feedbacks mit Kommentaren (neueste zuerst)
+     */
+    public List<FeedbackWithCommentsDTO> getAllFeedbacksWithComments() {
+        return withComments(feedbackRepository.findPage(null, null, UNPAGED_LIMIT));
+    }
+
+    /**
+     * Gibt eine Seite von Feedbacks (wie {@link #getFeedbackPage(String, Integer)}) samt ihrer Kommentare zurück.
+     *
+     * @param after Cursor der vorherigen Seite ({@code nextCursor}) oder null für die erste Seite
+     * @param limit Seitengröße (Standard {@value #DEFAULT_PAGE_SIZE}, maximal {@value #MAX_PAGE_SIZE})
+     * @return Seite mit Feedbacks samt Kommentaren und Cursor für die nächste Seite (null, wenn keine weitere existiert)
+     * @throws IllegalArgumentException wenn Cursor oder Seitengröße ungültig sind
+     */
+    public FeedbackWithCommentsPageDTO getFeedbackPageWithComments(String after, Integer limit) {
+        int pageSize = pageSize(limit);
+        List<Feedback> feedbacks = findPageWithLookahead(after, pageSize);
+        return new FeedbackWithCommentsPageDTO(withComments(firstPage(feedbacks, pageSize)),
+                nextCursor(feedbacks, pageSize));
+    }
+
+    private List<FeedbackWithCommentsDTO> withComments(List<Feedback> feedbacks) {
+        Map<Long, List<Comment>> comments = commentRepository.findByFeedbackIds(
+                feedbacks.stream().map(Feedback::getId).collect(Collectors.toList()));
+        return feedbacks.stream()
+                .map(feedback -> new FeedbackWithCommentsDTO(feedback, comments.get(feedback.getId())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * DTO für eine Seite von Feedbacks (Keyset-Pagination).
+     */
+    public static class FeedbackPageDTO {
+        private final List<Feedback> items;
+        private final String nextCursor;
+
+        public FeedbackPageDTO(List<Feedback> items, String nextCursor) {
+            this.items = items;
+            this.nextCursor = nextCursor;
+        }
+
+        public List<Feedback> getItems() {
+            return items;
+        }
+
+        public String getNextCursor() {
+            return nextCursor;
+        }
+    }
+
+    /**
+     * DTO für eine Seite von Feedbacks samt Kommentaren (Keyset-Pagination).
+     */
+    public static class FeedbackWithCommentsPageDTO {
+        private final List<FeedbackWithCommentsDTO> items;
+        private final String nextCursor;
+
+        public FeedbackWithCommentsPageDTO(List<FeedbackWithCommentsDTO> items, String nextCursor) {
+            this.items = items;
+            this.nextCursor = nextCursor;
+        }
+
+        public List<FeedbackWithCommentsDTO> getItems() {
+            return items;
+        }
+
+        public String getNextCursor() {
+            return nextCursor;
+        }
+    }
+
+    /**
+     * DTO für ein Feedback inklusive seiner Kommentare.
+     * Die Felder des Feedbacks werden flach neben "comments" serialisiert.
+     */
+    public static class FeedbackWithCommentsDTO {
+        @JsonUnwrapped
+        private final Feedback feedback;
+        private final List<Comment> comments;
+
+        public FeedbackWithCommentsDTO(Feedback feedback, List<Comment> comments) {
+            this.feedback = feedback;
+            this.comments = comments;
+        }
+
+        public Feedback getFeedback() {
+            return feedback;
+        }
+
+        public List<Comment> getComments() {
+            return comments;
+        }
+    }
+
+    /**
+     * Ergebnis einer einzelnen Operation der Massenmoderation.
+     */
+    public enum BulkOutcome {
+        /** Änderung wurde übernommen. */
+        UPDATED,
+        /** Feedback existiert nicht. */
+        NOT_FOUND,
+        /** Von den Domain-Regeln abgelehnt (z.B. bereits veröffentlicht). */
+        REJECTED,
+        /** Feedback wurde gleichzeitig anderweitig geändert. */
+        CONFLICT
+    }
+
+    /**
+     * DTO für das Ergebnis einer Operation der Massenmoderation.
+     * Status und published enthalten bei UPDATED den neuen Zustand, sonst null.
+     */
+    public static class BulkItemResultDTO {
+        private final Long id;
+        private final BulkOutcome outcome;
+        private final String message;
+        private final Status status;
+        private final Boolean published;
+
+        public BulkItemResultDTO(Long id, BulkOutcome outcome, String message, Status status, Boolean published) {
+            this.id = id;
+            this.outcome = outcome;
+            this.message = message;
+            this.status = status;
+            this.published = published;
+        }
+
+        static BulkItemResultDTO updated(Feedback feedback) {
+            return new BulkItemResultDTO(feedback.getId(), BulkOutcome.UPDATED, null,
+                    feedback.getStatus(), feedback.isPublished());
+        }
+
+        static BulkItemResultDTO failed(Long id, BulkOutcome outcome, String message) {
+            return new BulkItemResultDTO(id, outcome, message, null, null);
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public BulkOutcome getOutcome() {
+            return outcome;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public Boolean getPublished() {
+            return published;
+        }
+    }
+
+    /**
+     * DTO für das Gesamtergebnis der Massenmoderation.
+     */
+    public static class BulkModerationResultDTO {
+        private final int updated;
+        private final int failed;
+        private final List<BulkItemResultDTO> items;
+
+        public BulkModerationResultDTO(List<BulkItemResultDTO> items) {
+            this.items = items;
+            this.updated = (int) items.stream().filter(item -> item.getOutcome() == BulkOutcome.UPDATED).count();
+            this.failed = items.size() - updated;
+        }
+
+        public int getUpdated() {
+            return updated;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+
+        public List<BulkItemResultDTO> getItems() {
+            return items;
+        }
+    }
+
+    /**
+     * DTO mit der Anzahl gelöschter Feedbacks und Kommentare.
+     */
+    public static class FeedbackDeletionDTO {
+        private final int deletedFeedbacks;
+        private final int deletedComments;
+
+        public FeedbackDeletionDTO(int deletedFeedbacks, int deletedComments) {
+            this.deletedFeedbacks = deletedFeedbacks;
+            this.deletedComments = deletedComments;
+        }
+
+        public int getDeletedFeedbacks() {
+            return deletedFeedbacks;
+        }
+
+        public int getDeletedComments() {
+            return deletedComments;
+        }
+    }
+
+    /**
+     * DTO für den Stand einer asynchron angenommenen Meldung.
+     */
+    public static class SubmissionDTO {
+        private final java.util.UUID token;
+        private final SubmissionStatus status;
+        private final Long feedbackId;
+        private final String message;
+        private final java.time.LocalDateTime receivedAt;
+
+        public SubmissionDTO(java.util.UUID token, SubmissionStatus status, Long feedbackId, String message,
+                             java.time.LocalDateTime receivedAt) {
+            this.token = token;
+            this.status = status;
+            this.feedbackId = feedbackId;
+            this.message = message;
+            this.receivedAt = receivedAt;
+        }
+
+        static SubmissionDTO from(FeedbackSubmission submission) {
+            return new SubmissionDTO(submission.getToken(), submission.getStatus(), submission.getFeedbackId(),
+                    submission.getMessage(), submission.getReceivedAt());
+        }
+
+        public java.util.UUID getToken() {
+            return token;
+        }
+
+        public SubmissionStatus getStatus() {
+            return status;
+        }
+
+        public Long getFeedbackId() {
+            return feedbackId;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public java.time.LocalDateTime getReceivedAt() {
+            return receivedAt;
+        }
+    }
+
     /**
      * DTO für Feedback-Zusammenfassung (für Transformation).
      */
@@ -383,6 +1014,52 @@ public class FeedbackService {
         }
     }
 
+    /**
+     * DTO für einen Treffer der Volltextsuche.
+     */
+    public static class FeedbackSearchResultDTO {
+        private final Long id;
+        private final String title;
+        private final String category;
+        private final String status;
+        private final LocalDate feedbackDate;
+        private final double score;
+
+        public FeedbackSearchResultDTO(Long id, String title, String category, String status,
+                                       LocalDate feedbackDate, double score) {
+            this.id = id;
+            this.title = title;
+            this.category = category;
+            this.status = status;
+            this.feedbackDate = feedbackDate;
+            this.score = score;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public LocalDate getFeedbackDate() {
+            return feedbackDate;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+
     /**
      * DTO für Feedback-Statistiken (für Aggregation/Reduktion).
      */
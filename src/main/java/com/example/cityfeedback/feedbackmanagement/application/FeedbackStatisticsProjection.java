@@ -0,0 +1,226 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import com.example.cityfeedback.config.TransactionCallbacks;
+import com.example.cityfeedback.feedbackmanagement.domain.model.Feedback;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackRepository;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.FeedbackStateCount;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.FeedbackStatistics;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-Memory-Projektion der Feedback-Statistiken.
+ * 
+ * Die Zähler werden beim Start einmalig aus der Datenbank befüllt und danach bei jeder
+ * Schreiboperation des FeedbackService inkrementell angepasst. Pro Kombination aus Status
+ * und Veröffentlichungsstatus gibt es eine LongAdder-Zelle, sodass parallele Schreiber
+ * nicht um einen gemeinsamen Zähler konkurrieren. Änderungen werden erst nach dem Commit
+ * der umgebenden Transaktion angewendet.
+ * 
+ * Ein periodischer Abgleich mit der Datenbank korrigiert Abweichungen, z.B. durch
+ * Schreibzugriffe, die am FeedbackService vorbei erfolgen. Commit und Anwendung einer
+ * Änderung laufen unter dem Read-Lock, Lesen und Austausch beim Abgleich unter dem Write-Lock.
+ * Jede Änderung ist damit entweder im gelesenen Stand enthalten oder wird danach auf den
+ * neuen Stand angewendet, nie beides.
+ */
+@Component
+public class FeedbackStatisticsProjection {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackStatisticsProjection.class);
+
+    private final FeedbackRepository feedbackRepository;
+    private final TransactionTemplate readTransaction;
+
+    private volatile Counters counters = new Counters();
+
+    /**
+     * Schreiber halten den Read-Lock (parallel) vom Commit bis zur Anwendung ihrer Änderungen,
+     * der Abgleich hält den Write-Lock beim Lesen der Datenbank und beim Austausch der Zähler.
+     */
+    private final ReentrantReadWriteLock commitLock = new ReentrantReadWriteLock();
+
+    public FeedbackStatisticsProjection(FeedbackRepository feedbackRepository,
+                                        PlatformTransactionManager transactionManager) {
+        this.feedbackRepository = feedbackRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Befüllt die Zähler beim Start der Anwendung aus der Datenbank.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    /**
+     * Baut die Zähler aus der Datenbank neu auf und ersetzt den aktuellen Stand.
+     * Läuft periodisch, um Abweichungen zu korrigieren.
+     */
+    @Scheduled(fixedDelayString = "${cityfeedback.statistics.reconcile-interval:PT5M}",
+               initialDelayString = "${cityfeedback.statistics.reconcile-interval:PT5M}")
+    public synchronized void reconcile() {
+        // Die Transaktion belegt ihre Verbindung vor dem Write-Lock: wartende Schreiber halten
+        // ihre Verbindungen, der Abgleich darf danach nicht mehr auf eine freie warten
+        Counters fresh = readTransaction.execute(status -> {
+            commitLock.writeLock().lock();
+            try {
+                Counters read = new Counters();
+                for (FeedbackStateCount group : feedbackRepository.countByStatusPublishedAndDate()) {
+                    read.add(group.getStatus(), group.isPublished(), group.getFeedbackDate(), group.getCount());
+                }
+                this.counters = read;
+                return read;
+            } finally {
+                commitLock.writeLock().unlock();
+            }
+        });
+        logger.debug("Feedback-Statistiken mit der Datenbank abgeglichen: {} Feedbacks", fresh.total());
+    }
+
+    /**
+     * Zählt ein neu erstelltes Feedback.
+     * 
+     * @param feedback Das gespeicherte Feedback
+     */
+    public void recordCreated(Feedback feedback) {
+        apply(feedback.getStatus(), feedback.isPublished(), feedback.getFeedbackDate(), 1);
+    }
+
+    /**
+     * Entfernt ein gelöschtes Feedback aus den Zählern.
+     * 
+     * @param feedback Das gelöschte Feedback (Zustand vor dem Löschen)
+     */
+    public void recordDeleted(Feedback feedback) {
+        apply(feedback.getStatus(), feedback.isPublished(), feedback.getFeedbackDate(), -1);
+    }
+
+    /**
+     * Verschiebt ein Feedback nach einer Status- oder Veröffentlichungsänderung in die neue Zelle.
+     * 
+     * @param oldStatus Status vor der Änderung
+     * @param oldPublished Veröffentlichungsstatus vor der Änderung
+     * @param updated Das geänderte Feedback
+     */
+    public void recordTransition(Status oldStatus, boolean oldPublished, Feedback updated) {
+        if (oldStatus == updated.getStatus() && oldPublished == updated.isPublished()) {
+            return;
+        }
+        apply(oldStatus, oldPublished, updated.getFeedbackDate(), -1);
+        apply(updated.getStatus(), updated.isPublished(), updated.getFeedbackDate(), 1);
+    }
+
+    /**
+     * Liefert die aktuellen Gesamtstatistiken ohne Datenbankzugriff.
+     * 
+     * @return Aggregierte Kennzahlen
+     */
+    public FeedbackStatistics getStatistics() {
+        Counters current = counters;
+        long published = 0;
+        for (Status status : Status.values()) {
+            published += current.cell(status, true).sum();
+        }
+        return new FeedbackStatistics(
+                current.total(),
+                published,
+                current.count(Status.CLOSED),
+                current.count(Status.OPEN),
+                current.oldestDate(),
+                current.newestDate()
+        );
+    }
+
+    /**
+     * Liefert die Anzahl der Feedbacks pro Status ohne Datenbankzugriff.
+     * 
+     * @return Map mit Status als Key und Anzahl als Value (nur Status mit mindestens einem Feedback)
+     */
+    public Map<Status, Long> getStatusCounts() {
+        Counters current = counters;
+        Map<Status, Long> result = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            long count = current.count(status);
+            if (count > 0) {
+                result.put(status, count);
+            }
+        }
+        return result;
+    }
+
+    private void apply(Status status, boolean published, LocalDate date, long delta) {
+        TransactionCallbacks.afterCommitUnderLock(commitLock.readLock(),
+                () -> counters.add(status, published, date, delta));
+    }
+
+    /**
+     * Zählerstand: eine Zelle pro Status und Veröffentlichungsstatus sowie ein Histogramm
+     * über das Feedback-Datum für ältestes und neuestes Datum.
+     */
+    private static final class Counters {
+
+        private final LongAdder[] cells = new LongAdder[Status.values().length * 2];
+        private final ConcurrentSkipListMap<LocalDate, LongAdder> dates = new ConcurrentSkipListMap<>();
+
+        private Counters() {
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = new LongAdder();
+            }
+        }
+
+        private LongAdder cell(Status status, boolean published) {
+            return cells[status.ordinal() * 2 + (published ? 1 : 0)];
+        }
+
+        private void add(Status status, boolean published, LocalDate date, long delta) {
+            cell(status, published).add(delta);
+            if (date != null) {
+                dates.computeIfAbsent(date, d -> new LongAdder()).add(delta);
+            }
+        }
+
+        private long count(Status status) {
+            return cell(status, false).sum() + cell(status, true).sum();
+        }
+
+        private long total() {
+            long total = 0;
+            for (LongAdder cell : cells) {
+                total += cell.sum();
+            }
+            return total;
+        }
+
+        private LocalDate oldestDate() {
+            return dates.entrySet().stream()
+                    .filter(entry -> entry.getValue().sum() > 0)
+                    .map(Map.Entry::getKey)
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        private LocalDate newestDate() {
+            return dates.descendingMap().entrySet().stream()
+                    .filter(entry -> entry.getValue().sum() > 0)
+                    .map(Map.Entry::getKey)
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Zerlegt deutschen Text in Suchbegriffe für den FeedbackSearchIndex.
+ *
+ * Schritte:
+ * - Kleinschreibung
+ * - Umlaut-Faltung (ä → ae, ö → oe, ü → ue, ß → ss), weitere Akzente werden entfernt
+ * - Trennung an allen Zeichen außer Buchstaben und Ziffern
+ * - Entfernen von Stoppwörtern und Ein-Zeichen-Tokens
+ *
+ * Durch die Faltung finden "Straße", "Strasse" und "STRASSE" denselben Begriff.
+ */
+public final class GermanTextAnalyzer {
+
+    /**
+     * Häufige deutsche Stoppwörter (bereits gefaltet).
+     */
+    static final Set<String> STOP_WORDS = Set.of(
+            "aber", "alle", "allem", "allen", "aller", "alles", "als", "also", "am", "an", "ander", "andere",
+            "anderem", "anderen", "anderer", "anderes", "auch", "auf", "aus", "bei", "bin", "bis", "bist",
+            "da", "damit", "dann", "das", "dass", "dein", "deine", "dem", "den", "denn", "der", "des",
+            "dich", "die", "dies", "diese", "diesem", "diesen", "dieser", "dieses", "dir", "doch", "dort",
+            "du", "durch", "ein", "eine", "einem", "einen", "einer", "eines", "er", "es", "etwas", "euch",
+            "euer", "fuer", "gegen", "hab", "habe", "haben", "hat", "hatte", "hier", "hin", "hinter", "ich",
+            "ihm", "ihn", "ihnen", "ihr", "ihre", "im", "in", "ins", "ist", "ja", "jede", "jedem", "jeden",
+            "jeder", "jedes", "kann", "kein", "keine", "man", "manche", "mein", "meine", "mich", "mir",
+            "mit", "muss", "nach", "nicht", "nichts", "noch", "nun", "nur", "ob", "oder", "ohne", "sehr",
+            "sein", "seine", "sich", "sie", "sind", "so", "solche", "soll", "sollte", "sondern", "sonst",
+            "ueber", "um", "und", "uns", "unser", "unter", "viel", "vom", "von", "vor", "war", "waren",
+            "warum", "was", "weil", "welche", "wenn", "werde", "werden", "wie", "wieder", "will", "wir",
+            "wird", "wo", "zu", "zum", "zur", "zwar", "zwischen"
+    );
+
+    private GermanTextAnalyzer() {
+    }
+
+    /**
+     * Zerlegt einen Text in gefaltete, gefilterte Suchbegriffe (Reihenfolge bleibt erhalten).
+     *
+     * @param text Der Text (darf null sein)
+     * @return Liste der Suchbegriffe, ggf. leer
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String folded = fold(text);
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean wordChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addToken(tokens, folded.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Kleinschreibung, Umlaut-Faltung und Entfernen sonstiger Akzente.
+     *
+     * @param text Der Text
+     * @return Gefalteter Text
+     */
+    static String fold(String text) {
+        String lower = text.toLowerCase(Locale.GERMAN);
+        StringBuilder builder = new StringBuilder(lower.length() + 8);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            switch (c) {
+                case 'ä' -> builder.append("ae");
+                case 'ö' -> builder.append("oe");
+                case 'ü' -> builder.append("ue");
+                case 'ß' -> builder.append("ss");
+                default -> builder.append(c);
+            }
+        }
+        String folded = builder.toString();
+        if (folded.chars().allMatch(ch -> ch < 0x80)) {
+            return folded;
+        }
+        return Normalizer.normalize(folded, Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
+    }
+
+    private static void addToken(List<String> tokens, String token) {
+        if (token.length() > 1 && !STOP_WORDS.contains(token)) {
+            tokens.add(token);
+        }
+    }
+}
@@ -0,0 +1,676 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Invertierter Index über Titel und Inhalt von Feedbacks mit BM25-Ranking.
+ *
+ * Aufbau:
+ * - Pro Suchbegriff eine Posting-Liste (interne Dokumentnummer + gewichtete Häufigkeit)
+ * - Titelbegriffe zählen {@link #TITLE_WEIGHT}-fach
+ * - Ein Trigramm-Index über das Vokabular liefert für unbekannte Suchbegriffe ähnlich
+ *   geschriebene Begriffe (Tippfehlertoleranz)
+ *
+ * Gelöschte oder ersetzte Dokumente werden nur als gelöscht markiert; ihre Postings bleiben
+ * stehen und werden bei der Suche übersprungen. Die Dokumenthäufigkeit für die IDF zählt nur
+ * lebende Dokumente. Überwiegen die gelöschten Dokumente, wird der Index kompaktiert
+ * (siehe {@link #compact}).
+ *
+ * Thread-sicher: Suchen laufen parallel unter einem Read-Lock, Änderungen unter einem Write-Lock.
+ * Die Textanalyse erfolgt vorher außerhalb des Locks (siehe {@link #analyze}).
+ */
+final class InvertedIndex {
+
+    static final int TITLE_WEIGHT = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    /** Mindestähnlichkeit (Dice-Koeffizient über Trigramme) für tippfehlertolerante Treffer. */
+    static final double MIN_SIMILARITY = 0.5;
+    /** Maximale Anzahl ähnlicher Begriffe, auf die ein unbekannter Suchbegriff erweitert wird. */
+    private static final int MAX_EXPANSIONS = 3;
+    /** Blockgröße der Posting-Listen für das Überspringen aussichtsloser Blöcke. */
+    private static final int BLOCK_SIZE = 64;
+    /** Mindestanzahl gelöschter Dokumente, ab der kompaktiert wird (sofern sie die lebenden überwiegen). */
+    private static final int MIN_TOMBSTONES_FOR_COMPACTION = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Term> terms = new HashMap<>();
+    private final List<Term> termsByOrdinal = new ArrayList<>();
+    private final Map<String, IntList> termsByTrigram = new HashMap<>();
+
+    private final Map<Long, Integer> slotByFeedbackId = new HashMap<>();
+    private long[] feedbackIds = new long[1024];
+    private int[] lengths = new int[1024];
+    /** Ordinalzahlen der Begriffe je Dokument (für die Dokumenthäufigkeit beim Löschen). */
+    private int[][] slotTerms = new int[1024][];
+    private final BitSet deleted = new BitSet();
+    private int slots;
+    private int liveDocuments;
+    private long liveLength;
+    private int maxLength;
+
+    /**
+     * Analysiert ein Feedback (ohne Lock, kann parallel laufen).
+     *
+     * @param feedbackId ID des Feedbacks
+     * @param title Titel
+     * @param content Inhalt
+     * @return Analysiertes Dokument zum Einfügen per {@link #put}
+     */
+    static Document analyze(long feedbackId, String title, String content) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        for (String token : GermanTextAnalyzer.tokenize(title)) {
+            frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+            length += TITLE_WEIGHT;
+        }
+        for (String token : GermanTextAnalyzer.tokenize(content)) {
+            frequencies.merge(token, 1, Integer::sum);
+            length++;
+        }
+        return new Document(feedbackId, frequencies, length);
+    }
+
+    /**
+     * Fügt ein Dokument ein oder ersetzt ein vorhandenes mit derselben Feedback-ID.
+     *
+     * @param document Analysiertes Dokument
+     */
+    void put(Document document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.feedbackId);
+            int slot = slots++;
+            ensureCapacity(slots);
+            feedbackIds[slot] = document.feedbackId;
+            lengths[slot] = document.length;
+            maxLength = Math.max(maxLength, document.length);
+            slotByFeedbackId.put(document.feedbackId, slot);
+            liveDocuments++;
+            liveLength += document.length;
+            int[] ordinals = new int[document.frequencies.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : document.frequencies.entrySet()) {
+                Term term = term(entry.getKey());
+                term.add(slot, entry.getValue(), document.length);
+                term.liveDocuments++;
+                ordinals[i++] = term.ordinal;
+            }
+            slotTerms[slot] = ordinals;
+            compactIfMostlyDeleted();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Entfernt ein Dokument (falls vorhanden).
+     *
+     * @param feedbackId ID des Feedbacks
+     */
+    void remove(long feedbackId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(feedbackId);
+            compactIfMostlyDeleted();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sucht die am besten passenden Feedbacks.
+     *
+     * @param query Suchtext
+     * @param limit Maximale Anzahl Treffer
+     * @return Treffer, absteigend nach Score sortiert
+     */
+    List<Hit> search(String query, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(GermanTextAnalyzer.tokenize(query));
+        lock.readLock().lock();
+        try {
+            if (queryTerms.isEmpty() || liveDocuments == 0) {
+                return List.of();
+            }
+            List<Expansion> expansions = new ArrayList<>();
+            for (String queryTerm : queryTerms) {
+                expansions.addAll(expand(queryTerm));
+            }
+            if (expansions.isEmpty()) {
+                return List.of();
+            }
+
+            double[] norms = lengthNorms();
+            if (expansions.size() == 1) {
+                return collect(expansions.get(0), norms, limit);
+            }
+
+            return collectAll(expansions, norms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Anzahl der durchsuchbaren (nicht gelöschten) Dokumente
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocuments;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Anzahl der als gelöscht markierten, noch nicht kompaktierten Dokumente
+     */
+    int tombstones() {
+        lock.readLock().lock();
+        try {
+            return slots - liveDocuments;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * BM25-Längennormierung je Dokumentlänge: k1 * (1 - b + b * Länge / Durchschnittslänge).
+     */
+    private double[] lengthNorms() {
+        double averageLength = (double) liveLength / liveDocuments;
+        double[] norms = new double[maxLength + 1];
+        for (int length = 0; length <= maxLength; length++) {
+            norms[length] = K1 * (1 - B + B * length / averageLength);
+        }
+        return norms;
+    }
+
+    private double weight(Expansion expansion) {
+        int documentFrequency = expansion.term.liveDocuments;
+        double idf = Math.log(1 + (liveDocuments - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        return idf * expansion.similarity * (K1 + 1);
+    }
+
+    /**
+     * Ein einzelner Begriff: Scores gehen direkt in die Bestenliste, ohne Akkumulator.
+     * Blöcke, deren obere Schranke (höchste Häufigkeit bei kürzester Länge) nicht mehr in die
+     * volle Bestenliste passt, werden übersprungen.
+     */
+    private List<Hit> collect(Expansion expansion, double[] norms, int limit) {
+        double weight = weight(expansion);
+        Term term = expansion.term;
+        int[] termSlots = term.slots;
+        int[] frequencies = term.frequencies;
+        int[] documentLengths = lengths;
+        TopHits top = new TopHits(limit);
+        for (int block = 0, start = 0; start < term.size; block++, start += BLOCK_SIZE) {
+            if (!top.accepts(score(weight, term.blockMaxFrequencies[block], norms[term.blockMinLengths[block]]))) {
+                continue;
+            }
+            for (int i = start, end = Math.min(start + BLOCK_SIZE, term.size); i < end; i++) {
+                int slot = termSlots[i];
+                float score = score(weight, frequencies[i], norms[documentLengths[slot]]);
+                if (top.accepts(score) && !deleted.get(slot)) {
+                    top.offer(slot, score, feedbackIds);
+                }
+            }
+        }
+        return top.toHits(feedbackIds);
+    }
+
+    /**
+     * Mehrere Begriffe nach dem MaxScore-Verfahren: Begriffe mit der höchsten oberen Schranke
+     * (seltene Begriffe) werden zuerst vollständig ausgewertet. Sobald die übrigen Begriffe
+     * zusammen kein bisher unbekanntes Dokument mehr in die Bestenliste bringen können, werden
+     * sie nur noch für die vorhandenen Kandidaten per Binärsuche nachgeschlagen. Häufige
+     * Begriffe mit langen Posting-Listen werden so nicht mehr vollständig durchlaufen.
+     */
+    private List<Hit> collectAll(List<Expansion> expansions, double[] norms, int limit) {
+        Expansion[] sorted = expansions.toArray(Expansion[]::new);
+        double[] weights = new double[sorted.length];
+        for (int j = 0; j < sorted.length; j++) {
+            weights[j] = weight(sorted[j]);
+        }
+        // Da f / (f + norm) < 1 ist, ist das Gewicht eines Begriffs zugleich seine obere Schranke
+        Integer[] order = new Integer[sorted.length];
+        Arrays.setAll(order, j -> j);
+        Arrays.sort(order, (x, y) -> Double.compare(weights[y], weights[x]));
+        double[] remaining = new double[sorted.length + 1];
+        for (int j = sorted.length - 1; j >= 0; j--) {
+            remaining[j] = remaining[j + 1] + weights[order[j]];
+        }
+
+        float[] scores = new float[slots];
+        IntList candidates = new IntList();
+        float threshold = 0;
+        int j = 0;
+        for (; j < sorted.length; j++) {
+            threshold = threshold(scores, candidates, limit);
+            if (remaining[j] < threshold) {
+                break;
+            }
+            accumulate(sorted[order[j]], weights[order[j]], norms, scores, candidates);
+        }
+
+        for (; j < sorted.length; j++) {
+            Term term = sorted[order[j]].term;
+            IntList next = new IntList();
+            for (int c = 0; c < candidates.size; c++) {
+                int slot = candidates.values[c];
+                if (scores[slot] + remaining[j] < threshold) {
+                    continue;
+                }
+                int i = Arrays.binarySearch(term.slots, 0, term.size, slot);
+                if (i >= 0) {
+                    scores[slot] += score(weights[order[j]], term.frequencies[i], norms[lengths[slot]]);
+                }
+                next.add(slot);
+            }
+            candidates = next;
+        }
+
+        TopHits top = new TopHits(limit);
+        for (int c = 0; c < candidates.size; c++) {
+            int slot = candidates.values[c];
+            top.offer(slot, scores[slot], feedbackIds);
+        }
+        return top.toHits(feedbackIds);
+    }
+
+    private void accumulate(Expansion expansion, double weight, double[] norms, float[] scores, IntList touched) {
+        Term term = expansion.term;
+        int[] termSlots = term.slots;
+        int[] frequencies = term.frequencies;
+        int[] documentLengths = lengths;
+        for (int i = 0, size = term.size; i < size; i++) {
+            int slot = termSlots[i];
+            if (deleted.get(slot)) {
+                continue;
+            }
+            if (scores[slot] == 0) {
+                touched.add(slot);
+            }
+            scores[slot] += score(weight, frequencies[i], norms[documentLengths[slot]]);
+        }
+    }
+
+    /**
+     * Kleinster Score der aktuellen Bestenliste (0, solange sie nicht voll ist).
+     */
+    private float threshold(float[] scores, IntList candidates, int limit) {
+        if (candidates.size < limit) {
+            return 0;
+        }
+        TopHits top = new TopHits(limit);
+        for (int c = 0; c < candidates.size; c++) {
+            int slot = candidates.values[c];
+            top.offer(slot, scores[slot], feedbackIds);
+        }
+        return top.minScore();
+    }
+
+    private static float score(double weight, int frequency, double norm) {
+        return (float) (weight * frequency / (frequency + norm));
+    }
+
+    /**
+     * Bekannte Begriffe werden exakt gesucht, unbekannte über ähnliche Begriffe aus dem Trigramm-Index.
+     */
+    private List<Expansion> expand(String queryTerm) {
+        Term exact = terms.get(queryTerm);
+        if (exact != null && exact.liveDocuments > 0) {
+            return List.of(new Expansion(exact, 1.0));
+        }
+
+        List<String> queryTrigrams = trigrams(queryTerm);
+        Map<Integer, Integer> shared = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            IntList ordinals = termsByTrigram.get(trigram);
+            if (ordinals != null) {
+                for (int i = 0; i < ordinals.size; i++) {
+                    shared.merge(ordinals.values[i], 1, Integer::sum);
+                }
+            }
+        }
+
+        PriorityQueue<Expansion> best = new PriorityQueue<>(MAX_EXPANSIONS + 1,
+                (a, b) -> Double.compare(a.similarity, b.similarity));
+        shared.forEach((ordinal, count) -> {
+            Term candidate = termsByOrdinal.get(ordinal);
+            if (candidate.liveDocuments == 0) {
+                return;
+            }
+            // Trigramme eines Begriffs der Länge n: n (mit Randmarkierung "$")
+            double similarity = 2.0 * count / (queryTrigrams.size() + candidate.text.length());
+            if (similarity >= MIN_SIMILARITY) {
+                best.add(new Expansion(candidate, similarity));
+                if (best.size() > MAX_EXPANSIONS) {
+                    best.poll();
+                }
+            }
+        });
+        return new ArrayList<>(best);
+    }
+
+    private Term term(String text) {
+        Term term = terms.get(text);
+        if (term == null) {
+            term = new Term(text, termsByOrdinal.size());
+            terms.put(text, term);
+            termsByOrdinal.add(term);
+            for (String trigram : new LinkedHashSet<>(trigrams(text))) {
+                termsByTrigram.computeIfAbsent(trigram, t -> new IntList()).add(term.ordinal);
+            }
+        }
+        return term;
+    }
+
+    /**
+     * Trigramme mit Randmarkierung, z.B. "weg" → "$we", "weg", "eg$".
+     */
+    static List<String> trigrams(String text) {
+        String padded = "$" + text + "$";
+        List<String> trigrams = new ArrayList<>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private void removeInternal(long feedbackId) {
+        Integer slot = slotByFeedbackId.remove(feedbackId);
+        if (slot != null) {
+            deleted.set(slot);
+            liveDocuments--;
+            liveLength -= lengths[slot];
+            for (int ordinal : slotTerms[slot]) {
+                termsByOrdinal.get(ordinal).liveDocuments--;
+            }
+            slotTerms[slot] = null;
+        }
+    }
+
+    private void compactIfMostlyDeleted() {
+        int tombstones = slots - liveDocuments;
+        if (tombstones >= MIN_TOMBSTONES_FOR_COMPACTION && tombstones > liveDocuments) {
+            compact();
+        }
+    }
+
+    /**
+     * Entfernt gelöschte Dokumente und Begriffe ohne lebende Dokumente. Die lebenden Dokumente
+     * werden in ihrer Reihenfolge neu nummeriert, die Posting-Listen bleiben damit sortiert.
+     * Kosten linear in der Größe des Index; durch die Schwelle amortisiert über die Löschungen.
+     */
+    private void compact() {
+        int[] newSlots = new int[slots];
+        int live = 0;
+        maxLength = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            if (deleted.get(slot)) {
+                newSlots[slot] = -1;
+                continue;
+            }
+            newSlots[slot] = live;
+            feedbackIds[live] = feedbackIds[slot];
+            lengths[live] = lengths[slot];
+            slotTerms[live] = slotTerms[slot];
+            slotByFeedbackId.put(feedbackIds[live], live);
+            maxLength = Math.max(maxLength, lengths[live]);
+            live++;
+        }
+        Arrays.fill(slotTerms, live, slots, null);
+        slots = live;
+        deleted.clear();
+
+        int[] newOrdinals = new int[termsByOrdinal.size()];
+        List<Term> oldTerms = new ArrayList<>(termsByOrdinal);
+        terms.clear();
+        termsByOrdinal.clear();
+        termsByTrigram.clear();
+        for (Term term : oldTerms) {
+            if (term.liveDocuments == 0) {
+                continue;
+            }
+            Term compacted = term(term.text);
+            compacted.liveDocuments = term.liveDocuments;
+            for (int i = 0; i < term.size; i++) {
+                int slot = newSlots[term.slots[i]];
+                if (slot >= 0) {
+                    compacted.add(slot, term.frequencies[i], lengths[slot]);
+                }
+            }
+            newOrdinals[term.ordinal] = compacted.ordinal;
+        }
+        for (int slot = 0; slot < slots; slot++) {
+            int[] ordinals = slotTerms[slot];
+            for (int i = 0; i < ordinals.length; i++) {
+                ordinals[i] = newOrdinals[ordinals[i]];
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > feedbackIds.length) {
+            int newCapacity = Math.max(capacity, feedbackIds.length * 2);
+            feedbackIds = Arrays.copyOf(feedbackIds, newCapacity);
+            lengths = Arrays.copyOf(lengths, newCapacity);
+            slotTerms = Arrays.copyOf(slotTerms, newCapacity);
+        }
+    }
+
+    /**
+     * Ergebnis der Textanalyse eines Feedbacks.
+     */
+    static final class Document {
+        private final long feedbackId;
+        private final Map<String, Integer> frequencies;
+        private final int length;
+
+        private Document(long feedbackId, Map<String, Integer> frequencies, int length) {
+            this.feedbackId = feedbackId;
+            this.frequencies = frequencies;
+            this.length = length;
+        }
+
+        long getFeedbackId() {
+            return feedbackId;
+        }
+    }
+
+    /**
+     * Suchtreffer: Feedback-ID und BM25-Score.
+     */
+    static final class Hit {
+        private final long feedbackId;
+        private final double score;
+
+        Hit(long feedbackId, double score) {
+            this.feedbackId = feedbackId;
+            this.score = score;
+        }
+
+        long getFeedbackId() {
+            return feedbackId;
+        }
+
+        double getScore() {
+            return score;
+        }
+    }
+
+    /**
+     * Bestenliste fester Größe als Min-Heap (schlechtester Treffer an der Wurzel).
+     * Bei gleichem Score gewinnt die kleinere Feedback-ID.
+     */
+    private static final class TopHits {
+        private final int[] slots;
+        private final float[] scores;
+        private int size;
+
+        private TopHits(int limit) {
+            this.slots = new int[limit];
+            this.scores = new float[limit];
+        }
+
+        /**
+         * Schneller Vorab-Test: Kann ein Treffer mit diesem Score überhaupt in die Liste?
+         */
+        private boolean accepts(float score) {
+            return size < slots.length || score >= scores[0];
+        }
+
+        private void offer(int slot, float score, long[] feedbackIds) {
+            if (size < slots.length) {
+                slots[size] = slot;
+                scores[size] = score;
+                siftUp(size++, feedbackIds);
+            } else if (better(slot, score, slots[0], scores[0], feedbackIds)) {
+                slots[0] = slot;
+                scores[0] = score;
+                siftDown(feedbackIds);
+            }
+        }
+
+        private float minScore() {
+            return scores[0];
+        }
+
+        private List<Hit> toHits(long[] feedbackIds) {
+            List<Hit> hits = new ArrayList<>(size);
+            while (size > 0) {
+                hits.add(new Hit(feedbackIds[slots[0]], scores[0]));
+                size--;
+                slots[0] = slots[size];
+                scores[0] = scores[size];
+                siftDown(feedbackIds);
+            }
+            Collections.reverse(hits);
+            return hits;
+        }
+
+        private static boolean better(int slot, float score, int otherSlot, float otherScore, long[] feedbackIds) {
+            return score != otherScore ? score > otherScore : feedbackIds[slot] < feedbackIds[otherSlot];
+        }
+
+        private boolean better(int i, int j, long[] feedbackIds) {
+            return better(slots[i], scores[i], slots[j], scores[j], feedbackIds);
+        }
+
+        private void siftUp(int index, long[] feedbackIds) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (!better(parent, index, feedbackIds)) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(long[] feedbackIds) {
+            int index = 0;
+            while (true) {
+                int worst = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && better(worst, left, feedbackIds)) {
+                    worst = left;
+                }
+                if (right < size && better(worst, right, feedbackIds)) {
+                    worst = right;
+                }
+                if (worst == index) {
+                    return;
+                }
+                swap(index, worst);
+                index = worst;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int slot = slots[i];
+            slots[i] = slots[j];
+            slots[j] = slot;
+            float score = scores[i];
+            scores[i] = scores[j];
+            scores[j] = score;
+        }
+    }
+
+    private static final class Term {
+        private final String text;
+        private final int ordinal;
+        private int[] slots = new int[2];
+        private int[] frequencies = new int[2];
+        private int size;
+        /** Anzahl nicht gelöschter Dokumente mit diesem Begriff (Dokumenthäufigkeit für die IDF). */
+        private int liveDocuments;
+        /** Je Block von {@link #BLOCK_SIZE} Postings: höchste Häufigkeit und kürzeste Dokumentlänge. */
+        private int[] blockMaxFrequencies = new int[1];
+        private int[] blockMinLengths = new int[1];
+
+        private Term(String text, int ordinal) {
+            this.text = text;
+            this.ordinal = ordinal;
+        }
+
+        private void add(int slot, int frequency, int length) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            int block = size / BLOCK_SIZE;
+            if (block == blockMaxFrequencies.length) {
+                blockMaxFrequencies = Arrays.copyOf(blockMaxFrequencies, block * 2);
+                blockMinLengths = Arrays.copyOf(blockMinLengths, block * 2);
+            }
+            if (size % BLOCK_SIZE == 0) {
+                blockMaxFrequencies[block] = frequency;
+                blockMinLengths[block] = length;
+            } else {
+                blockMaxFrequencies[block] = Math.max(blockMaxFrequencies[block], frequency);
+                blockMinLengths[block] = Math.min(blockMinLengths[block], length);
+            }
+            slots[size] = slot;
+            frequencies[size] = frequency;
+            size++;
+        }
+    }
+
+    private static final class Expansion {
+        private final Term term;
+        private final double similarity;
+
+        private Expansion(Term term, double similarity) {
+            this.term = term;
+            this.similarity = similarity;
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
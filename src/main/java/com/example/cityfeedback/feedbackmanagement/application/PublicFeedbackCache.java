@@ -0,0 +1,175 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import com.example.cityfeedback.config.TransactionCallbacks;
+import com.example.cityfeedback.feedbackmanagement.domain.model.Feedback;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache für den öffentlichen Feed (GET /feedback/public).
+ * 
+ * Hält die veröffentlichten Feedbacks als fertig serialisiertes JSON (UTF-8) sowie als
+ * gzip-Variante, zusammen mit einer Versionsnummer und einem starken ETag. Der Snapshot
+ * wird beim ersten Zugriff nach einer Invalidierung neu aufgebaut.
+ * 
+ * Invalidiert wird nur, wenn eine Änderung ein veröffentlichtes Feedback betrifft
+ * (Veröffentlichen, Zurückziehen, Statuswechsel oder Löschen). Die Invalidierung erfolgt
+ * sofort und nach Abschluss der Transaktion erneut, damit ein zwischenzeitlich aus
+ * nicht festgeschriebenen Daten gebauter Snapshot nicht bestehen bleibt.
+ */
+@Component
+public class PublicFeedbackCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublicFeedbackCache.class);
+
+    private final FeedbackRepository feedbackRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Wird bei jeder Invalidierung erhöht; ein Snapshot gehört immer zu genau einer Generation.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile Snapshot current;
+
+    public PublicFeedbackCache(FeedbackRepository feedbackRepository, ObjectMapper objectMapper) {
+        this.feedbackRepository = feedbackRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Liefert den aktuellen Snapshot und baut ihn bei Bedarf neu auf.
+     * 
+     * @return Snapshot des öffentlichen Feeds
+     */
+    public Snapshot get() {
+        Snapshot snapshot = current;
+        if (snapshot != null && snapshot.getVersion() == generation.get()) {
+            return snapshot;
+        }
+        return rebuild();
+    }
+
+    /**
+     * Meldet eine Änderung an einem Feedback. Betrifft sie den öffentlichen Feed
+     * (vorher oder nachher veröffentlicht), wird der Cache invalidiert.
+     * 
+     * @param publishedBefore Veröffentlichungsstatus vor der Änderung
+     * @param publishedAfter Veröffentlichungsstatus nach der Änderung (false bei Löschung)
+     */
+    public void recordChange(boolean publishedBefore, boolean publishedAfter) {
+        if (publishedBefore || publishedAfter) {
+            invalidate();
+            TransactionCallbacks.afterCompletion(this::invalidate);
+        }
+    }
+
+    /**
+     * Verwirft den aktuellen Snapshot.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        current = null;
+    }
+
+    private synchronized Snapshot rebuild() {
+        long version = generation.get();
+        Snapshot snapshot = current;
+        if (snapshot != null && snapshot.getVersion() == version) {
+            return snapshot;
+        }
+
+        List<Feedback> published = feedbackRepository.findPublished();
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(published);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Öffentlicher Feed konnte nicht serialisiert werden.", e);
+        }
+        // ETag aus dem Inhalt: bleibt gleich, wenn ein Neuaufbau denselben Feed ergibt
+        snapshot = new Snapshot(version, json, gzip(json), "\"" + sha256(json) + "\"");
+
+        // Nur übernehmen, wenn während des Aufbaus keine Invalidierung stattfand
+        if (generation.get() == version) {
+            current = snapshot;
+        }
+        logger.debug("Öffentlichen Feed neu aufgebaut: Version {}, {} Feedbacks, {} Bytes",
+                version, published.size(), json.length);
+        return snapshot;
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Unveränderlicher Stand des öffentlichen Feeds.
+     */
+    public static final class Snapshot {
+        private final long version;
+        private final byte[] json;
+        private final byte[] gzippedJson;
+        private final String etag;
+
+        private Snapshot(long version, byte[] json, byte[] gzippedJson, String etag) {
+            this.version = version;
+            this.json = json;
+            this.gzippedJson = gzippedJson;
+            this.etag = etag;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         * @return JSON als UTF-8-Bytes (nicht verändern)
+         */
+        public byte[] getJson() {
+            return json;
+        }
+
+        /**
+         * @return gzip-komprimiertes JSON (nicht verändern)
+         */
+        public byte[] getGzippedJson() {
+            return gzippedJson;
+        }
+
+        /**
+         * @return Starker ETag inklusive Anführungszeichen
+         */
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
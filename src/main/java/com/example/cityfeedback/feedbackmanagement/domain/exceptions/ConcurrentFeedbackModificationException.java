@@ -0,0 +1,16 @@
+package com.example.cityfeedback.feedbackmanagement.domain.exceptions;
+
+/**
+ * Wird geworfen, wenn ein Feedback trotz wiederholter Versuche gleichzeitig geändert wurde
+ * und die eigene Änderung deshalb nicht übernommen werden konnte.
+ */
+public class ConcurrentFeedbackModificationException extends RuntimeException {
+
+    public ConcurrentFeedbackModificationException(String message) {
+        super(message);
+    }
+
+    public ConcurrentFeedbackModificationException(Long id) {
+        super("Feedback mit ID " + id + " wurde gleichzeitig geändert. Bitte erneut versuchen.");
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.cityfeedback.feedbackmanagement.domain.exceptions;
+
+import java.util.UUID;
+
+/**
+ * Wird geworfen, wenn zu einem Tracking-Token keine eingereichte Meldung bekannt ist.
+ */
+public class SubmissionNotFoundException extends RuntimeException {
+
+    public SubmissionNotFoundException(UUID token) {
+        super("Meldung mit Token " + token + " wurde nicht gefunden.");
+    }
+}
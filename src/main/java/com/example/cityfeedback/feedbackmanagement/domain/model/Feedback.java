@@ -24,6 +24,7 @@ public class Feedback {
     private Status status;
     private boolean isPublished;
     private UUID userId; // Lose Kopplung: Nur User-ID statt User-Entity
+    private long version; // Wird bei jeder gespeicherten Änderung erhöht (Compare-and-Set)
 
     /**
      * No-Args Konstruktor für Mapper in Infrastructure.
@@ -76,6 +77,46 @@ public class Feedback {
         );
     }
 
+    /**
+     * Factory-Methode für Feedbacks, die aus einem Altsystem übernommen werden.
+     * Es gelten dieselben Regeln wie bei create(); Datum, Status und Veröffentlichung
+     * werden jedoch aus der Quelle übernommen.
+     * 
+     * @param title Titel des Feedbacks
+     * @param category Kategorie des Feedbacks
+     * @param content Inhalt des Feedbacks
+     * @param userId ID des Benutzers, der das Feedback erstellt hat
+     * @param feedbackDate Ursprüngliches Datum (null = heute)
+     * @param status Ursprünglicher Status (null = OPEN)
+     * @param published true, wenn das Feedback veröffentlicht ist
+     * @return Neues, noch nicht gespeichertes Feedback-Objekt
+     * @throws IllegalArgumentException wenn Validierung fehlschlägt oder Kategorie bzw. User-ID fehlen
+     */
+    public static Feedback importHistorical(String title, Category category, String content, UUID userId,
+                                            LocalDate feedbackDate, Status status, boolean published) {
+        // Fehlende Pflichtfelder sind hier Datenfehler der Quelle, keine Programmierfehler
+        if (category == null) {
+            throw new IllegalArgumentException("Kategorie darf nicht leer sein.");
+        }
+        if (userId == null) {
+            throw new IllegalArgumentException("User-ID darf nicht leer sein.");
+        }
+        Feedback feedback = create(title, category, content, userId);
+        if (feedbackDate != null) {
+            if (feedbackDate.isAfter(LocalDate.now())) {
+                throw new IllegalArgumentException("Datum darf nicht in der Zukunft liegen.");
+            }
+            feedback.feedbackDate = feedbackDate;
+        }
+        if (status != null) {
+            feedback.updateStatus(status);
+        }
+        if (published) {
+            feedback.publish();
+        }
+        return feedback;
+    }
+
     /**
      * Veröffentlicht das Feedback.
      * 
@@ -188,6 +229,10 @@ public class Feedback {
         return userId;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * Setter für Mapper in Infrastructure.
      * WARNUNG: Diese Methoden sind nur für die Persistierung gedacht.
@@ -225,6 +270,10 @@ public class Feedback {
         this.userId = userId;
     }
 
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -249,6 +298,7 @@ public class Feedback {
                 ", status=" + status +
                 ", isPublished=" + isPublished +
                 ", userId=" + userId +
+                ", version=" + version +
                 '}';
     }
 }
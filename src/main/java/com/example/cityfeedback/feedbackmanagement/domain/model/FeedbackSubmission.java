@@ -0,0 +1,123 @@
+package com.example.cityfeedback.feedbackmanagement.domain.model;
+
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.SubmissionStatus;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Domain-Modell für eine asynchron eingereichte Meldung (Tracking-Token plus Feedback-Daten).
+ * 
+ * Die Meldung wird zuerst im Journal gesichert und später als Feedback gespeichert.
+ * Danach ist sie APPLIED (mit Feedback-ID) oder REJECTED (mit Grund).
+ */
+public class FeedbackSubmission {
+
+    private final UUID token;
+    private final LocalDateTime receivedAt;
+    private UUID userId;
+    private String title;
+    private Category category;
+    private String content;
+
+    private SubmissionStatus status;
+    private Long feedbackId;
+    private String message;
+
+    /**
+     * Konstruktor für eine neu eingereichte Meldung (Status ACCEPTED).
+     */
+    public FeedbackSubmission(UUID token, LocalDateTime receivedAt, UUID userId, String title,
+                              Category category, String content) {
+        this.token = Objects.requireNonNull(token, "Token darf nicht null sein");
+        this.receivedAt = Objects.requireNonNull(receivedAt, "Eingangszeit darf nicht null sein");
+        this.userId = userId;
+        this.title = title;
+        this.category = category;
+        this.content = content;
+        this.status = SubmissionStatus.ACCEPTED;
+    }
+
+    /**
+     * Konstruktor für den gespeicherten Verarbeitungsstand (ohne Feedback-Daten).
+     */
+    public FeedbackSubmission(UUID token, LocalDateTime receivedAt, SubmissionStatus status,
+                              Long feedbackId, String message) {
+        this.token = Objects.requireNonNull(token, "Token darf nicht null sein");
+        this.receivedAt = receivedAt;
+        this.status = Objects.requireNonNull(status, "Status darf nicht null sein");
+        this.feedbackId = feedbackId;
+        this.message = message;
+    }
+
+    /**
+     * Erzeugt das Feedback zu dieser Meldung; als Datum gilt der Eingangstag.
+     * 
+     * @return Neues Feedback (ohne ID)
+     * @throws IllegalArgumentException wenn die Daten die Regeln des Feedback-Aggregats verletzen
+     */
+    public Feedback toFeedback() {
+        return Feedback.importHistorical(title, category, content, userId, receivedAt.toLocalDate(), Status.OPEN, false);
+    }
+
+    /**
+     * Markiert die Meldung als gespeichert.
+     * 
+     * @param feedbackId ID des angelegten Feedbacks
+     */
+    public void markApplied(Long feedbackId) {
+        this.status = SubmissionStatus.APPLIED;
+        this.feedbackId = Objects.requireNonNull(feedbackId, "Feedback-ID darf nicht null sein");
+        this.message = null;
+    }
+
+    /**
+     * Markiert die Meldung als abgelehnt.
+     * 
+     * @param message Grund der Ablehnung
+     */
+    public void markRejected(String message) {
+        this.status = SubmissionStatus.REJECTED;
+        this.feedbackId = null;
+        this.message = message;
+    }
+
+    public UUID getToken() {
+        return token;
+    }
+
+    public LocalDateTime getReceivedAt() {
+        return receivedAt;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public SubmissionStatus getStatus() {
+        return status;
+    }
+
+    public Long getFeedbackId() {
+        return feedbackId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
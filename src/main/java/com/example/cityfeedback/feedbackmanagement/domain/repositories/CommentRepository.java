@@ -2,7 +2,9 @@ package com.example.cityfeedback.feedbackmanagement.domain.repositories;
 
 import com.example.cityfeedback.feedbackmanagement.domain.model.Comment;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Repository-Interface für Kommentare im Domain-Layer.
@@ -20,6 +22,14 @@ public interface CommentRepository {
      */
     Comment save(Comment comment);
 
+    /**
+     * Speichert mehrere neue Kommentare in einer Transaktion (per JDBC-Batch).
+     * 
+     * @param comments Die zu speichernden Kommentare
+     * @return Die gespeicherten Kommentare (mit generierter ID), in unveränderter Reihenfolge
+     */
+    List<Comment> saveAll(List<Comment> comments);
+
     /**
      * Findet alle Kommentare zu einem bestimmten Feedback.
      * 
@@ -28,6 +38,15 @@ public interface CommentRepository {
      */
     List<Comment> findByFeedbackId(Long feedbackId);
 
+    /**
+     * Findet alle Kommentare zu mehreren Feedbacks auf einmal.
+     * 
+     * @param feedbackIds Die IDs der Feedbacks
+     * @return Map von Feedback-ID auf deren Kommentare (älteste zuerst); enthält für jede
+     *         angefragte ID einen Eintrag, ggf. mit leerer Liste
+     */
+    Map<Long, List<Comment>> findByFeedbackIds(Collection<Long> feedbackIds);
+
     /**
      * Löscht alle Kommentare zu einem bestimmten Feedback.
      * Wird verwendet, wenn ein Feedback gelöscht wird.
@@ -35,5 +54,14 @@ public interface CommentRepository {
      * @param feedbackId Die ID des Feedbacks
      */
     void deleteByFeedbackId(Long feedbackId);
+
+    /**
+     * Löscht alle Kommentare zu allen Feedbacks der angegebenen Users mengenbasiert
+     * (eine Anweisung je angefangene 1000 Users). Muss vor dem Löschen der Feedbacks aufgerufen werden.
+     * 
+     * @param userIds Die UUIDs der Users, denen die Feedbacks gehören
+     * @return Anzahl gelöschter Kommentare
+     */
+    int deleteByFeedbackUserIds(Collection<java.util.UUID> userIds);
 }
 
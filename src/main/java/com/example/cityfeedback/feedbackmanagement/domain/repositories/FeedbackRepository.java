@@ -1,9 +1,18 @@
 package com.example.cityfeedback.feedbackmanagement.domain.repositories;
 
 import com.example.cityfeedback.feedbackmanagement.domain.model.Feedback;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.FeedbackStateCount;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.FeedbackStatistics;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.FeedbackSummary;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Repository-Interface für Feedback im Domain-Layer.
@@ -21,6 +30,15 @@ public interface FeedbackRepository {
      */
     Feedback save(Feedback feedback);
 
+    /**
+     * Fügt viele neue Feedbacks in einem JDBC-Batch ein (z.B. für den Import aus Altsystemen).
+     * Die vergebenen IDs werden in die übergebenen Objekte übernommen.
+     * 
+     * @param feedbacks Die neuen Feedbacks (ohne ID)
+     * @return Dieselben Feedbacks mit gesetzter ID, in unveränderter Reihenfolge
+     */
+    List<Feedback> insertAll(List<Feedback> feedbacks);
+
     /**
      * Findet ein Feedback anhand seiner ID.
      * 
@@ -36,6 +54,31 @@ public interface FeedbackRepository {
      */
     List<Feedback> findAll();
 
+    /**
+     * Findet alle veröffentlichten Feedbacks.
+     * 
+     * @return Liste der veröffentlichten Feedbacks, sortiert nach ID
+     */
+    List<Feedback> findPublished();
+
+    /**
+     * Übergibt alle Feedbacks nacheinander an den Consumer (neueste zuerst),
+     * ohne die gesamte Liste im Speicher zu halten.
+     * 
+     * @param consumer Wird für jedes Feedback aufgerufen
+     */
+    void streamAll(Consumer<Feedback> consumer);
+
+    /**
+     * Findet eine Seite von Feedbacks per Keyset-Pagination, sortiert nach Datum und ID (neueste zuerst).
+     * 
+     * @param afterDate Datum des letzten Feedbacks der vorherigen Seite oder null für die erste Seite
+     * @param afterId ID des letzten Feedbacks der vorherigen Seite oder null für die erste Seite
+     * @param limit Maximale Anzahl der Feedbacks
+     * @return Liste der Feedbacks der Seite
+     */
+    List<Feedback> findPage(LocalDate afterDate, Long afterId, int limit);
+
     /**
      * Löscht ein Feedback.
      * 
@@ -52,10 +95,87 @@ public interface FeedbackRepository {
     List<Feedback> findByUserId(java.util.UUID userId);
 
     /**
-     * Löscht alle Feedbacks eines bestimmten Users.
+     * Lädt nur den Zustand (ID, Status, Veröffentlichung, Datum, Version) aller Feedbacks der angegebenen Users,
+     * z.B. um Projektionen und Caches vor einem Massenlöschen nachzuführen.
+     * Titel, Inhalt und User-ID der zurückgegebenen Feedbacks sind nicht gesetzt.
      * 
-     * @param userId Die UUID des Users
+     * @param userIds Die UUIDs der Users
+     * @return Liste der Feedbacks mit ID, Status, isPublished, feedbackDate und Version
      */
-    void deleteByUserId(java.util.UUID userId);
-}
+    List<Feedback> findStatesByUserIds(Collection<java.util.UUID> userIds);
+
+    /**
+     * Lädt nur den Zustand (ID, Status, Veröffentlichung, Datum, Version) der angegebenen Feedbacks,
+     * z.B. für Massenänderungen. Titel, Inhalt und User-ID sind nicht gesetzt.
+     * Nicht vorhandene IDs werden ignoriert.
+     * 
+     * @param ids Die IDs der Feedbacks
+     * @return Liste der gefundenen Feedbacks (Reihenfolge nicht festgelegt)
+     */
+    List<Feedback> findStatesByIds(Collection<Long> ids);
+
+    /**
+     * Löscht alle Feedbacks der angegebenen Users mengenbasiert (eine Anweisung je angefangene 1000 Users).
+     * Kommentare müssen vorher gelöscht werden (siehe CommentRepository#deleteByFeedbackUserIds).
+     * 
+     * @param userIds Die UUIDs der Users
+     * @return Anzahl gelöschter Feedbacks
+     */
+    int deleteByUserIds(Collection<java.util.UUID> userIds);
+
+    /**
+     * Zählt die Feedbacks pro Status, ohne Feedbacks zu laden.
+     * 
+     * @return Map mit Status als Key und Anzahl als Value (nur vorhandene Status)
+     */
+    Map<Status, Long> countByStatus();
+
+    /**
+     * Gruppiert die Titel aller Feedbacks nach Kategorie, ohne den Inhalt zu laden.
+     * 
+     * @return Map mit Kategorie als Key und Liste der Titel als Value
+     */
+    Map<Category, List<String>> findTitlesByCategory();
 
+    /**
+     * Berechnet die Gesamtstatistik über alle Feedbacks in einem Datenbank-Roundtrip.
+     * 
+     * @return Aggregierte Kennzahlen
+     */
+    FeedbackStatistics aggregateStatistics();
+
+    /**
+     * Zählt die Feedbacks gruppiert nach Status, Veröffentlichungsstatus und Datum.
+     * 
+     * @return Liste der Gruppen mit ihrer Anzahl
+     */
+    List<FeedbackStateCount> countByStatusPublishedAndDate();
+
+    /**
+     * Findet alle veröffentlichten, nicht geschlossenen Feedbacks als schlanke Zusammenfassung.
+     * 
+     * @return Liste der Zusammenfassungen, sortiert nach Datum (neueste zuerst)
+     */
+    List<FeedbackSummary> findPublishedActiveSummaries();
+
+    /**
+     * Übernimmt Status und Veröffentlichungsstatus eines geänderten Feedbacks per
+     * Compare-and-Set mit einem einzelnen bedingten UPDATE: nur wenn die Version in der
+     * Datenbank noch der übergebenen entspricht. Bei Erfolg wird die Version erhöht.
+     * 
+     * @param feedback Das im Domain-Modell geänderte Feedback
+     * @param expectedVersion Version des Stands, auf dem die Änderung berechnet wurde
+     * @return true, wenn das Feedback geändert wurde; false, wenn es inzwischen
+     *         geändert oder gelöscht wurde
+     */
+    boolean compareAndSetState(Feedback feedback, long expectedVersion);
+
+    /**
+     * Setzt Status und Veröffentlichung mehrerer Feedbacks per Compare-and-Set in einem JDBC-Batch.
+     * Als erwartete Version gilt jeweils {@link Feedback#getVersion()}; die Objekte selbst werden nicht verändert.
+     * 
+     * @param feedbacks Die Feedbacks im neuen Zustand (jede ID höchstens einmal)
+     * @return Pro Feedback (gleiche Reihenfolge) true, wenn die Zeile geändert wurde
+     */
+    boolean[] compareAndSetStates(List<Feedback> feedbacks);
+}
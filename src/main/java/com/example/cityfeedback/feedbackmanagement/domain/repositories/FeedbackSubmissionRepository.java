@@ -0,0 +1,40 @@
+package com.example.cityfeedback.feedbackmanagement.domain.repositories;
+
+import com.example.cityfeedback.feedbackmanagement.domain.model.FeedbackSubmission;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Repository für den Verarbeitungsstand asynchron eingereichter Meldungen.
+ * Der Stand wird in derselben Transaktion wie das Feedback gespeichert, damit eine
+ * Meldung beim Wiedereinspielen des Journals nicht doppelt angelegt wird.
+ */
+public interface FeedbackSubmissionRepository {
+
+    /**
+     * Speichert den Stand verarbeiteter Meldungen (APPLIED oder REJECTED) per JDBC-Batch.
+     * 
+     * @param submissions Die verarbeiteten Meldungen
+     */
+    void saveAll(List<FeedbackSubmission> submissions);
+
+    /**
+     * Findet den gespeicherten Stand einer Meldung.
+     * 
+     * @param token Das Tracking-Token
+     * @return Stand ohne Feedback-Daten, oder leer, wenn die Meldung (noch) nicht verarbeitet wurde
+     */
+    Optional<FeedbackSubmission> findByToken(UUID token);
+
+    /**
+     * Liefert die Tokens, zu denen bereits ein Stand gespeichert ist.
+     * 
+     * @param tokens Die zu prüfenden Tokens
+     * @return Teilmenge der übergebenen Tokens, die bereits verarbeitet wurden
+     */
+    Set<UUID> findProcessedTokens(Collection<UUID> tokens);
+}
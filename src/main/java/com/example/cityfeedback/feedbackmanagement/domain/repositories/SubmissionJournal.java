@@ -0,0 +1,64 @@
+package com.example.cityfeedback.feedbackmanagement.domain.repositories;
+
+import com.example.cityfeedback.feedbackmanagement.domain.model.FeedbackSubmission;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * Lokales, nur anhängendes Journal für angenommene Meldungen.
+ * 
+ * Das Journal ist in Segmente aufgeteilt; ein neues Segment wird begonnen, sobald das
+ * aktuelle die maximale Größe erreicht. Segmente, deren Meldungen alle verarbeitet sind,
+ * werden über {@link #release(long)} gelöscht.
+ */
+public interface SubmissionJournal extends AutoCloseable {
+
+    /**
+     * Hängt eine Meldung an das aktuelle Segment an. Kehrt erst zurück, wenn sie dauerhaft gesichert ist.
+     * 
+     * @param submission Die angenommene Meldung
+     * @return Nummer des Segments, in dem die Meldung steht
+     */
+    default long append(FeedbackSubmission submission) {
+        return append(submission, segment -> { });
+    }
+
+    /**
+     * Hängt eine Meldung an das aktuelle Segment an. Kehrt erst zurück, wenn sie dauerhaft gesichert ist.
+     * 
+     * @param submission Die angenommene Meldung
+     * @param onAppended Wird nach dem Sichern mit der Segmentnummer aufgerufen, bevor ein neues Segment
+     *                   begonnen wird (und das geschriebene damit als abgeschlossen gilt)
+     * @return Nummer des Segments, in dem die Meldung steht
+     */
+    long append(FeedbackSubmission submission, LongConsumer onAppended);
+
+    /**
+     * Liest alle Segmente, die vor dem Öffnen des aktuellen Segments geschrieben wurden
+     * (z.B. nach einem Absturz). Unvollständige letzte Zeilen werden übersprungen.
+     * 
+     * @return Meldungen je Segmentnummer, aufsteigend sortiert
+     */
+    Map<Long, List<FeedbackSubmission>> readClosedSegments();
+
+    /**
+     * @return Nummer des Segments, in das aktuell geschrieben wird
+     */
+    long currentSegment();
+
+    /**
+     * Löscht ein abgeschlossenes Segment. Das aktuelle Segment wird nicht gelöscht.
+     * 
+     * @param segment Die Segmentnummer
+     */
+    void release(long segment);
+
+    /**
+     * Schließt das aktuelle Segment. Der nächste Zugriff beginnt ein neues Segment;
+     * alle bis dahin geschriebenen gelten dann als abgeschlossen.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,38 @@
+package com.example.cityfeedback.feedbackmanagement.domain.valueobjects;
+
+import java.time.LocalDate;
+
+/**
+ * Value Object: Anzahl der Feedbacks mit gleichem Status, Veröffentlichungsstatus und Datum.
+ * Dient als kompakte Grundlage, um In-Memory-Statistiken aus der Datenbank neu aufzubauen.
+ */
+public class FeedbackStateCount {
+
+    private final Status status;
+    private final boolean published;
+    private final LocalDate feedbackDate;
+    private final long count;
+
+    public FeedbackStateCount(Status status, boolean published, LocalDate feedbackDate, long count) {
+        this.status = status;
+        this.published = published;
+        this.feedbackDate = feedbackDate;
+        this.count = count;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isPublished() {
+        return published;
+    }
+
+    public LocalDate getFeedbackDate() {
+        return feedbackDate;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.cityfeedback.feedbackmanagement.domain.valueobjects;
+
+import java.time.LocalDate;
+
+/**
+ * Value Object für aggregierte Kennzahlen über alle Feedbacks.
+ * Wird vom Repository in einem einzigen Datenbank-Roundtrip berechnet.
+ */
+public class FeedbackStatistics {
+
+    private final long totalCount;
+    private final long publishedCount;
+    private final long closedCount;
+    private final long openCount;
+    private final LocalDate oldestDate;
+    private final LocalDate newestDate;
+
+    public FeedbackStatistics(long totalCount, long publishedCount, long closedCount, long openCount,
+                              LocalDate oldestDate, LocalDate newestDate) {
+        this.totalCount = totalCount;
+        this.publishedCount = publishedCount;
+        this.closedCount = closedCount;
+        this.openCount = openCount;
+        this.oldestDate = oldestDate;
+        this.newestDate = newestDate;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getPublishedCount() {
+        return publishedCount;
+    }
+
+    public long getClosedCount() {
+        return closedCount;
+    }
+
+    public long getOpenCount() {
+        return openCount;
+    }
+
+    public LocalDate getOldestDate() {
+        return oldestDate;
+    }
+
+    public LocalDate getNewestDate() {
+        return newestDate;
+    }
+}
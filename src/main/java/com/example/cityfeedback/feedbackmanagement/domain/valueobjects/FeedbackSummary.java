@@ -0,0 +1,44 @@
+package com.example.cityfeedback.feedbackmanagement.domain.valueobjects;
+
+import java.time.LocalDate;
+
+/**
+ * Value Object: schlanke Lesesicht auf ein Feedback für Listenansichten.
+ * Enthält bewusst nicht den (bis zu 5000 Zeichen langen) Inhalt.
+ */
+public class FeedbackSummary {
+
+    private final Long id;
+    private final String title;
+    private final Category category;
+    private final Status status;
+    private final LocalDate feedbackDate;
+
+    public FeedbackSummary(Long id, String title, Category category, Status status, LocalDate feedbackDate) {
+        this.id = id;
+        this.title = title;
+        this.category = category;
+        this.status = status;
+        this.feedbackDate = feedbackDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public LocalDate getFeedbackDate() {
+        return feedbackDate;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.cityfeedback.feedbackmanagement.domain.valueobjects;
+
+/**
+ * Verarbeitungsstand einer asynchron eingereichten Meldung.
+ */
+public enum SubmissionStatus {
+    ACCEPTED,   // Angenommen, im Journal gesichert, noch nicht gespeichert
+    APPLIED,    // Als Feedback gespeichert
+    REJECTED;   // Beim Speichern abgelehnt (z.B. User inzwischen gelöscht)
+}
@@ -0,0 +1,170 @@
+package com.example.cityfeedback.feedbackmanagement.infrastructure;
+
+import com.example.cityfeedback.config.BoundedTtlCache;
+import com.example.cityfeedback.config.CacheRegistry;
+import com.example.cityfeedback.config.TransactionCallbacks;
+import com.example.cityfeedback.feedbackmanagement.domain.model.Feedback;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackRepository;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.FeedbackStateCount;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.FeedbackStatistics;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.FeedbackSummary;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status;
+import com.example.cityfeedback.feedbackmanagement.infrastructure.persistence.FeedbackEntity;
+import com.example.cityfeedback.feedbackmanagement.infrastructure.persistence.FeedbackMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Decorator um FeedbackRepositoryImpl mit einem Read-Through-Cache für findById.
+ * 
+ * Gecacht wird eine vom Aufrufer unabhängige Kopie (als FeedbackEntity); jeder Treffer
+ * liefert ein neues Feedback-Objekt, da das Domain-Modell veränderlich ist.
+ * Schreiboperationen invalidieren den Cache sofort und nach Abschluss der Transaktion
+ * erneut, damit zwischenzeitlich gelesene, noch nicht festgeschriebene Stände verworfen werden.
+ * Alle anderen Methoden werden unverändert an FeedbackRepositoryImpl weitergereicht.
+ */
+@Repository
+@Primary
+public class CachingFeedbackRepository implements FeedbackRepository {
+
+    private final FeedbackRepositoryImpl delegate;
+    private final BoundedTtlCache<Long, FeedbackEntity> cache;
+
+    public CachingFeedbackRepository(FeedbackRepositoryImpl delegate,
+                                     CacheRegistry cacheRegistry,
+                                     @Value("${cityfeedback.cache.feedback.max-size:10000}") int maxSize,
+                                     @Value("${cityfeedback.cache.feedback.ttl:PT5M}") Duration ttl) {
+        this.delegate = delegate;
+        this.cache = cacheRegistry.create("feedback", maxSize, ttl);
+    }
+
+    @Override
+    public Optional<Feedback> findById(Long id) {
+        FeedbackEntity cached = cache.get(id, key -> delegate.findById(key)
+                .map(FeedbackMapper::toEntity)
+                .orElse(null));
+        return Optional.ofNullable(cached).map(FeedbackMapper::toDomain);
+    }
+
+    @Override
+    public Feedback save(Feedback feedback) {
+        Feedback saved = delegate.save(feedback);
+        invalidate(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public List<Feedback> insertAll(List<Feedback> feedbacks) {
+        // Neue IDs können noch nicht im Cache stehen (Fehltreffer werden nicht gecacht)
+        return delegate.insertAll(feedbacks);
+    }
+
+    @Override
+    public void delete(Feedback feedback) {
+        delegate.delete(feedback);
+        invalidate(feedback.getId());
+    }
+
+    @Override
+    public int deleteByUserIds(Collection<UUID> userIds) {
+        int deleted = delegate.deleteByUserIds(userIds);
+        cache.invalidateAll();
+        TransactionCallbacks.afterCompletion(cache::invalidateAll);
+        return deleted;
+    }
+
+    @Override
+    public boolean compareAndSetState(Feedback feedback, long expectedVersion) {
+        // Auch ohne Änderung invalidieren: der gecachte Stand war dann veraltet
+        boolean updated = delegate.compareAndSetState(feedback, expectedVersion);
+        invalidate(feedback.getId());
+        return updated;
+    }
+
+    @Override
+    public boolean[] compareAndSetStates(List<Feedback> feedbacks) {
+        boolean[] updated = delegate.compareAndSetStates(feedbacks);
+        feedbacks.forEach(feedback -> invalidate(feedback.getId()));
+        return updated;
+    }
+
+    private void invalidate(Long id) {
+        cache.invalidate(id);
+        TransactionCallbacks.afterCompletion(() -> cache.invalidate(id));
+    }
+
+    // ===================================================================
+    // Ungecachte Methoden
+    // ===================================================================
+
+    @Override
+    public List<Feedback> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Feedback> findPublished() {
+        return delegate.findPublished();
+    }
+
+    @Override
+    public void streamAll(Consumer<Feedback> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public List<Feedback> findPage(LocalDate afterDate, Long afterId, int limit) {
+        return delegate.findPage(afterDate, afterId, limit);
+    }
+
+    @Override
+    public List<Feedback> findByUserId(UUID userId) {
+        return delegate.findByUserId(userId);
+    }
+
+    @Override
+    public List<Feedback> findStatesByUserIds(Collection<UUID> userIds) {
+        return delegate.findStatesByUserIds(userIds);
+    }
+
+    @Override
+    public List<Feedback> findStatesByIds(Collection<Long> ids) {
+        return delegate.findStatesByIds(ids);
+    }
+
+    @Override
+    public Map<Status, Long> countByStatus() {
+        return delegate.countByStatus();
+    }
+
+    @Override
+    public Map<Category, List<String>> findTitlesByCategory() {
+        return delegate.findTitlesByCategory();
+    }
+
+    @Override
+    public FeedbackStatistics aggregateStatistics() {
+        return delegate.aggregateStatistics();
+    }
+
+    @Override
+    public List<FeedbackStateCount> countByStatusPublishedAndDate() {
+        return delegate.countByStatusPublishedAndDate();
+    }
+
+    @Override
+    public List<FeedbackSummary> findPublishedActiveSummaries() {
+        return delegate.findPublishedActiveSummaries();
+    }
+}
@@ -6,8 +6,14 @@ import com.example.cityfeedback.feedbackmanagement.infrastructure.persistence.Co
 import com.example.cityfeedback.feedbackmanagement.infrastructure.persistence.CommentJpaRepository;
 import com.example.cityfeedback.feedbackmanagement.infrastructure.persistence.CommentMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -17,6 +23,11 @@ import java.util.stream.Collectors;
 @Repository
 public class CommentRepositoryImpl implements CommentRepository {
 
+    /**
+     * Maximale Anzahl IDs pro IN-Klausel; größere Anfragen werden in mehrere Abfragen aufgeteilt.
+     */
+    static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
     private final CommentJpaRepository jpaRepository;
 
     public CommentRepositoryImpl(CommentJpaRepository jpaRepository) {
@@ -30,6 +41,17 @@ public class CommentRepositoryImpl implements CommentRepository {
         return CommentMapper.toDomain(savedEntity);
     }
 
+    @Override
+    @Transactional
+    public List<Comment> saveAll(List<Comment> comments) {
+        List<CommentEntity> entities = comments.stream()
+                .map(CommentMapper::toEntity)
+                .collect(Collectors.toList());
+        return jpaRepository.saveAll(entities).stream()
+                .map(CommentMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Comment> findByFeedbackId(Long feedbackId) {
         return jpaRepository.findByFeedbackIdOrderByCreatedAtAsc(feedbackId).stream()
@@ -38,8 +60,35 @@ public class CommentRepositoryImpl implements CommentRepository {
     }
 
     @Override
+    public Map<Long, List<Comment>> findByFeedbackIds(Collection<Long> feedbackIds) {
+        Map<Long, List<Comment>> commentsByFeedbackId = new LinkedHashMap<>();
+        feedbackIds.forEach(id -> commentsByFeedbackId.put(id, new ArrayList<>()));
+
+        List<Long> ids = new ArrayList<>(commentsByFeedbackId.keySet());
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()));
+            jpaRepository.findByFeedbackIdInOrderByFeedbackIdAscCreatedAtAsc(chunk).stream()
+                    .map(CommentMapper::toDomain)
+                    .forEach(comment -> commentsByFeedbackId.get(comment.getFeedbackId()).add(comment));
+        }
+        return commentsByFeedbackId;
+    }
+
+    @Override
+    @Transactional
     public void deleteByFeedbackId(Long feedbackId) {
         jpaRepository.deleteByFeedbackId(feedbackId);
     }
+
+    @Override
+    @Transactional
+    public int deleteByFeedbackUserIds(Collection<UUID> userIds) {
+        List<UUID> ids = new ArrayList<>(userIds);
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            deleted += jpaRepository.deleteByFeedbackUserIdIn(ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size())));
+        }
+        return deleted;
+    }
 }
 
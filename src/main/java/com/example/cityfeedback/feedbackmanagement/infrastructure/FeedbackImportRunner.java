@@ -0,0 +1,84 @@
+package com.example.cityfeedback.feedbackmanagement.infrastructure;
+
+import com.example.cityfeedback.feedbackmanagement.application.FeedbackImportReader;
+import com.example.cityfeedback.feedbackmanagement.application.FeedbackImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Importiert Feedbacks beim Start aus einer Datei (Kommandozeilen-Modus).
+ *
+ * Aktiv nur, wenn cityfeedback.import.file gesetzt ist, z.B.:
+ * java -jar cityfeedback.jar --cityfeedback.import.file=altdaten.csv
+ * Mit --spring.main.web-application-type=none beendet sich die Anwendung nach dem Import
+ * (sinnvoll nur mit einer persistenten Datenbank statt der In-Memory-H2).
+ *
+ * Das Format ergibt sich aus der Dateiendung (.ndjson/.jsonl = NDJSON, sonst CSV)
+ * oder aus cityfeedback.import.format (CSV oder NDJSON).
+ */
+@Component
+@Order(3) // Nach DefaultAdminInitializer und DemoDataInitializer ausführen
+@ConditionalOnProperty(name = "cityfeedback.import.file")
+public class FeedbackImportRunner implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackImportRunner.class);
+
+    /** Anzahl Fehler, die am Ende einzeln ausgegeben werden. */
+    private static final int LOGGED_ERRORS = 20;
+
+    private final FeedbackImportService feedbackImportService;
+    private final Path file;
+    private final String format;
+
+    public FeedbackImportRunner(FeedbackImportService feedbackImportService,
+                                @Value("${cityfeedback.import.file}") Path file,
+                                @Value("${cityfeedback.import.format:}") String format) {
+        this.feedbackImportService = feedbackImportService;
+        this.file = file;
+        this.format = format;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        FeedbackImportReader.Format importFormat = resolveFormat();
+        logger.info("Importiere Feedbacks aus {} ({})", file, importFormat);
+
+        FeedbackImportService.ImportReportDTO report;
+        try (InputStream input = Files.newInputStream(file);
+             FeedbackImportReader reader = FeedbackImportReader.open(input, importFormat)) {
+            report = feedbackImportService.importFeedbacks(reader, progress ->
+                    logger.info("   {} Datensätze verarbeitet, {} importiert, {} fehlerhaft ({} Zeilen/s)",
+                            progress.getProcessed(), progress.getImported(), progress.getFailed(),
+                            progress.getRowsPerSecond()));
+        }
+
+        logger.info("✅ Import abgeschlossen: {} importiert, {} fehlerhaft, {} ms ({} Zeilen/s)",
+                report.getImported(), report.getFailed(), report.getDurationMillis(), report.getRowsPerSecond());
+        report.getErrors().stream()
+                .limit(LOGGED_ERRORS)
+                .forEach(error -> logger.warn("   Zeile {}: {}", error.getLine(), error.getMessage()));
+        if (report.getFailed() > LOGGED_ERRORS) {
+            logger.warn("   ... und {} weitere fehlerhafte Datensätze", report.getFailed() - LOGGED_ERRORS);
+        }
+    }
+
+    private FeedbackImportReader.Format resolveFormat() {
+        if (!format.isBlank()) {
+            return FeedbackImportReader.Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        }
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".ndjson") || name.endsWith(".jsonl")
+                ? FeedbackImportReader.Format.NDJSON
+                : FeedbackImportReader.Format.CSV;
+    }
+}
@@ -2,15 +2,35 @@ package com.example.cityfeedback.feedbackmanagement.infrastructure;
 
 import com.example.cityfeedback.feedbackmanagement.domain.model.Feedback;
 import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackRepository;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.FeedbackStateCount;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.FeedbackStatistics;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.FeedbackSummary;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status;
 import com.example.cityfeedback.feedbackmanagement.infrastructure.persistence.FeedbackEntity;
 import com.example.cityfeedback.feedbackmanagement.infrastructure.persistence.FeedbackJpaRepository;
 import com.example.cityfeedback.feedbackmanagement.infrastructure.persistence.FeedbackMapper;
+import com.example.cityfeedback.feedbackmanagement.infrastructure.persistence.FeedbackStatisticsView;
+import org.springframework.data.domain.PageRequest;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementierung des FeedbackRepository-Interfaces aus dem Domain-Layer.
@@ -19,10 +39,20 @@ import java.util.stream.Collectors;
 @Repository
 public class FeedbackRepositoryImpl implements FeedbackRepository {
 
+    /**
+     * Maximale Anzahl IDs pro IN-Klausel; größere Anfragen werden in mehrere Abfragen aufgeteilt.
+     */
+    static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
     private final FeedbackJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
-    public FeedbackRepositoryImpl(FeedbackJpaRepository jpaRepository) {
+    public FeedbackRepositoryImpl(FeedbackJpaRepository jpaRepository, EntityManager entityManager,
+                                  JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -32,6 +62,42 @@ public class FeedbackRepositoryImpl implements FeedbackRepository {
         return FeedbackMapper.toDomain(savedEntity);
     }
 
+    @Override
+    @Transactional
+    public List<Feedback> insertAll(List<Feedback> feedbacks) {
+        if (feedbacks.isEmpty()) {
+            return feedbacks;
+        }
+        // Ausstehende JPA-Änderungen schreiben, bevor am Persistence Context vorbei eingefügt wird
+        entityManager.flush();
+        assignIds(feedbacks);
+        List<Object[]> arguments = feedbacks.stream()
+                .map(feedback -> new Object[]{
+                        feedback.getId(), feedback.getTitle(), feedback.getCategory().name(), feedback.getFeedbackDate(),
+                        feedback.getContent(), feedback.getStatus().name(), feedback.isPublished(), feedback.getUserId()})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO feedbacks (id, title, category, feedback_date, content, status, is_published, user_id, version) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)",
+                arguments);
+        feedbacks.forEach(feedback -> feedback.setVersion(0));
+        return feedbacks;
+    }
+
+    /**
+     * Vergibt IDs über den ID-Generator von FeedbackEntity (feedbacks_seq mit pooled-lo-Optimizer).
+     * Die Blöcke teilen sich Batch-Inserts und einzelne save()-Aufrufe; nur je Block wird die
+     * Sequenz gelesen, im SQL-Dialekt der Datenbank.
+     */
+    private void assignIds(List<Feedback> feedbacks) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(FeedbackEntity.class).getGenerator();
+        for (Feedback feedback : feedbacks) {
+            feedback.setId((Long) generator.generate(session, null));
+        }
+    }
+
     @Override
     public Optional<Feedback> findById(Long id) {
         return jpaRepository.findById(id)
@@ -45,6 +111,36 @@ public class FeedbackRepositoryImpl implements FeedbackRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Feedback> findPublished() {
+        return jpaRepository.findPublished().stream()
+                .map(FeedbackMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Feedback> consumer) {
+        try (Stream<FeedbackEntity> entities = jpaRepository.streamAllNewestFirst()) {
+            entities.forEach(entity -> {
+                consumer.accept(FeedbackMapper.toDomain(entity));
+                // Entity aus dem Persistence Context entfernen, damit der Speicher konstant bleibt
+                entityManager.detach(entity);
+            });
+        }
+    }
+
+    @Override
+    public List<Feedback> findPage(LocalDate afterDate, Long afterId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<FeedbackEntity> entities = (afterDate == null || afterId == null)
+                ? jpaRepository.findFirstPage(page)
+                : jpaRepository.findPageAfter(afterDate, afterId, page);
+        return entities.stream()
+                .map(FeedbackMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void delete(Feedback feedback) {
         FeedbackEntity entity = FeedbackMapper.toEntity(feedback);
@@ -59,8 +155,135 @@ public class FeedbackRepositoryImpl implements FeedbackRepository {
     }
 
     @Override
-    public void deleteByUserId(UUID userId) {
-        jpaRepository.deleteByUserId(userId);
+    public List<Feedback> findStatesByUserIds(Collection<UUID> userIds) {
+        List<UUID> ids = new ArrayList<>(userIds);
+        List<Feedback> states = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            jpaRepository.findStatesByUserIdIn(ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size())))
+                    .forEach(row -> states.add(toState(row)));
+        }
+        return states;
+    }
+
+    @Override
+    public List<Feedback> findStatesByIds(Collection<Long> feedbackIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(feedbackIds));
+        List<Feedback> states = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            jpaRepository.findStatesByIdIn(ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size())))
+                    .forEach(row -> states.add(toState(row)));
+        }
+        return states;
+    }
+
+    /**
+     * Baut ein schlankes Feedback aus einem Tupel [id, status, isPublished, feedbackDate, version].
+     */
+    private static Feedback toState(Object[] row) {
+        Feedback feedback = new Feedback();
+        feedback.setId((Long) row[0]);
+        feedback.setStatus((Status) row[1]);
+        feedback.setPublished((Boolean) row[2]);
+        feedback.setFeedbackDate((LocalDate) row[3]);
+        feedback.setVersion((Long) row[4]);
+        return feedback;
+    }
+
+    @Override
+    @Transactional
+    public int deleteByUserIds(Collection<UUID> userIds) {
+        List<UUID> ids = new ArrayList<>(userIds);
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            deleted += jpaRepository.deleteByUserIdIn(ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size())));
+        }
+        return deleted;
+    }
+
+    @Override
+    public Map<Status, Long> countByStatus() {
+        return jpaRepository.countGroupedByStatus().stream()
+                .collect(Collectors.toMap(
+                        row -> (Status) row[0],
+                        row -> (Long) row[1],
+                        Long::sum,
+                        () -> new EnumMap<>(Status.class)
+                ));
+    }
+
+    @Override
+    public Map<Category, List<String>> findTitlesByCategory() {
+        return jpaRepository.findCategoryTitles().stream()
+                .collect(Collectors.groupingBy(
+                        row -> (Category) row[0],
+                        () -> new EnumMap<>(Category.class),
+                        Collectors.mapping(row -> (String) row[1], Collectors.toList())
+                ));
+    }
+
+    @Override
+    public FeedbackStatistics aggregateStatistics() {
+        FeedbackStatisticsView view = jpaRepository.aggregateStatistics(Status.CLOSED, Status.OPEN);
+        return new FeedbackStatistics(
+                view.getTotalCount(),
+                view.getPublishedCount(),
+                view.getClosedCount(),
+                view.getOpenCount(),
+                view.getOldestDate(),
+                view.getNewestDate()
+        );
     }
-}
 
+    @Override
+    public List<FeedbackStateCount> countByStatusPublishedAndDate() {
+        return jpaRepository.countGroupedByStatusPublishedAndDate().stream()
+                .map(row -> new FeedbackStateCount(
+                        (Status) row[0],
+                        (Boolean) row[1],
+                        (LocalDate) row[2],
+                        (Long) row[3]
+                ))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<FeedbackSummary> findPublishedActiveSummaries() {
+        return jpaRepository.findPublishedSummariesExcludingStatus(Status.CLOSED).stream()
+                .map(view -> new FeedbackSummary(
+                        view.getId(),
+                        view.getTitle(),
+                        view.getCategory(),
+                        view.getStatus(),
+                        view.getFeedbackDate()
+                ))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public boolean compareAndSetState(Feedback feedback, long expectedVersion) {
+        return jpaRepository.compareAndSetState(
+                feedback.getId(), expectedVersion, feedback.getStatus(), feedback.isPublished()) == 1;
+    }
+
+    @Override
+    @Transactional
+    public boolean[] compareAndSetStates(List<Feedback> feedbacks) {
+        // Ausstehende JPA-Änderungen schreiben, bevor am Persistence Context vorbei aktualisiert wird
+        entityManager.flush();
+        List<Object[]> arguments = feedbacks.stream()
+                .map(feedback -> new Object[]{
+                        feedback.getStatus().name(), feedback.isPublished(), feedback.getId(), feedback.getVersion()})
+                .collect(Collectors.toList());
+        int[] counts = jdbcTemplate.batchUpdate(
+                "UPDATE feedbacks SET status = ?, is_published = ?, version = version + 1 WHERE id = ? AND version = ?",
+                arguments);
+        entityManager.clear();
+
+        boolean[] updated = new boolean[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            updated[i] = counts[i] == 1;
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.cityfeedback.feedbackmanagement.infrastructure;
+
+import com.example.cityfeedback.feedbackmanagement.domain.model.FeedbackSubmission;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackSubmissionRepository;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.SubmissionStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Implementierung des FeedbackSubmissionRepository per JDBC (Tabelle feedback_submissions, siehe V5).
+ */
+@Repository
+public class FeedbackSubmissionRepositoryImpl implements FeedbackSubmissionRepository {
+
+    /** Maximale Länge des gespeicherten Ablehnungsgrunds (Spalte message). */
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FeedbackSubmissionRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void saveAll(List<FeedbackSubmission> submissions) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> arguments = submissions.stream()
+                .map(submission -> new Object[]{
+                        submission.getToken(), submission.getStatus().name(), submission.getFeedbackId(),
+                        truncate(submission.getMessage()), submission.getReceivedAt(), now})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO feedback_submissions (token, status, feedback_id, message, received_at, processed_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)",
+                arguments);
+    }
+
+    @Override
+    public Optional<FeedbackSubmission> findByToken(UUID token) {
+        return jdbcTemplate.query(
+                "SELECT token, status, feedback_id, message, received_at FROM feedback_submissions WHERE token = ?",
+                (rs, rowNum) -> new FeedbackSubmission(
+                        rs.getObject("token", UUID.class),
+                        rs.getObject("received_at", LocalDateTime.class),
+                        SubmissionStatus.valueOf(rs.getString("status")),
+                        rs.getObject("feedback_id", Long.class),
+                        rs.getString("message")),
+                token).stream().findFirst();
+    }
+
+    @Override
+    public Set<UUID> findProcessedTokens(Collection<UUID> tokens) {
+        if (tokens.isEmpty()) {
+            return Set.of();
+        }
+        // Join gegen die als Array übergebenen Tokens statt einer IN-Liste (eine Abfrage)
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT s.token FROM UNNEST(CAST(? AS UUID ARRAY)) AS requested(token) " +
+                "JOIN feedback_submissions s ON s.token = requested.token",
+                UUID.class,
+                (Object) new LinkedHashSet<>(tokens).toArray(new UUID[0])));
+    }
+
+    private static String truncate(String message) {
+        return message == null || message.length() <= MAX_MESSAGE_LENGTH ? message : message.substring(0, MAX_MESSAGE_LENGTH);
+    }
+}
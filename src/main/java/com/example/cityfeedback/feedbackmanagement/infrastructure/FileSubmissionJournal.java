@@ -0,0 +1,209 @@
+package com.example.cityfeedback.feedbackmanagement.infrastructure;
+
+import com.example.cityfeedback.feedbackmanagement.domain.model.FeedbackSubmission;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.SubmissionJournal;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.LongConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Journal für angenommene Meldungen als NDJSON-Dateien (eine Meldung pro Zeile) in einem lokalen Verzeichnis.
+ *
+ * Jede Zeile wird mit force() auf den Datenträger geschrieben, bevor append() zurückkehrt.
+ * Segmente heißen segment-&lt;Nummer&gt;.ndjson; beim ersten Zugriff (auch nach close()) wird ein
+ * neues Segment hinter den vorhandenen begonnen, die vorhandenen gelten als abgeschlossen.
+ */
+@Component
+public class FileSubmissionJournal implements SubmissionJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileSubmissionJournal.class);
+
+    private static final Pattern SEGMENT_FILE = Pattern.compile("segment-(\\d+)\\.ndjson");
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+    private final ObjectMapper objectMapper;
+
+    private long currentSegment = -1;
+    private FileChannel channel;
+
+    public FileSubmissionJournal(@Value("${cityfeedback.ingest.journal-dir:./data/feedback-journal}") Path directory,
+                                 @Value("${cityfeedback.ingest.segment-size:16MB}") DataSize maxSegmentSize,
+                                 ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.maxSegmentBytes = maxSegmentSize.toBytes();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized long append(FeedbackSubmission submission, LongConsumer onAppended) {
+        try {
+            FileChannel segment = openCurrentSegment();
+            ByteBuffer line = ByteBuffer.wrap((objectMapper.writeValueAsString(JournalLine.of(submission)) + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            while (line.hasRemaining()) {
+                segment.write(line);
+            }
+            segment.force(false);
+            long written = currentSegment;
+            onAppended.accept(written);
+            if (segment.size() >= maxSegmentBytes) {
+                segment.close();
+                channel = null;
+                currentSegment++;
+            }
+            return written;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Meldung konnte nicht im Journal gesichert werden.", e);
+        }
+    }
+
+    @Override
+    public synchronized Map<Long, List<FeedbackSubmission>> readClosedSegments() {
+        long current = currentSegment();
+        Map<Long, List<FeedbackSubmission>> segments = new TreeMap<>();
+        for (Map.Entry<Long, Path> segment : segmentFiles().entrySet()) {
+            if (segment.getKey() < current) {
+                segments.put(segment.getKey(), read(segment.getValue()));
+            }
+        }
+        return segments;
+    }
+
+    @Override
+    public synchronized long currentSegment() {
+        if (currentSegment < 0) {
+            currentSegment = segmentFiles().keySet().stream().mapToLong(Long::longValue).max().orElse(0) + 1;
+        }
+        return currentSegment;
+    }
+
+    @Override
+    public synchronized void release(long segment) {
+        if (segment >= currentSegment()) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(segmentPath(segment));
+        } catch (IOException e) {
+            logger.warn("Journal-Segment {} konnte nicht gelöscht werden: {}", segment, e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.warn("Journal konnte nicht geschlossen werden: {}", e.getMessage());
+            }
+            channel = null;
+        }
+        currentSegment = -1;
+    }
+
+    private FileChannel openCurrentSegment() throws IOException {
+        if (channel == null) {
+            Files.createDirectories(directory);
+            channel = FileChannel.open(segmentPath(currentSegment()),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+
+    private List<FeedbackSubmission> read(Path file) {
+        List<FeedbackSubmission> submissions = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    submissions.add(objectMapper.readValue(line, JournalLine.class).toSubmission());
+                } catch (JsonProcessingException e) {
+                    // Nur die letzte Zeile kann bei einem Absturz unvollständig geschrieben sein
+                    logger.warn("Unlesbare Zeile in {} übersprungen: {}", file.getFileName(), e.getOriginalMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Journal-Segment " + file + " konnte nicht gelesen werden.", e);
+        }
+        return submissions;
+    }
+
+    private Map<Long, Path> segmentFiles() {
+        Map<Long, Path> segments = new TreeMap<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                Matcher matcher = SEGMENT_FILE.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    segments.put(Long.parseLong(matcher.group(1)), file);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Journal-Verzeichnis " + directory + " konnte nicht gelesen werden.", e);
+        }
+        return segments;
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve("segment-" + segment + ".ndjson");
+    }
+
+    /**
+     * Aufbau einer Journal-Zeile.
+     */
+    static class JournalLine {
+        public UUID token;
+        public LocalDateTime receivedAt;
+        public UUID userId;
+        public String title;
+        public Category category;
+        public String content;
+
+        static JournalLine of(FeedbackSubmission submission) {
+            JournalLine line = new JournalLine();
+            line.token = submission.getToken();
+            line.receivedAt = submission.getReceivedAt();
+            line.userId = submission.getUserId();
+            line.title = submission.getTitle();
+            line.category = submission.getCategory();
+            line.content = submission.getContent();
+            return line;
+        }
+
+        FeedbackSubmission toSubmission() {
+            return new FeedbackSubmission(token, receivedAt, userId, title, category, content);
+        }
+    }
+}
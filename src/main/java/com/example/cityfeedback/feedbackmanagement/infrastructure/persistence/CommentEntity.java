@@ -9,13 +9,20 @@ import java.util.UUID;
  * JPA Entity für Kommentare.
  * Diese Klasse ist nur für die Persistierung zuständig.
  * Die Domain-Logik befindet sich in der Comment-Klasse im Domain-Layer.
+ * 
+ * Die Indizes werden über die Flyway-Migrationen angelegt und hier nur gespiegelt.
  */
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_feedback_id_created_at", columnList = "feedback_id, created_at")
+})
 public class CommentEntity {
 
+    // Allocation Size muss der Schrittweite der Sequenz entsprechen; Hibernate übernimmt
+    // beim Start die Schrittweite aus der Datenbank (increment_size_mismatch_strategy=fix)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_seq")
+    @SequenceGenerator(name = "comments_seq", sequenceName = "comments_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "feedback_id", nullable = false)
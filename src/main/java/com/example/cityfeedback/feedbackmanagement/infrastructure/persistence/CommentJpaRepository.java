@@ -1,8 +1,13 @@
 package com.example.cityfeedback.feedbackmanagement.infrastructure.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Spring Data JPA Repository für CommentEntity.
@@ -18,10 +23,34 @@ public interface CommentJpaRepository extends JpaRepository<CommentEntity, Long>
     List<CommentEntity> findByFeedbackIdOrderByCreatedAtAsc(Long feedbackId);
 
     /**
-     * Löscht alle Kommentare zu einem bestimmten Feedback.
+     * Findet alle Kommentare zu mehreren Feedbacks mit einer einzigen Abfrage (feedback_id IN (...)).
+     * 
+     * @param feedbackIds Die IDs der Feedbacks
+     * @return Liste aller CommentEntities, sortiert nach feedbackId und createdAt (aufsteigend)
+     */
+    List<CommentEntity> findByFeedbackIdInOrderByFeedbackIdAscCreatedAtAsc(Collection<Long> feedbackIds);
+
+    /**
+     * Löscht alle Kommentare zu einem bestimmten Feedback mit einem einzigen DELETE,
+     * ohne die Kommentare vorher zu laden.
      * 
      * @param feedbackId Die ID des Feedbacks
+     * @return Anzahl gelöschter Kommentare
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM CommentEntity c WHERE c.feedbackId = :feedbackId")
+    int deleteByFeedbackId(@Param("feedbackId") Long feedbackId);
+
+    /**
+     * Löscht alle Kommentare zu allen Feedbacks der angegebenen Users mit einem einzigen DELETE
+     * (feedback_id IN (SELECT id FROM feedbacks WHERE user_id IN (...))).
+     * 
+     * @param userIds Die UUIDs der Users, denen die Feedbacks gehören
+     * @return Anzahl gelöschter Kommentare
      */
-    void deleteByFeedbackId(Long feedbackId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM CommentEntity c WHERE c.feedbackId IN " +
+           "(SELECT f.id FROM FeedbackEntity f WHERE f.userId IN :userIds)")
+    int deleteByFeedbackUserIdIn(@Param("userIds") Collection<UUID> userIds);
 }
 
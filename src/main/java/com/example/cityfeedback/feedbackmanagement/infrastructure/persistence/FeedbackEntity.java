@@ -11,13 +11,21 @@ import java.util.UUID;
  * JPA Entity für Feedback.
  * Diese Klasse ist nur für die Persistierung zuständig.
  * Die Domain-Logik befindet sich in der Feedback-Klasse im Domain-Layer.
+ * 
+ * Die Indizes werden über die Flyway-Migrationen angelegt und hier nur gespiegelt.
  */
 @Entity
-@Table(name = "feedbacks")
+@Table(name = "feedbacks", indexes = {
+        @Index(name = "idx_feedbacks_user_id", columnList = "user_id"),
+        @Index(name = "idx_feedbacks_published_status_date", columnList = "is_published, status, feedback_date")
+})
 public class FeedbackEntity {
 
+    // Allocation Size muss der Schrittweite der Sequenz entsprechen; Hibernate übernimmt
+    // beim Start die Schrittweite aus der Datenbank (increment_size_mismatch_strategy=fix)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "feedbacks_seq")
+    @SequenceGenerator(name = "feedbacks_seq", sequenceName = "feedbacks_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -41,6 +49,10 @@ public class FeedbackEntity {
     @Column(name = "user_id", nullable = false)
     private UUID userId;
 
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     // JPA benötigt einen No-Args Konstruktor
     protected FeedbackEntity() {
     }
@@ -120,5 +132,12 @@ public class FeedbackEntity {
     public void setUserId(UUID userId) {
         this.userId = userId;
     }
-}
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+}
@@ -1,15 +1,27 @@
 package com.example.cityfeedback.feedbackmanagement.infrastructure.persistence;
 
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA Repository für FeedbackEntity.
  * Diese Schnittstelle ist nur für die Persistierung zuständig.
  */
 public interface FeedbackJpaRepository extends JpaRepository<FeedbackEntity, Long> {
+
     /**
      * Findet alle Feedbacks eines bestimmten Users.
      * 
@@ -19,10 +31,147 @@ public interface FeedbackJpaRepository extends JpaRepository<FeedbackEntity, Lon
     List<FeedbackEntity> findByUserId(UUID userId);
 
     /**
-     * Löscht alle Feedbacks eines bestimmten Users.
+     * Lädt nur ID, Status, Veröffentlichungsstatus, Datum und Version aller Feedbacks der angegebenen Users
+     * (ohne Titel und Inhalt).
      * 
-     * @param userId Die UUID des Users
+     * @param userIds Die UUIDs der Users
+     * @return Liste von Tupeln [id, status, isPublished, feedbackDate, version]
      */
-    void deleteByUserId(UUID userId);
-}
+    @Query("SELECT f.id, f.status, f.isPublished, f.feedbackDate, f.version FROM FeedbackEntity f WHERE f.userId IN :userIds")
+    List<Object[]> findStatesByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * Lädt nur ID, Status, Veröffentlichungsstatus, Datum und Version der angegebenen Feedbacks
+     * (ohne Titel und Inhalt).
+     * 
+     * @param ids Die IDs der Feedbacks
+     * @return Liste von Tupeln [id, status, isPublished, feedbackDate, version]
+     */
+    @Query("SELECT f.id, f.status, f.isPublished, f.feedbackDate, f.version FROM FeedbackEntity f WHERE f.id IN :ids")
+    List<Object[]> findStatesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Löscht alle Feedbacks der angegebenen Users mit einem einzigen DELETE,
+     * ohne die Feedbacks vorher zu laden.
+     * 
+     * @param userIds Die UUIDs der Users
+     * @return Anzahl gelöschter Feedbacks
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM FeedbackEntity f WHERE f.userId IN :userIds")
+    int deleteByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * Lädt die erste Seite aller Feedbacks, sortiert nach Datum und ID (neueste zuerst).
+     * 
+     * @param pageable Seitengröße (nur die erste Seite wird verwendet)
+     * @return Liste der FeedbackEntities der ersten Seite
+     */
+    @Query("SELECT f FROM FeedbackEntity f ORDER BY f.feedbackDate DESC, f.id DESC")
+    List<FeedbackEntity> findFirstPage(Pageable pageable);
 
+    /**
+     * Lädt die nächste Seite per Keyset-Pagination: alle Feedbacks, die in der
+     * Sortierung (feedbackDate DESC, id DESC) nach dem angegebenen Cursor liegen.
+     * Im Gegensatz zu OFFSET bleibt die Abfragezeit unabhängig von der Seitennummer.
+     * 
+     * @param date Datum des letzten Feedbacks der vorherigen Seite
+     * @param id ID des letzten Feedbacks der vorherigen Seite
+     * @param pageable Seitengröße (nur die erste Seite wird verwendet)
+     * @return Liste der FeedbackEntities der nächsten Seite
+     */
+    @Query("SELECT f FROM FeedbackEntity f " +
+           "WHERE f.feedbackDate < :date OR (f.feedbackDate = :date AND f.id < :id) " +
+           "ORDER BY f.feedbackDate DESC, f.id DESC")
+    List<FeedbackEntity> findPageAfter(@Param("date") LocalDate date, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Zählt die Feedbacks pro Status (GROUP BY in der Datenbank).
+     * 
+     * @return Liste von Paaren [Status, Anzahl]
+     */
+    @Query("SELECT f.status, COUNT(f) FROM FeedbackEntity f GROUP BY f.status")
+    List<Object[]> countGroupedByStatus();
+
+    /**
+     * Lädt nur Kategorie und Titel aller Feedbacks (ohne den Inhalt).
+     * 
+     * @return Liste von Paaren [Kategorie, Titel], sortiert nach ID
+     */
+    @Query("SELECT f.category, f.title FROM FeedbackEntity f ORDER BY f.id")
+    List<Object[]> findCategoryTitles();
+
+    /**
+     * Berechnet alle Kennzahlen für die Gesamtstatistik in einer einzigen Abfrage.
+     * 
+     * @param closed Status, der als geschlossen gezählt wird
+     * @param open Status, der als offen gezählt wird
+     * @return Projektion mit Gesamtanzahl, bedingten Zählern sowie ältestem und neuestem Datum
+     */
+    @Query("SELECT COUNT(f) AS totalCount, " +
+           "COALESCE(SUM(CASE WHEN f.isPublished = true THEN 1 ELSE 0 END), 0) AS publishedCount, " +
+           "COALESCE(SUM(CASE WHEN f.status = :closed THEN 1 ELSE 0 END), 0) AS closedCount, " +
+           "COALESCE(SUM(CASE WHEN f.status = :open THEN 1 ELSE 0 END), 0) AS openCount, " +
+           "MIN(f.feedbackDate) AS oldestDate, " +
+           "MAX(f.feedbackDate) AS newestDate " +
+           "FROM FeedbackEntity f")
+    FeedbackStatisticsView aggregateStatistics(@Param("closed") Status closed, @Param("open") Status open);
+
+    /**
+     * Zählt die Feedbacks gruppiert nach Status, Veröffentlichungsstatus und Datum.
+     * 
+     * @return Liste von Tupeln [Status, isPublished, feedbackDate, Anzahl]
+     */
+    @Query("SELECT f.status, f.isPublished, f.feedbackDate, COUNT(f) FROM FeedbackEntity f " +
+           "GROUP BY f.status, f.isPublished, f.feedbackDate")
+    List<Object[]> countGroupedByStatusPublishedAndDate();
+
+    /**
+     * Lädt veröffentlichte Feedbacks, die nicht den angegebenen Status haben, als schlanke Projektion.
+     * Filter und Sortierung (neueste zuerst) erfolgen in der Datenbank.
+     * 
+     * @param excludedStatus Status, der ausgeschlossen wird (z.B. CLOSED)
+     * @return Liste der Projektionen mit id, title, category, status und feedbackDate
+     */
+    @Query("SELECT f.id AS id, f.title AS title, f.category AS category, " +
+           "f.status AS status, f.feedbackDate AS feedbackDate " +
+           "FROM FeedbackEntity f " +
+           "WHERE f.isPublished = true AND f.status <> :excludedStatus " +
+           "ORDER BY f.feedbackDate DESC, f.id DESC")
+    List<FeedbackSummaryView> findPublishedSummariesExcludingStatus(@Param("excludedStatus") Status excludedStatus);
+
+    /**
+     * Findet alle veröffentlichten Feedbacks, sortiert nach ID.
+     * 
+     * @return Liste der veröffentlichten FeedbackEntities
+     */
+    @Query("SELECT f FROM FeedbackEntity f WHERE f.isPublished = true ORDER BY f.id")
+    List<FeedbackEntity> findPublished();
+
+    /**
+     * Liefert alle Feedbacks als Stream (neueste zuerst), ohne sie vollständig in den Speicher zu laden.
+     * Die Zeilen werden in Blöcken von 500 geholt (Fetch Size).
+     * Muss innerhalb einer Transaktion konsumiert und anschließend geschlossen werden.
+     * 
+     * @return Stream aller FeedbackEntities
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT f FROM FeedbackEntity f ORDER BY f.feedbackDate DESC, f.id DESC")
+    Stream<FeedbackEntity> streamAllNewestFirst();
+
+    /**
+     * Setzt Status und Veröffentlichung per Compare-and-Set: Die Zeile wird nur geändert,
+     * wenn ihre Version noch der erwarteten entspricht; die Version wird dabei erhöht.
+     * 
+     * @param id Die ID des Feedbacks
+     * @param expectedVersion Version des Stands, auf dem die Änderung berechnet wurde
+     * @param status Der neue Status
+     * @param published Der neue Veröffentlichungsstatus
+     * @return Anzahl geänderter Zeilen (0 oder 1)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE FeedbackEntity f SET f.status = :status, f.isPublished = :published, f.version = f.version + 1 " +
+           "WHERE f.id = :id AND f.version = :expectedVersion")
+    int compareAndSetState(@Param("id") Long id, @Param("expectedVersion") long expectedVersion,
+                           @Param("status") Status status, @Param("published") boolean published);
+}
@@ -29,6 +29,7 @@ public class FeedbackMapper {
         entity.setPublished(feedback.isPublished());
         // User wird nur als ID gespeichert (lose Kopplung zwischen Bounded Contexts)
         entity.setUserId(feedback.getUserId());
+        entity.setVersion(feedback.getVersion());
         return entity;
     }
 
@@ -54,6 +55,7 @@ public class FeedbackMapper {
         feedback.setStatus(entity.getStatus());
         feedback.setPublished(entity.isPublished());
         feedback.setUserId(entity.getUserId());
+        feedback.setVersion(entity.getVersion());
 
         return feedback;
     }
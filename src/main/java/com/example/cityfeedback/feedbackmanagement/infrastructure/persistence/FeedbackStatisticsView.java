@@ -0,0 +1,22 @@
+package com.example.cityfeedback.feedbackmanagement.infrastructure.persistence;
+
+import java.time.LocalDate;
+
+/**
+ * Interface-Projektion für die aggregierte Statistik-Abfrage in FeedbackJpaRepository.
+ * Die Getter entsprechen den Aliasen der JPQL-Abfrage.
+ */
+public interface FeedbackStatisticsView {
+
+    Long getTotalCount();
+
+    Long getPublishedCount();
+
+    Long getClosedCount();
+
+    Long getOpenCount();
+
+    LocalDate getOldestDate();
+
+    LocalDate getNewestDate();
+}
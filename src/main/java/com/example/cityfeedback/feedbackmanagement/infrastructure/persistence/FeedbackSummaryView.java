@@ -0,0 +1,23 @@
+package com.example.cityfeedback.feedbackmanagement.infrastructure.persistence;
+
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status;
+
+import java.time.LocalDate;
+
+/**
+ * Interface-Projektion für Listenansichten in FeedbackJpaRepository.
+ * Selektiert nur die angezeigten Spalten, nicht den Inhalt.
+ */
+public interface FeedbackSummaryView {
+
+    Long getId();
+
+    String getTitle();
+
+    Category getCategory();
+
+    Status getStatus();
+
+    LocalDate getFeedbackDate();
+}
@@ -0,0 +1,47 @@
+package com.example.cityfeedback.usermanagement.application;
+
+import com.example.cityfeedback.usermanagement.domain.exceptions.InvalidCredentialsException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Prüft ein mitgesendetes Zugriffstoken (Authorization: Bearer ...) und legt den angemeldeten User
+ * als Request-Attribut ab. Abgelehnt wird erst, wenn ein Endpunkt einen UserPrincipal verlangt
+ * (UserPrincipalArgumentResolver); öffentliche Endpunkte bleiben ohne Token erreichbar.
+ */
+@Component
+public class AccessTokenFilter extends OncePerRequestFilter {
+
+    static final String PRINCIPAL_ATTRIBUTE = AccessTokenFilter.class.getName() + ".principal";
+    static final String FAILURE_ATTRIBUTE = AccessTokenFilter.class.getName() + ".failure";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AccessTokenService accessTokenService;
+
+    public AccessTokenFilter(AccessTokenService accessTokenService) {
+        this.accessTokenService = accessTokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            try {
+                request.setAttribute(PRINCIPAL_ATTRIBUTE,
+                        accessTokenService.verify(header.substring(BEARER_PREFIX.length()).strip()));
+            } catch (InvalidCredentialsException e) {
+                request.setAttribute(FAILURE_ATTRIBUTE, e);
+            }
+        }
+        chain.doFilter(request, response);
+    }
+}
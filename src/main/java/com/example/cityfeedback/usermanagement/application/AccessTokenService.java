@@ -0,0 +1,178 @@
+package com.example.cityfeedback.usermanagement.application;
+
+import com.example.cityfeedback.usermanagement.domain.exceptions.InvalidCredentialsException;
+import com.example.cityfeedback.usermanagement.domain.model.User;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserPrincipal;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stellt signierte Zugriffstokens aus und prüft sie, ohne die Datenbank zu lesen.
+ *
+ * Aufbau: base64url(userId|rolle|ausgestellt|gültig-bis) + "." + base64url(HMAC-SHA256), Zeiten in ms.
+ * Rollenänderungen, Passwortänderungen und Löschungen wirken spätestens nach token-ttl; sofort über
+ * revoke(): Tokens des Users, die vor dem Widerruf oder in derselben Millisekunde ausgestellt wurden,
+ * werden abgelehnt. Die Widerrufe liegen nur im Speicher dieser Instanz und werden nach token-ttl
+ * verworfen (dann ist jedes ältere Token abgelaufen).
+ */
+@Component
+public class AccessTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessTokenService.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final ThreadLocal<Mac> macs;
+    private final Map<UUID, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    public AccessTokenService(@Value("${cityfeedback.auth.token-secret:}") String secret,
+                              @Value("${cityfeedback.auth.token-ttl:PT15M}") Duration ttl) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("token-ttl muss positiv sein: " + ttl);
+        }
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            logger.warn("Kein cityfeedback.auth.token-secret gesetzt: zufälliger Schlüssel, Tokens gelten nur bis zum Neustart dieser Instanz");
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.ttl = ttl;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * Stellt ein Token für einen angemeldeten User aus, ausgestellt jetzt.
+     *
+     * @return Token und Ablaufzeitpunkt
+     */
+    public IssuedToken issue(User user) {
+        return issue(user, System.currentTimeMillis());
+    }
+
+    /**
+     * Stellt ein Token für einen angemeldeten User aus.
+     *
+     * @param issuedAt Zeitpunkt (ms), zu dem ID und Rolle gelesen wurden bzw. davor. Ein späterer
+     *                 Zeitpunkt würde einen Widerruf zwischen Lesen und Ausstellen übergehen.
+     * @return Token und Ablaufzeitpunkt
+     */
+    public IssuedToken issue(User user, long issuedAt) {
+        long expiresAt = issuedAt + ttl.toMillis();
+        String payload = ENCODER.encodeToString((user.getId() + "|" + user.getRole() + "|" + issuedAt + "|" + expiresAt)
+                .getBytes(StandardCharsets.UTF_8));
+        return new IssuedToken(payload + "." + sign(payload), Instant.ofEpochMilli(expiresAt));
+    }
+
+    /**
+     * Prüft Signatur, Ablauf und Widerruf eines Tokens.
+     *
+     * @return ID und Rolle aus dem Token
+     * @throws InvalidCredentialsException wenn das Token ungültig, abgelaufen oder widerrufen ist
+     */
+    public UserPrincipal verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0 || !MessageDigest.isEqual(sign(token.substring(0, dot)).getBytes(StandardCharsets.US_ASCII),
+                token.substring(dot + 1).getBytes(StandardCharsets.US_ASCII))) {
+            throw new InvalidCredentialsException("Ungültiges Zugriffstoken.");
+        }
+
+        String[] fields;
+        try {
+            fields = new String(DECODER.decode(token.substring(0, dot)), StandardCharsets.UTF_8).split("\\|");
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCredentialsException("Ungültiges Zugriffstoken.");
+        }
+        if (fields.length != 4) {
+            throw new InvalidCredentialsException("Ungültiges Zugriffstoken.");
+        }
+
+        UUID userId = UUID.fromString(fields[0]);
+        long issuedAt = Long.parseLong(fields[2]);
+        if (System.currentTimeMillis() >= Long.parseLong(fields[3])) {
+            throw new InvalidCredentialsException("Zugriffstoken abgelaufen. Bitte erneut anmelden.");
+        }
+        Long revoked = revokedBefore.get(userId);
+        // Auch im selben Millisekunden-Takt ausgestellte Tokens ablehnen: sie können den alten Stand enthalten
+        if (revoked != null && issuedAt <= revoked) {
+            throw new InvalidCredentialsException("Zugriffstoken widerrufen. Bitte erneut anmelden.");
+        }
+        return new UserPrincipal(userId, UserRole.valueOf(fields[1]));
+    }
+
+    /**
+     * Widerruft alle bisher ausgestellten Tokens eines Users (z.B. nach Rollenänderung).
+     * Muss nach dem Commit der Änderung aufgerufen werden, sonst kann ein paralleler Login
+     * noch den alten Stand lesen und ein Token mit späterem Zeitpunkt erhalten.
+     */
+    public void revoke(UUID userId) {
+        long now = System.currentTimeMillis();
+        revokedBefore.merge(userId, now, Math::max);
+        long expired = now - ttl.toMillis();
+        revokedBefore.values().removeIf(revokedAt -> revokedAt < expired);
+    }
+
+    /**
+     * @return Anzahl der gemerkten Widerrufe
+     */
+    public int revocationCount() {
+        return revokedBefore.size();
+    }
+
+    private String sign(String payload) {
+        return ENCODER.encodeToString(macs.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " nicht verfügbar", e);
+        }
+    }
+
+    /**
+     * Ausgestelltes Token mit Ablaufzeitpunkt.
+     */
+    public static class IssuedToken {
+        private final String token;
+        private final Instant expiresAt;
+
+        public IssuedToken(String token, Instant expiresAt) {
+            this.token = token;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        public Instant getExpiresAt() {
+            return expiresAt;
+        }
+    }
+}
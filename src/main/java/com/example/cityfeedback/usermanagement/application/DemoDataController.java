@@ -1,9 +1,8 @@
 package com.example.cityfeedback.usermanagement.application;
 
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.UUID;
-
 @RestController
 @RequestMapping("/admin/demo-data")
 public class DemoDataController {
@@ -16,21 +15,25 @@ public class DemoDataController {
 
     /**
      * Löscht alle Demo-Daten.
-     * DELETE /admin/demo-data
+     * DELETE /admin/demo-data (Zugriffstoken eines Admins)
      */
     @DeleteMapping
-    public DemoDataDeleteResponse deleteAllDemoData(
-            @RequestHeader(value = "X-Admin-Id", required = true) UUID adminId) {
-        int deletedCount = demoDataService.deleteAllDemoData(adminId);
-        return new DemoDataDeleteResponse(deletedCount, "Demo-Daten erfolgreich gelöscht");
+    public DemoDataDeleteResponse deleteAllDemoData(UserPrincipal admin) {
+        DemoDataService.DemoDataPurgeDTO result = demoDataService.deleteAllDemoData(admin);
+        return new DemoDataDeleteResponse(result.getDeletedUsers(), result.getDeletedFeedbacks(),
+                result.getDeletedComments(), "Demo-Daten erfolgreich gelöscht");
     }
 
     public static class DemoDataDeleteResponse {
         public final int deletedUsers;
+        public final int deletedFeedbacks;
+        public final int deletedComments;
         public final String message;
 
-        public DemoDataDeleteResponse(int deletedUsers, String message) {
+        public DemoDataDeleteResponse(int deletedUsers, int deletedFeedbacks, int deletedComments, String message) {
             this.deletedUsers = deletedUsers;
+            this.deletedFeedbacks = deletedFeedbacks;
+            this.deletedComments = deletedComments;
             this.message = message;
         }
     }
@@ -1,16 +1,15 @@
 package com.example.cityfeedback.usermanagement.application;
 
+import com.example.cityfeedback.config.TransactionCallbacks;
 import com.example.cityfeedback.feedbackmanagement.application.FeedbackService;
-import com.example.cityfeedback.usermanagement.domain.model.User;
 import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
-import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserPrincipal;
 import com.example.cityfeedback.usermanagement.domain.exceptions.UnauthorizedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Service zum Verwalten von Demo-Daten.
@@ -21,51 +20,68 @@ public class DemoDataService {
 
     private final UserRepository userRepository;
     private final FeedbackService feedbackService;
+    private final AccessTokenService accessTokenService;
 
-    public DemoDataService(UserRepository userRepository, FeedbackService feedbackService) {
+    public DemoDataService(UserRepository userRepository, FeedbackService feedbackService,
+                           AccessTokenService accessTokenService) {
         this.userRepository = userRepository;
         this.feedbackService = feedbackService;
+        this.accessTokenService = accessTokenService;
     }
 
     /**
-     * Löscht alle Demo-Daten (Demo-User und deren Feedbacks).
+     * Löscht alle Demo-Daten (Demo-User, deren Feedbacks und Kommentare).
      * 
-     * @param adminId Die ID des ausführenden Admins
-     * @return Anzahl der gelöschten User
+     * Die Demo-User werden in der Datenbank ausgewählt (nur ihre IDs werden geladen),
+     * anschließend werden Kommentare, Feedbacks und Users mengenbasiert gelöscht
+     * und nach dem Commit die Zugriffstokens der gelöschten Users widerrufen.
+     * 
+     * @param admin Der ausführende, angemeldete User
+     * @return Anzahl der gelöschten Users, Feedbacks und Kommentare
      * @throws UnauthorizedException wenn der ausführende User kein Admin ist
      */
     @Transactional
-    public int deleteAllDemoData(UUID adminId) {
-        User admin = userRepository.findById(adminId)
-                .orElseThrow(() -> new com.example.cityfeedback.usermanagement.domain.exceptions.UserNotFoundException(adminId));
-        
-        if (admin.getRole() != UserRole.ADMIN) {
-            throw new UnauthorizedException("Nur Administratoren können Demo-Daten löschen.");
+    public DemoDataPurgeDTO deleteAllDemoData(UserPrincipal admin) {
+        admin.requireAdmin("Nur Administratoren können Demo-Daten löschen.");
+
+        // Demo-User (erkennbar an E-Mail-Präfix/-Domain, ohne Admins) per SQL finden
+        List<UUID> demoUserIds = userRepository.findDemoUserIds();
+        if (demoUserIds.isEmpty()) {
+            return new DemoDataPurgeDTO(0, 0, 0);
         }
 
-        // Finde alle Demo-User (erkennbar an E-Mail-Domain)
-        List<User> allUsers = userRepository.findAll();
-        List<User> demoUsers = allUsers.stream()
-                .filter(user -> {
-                    String email = user.getEmail().getValue();
-                    return email.startsWith("demo.") || email.contains("@example.com");
-                })
-                .filter(user -> user.getRole() != UserRole.ADMIN) // Admin nicht löschen
-                .collect(Collectors.toList());
+        FeedbackService.FeedbackDeletionDTO deletedFeedbacks = feedbackService.deleteFeedbacksByUserIds(demoUserIds);
+        int deletedUsers = userRepository.deleteAllById(demoUserIds);
+        TransactionCallbacks.afterCommit(() -> demoUserIds.forEach(accessTokenService::revoke));
+
+        return new DemoDataPurgeDTO(deletedUsers,
+                deletedFeedbacks.getDeletedFeedbacks(), deletedFeedbacks.getDeletedComments());
+    }
 
-        // Lösche Feedbacks der Demo-User
-        for (User demoUser : demoUsers) {
-            feedbackService.deleteFeedbacksByUserId(demoUser.getId());
+    /**
+     * DTO mit der Anzahl gelöschter Demo-Daten.
+     */
+    public static class DemoDataPurgeDTO {
+        private final int deletedUsers;
+        private final int deletedFeedbacks;
+        private final int deletedComments;
+
+        public DemoDataPurgeDTO(int deletedUsers, int deletedFeedbacks, int deletedComments) {
+            this.deletedUsers = deletedUsers;
+            this.deletedFeedbacks = deletedFeedbacks;
+            this.deletedComments = deletedComments;
+        }
+
+        public int getDeletedUsers() {
+            return deletedUsers;
         }
 
-        // Lösche Demo-User
-        int deletedCount = 0;
-        for (User demoUser : demoUsers) {
-            userRepository.delete(demoUser);
-            deletedCount++;
+        public int getDeletedFeedbacks() {
+            return deletedFeedbacks;
         }
 
-        return deletedCount;
+        public int getDeletedComments() {
+            return deletedComments;
+        }
     }
 }
-
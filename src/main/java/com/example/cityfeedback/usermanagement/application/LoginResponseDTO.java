@@ -0,0 +1,28 @@
+package com.example.cityfeedback.usermanagement.application;
+
+import com.example.cityfeedback.usermanagement.domain.model.User;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Antwort auf einen erfolgreichen Login: User-Daten (ohne Passwort-Hash) und Zugriffstoken.
+ * Das Token wird bei geschützten Anfragen als "Authorization: Bearer ..." mitgesendet.
+ */
+public class LoginResponseDTO {
+
+    public final UUID id;
+    public final String email;
+    public final UserRole role;
+    public final String accessToken;
+    public final Instant expiresAt;
+
+    public LoginResponseDTO(User user, AccessTokenService.IssuedToken token) {
+        this.id = user.getId();
+        this.email = user.getEmail().getValue();
+        this.role = user.getRole();
+        this.accessToken = token.getToken();
+        this.expiresAt = token.getExpiresAt();
+    }
+}
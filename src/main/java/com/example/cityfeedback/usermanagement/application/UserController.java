@@ -2,21 +2,35 @@ package com.example.cityfeedback.usermanagement.application;
 
 import com.example.cityfeedback.usermanagement.domain.model.User;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
-import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserPrincipal;
+import com.example.cityfeedback.application.JsonStreamWriter;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @RestController
 @RequestMapping("/user")
 public class UserController {
 
     private final UserService userService;
+    private final JsonStreamWriter jsonStreamWriter;
+    // Speichern nach dem Hashen läuft hier, damit keine JPA-Transaktion einen Thread des Passwort-Pools belegt
+    private final Executor persistenceExecutor;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, JsonStreamWriter jsonStreamWriter,
+                          @Qualifier("applicationTaskExecutor") Executor persistenceExecutor) {
         this.userService = userService;
+        this.jsonStreamWriter = jsonStreamWriter;
+        this.persistenceExecutor = persistenceExecutor;
     }
 
     // GET ALL USERS
@@ -25,59 +39,74 @@ public class UserController {
         return this.userService.getAllUsers();
     }
 
+    // GET ALL USERS (Streaming: JSON-Array, bzw. NDJSON bei Accept: application/x-ndjson)
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllUsers(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return jsonStreamWriter.stream(JsonStreamWriter.acceptsNdjson(accept), userService::streamAllUsers);
+    }
+
+    // GET ALL USERS (Streaming als NDJSON)
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllUsersAsNdjson() {
+        return jsonStreamWriter.stream(true, userService::streamAllUsers);
+    }
+
     // GET USER BY ID
     @GetMapping("/{id}")
     public User getUserById(@PathVariable UUID id) {
         return this.userService.getUserById(id);
     }
 
-    // SIGNUP
+    // SIGNUP (Hashing im Passwort-Pool, bei Überlastung 503)
     @PostMapping
-    public User create(@Valid @RequestBody UserDTO dto) {
+    public CompletableFuture<User> create(@Valid @RequestBody UserDTO dto) {
         Email email = new Email(dto.email);
-        Password password = new Password(dto.password);
-        return userService.createUser(email, password, dto.role);
+        return userService.hashPassword(dto.password)
+                .thenApplyAsync(password -> userService.createUser(email, password, dto.role), persistenceExecutor);
     }
 
-    // LOGIN
+    // LOGIN (Passwortvergleich im Passwort-Pool, bei Überlastung 503; liefert das Zugriffstoken)
     @PostMapping("/login")
-    public User login(@Valid @RequestBody LoginRequestDTO dto) {
+    public CompletableFuture<LoginResponseDTO> login(@Valid @RequestBody LoginRequestDTO dto) {
         return userService.login(dto.email, dto.password);
     }
 
     // ADMIN: Passwort ändern
     @PutMapping("/{id}/password")
-    public User changePassword(@PathVariable UUID id, @Valid @RequestBody ChangePasswordDTO dto) {
-        Password newPassword = new Password(dto.password);
-        return userService.updatePassword(id, newPassword);
+    public CompletableFuture<User> changePassword(@PathVariable UUID id, @Valid @RequestBody ChangePasswordDTO dto) {
+        return userService.hashPassword(dto.password)
+                .thenApplyAsync(newPassword -> userService.updatePassword(id, newPassword), persistenceExecutor);
     }
 
-    // ADMIN: Rolle ändern
+    // ADMIN: Rolle ändern (Zugriffstoken eines Admins)
     @PutMapping("/{id}/role")
     public User changeRole(
-            @RequestHeader(value = "X-Admin-Id", required = true) UUID adminId,
+            UserPrincipal admin,
             @PathVariable UUID id,
             @Valid @RequestBody ChangeRoleDTO dto) {
-        return userService.updateRole(adminId, id, dto.role);
+        return userService.updateRole(admin, id, dto.role);
     }
 
-    // ADMIN: User erstellen
+    // ADMIN: User erstellen (Zugriffstoken eines Admins)
     @PostMapping("/admin/create")
-    public User createUserByAdmin(
-            @RequestHeader(value = "X-Admin-Id", required = true) UUID adminId,
+    public CompletableFuture<User> createUserByAdmin(
+            UserPrincipal admin,
             @Valid @RequestBody CreateUserByAdminDTO dto) {
+        // Vor dem Hashen prüfen, damit Nicht-Admins keine Plätze im Passwort-Pool belegen
+        admin.requireAdmin("Nur Administratoren können neue Benutzer erstellen.");
         Email email = new Email(dto.email);
-        Password password = new Password(dto.password);
-        return userService.createUserByAdmin(adminId, email, password, dto.role);
+        return userService.hashPassword(dto.password)
+                .thenApplyAsync(password -> userService.createUserByAdmin(admin, email, password, dto.role), persistenceExecutor);
     }
 
-    // ADMIN: User löschen
+    // ADMIN: User löschen (Zugriffstoken eines Admins)
     @DeleteMapping("/{id}")
     @org.springframework.web.bind.annotation.ResponseStatus(org.springframework.http.HttpStatus.NO_CONTENT)
     public void deleteUser(
-            @RequestHeader(value = "X-Admin-Id", required = true) UUID adminId,
+            UserPrincipal admin,
             @PathVariable UUID id) {
-        userService.deleteUser(adminId, id);
+        userService.deleteUser(admin, id);
     }
 }
 
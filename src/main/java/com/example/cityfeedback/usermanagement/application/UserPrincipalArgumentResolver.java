@@ -0,0 +1,36 @@
+package com.example.cityfeedback.usermanagement.application;
+
+import com.example.cityfeedback.usermanagement.domain.exceptions.InvalidCredentialsException;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserPrincipal;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Liefert Controller-Parametern vom Typ UserPrincipal den vom AccessTokenFilter geprüften User.
+ * Fehlt das Token oder ist es ungültig, wird mit 401 abgelehnt.
+ */
+public class UserPrincipalArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return UserPrincipal.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public UserPrincipal resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                         NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Object principal = webRequest.getAttribute(AccessTokenFilter.PRINCIPAL_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (principal instanceof UserPrincipal userPrincipal) {
+            return userPrincipal;
+        }
+        Object failure = webRequest.getAttribute(AccessTokenFilter.FAILURE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (failure instanceof InvalidCredentialsException invalidToken) {
+            throw invalidToken;
+        }
+        throw new InvalidCredentialsException("Anmeldung erforderlich.");
+    }
+}
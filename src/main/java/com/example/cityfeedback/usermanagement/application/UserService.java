@@ -1,39 +1,54 @@
 package com.example.cityfeedback.usermanagement.application;
 
+import com.example.cityfeedback.config.BoundedWorkPool;
+import com.example.cityfeedback.config.TransactionCallbacks;
 import com.example.cityfeedback.usermanagement.domain.model.User;
 import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
 import com.example.cityfeedback.usermanagement.domain.services.UserRegistrationService;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserPrincipal;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
 import com.example.cityfeedback.usermanagement.domain.events.UserRegisteredEvent;
 import com.example.cityfeedback.feedbackmanagement.application.FeedbackService;
 import com.example.cityfeedback.usermanagement.domain.exceptions.InvalidCredentialsException;
 import com.example.cityfeedback.usermanagement.domain.exceptions.UnauthorizedException;
 import com.example.cityfeedback.usermanagement.domain.exceptions.UserNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 @Service
 public class UserService {
 
+    private static final Logger logger = LoggerFactory.getLogger(UserService.class);
+
     private final UserRepository userRepository;
     private final UserRegistrationService registrationService;
     private final ApplicationEventPublisher eventPublisher;
     private final FeedbackService feedbackService;
+    private final BoundedWorkPool passwordHashingPool;
+    private final AccessTokenService accessTokenService;
 
     public UserService(UserRepository userRepository, 
                       UserRegistrationService registrationService,
                       ApplicationEventPublisher eventPublisher,
-                      FeedbackService feedbackService) {
+                      FeedbackService feedbackService,
+                      BoundedWorkPool passwordHashingPool,
+                      AccessTokenService accessTokenService) {
         this.userRepository = userRepository;
         this.registrationService = registrationService;
         this.eventPublisher = eventPublisher;
         this.feedbackService = feedbackService;
+        this.passwordHashingPool = passwordHashingPool;
+        this.accessTokenService = accessTokenService;
     }
 
     // GET ALL USERS
@@ -41,6 +56,11 @@ public class UserService {
         return this.userRepository.findAll();
     }
 
+    // STREAM ALL USERS (ohne alle Users gleichzeitig im Speicher zu halten)
+    public void streamAllUsers(Consumer<User> consumer) {
+        this.userRepository.streamAll(consumer);
+    }
+
     // GET USER BY ID
     public User getUserById(UUID id) {
         return this.userRepository.findById(id)
@@ -74,24 +94,73 @@ public class UserService {
         return user;
     }
 
-    // LOGIN (EMAIL + PASSWORD)
-    public User login(String email, String rawPassword) {
+    /**
+     * Prüft und hasht ein neues Passwort im Passwort-Pool statt auf dem Request-Thread.
+     *
+     * @param rawPassword Das Passwort im Klartext
+     * @return Future mit dem gehashten Passwort (bzw. IllegalArgumentException bei ungültigem Passwort)
+     * @throws BoundedWorkPool.PoolSaturatedException wenn der Pool ausgelastet ist
+     */
+    public CompletableFuture<Password> hashPassword(String rawPassword) {
+        return passwordHashingPool.submit(() -> new Password(rawPassword));
+    }
+
+    /**
+     * Meldet einen User an (E-Mail + Passwort). Der User wird auf dem Request-Thread geladen,
+     * der Passwortvergleich läuft im Passwort-Pool.
+     * Ist der gespeicherte Hash veraltet (z.B. geringerer Kostenfaktor), wird er im Hintergrund
+     * neu erzeugt und gespeichert; die Antwort wartet darauf nicht.
+     *
+     * @return Future mit User-Daten und Zugriffstoken (bzw. InvalidCredentialsException)
+     * @throws BoundedWorkPool.PoolSaturatedException wenn der Pool ausgelastet ist
+     */
+    public CompletableFuture<LoginResponseDTO> login(String email, String rawPassword) {
         Email emailVO = new Email(email);
+        // Vor dem Lesen festhalten: ein Widerruf während des Passwortvergleichs liegt damit
+        // zeitlich hinter dem Token und macht es ungültig
+        long readAt = System.currentTimeMillis();
 
         User user = userRepository.findByEmail(emailVO)
                 .orElseThrow(() -> new InvalidCredentialsException("Benutzer nicht gefunden oder Passwort ungültig."));
 
-        if (!user.getPassword().matches(rawPassword)) {
-            throw new InvalidCredentialsException("Benutzer nicht gefunden oder Passwort ungültig.");
-        }
+        return passwordHashingPool.submit(() -> {
+            if (!user.getPassword().matches(rawPassword)) {
+                throw new InvalidCredentialsException("Benutzer nicht gefunden oder Passwort ungültig.");
+            }
+            if (user.getPassword().needsUpgrade()) {
+                upgradePasswordHash(user, rawPassword);
+            }
+            return new LoginResponseDTO(user, accessTokenService.issue(user, readAt));
+        });
+    }
 
-        return user;
+    /**
+     * Reiht das Nachhashen eines bestätigten Passworts in den Passwort-Pool ein.
+     * Ist der Pool ausgelastet, wird es übersprungen und beim nächsten Login erneut versucht.
+     * Gespeichert wird nur, wenn der alte Hash noch aktuell ist (keine zwischenzeitliche Passwortänderung).
+     */
+    private void upgradePasswordHash(User user, String rawPassword) {
+        Password outdated = user.getPassword();
+        try {
+            passwordHashingPool.submit(() -> outdated.rehash(rawPassword))
+                    .thenAccept(upgraded -> {
+                        if (userRepository.replacePasswordHash(user.getId(), outdated.getValue(), upgraded.getValue())) {
+                            logger.info("Passwort-Hash von User {} aktualisiert", user.getId());
+                        }
+                    })
+                    .exceptionally(ex -> {
+                        logger.warn("Passwort-Hash von User {} konnte nicht aktualisiert werden: {}", user.getId(), ex.getMessage());
+                        return null;
+                    });
+        } catch (BoundedWorkPool.PoolSaturatedException e) {
+            logger.debug("Passwort-Hash von User {} nicht aktualisiert, Pool ausgelastet", user.getId());
+        }
     }
 
     /**
      * Erstellt einen neuen User durch einen Admin.
      * 
-     * @param adminId Die ID des ausführenden Admins
+     * @param admin Der ausführende, angemeldete User
      * @param email E-Mail des neuen Users
      * @param password Passwort des neuen Users
      * @param role Rolle des neuen Users
@@ -99,18 +168,14 @@ public class UserService {
      * @throws UnauthorizedException wenn der ausführende User kein Admin ist
      */
     @Transactional
-    public User createUserByAdmin(UUID adminId, Email email, Password password, UserRole role) {
-        User admin = getUserById(adminId);
-        
-        if (admin.getRole() != UserRole.ADMIN) {
-            throw new UnauthorizedException("Nur Administratoren können neue Benutzer erstellen.");
-        }
+    public User createUserByAdmin(UserPrincipal admin, Email email, Password password, UserRole role) {
+        admin.requireAdmin("Nur Administratoren können neue Benutzer erstellen.");
 
         return createUser(email, password, role);
     }
 
     /**
-     * Ändert das Passwort eines Users.
+     * Ändert das Passwort eines Users. Bereits ausgestellte Zugriffstokens des Users werden nach dem Commit widerrufen.
      * 
      * @param userId Die ID des Users, dessen Passwort geändert werden soll
      * @param newPassword Das neue Passwort
@@ -121,13 +186,16 @@ public class UserService {
     public User updatePassword(UUID userId, Password newPassword) {
         User user = getUserById(userId);
         user.changePassword(newPassword);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        TransactionCallbacks.afterCommit(() -> accessTokenService.revoke(userId));
+        return saved;
     }
 
     /**
      * Ändert die Rolle eines Users (nur durch Admin).
+     * Bereits ausgestellte Zugriffstokens des Users (mit der alten Rolle) werden nach dem Commit widerrufen.
      * 
-     * @param adminId Die ID des ausführenden Admins
+     * @param admin Der ausführende, angemeldete User
      * @param userId Die ID des Users, dessen Rolle geändert werden soll
      * @param newRole Die neue Rolle
      * @return Der aktualisierte User
@@ -135,35 +203,30 @@ public class UserService {
      * @throws UserNotFoundException wenn der User nicht gefunden wird
      */
     @Transactional
-    public User updateRole(UUID adminId, UUID userId, UserRole newRole) {
-        User admin = getUserById(adminId);
-        
-        if (admin.getRole() != UserRole.ADMIN) {
-            throw new UnauthorizedException("Nur Administratoren können Rollen ändern.");
-        }
+    public User updateRole(UserPrincipal admin, UUID userId, UserRole newRole) {
+        admin.requireAdmin("Nur Administratoren können Rollen ändern.");
 
         User user = getUserById(userId);
         user.changeRole(newRole);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        TransactionCallbacks.afterCommit(() -> accessTokenService.revoke(userId));
+        return saved;
     }
 
     /**
      * Löscht einen User und alle zugehörigen Feedbacks (nur durch Admin).
+     * Bereits ausgestellte Zugriffstokens des Users werden nach dem Commit widerrufen.
      * 
-     * @param adminId Die ID des ausführenden Admins
+     * @param admin Der ausführende, angemeldete User
      * @param userId Die ID des zu löschenden Users
      * @throws UnauthorizedException wenn der ausführende User kein Admin ist
      * @throws UserNotFoundException wenn der User nicht gefunden wird
      */
     @Transactional
-    public void deleteUser(UUID adminId, UUID userId) {
-        User admin = getUserById(adminId);
-        
-        if (admin.getRole() != UserRole.ADMIN) {
-            throw new UnauthorizedException("Nur Administratoren können Benutzer löschen.");
-        }
+    public void deleteUser(UserPrincipal admin, UUID userId) {
+        admin.requireAdmin("Nur Administratoren können Benutzer löschen.");
 
-        if (adminId.equals(userId)) {
+        if (admin.getUserId().equals(userId)) {
             throw new IllegalArgumentException("Ein Administrator kann sich nicht selbst löschen.");
         }
 
@@ -174,5 +237,6 @@ public class UserService {
         
         // User löschen
         userRepository.delete(user);
+        TransactionCallbacks.afterCommit(() -> accessTokenService.revoke(userId));
     }
 }
\ No newline at end of file
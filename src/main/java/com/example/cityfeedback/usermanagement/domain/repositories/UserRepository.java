@@ -2,10 +2,14 @@ package com.example.cityfeedback.usermanagement.domain.repositories;
 
 import com.example.cityfeedback.usermanagement.domain.model.User;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Repository-Interface für User im Domain-Layer.
@@ -31,6 +35,23 @@ public interface UserRepository {
      */
     Optional<User> findById(UUID id);
 
+    /**
+     * findRoleById liefert nur die Rolle eines Users, ohne ihn vollständig zu laden
+     * (z.B. für Berechtigungsprüfungen).
+     * 
+     * @param id Die UUID des Users
+     * @return Optional mit der Rolle oder leer, wenn der User nicht existiert
+     */
+    Optional<UserRole> findRoleById(UUID id);
+
+    /**
+     * existsById prüft, ob ein User existiert, ohne ihn zu laden.
+     * 
+     * @param id Die UUID des Users
+     * @return true, wenn ein User mit dieser ID existiert
+     */
+    boolean existsById(UUID id);
+
     /**
      * findAll findet alle Users.
      * 
@@ -38,6 +59,22 @@ public interface UserRepository {
      */
     List<User> findAll();
 
+    /**
+     * streamAll übergibt alle Users nacheinander an den Consumer,
+     * ohne die gesamte Liste im Speicher zu halten.
+     * 
+     * @param consumer Wird für jeden User aufgerufen
+     */
+    void streamAll(Consumer<User> consumer);
+
+    /**
+     * findExistingIds prüft mehrere User-IDs auf einmal, ohne die Users zu laden.
+     * 
+     * @param ids Die zu prüfenden UUIDs
+     * @return Die Teilmenge der IDs, zu denen ein User existiert
+     */
+    Set<UUID> findExistingIds(Collection<UUID> ids);
+
     /**
      * existsByEmail prüft, ob ein User mit der angegebenen E-Mail existiert.
      * 
@@ -60,5 +97,34 @@ public interface UserRepository {
      * @param user Der zu löschende User
      */
     void delete(User user);
+
+    /**
+     * findDemoUserIds findet die IDs aller Demo-User, ohne die Users zu laden.
+     * Demo-User sind alle Nicht-Admins (auch User ohne Rolle), deren E-Mail mit "demo." beginnt
+     * oder "@example.com" enthält.
+     * 
+     * @return Liste der UUIDs aller Demo-User
+     */
+    List<UUID> findDemoUserIds();
+
+    /**
+     * deleteAllById löscht mehrere Users mengenbasiert, ohne sie vorher zu laden.
+     * 
+     * @param ids Die UUIDs der zu löschenden Users
+     * @return Anzahl gelöschter Users
+     */
+    int deleteAllById(Collection<UUID> ids);
+
+    /**
+     * replacePasswordHash ersetzt den Passwort-Hash eines Users nur, wenn noch der erwartete Hash
+     * gespeichert ist (z.B. für das Nachhashen nach dem Login, ohne eine zwischenzeitliche
+     * Passwortänderung zu überschreiben).
+     * 
+     * @param id Die UUID des Users
+     * @param expectedHash Der bisher gespeicherte Hash
+     * @param newHash Der neue Hash
+     * @return true, wenn der Hash ersetzt wurde
+     */
+    boolean replacePasswordHash(UUID id, String expectedHash, String newHash);
 }
 
@@ -0,0 +1,29 @@
+package com.example.cityfeedback.usermanagement.domain.services;
+
+/**
+ * Erzeugt und prüft Passwort-Hashes für das Value Object Password.
+ *
+ * Implementierungen müssen thread-sicher sein, da eine Instanz von allen Anfragen geteilt wird.
+ */
+public interface PasswordHasher {
+
+    /**
+     * @param rawPassword Das Passwort im Klartext
+     * @return Der Hash inklusive Salt und Kostenfaktor
+     */
+    String hash(String rawPassword);
+
+    /**
+     * @param rawPassword Das Passwort im Klartext
+     * @param hashedPassword Ein gespeicherter Hash (auch mit anderem Kostenfaktor)
+     * @return true, wenn das Passwort zum Hash passt
+     */
+    boolean matches(String rawPassword, String hashedPassword);
+
+    /**
+     * @param hashedPassword Ein gespeicherter Hash
+     * @return true, wenn der Hash mit schwächeren Parametern (z.B. geringerem Kostenfaktor) oder
+     *         einem anderen Verfahren erzeugt wurde und beim nächsten Login neu gehasht werden sollte
+     */
+    boolean needsUpgrade(String hashedPassword);
+}
@@ -1,15 +1,42 @@
 package com.example.cityfeedback.usermanagement.domain.valueobjects;
 
+import com.example.cityfeedback.usermanagement.domain.services.PasswordHasher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import java.util.Objects;
+
 /**
  * Value Object für Passwörter.
  * Kapselt Validierung, Hashing und Verifikation von Passwörtern.
  * 
  * Diese Klasse ist framework-unabhängig und enthält keine JPA-Annotationen.
+ * Hashing und Verifikation laufen über einen geteilten PasswordHasher, den die Anwendung
+ * beim Start mit kalibriertem Kostenfaktor setzt (siehe useHasher); ohne Spring-Kontext
+ * wird BCrypt mit dem Standard-Kostenfaktor verwendet.
  */
 public class Password {
 
+    private static final PasswordHasher DEFAULT_HASHER = new PasswordHasher() {
+        private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+
+        @Override
+        public String hash(String rawPassword) {
+            return encoder.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(String rawPassword, String hashedPassword) {
+            return encoder.matches(rawPassword, hashedPassword);
+        }
+
+        @Override
+        public boolean needsUpgrade(String hashedPassword) {
+            return encoder.upgradeEncoding(hashedPassword);
+        }
+    };
+
+    private static volatile PasswordHasher hasher = DEFAULT_HASHER;
+
     private String hashed;
 
 
@@ -29,6 +56,20 @@ public class Password {
         return password;
     }
 
+    /**
+     * Setzt den Hasher für alle folgenden Passwörter.
+     * Bestehende Hashes bleiben gültig, da der Kostenfaktor im Hash gespeichert ist.
+     *
+     * @param passwordHasher Der geteilte, thread-sichere Hasher
+     */
+    public static void useHasher(PasswordHasher passwordHasher) {
+        hasher = Objects.requireNonNull(passwordHasher, "PasswordHasher darf nicht null sein");
+    }
+
+    static PasswordHasher getHasher() {
+        return hasher;
+    }
+
     // Package-private Konstruktor für fromHash
     private Password() {
         // Für JPA und fromHash
@@ -51,8 +92,7 @@ public class Password {
 
     // BCrypt Hash generieren
     private String hash(String rawPassword) {
-        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
-        return encoder.encode(rawPassword);
+        return hasher.hash(rawPassword);
     }
 
     // Getter für JPA & Login-Service
@@ -62,8 +102,26 @@ public class Password {
 
     // Wird vom Login-Service genutzt
     public boolean matches(String rawPassword) {
-        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
-        return encoder.matches(rawPassword, this.hashed);
+        return hasher.matches(rawPassword, this.hashed);
+    }
+
+    /**
+     * @return true, wenn der Hash mit älteren Parametern als den aktuellen erzeugt wurde
+     */
+    public boolean needsUpgrade() {
+        return hasher.needsUpgrade(this.hashed);
+    }
+
+    /**
+     * Hasht dasselbe Passwort neu mit den aktuellen Parametern. Die Passwort-Regeln werden dabei
+     * nicht erneut geprüft, da ältere Passwörter sie ggf. nicht erfüllen; der Aufrufer muss das
+     * Passwort vorher mit matches() bestätigt haben.
+     *
+     * @param rawPassword Das bestätigte Passwort im Klartext
+     * @return Neues Password mit aktuellem Hash
+     */
+    public Password rehash(String rawPassword) {
+        return fromHash(hasher.hash(rawPassword));
     }
 
     @Override
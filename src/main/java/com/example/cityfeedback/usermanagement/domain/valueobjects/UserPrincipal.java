@@ -0,0 +1,60 @@
+package com.example.cityfeedback.usermanagement.domain.valueobjects;
+
+import com.example.cityfeedback.usermanagement.domain.exceptions.UnauthorizedException;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Value Object für den angemeldeten User einer Anfrage (ID und Rolle zum Zeitpunkt der Anmeldung).
+ * Wird aus dem signierten Zugriffstoken gelesen, ohne den User aus der Datenbank zu laden.
+ */
+public class UserPrincipal {
+
+    private final UUID userId;
+    private final UserRole role;
+
+    public UserPrincipal(UUID userId, UserRole role) {
+        this.userId = Objects.requireNonNull(userId, "userId");
+        this.role = Objects.requireNonNull(role, "role");
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+
+    public boolean isAdmin() {
+        return role == UserRole.ADMIN;
+    }
+
+    /**
+     * @param message Fehlermeldung, falls der User kein Admin ist
+     * @throws UnauthorizedException wenn der User kein Admin ist
+     */
+    public void requireAdmin(String message) {
+        if (!isAdmin()) {
+            throw new UnauthorizedException(message);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof UserPrincipal principal)) return false;
+        return userId.equals(principal.userId) && role == principal.role;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, role);
+    }
+
+    @Override
+    public String toString() {
+        return userId + " (" + role + ")";
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.cityfeedback.usermanagement.infrastructure;
+
+import com.example.cityfeedback.usermanagement.domain.services.PasswordHasher;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * PasswordHasher auf Basis von BCrypt mit festem Kostenfaktor.
+ *
+ * Der BCryptPasswordEncoder ist thread-sicher und wird geteilt. Geprüft werden auch Hashes
+ * mit anderem Kostenfaktor, da dieser im Hash steht.
+ */
+public class BCryptPasswordHasher implements PasswordHasher {
+
+    /** Unter- und Obergrenze von BCrypt. */
+    public static final int MIN_COST = 4;
+    public static final int MAX_COST = 31;
+
+    /** Kostenfaktor für die Messung bei der Kalibrierung (schnell, aber deutlich über dem Grundaufwand). */
+    private static final int PROBE_COST = 8;
+    private static final int PROBE_ROUNDS = 5;
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}");
+
+    private final int cost;
+    private final BCryptPasswordEncoder encoder;
+
+    public BCryptPasswordHasher(int cost) {
+        if (cost < MIN_COST || cost > MAX_COST) {
+            throw new IllegalArgumentException("BCrypt-Kostenfaktor muss zwischen " + MIN_COST + " und " + MAX_COST + " liegen.");
+        }
+        this.cost = cost;
+        this.encoder = new BCryptPasswordEncoder(cost);
+    }
+
+    /**
+     * Bestimmt den höchsten Kostenfaktor, bei dem ein Hash auf dieser Hardware höchstens
+     * targetLatency dauert, aber nie weniger als minCost.
+     *
+     * Gemessen wird der Median mehrerer Hashes bei Kostenfaktor 8; jede Stufe darüber
+     * verdoppelt den Aufwand.
+     *
+     * @param targetLatency Angestrebte Dauer eines Hashes
+     * @param minCost Untergrenze (z.B. 10, der Standard von BCrypt)
+     * @return Der kalibrierte Kostenfaktor
+     */
+    public static int calibrate(Duration targetLatency, int minCost) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(PROBE_COST);
+        probe.encode("Kalibrierung1"); // Aufwärmen
+        long[] nanos = new long[PROBE_ROUNDS];
+        for (int i = 0; i < PROBE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            probe.encode("Kalibrierung1");
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return costFor(targetLatency, nanos[PROBE_ROUNDS / 2], minCost);
+    }
+
+    /**
+     * @param probeNanos Gemessene Dauer eines Hashes bei Kostenfaktor 8
+     */
+    static int costFor(Duration targetLatency, long probeNanos, int minCost) {
+        double doublings = Math.log((double) targetLatency.toNanos() / Math.max(probeNanos, 1)) / Math.log(2);
+        int cost = PROBE_COST + (int) Math.floor(doublings);
+        return Math.min(MAX_COST, Math.max(Math.max(minCost, MIN_COST), cost));
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    @Override
+    public String hash(String rawPassword) {
+        return encoder.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String hashedPassword) {
+        return encoder.matches(rawPassword, hashedPassword);
+    }
+
+    /**
+     * Veraltet sind Hashes mit geringerem Kostenfaktor und alle Hashes, die kein BCrypt sind.
+     * Höhere Kostenfaktoren bleiben unverändert.
+     */
+    @Override
+    public boolean needsUpgrade(String hashedPassword) {
+        if (hashedPassword == null || !BCRYPT_HASH.matcher(hashedPassword).matches()) {
+            return true;
+        }
+        return encoder.upgradeEncoding(hashedPassword);
+    }
+}
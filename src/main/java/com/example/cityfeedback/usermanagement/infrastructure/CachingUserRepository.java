@@ -0,0 +1,153 @@
+package com.example.cityfeedback.usermanagement.infrastructure;
+
+import com.example.cityfeedback.config.BoundedTtlCache;
+import com.example.cityfeedback.config.CacheRegistry;
+import com.example.cityfeedback.config.TransactionCallbacks;
+import com.example.cityfeedback.usermanagement.domain.model.User;
+import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
+import com.example.cityfeedback.usermanagement.infrastructure.persistence.UserEntity;
+import com.example.cityfeedback.usermanagement.infrastructure.persistence.UserMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Decorator um UserRepositoryImpl mit einem Read-Through-Cache für findById.
+ * 
+ * Gecacht wird eine vom Aufrufer unabhängige Kopie (als UserEntity); jeder Treffer
+ * liefert ein neues User-Objekt, da das Domain-Modell veränderlich ist.
+ * save, delete, deleteAllById und replacePasswordHash invalidieren den Eintrag sofort und nach Abschluss der Transaktion erneut.
+ * 
+ * Für findRoleById und existsById gibt es einen zweiten, kompakten Cache (ID -> Rolle), damit
+ * Existenz- und Rollenprüfungen weder die Datenbank noch Email/Password berühren. save legt die
+ * Rolle nach dem Commit ab (Rollenänderung), delete und deleteAllById entfernen sie sofort und nach
+ * Abschluss der Transaktion erneut. Nicht vorhandene IDs werden nicht gecacht.
+ * Alle anderen Methoden werden unverändert an UserRepositoryImpl weitergereicht.
+ */
+@Repository
+@Primary
+public class CachingUserRepository implements UserRepository {
+
+    private final UserRepositoryImpl delegate;
+    private final BoundedTtlCache<UUID, UserEntity> cache;
+    private final BoundedTtlCache<UUID, UserRole> roles;
+
+    public CachingUserRepository(UserRepositoryImpl delegate,
+                                 CacheRegistry cacheRegistry,
+                                 @Value("${cityfeedback.cache.user.max-size:10000}") int maxSize,
+                                 @Value("${cityfeedback.cache.user.ttl:PT5M}") Duration ttl,
+                                 @Value("${cityfeedback.cache.user-role.max-size:100000}") int roleMaxSize,
+                                 @Value("${cityfeedback.cache.user-role.ttl:PT30M}") Duration roleTtl) {
+        this.delegate = delegate;
+        this.cache = cacheRegistry.create("user", maxSize, ttl);
+        this.roles = cacheRegistry.create("user-role", roleMaxSize, roleTtl);
+    }
+
+    @Override
+    public Optional<User> findById(UUID id) {
+        UserEntity cached = cache.get(id, key -> delegate.findById(key)
+                .map(UserMapper::toEntity)
+                .orElse(null));
+        return Optional.ofNullable(cached).map(UserMapper::toDomain);
+    }
+
+    @Override
+    public Optional<UserRole> findRoleById(UUID id) {
+        return Optional.ofNullable(roles.get(id, key -> delegate.findRoleById(key).orElse(null)));
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return findRoleById(id).isPresent();
+    }
+
+    @Override
+    public User save(User user) {
+        User saved = delegate.save(user);
+        invalidate(saved.getId());
+        UUID id = saved.getId();
+        UserRole role = saved.getRole();
+        roles.invalidate(id);
+        TransactionCallbacks.afterCommit(() -> roles.put(id, role));
+        TransactionCallbacks.afterRollback(() -> roles.invalidate(id));
+        return saved;
+    }
+
+    @Override
+    public void delete(User user) {
+        delegate.delete(user);
+        invalidate(user.getId());
+        invalidateRole(user.getId());
+    }
+
+    @Override
+    public int deleteAllById(Collection<UUID> ids) {
+        int deleted = delegate.deleteAllById(ids);
+        ids.forEach(id -> {
+            invalidate(id);
+            invalidateRole(id);
+        });
+        return deleted;
+    }
+
+    @Override
+    public boolean replacePasswordHash(UUID id, String expectedHash, String newHash) {
+        boolean replaced = delegate.replacePasswordHash(id, expectedHash, newHash);
+        invalidate(id);
+        return replaced;
+    }
+
+    private void invalidate(UUID id) {
+        cache.invalidate(id);
+        TransactionCallbacks.afterCompletion(() -> cache.invalidate(id));
+    }
+
+    private void invalidateRole(UUID id) {
+        roles.invalidate(id);
+        TransactionCallbacks.afterCompletion(() -> roles.invalidate(id));
+    }
+
+    // ===================================================================
+    // Ungecachte Methoden
+    // ===================================================================
+
+    @Override
+    public List<User> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void streamAll(Consumer<User> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        return delegate.findExistingIds(ids);
+    }
+
+    @Override
+    public boolean existsByEmail(Email email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public Optional<User> findByEmail(Email email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public List<UUID> findDemoUserIds() {
+        return delegate.findDemoUserIds();
+    }
+}
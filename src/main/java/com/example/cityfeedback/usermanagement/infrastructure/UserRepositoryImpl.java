@@ -3,15 +3,24 @@ package com.example.cityfeedback.usermanagement.infrastructure;
 import com.example.cityfeedback.usermanagement.domain.model.User;
 import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
 import com.example.cityfeedback.usermanagement.infrastructure.persistence.UserEntity;
 import com.example.cityfeedback.usermanagement.infrastructure.persistence.UserJpaRepository;
 import com.example.cityfeedback.usermanagement.infrastructure.persistence.UserMapper;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementierung des UserRepository-Interfaces aus dem Domain-Layer.
@@ -20,10 +29,17 @@ import java.util.stream.Collectors;
 @Repository
 public class UserRepositoryImpl implements UserRepository {
 
+    /**
+     * Maximale Anzahl IDs pro IN-Klausel; größere Anfragen werden in mehrere Abfragen aufgeteilt.
+     */
+    static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
     private final UserJpaRepository jpaRepository;
+    private final EntityManager entityManager;
 
-    public UserRepositoryImpl(UserJpaRepository jpaRepository) {
+    public UserRepositoryImpl(UserJpaRepository jpaRepository, EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -39,6 +55,16 @@ public class UserRepositoryImpl implements UserRepository {
                 .map(UserMapper::toDomain);
     }
 
+    @Override
+    public Optional<UserRole> findRoleById(UUID id) {
+        return jpaRepository.findRoleById(id);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return jpaRepository.existsById(id);
+    }
+
     @Override
     public List<User> findAll() {
         return jpaRepository.findAll().stream()
@@ -46,6 +72,28 @@ public class UserRepositoryImpl implements UserRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<User> consumer) {
+        try (Stream<UserEntity> entities = jpaRepository.streamAll()) {
+            entities.forEach(entity -> {
+                consumer.accept(UserMapper.toDomain(entity));
+                // Entity aus dem Persistence Context entfernen, damit der Speicher konstant bleibt
+                entityManager.detach(entity);
+            });
+        }
+    }
+
+    @Override
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        List<UUID> idList = new ArrayList<>(new HashSet<>(ids));
+        Set<UUID> existing = new HashSet<>();
+        for (int from = 0; from < idList.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            existing.addAll(jpaRepository.findIdsByIdIn(idList.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, idList.size()))));
+        }
+        return existing;
+    }
+
     @Override
     public boolean existsByEmail(Email email) {
         return jpaRepository.existsByEmail(email.getValue());
@@ -58,9 +106,31 @@ public class UserRepositoryImpl implements UserRepository {
     }
 
     @Override
+    @Transactional
     public void delete(User user) {
-        UserEntity entity = UserMapper.toEntity(user);
-        jpaRepository.delete(entity);
+        jpaRepository.deleteUserById(user.getId());
+    }
+
+    @Override
+    public List<UUID> findDemoUserIds() {
+        return jpaRepository.findDemoUserIds(UserRole.ADMIN);
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllById(Collection<UUID> ids) {
+        List<UUID> idList = new ArrayList<>(ids);
+        int deleted = 0;
+        for (int from = 0; from < idList.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            deleted += jpaRepository.deleteByIdIn(idList.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, idList.size())));
+        }
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    public boolean replacePasswordHash(UUID id, String expectedHash, String newHash) {
+        return jpaRepository.replacePasswordHash(id, expectedHash, newHash) > 0;
     }
 }
 
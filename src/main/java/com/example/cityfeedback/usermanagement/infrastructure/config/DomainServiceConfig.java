@@ -1,10 +1,19 @@
 package com.example.cityfeedback.usermanagement.infrastructure.config;
 
+import com.example.cityfeedback.config.BoundedWorkPool;
 import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
+import com.example.cityfeedback.usermanagement.domain.services.PasswordHasher;
 import com.example.cityfeedback.usermanagement.domain.services.UserRegistrationService;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
+import com.example.cityfeedback.usermanagement.infrastructure.BCryptPasswordHasher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /**
  * Konfiguration für Domain Services.
  * Erstellt Spring Beans für Domain Services, damit sie von Application Services verwendet werden können.
@@ -12,9 +21,42 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class DomainServiceConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(DomainServiceConfig.class);
+
     @Bean
     public UserRegistrationService userRegistrationService(UserRepository userRepository) {
         return new UserRegistrationService(userRepository);
     }
-}
 
+    /**
+     * Geteilter Passwort-Hasher. Ohne festen Kostenfaktor (bcrypt-cost=0) wird er beim Start so
+     * kalibriert, dass ein Hash etwa target-latency dauert, mindestens aber min-cost.
+     * Der Hasher wird für das Value Object Password gesetzt.
+     */
+    @Bean
+    public PasswordHasher passwordHasher(@Value("${cityfeedback.password.bcrypt-cost:0}") int cost,
+                                         @Value("${cityfeedback.password.target-latency:PT0.05S}") Duration targetLatency,
+                                         @Value("${cityfeedback.password.min-cost:10}") int minCost) {
+        int effectiveCost = cost > 0 ? cost : BCryptPasswordHasher.calibrate(targetLatency, minCost);
+        BCryptPasswordHasher hasher = new BCryptPasswordHasher(effectiveCost);
+        logger.info("BCrypt-Kostenfaktor {} ({})", effectiveCost, cost > 0 ? "fest konfiguriert" : "kalibriert auf " + targetLatency.toMillis() + " ms");
+        Password.useHasher(hasher);
+        return hasher;
+    }
+
+    /**
+     * Eigener Pool für Hashing und Prüfung von Passwörtern, damit Anmelde- und Registrierungsspitzen
+     * nicht alle Kerne und Request-Threads belegen. Größe: core-fraction der Kerne (mindestens 1 Thread),
+     * Warteschlange queue-per-thread Aufträge je Thread, damit die Wartezeit einige Hashes nicht übersteigt.
+     * Ist die Warteschlange voll oder hat ein Auftrag länger als max-wait gewartet, wird mit 503 abgelehnt.
+     */
+    @Bean
+    public BoundedWorkPool passwordHashingPool(@Value("${cityfeedback.password.pool.core-fraction:0.5}") double coreFraction,
+                                               @Value("${cityfeedback.password.pool.queue-per-thread:8}") int queuePerThread,
+                                               @Value("${cityfeedback.password.pool.max-wait:PT2S}") Duration maxWait) {
+        int threads = Math.max(1, (int) (Runtime.getRuntime().availableProcessors() * coreFraction));
+        int queueCapacity = threads * queuePerThread;
+        logger.info("Passwort-Pool: {} Threads, Warteschlange {}, max. Wartezeit {}", threads, queueCapacity, maxWait);
+        return new BoundedWorkPool("password-hashing", threads, queueCapacity, maxWait);
+    }
+}
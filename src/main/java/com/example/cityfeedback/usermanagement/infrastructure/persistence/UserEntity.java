@@ -2,6 +2,7 @@ package com.example.cityfeedback.usermanagement.infrastructure.persistence;
 
 import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
 import jakarta.persistence.*;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.util.UUID;
 
@@ -14,8 +15,10 @@ import java.util.UUID;
 @Table(name = "users")
 public class UserEntity {
 
+    // Zeitlich geordnete UUIDv7 statt zufälliger v4 (bessere Lokalität im Primärschlüssel-Index)
     @Id
     @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     @Column(name = "email", nullable = false, unique = true)
@@ -1,9 +1,19 @@
 package com.example.cityfeedback.usermanagement.infrastructure.persistence;
 
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA Repository für UserEntity.
@@ -26,5 +36,78 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, UUID> {
      * @return Optional mit der gefundenen UserEntity oder leer
      */
     Optional<UserEntity> findByEmail(String email);
-}
 
+    /**
+     * Liest nur die Rolle eines Users.
+     * 
+     * @param id Die UUID des Users
+     * @return Optional mit der Rolle oder leer
+     */
+    @Query("SELECT u.role FROM UserEntity u WHERE u.id = :id")
+    Optional<UserRole> findRoleById(@Param("id") UUID id);
+
+    /**
+     * Findet von den angegebenen IDs diejenigen, zu denen ein User existiert.
+     * 
+     * @param ids Die zu prüfenden UUIDs
+     * @return Liste der vorhandenen UUIDs
+     */
+    @Query("SELECT u.id FROM UserEntity u WHERE u.id IN :ids")
+    List<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Liefert alle Users als Stream, ohne sie vollständig in den Speicher zu laden.
+     * Die Zeilen werden in Blöcken von 500 geholt (Fetch Size).
+     * Muss innerhalb einer Transaktion konsumiert und anschließend geschlossen werden.
+     * 
+     * @return Stream aller UserEntities
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT u FROM UserEntity u")
+    Stream<UserEntity> streamAll();
+
+    /**
+     * Löscht einen User mit einem einzigen DELETE, ohne ihn vorher zu laden.
+     * 
+     * @param id Die UUID des Users
+     * @return Anzahl gelöschter Users (0 oder 1)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM UserEntity u WHERE u.id = :id")
+    int deleteUserById(@Param("id") UUID id);
+
+    /**
+     * Findet die IDs aller Demo-User (E-Mail beginnt mit "demo." oder enthält "@example.com"),
+     * gefiltert in der Datenbank. User ohne Rolle zählen ebenfalls.
+     * 
+     * @param excludedRole Rolle, die nie als Demo-User gilt (z.B. ADMIN)
+     * @return Liste der UUIDs
+     */
+    @Query("SELECT u.id FROM UserEntity u " +
+           "WHERE (u.email LIKE 'demo.%' OR u.email LIKE '%@example.com%') " +
+           "AND (u.role IS NULL OR u.role <> :excludedRole)")
+    List<UUID> findDemoUserIds(@Param("excludedRole") UserRole excludedRole);
+
+    /**
+     * Löscht mehrere Users mit einem einzigen DELETE.
+     * 
+     * @param ids Die UUIDs der Users
+     * @return Anzahl gelöschter Users
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM UserEntity u WHERE u.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Ersetzt den Passwort-Hash nur, wenn noch der erwartete Hash gespeichert ist.
+     * 
+     * @param id Die UUID des Users
+     * @param expectedHash Der bisher gespeicherte Hash
+     * @param newHash Der neue Hash
+     * @return Anzahl geänderter Users (0 oder 1)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserEntity u SET u.password = :newHash WHERE u.id = :id AND u.password = :expectedHash")
+    int replacePasswordHash(@Param("id") UUID id, @Param("expectedHash") String expectedHash,
+                            @Param("newHash") String newHash);
+}
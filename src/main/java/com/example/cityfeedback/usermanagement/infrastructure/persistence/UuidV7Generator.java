@@ -0,0 +1,63 @@
+package com.example.cityfeedback.usermanagement.infrastructure.persistence;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Erzeugt zeitlich geordnete UUIDs der Version 7 (RFC 9562) für UserEntity.
+ *
+ * Aufbau: 48 Bit Unix-Zeit in Millisekunden, 4 Bit Version, 12 Bit Zähler,
+ * 2 Bit Variante, 62 Bit Zufall (SecureRandom).
+ * Neue IDs landen dadurch am Ende des Primärschlüssel-Index statt an zufälliger Stelle;
+ * dasselbe gilt für die Indizes auf feedbacks.user_id und comments.author_id.
+ *
+ * Innerhalb einer JVM sind die IDs streng monoton: mehrere IDs in derselben Millisekunde
+ * erhöhen den Zähler (läuft er über, wird die nächste Millisekunde verwendet), eine zurückgestellte
+ * Uhr wird ignoriert. Bestehende zufällige v4-IDs bleiben gültig und werden nicht verändert.
+ *
+ * Eingebunden über {@code @UuidGenerator(algorithm = UuidV7Generator.class)}.
+ */
+public class UuidV7Generator implements UuidValueGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /** Zuletzt vergebener Zeitstempel (ms) und Zähler als (ms << 12 | Zähler). */
+    private static final AtomicLong LAST_STAMP = new AtomicLong();
+
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        return generate();
+    }
+
+    /**
+     * Erzeugt die nächste UUIDv7.
+     *
+     * @return Neue, zeitlich geordnete UUID
+     */
+    public static UUID generate() {
+        long candidate = System.currentTimeMillis() << 12;
+        long stamp = LAST_STAMP.updateAndGet(last -> candidate > last ? candidate : last + 1);
+
+        long mostSignificantBits = ((stamp >>> 12) << 16) | 0x7000L | (stamp & 0xFFFL);
+        long leastSignificantBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * Liefert den in einer UUIDv7 enthaltenen Zeitstempel.
+     *
+     * @param uuid Eine UUID der Version 7
+     * @return Unix-Zeit in Millisekunden
+     * @throws IllegalArgumentException wenn die UUID nicht Version 7 ist
+     */
+    public static long timestampMillis(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Keine UUIDv7: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,30 @@
+-- Ausgangsschema, entspricht dem bisher per ddl-auto erzeugten Schema.
+
+create table users (
+    id uuid not null,
+    email varchar(255) not null unique,
+    password varchar(255) not null,
+    role enum ('ADMIN','CITIZEN','STAFF'),
+    primary key (id)
+);
+
+create table feedbacks (
+    feedback_date date not null,
+    is_published boolean not null,
+    id bigint generated by default as identity,
+    user_id uuid not null,
+    content TEXT not null,
+    title varchar(255) not null,
+    category enum ('BELEUCHTUNG','UMWELT','VANDALISMUS','VERKEHR','VERWALTUNG'),
+    status enum ('CLOSED','DONE','INPROGRESS','OPEN'),
+    primary key (id)
+);
+
+create table comments (
+    created_at timestamp(6) not null,
+    feedback_id bigint not null,
+    id bigint generated by default as identity,
+    author_id uuid not null,
+    content TEXT not null,
+    primary key (id)
+);
@@ -0,0 +1,8 @@
+-- findByUserId / deleteByUserId
+create index idx_feedbacks_user_id on feedbacks (user_id);
+
+-- Filter auf veröffentlichte Feedbacks nach Status, sortiert nach Datum
+create index idx_feedbacks_published_status_date on feedbacks (is_published, status, feedback_date);
+
+-- findByFeedbackIdOrderByCreatedAtAsc / deleteByFeedbackId
+create index idx_comments_feedback_id_created_at on comments (feedback_id, created_at);
@@ -0,0 +1,2 @@
+-- Versionsnummer für Compare-and-Set bei Statusübergängen (optimistische Nebenläufigkeit)
+alter table feedbacks add column version bigint default 0 not null;
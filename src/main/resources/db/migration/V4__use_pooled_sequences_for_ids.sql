@@ -0,0 +1,16 @@
+-- Sequenzen statt IDENTITY für feedbacks und comments: Hibernate vergibt IDs blockweise vorab
+-- und kann INSERTs dadurch per JDBC-Batch bündeln.
+-- Schrittweite = Allocation Size (Platzhalter aus cityfeedback.id.allocation-size). Optimizer pooled-lo:
+-- zu jedem Sequenzwert v gehören die IDs v .. v + Schrittweite - 1.
+create sequence feedbacks_seq start with 1 increment by ${id_allocation_size};
+create sequence comments_seq start with 1 increment by ${id_allocation_size};
+
+-- Hinter den vorhandenen IDs fortsetzen, damit IDs weiter monoton steigen
+alter sequence feedbacks_seq restart with (select coalesce(max(id), 0) + 1 from feedbacks);
+alter sequence comments_seq restart with (select coalesce(max(id), 0) + 1 from comments);
+
+-- INSERTs ohne ID (z.B. direkt per SQL) belegen einen eigenen Sequenzwert und damit einen ganzen Block
+alter table feedbacks alter column id drop identity;
+alter table feedbacks alter column id set default next value for feedbacks_seq;
+alter table comments alter column id drop identity;
+alter table comments alter column id set default next value for comments_seq;
@@ -0,0 +1,12 @@
+-- Verarbeitungsstand asynchron eingereichter Meldungen (POST /feedback mit Prefer: respond-async).
+-- Wird in derselben Transaktion wie das Feedback geschrieben; beim Wiedereinspielen des
+-- Journals werden Meldungen übersprungen, deren Token hier bereits steht.
+create table feedback_submissions (
+    token uuid not null,
+    status enum ('APPLIED','REJECTED') not null,
+    feedback_id bigint,
+    message varchar(1000),
+    received_at timestamp(6) not null,
+    processed_at timestamp(6) not null,
+    primary key (token)
+);
@@ -0,0 +1,104 @@
+package com.example.cityfeedback.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedTtlCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private BoundedTtlCache<Long, String> cache(int maxSize) {
+        return new BoundedTtlCache<>("test", maxSize, Duration.ofSeconds(10), now::get);
+    }
+
+    @Test
+    void get_shouldLoadOnceAndCountHitsAndMisses() {
+        BoundedTtlCache<Long, String> cache = cache(10);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("1", cache.get(1L, key -> { loads.incrementAndGet(); return "1"; }));
+        assertEquals("1", cache.get(1L, key -> { loads.incrementAndGet(); return "1"; }));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().getHits());
+        assertEquals(1, cache.stats().getMisses());
+        assertEquals(0.5, cache.stats().getHitRate());
+    }
+
+    @Test
+    void get_withNullFromLoader_shouldNotCache() {
+        BoundedTtlCache<Long, String> cache = cache(10);
+
+        assertNull(cache.get(1L, key -> null));
+        assertNull(cache.get(1L, key -> null));
+
+        assertEquals(0, cache.stats().getSize());
+        assertEquals(2, cache.stats().getMisses());
+    }
+
+    @Test
+    void get_afterTtl_shouldReloadAndCountEviction() {
+        BoundedTtlCache<Long, String> cache = cache(10);
+        cache.get(1L, key -> "alt");
+
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        assertEquals("neu", cache.get(1L, key -> "neu"));
+        assertEquals(1, cache.stats().getEvictions());
+    }
+
+    @Test
+    void put_beyondMaxSize_shouldEvictLeastRecentlyUsed() {
+        BoundedTtlCache<Long, String> cache = cache(2);
+        cache.get(1L, key -> "1");
+        cache.get(2L, key -> "2");
+        cache.get(1L, key -> "1");      // 1 zuletzt genutzt
+        cache.get(3L, key -> "3");      // verdrängt 2
+
+        assertEquals(2, cache.stats().getSize());
+        assertEquals(1, cache.stats().getEvictions());
+        assertEquals("2-neu", cache.get(2L, key -> "2-neu"));
+    }
+
+    @Test
+    void invalidate_duringLoad_shouldDiscardLoadedValue() {
+        BoundedTtlCache<Long, String> cache = cache(10);
+
+        String loaded = cache.get(1L, key -> {
+            cache.invalidate(key);       // paralleler Schreibzugriff während des Ladens
+            return "veraltet";
+        });
+
+        assertEquals("veraltet", loaded);
+        assertEquals("aktuell", cache.get(1L, key -> "aktuell"));
+    }
+
+    @Test
+    void put_duringLoad_shouldKeepPutValue() {
+        BoundedTtlCache<Long, String> cache = cache(10);
+
+        cache.get(1L, key -> {
+            cache.put(key, "geschrieben");  // Commit während des Ladens
+            return "veraltet";
+        });
+
+        assertEquals("geschrieben", cache.get(1L, key -> "nicht geladen"));
+        assertEquals(1, cache.stats().getHits());
+    }
+
+    @Test
+    void invalidateAll_shouldRemoveAllEntries() {
+        BoundedTtlCache<Long, String> cache = cache(10);
+        cache.get(1L, key -> "1");
+        cache.get(2L, key -> "2");
+
+        cache.invalidateAll();
+
+        assertEquals(0, cache.stats().getSize());
+    }
+}
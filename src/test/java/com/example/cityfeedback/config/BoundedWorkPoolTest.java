@@ -0,0 +1,114 @@
+package com.example.cityfeedback.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedWorkPoolTest {
+
+    @Test
+    void submit_shouldCompleteWithResultOrException() throws Exception {
+        BoundedWorkPool pool = new BoundedWorkPool("test", 2, 10, Duration.ZERO);
+
+        CompletableFuture<String> ok = pool.submit(() -> "fertig");
+        CompletableFuture<String> broken = pool.submit(() -> {
+            throw new IllegalArgumentException("ungültig");
+        });
+
+        assertEquals("fertig", ok.get(5, TimeUnit.SECONDS));
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> broken.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, failure.getCause());
+        pool.close();
+        assertEquals(2, pool.stats().getCompleted());
+    }
+
+    @Test
+    void submit_whenQueueFull_shouldRejectImmediatelyAndCount() {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        BoundedWorkPool pool = new BoundedWorkPool("test", 1, 2, Duration.ZERO);
+
+        pool.submit(() -> {
+            started.countDown();
+            return await(release);
+        });
+        assertTrue(await(started));
+        pool.submit(() -> await(release));
+        pool.submit(() -> await(release));
+
+        assertThrows(BoundedWorkPool.PoolSaturatedException.class, () -> pool.submit(() -> true));
+        BoundedWorkPool.PoolStats stats = pool.stats();
+        assertEquals(1, stats.getActive());
+        assertEquals(2, stats.getQueueDepth());
+        assertEquals(1, stats.getRejected());
+        release.countDown();
+        pool.close();
+    }
+
+    @Test
+    void stats_shouldReportWaitTimeUntilStart() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BoundedWorkPool pool = new BoundedWorkPool("test", 1, 10, Duration.ZERO);
+
+        pool.submit(() -> await(release));
+        CompletableFuture<Boolean> waiting = pool.submit(() -> true);
+        Thread.sleep(50);
+        release.countDown();
+
+        assertTrue(waiting.get(5, TimeUnit.SECONDS));
+        assertTrue(pool.stats().getMaxWaitMillis() >= 40);
+        assertTrue(pool.stats().getAverageWaitMillis() > 0);
+        pool.close();
+    }
+
+    @Test
+    void queuedTask_waitingLongerThanMaxWait_shouldExpireWithoutRunning() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BoundedWorkPool pool = new BoundedWorkPool("test", 1, 10, Duration.ofMillis(20));
+        List<String> ran = new java.util.concurrent.CopyOnWriteArrayList<>();
+
+        pool.submit(() -> await(release));
+        CompletableFuture<Boolean> late = pool.submit(() -> ran.add("spät"));
+        Thread.sleep(50);
+        release.countDown();
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> late.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(BoundedWorkPool.PoolSaturatedException.class, failure.getCause());
+        assertTrue(ran.isEmpty());
+        pool.close();
+        assertEquals(1, pool.stats().getExpired());
+        assertEquals(1, pool.stats().getCompleted());
+    }
+
+    @Test
+    void close_shouldFinishQueuedTasksAndRejectNewOnes() {
+        BoundedWorkPool pool = new BoundedWorkPool("test", 1, 20, Duration.ZERO);
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            int value = i;
+            futures.add(pool.submit(() -> value));
+        }
+
+        pool.close();
+
+        assertTrue(futures.stream().allMatch(future -> future.isDone() && !future.isCompletedExceptionally()));
+        assertThrows(BoundedWorkPool.PoolSaturatedException.class, () -> pool.submit(() -> 0));
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.cityfeedback.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GroupCommitQueueTest {
+
+    @Test
+    void submit_shouldWriteInBatchesAndCompleteWithSavedItems() throws Exception {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+        GroupCommitQueue<String> queue = new GroupCommitQueue<>("test", 100, 10, Duration.ofSeconds(1), Duration.ZERO,
+                batch -> {
+                    await(release);
+                    batchSizes.add(batch.size());
+                    return batch.stream().map(String::toUpperCase).toList();
+                });
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            futures.add(queue.submit("item" + i));
+        }
+        release.countDown();
+
+        for (int i = 0; i < 25; i++) {
+            assertEquals("ITEM" + i, futures.get(i).get(5, TimeUnit.SECONDS));
+        }
+        queue.close();
+        // Der erste Block wird gebildet, bevor alle Einträge eingereiht sind; danach volle Blöcke
+        assertEquals(25, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 10));
+        assertTrue(batchSizes.size() <= 4);
+    }
+
+    @Test
+    void submit_shouldFlushPartialBatchAfterMaxDelay() throws Exception {
+        GroupCommitQueue<String> queue = new GroupCommitQueue<>("test", 100, 1000, Duration.ofMillis(20), Duration.ZERO,
+                batch -> batch);
+
+        assertEquals("allein", queue.submit("allein").get(5, TimeUnit.SECONDS));
+        queue.close();
+    }
+
+    @Test
+    void failingBatch_shouldBeRetriedItemByItem() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        GroupCommitQueue<String> queue = new GroupCommitQueue<>("test", 100, 10, Duration.ofSeconds(1), Duration.ZERO,
+                batch -> {
+                    await(release);
+                    if (batch.contains("kaputt")) {
+                        throw new IllegalStateException("Schreiben fehlgeschlagen");
+                    }
+                    return batch;
+                });
+
+        CompletableFuture<String> first = queue.submit("eins");
+        CompletableFuture<String> broken = queue.submit("kaputt");
+        CompletableFuture<String> second = queue.submit("zwei");
+        release.countDown();
+
+        assertEquals("eins", first.get(5, TimeUnit.SECONDS));
+        assertEquals("zwei", second.get(5, TimeUnit.SECONDS));
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> broken.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+        queue.close();
+    }
+
+    @Test
+    void submit_whenFull_shouldRejectAfterOfferTimeout() {
+        CountDownLatch release = new CountDownLatch(1);
+        GroupCommitQueue<String> queue = new GroupCommitQueue<>("test", 2, 1, Duration.ZERO, Duration.ofMillis(10),
+                batch -> {
+                    await(release);
+                    return batch;
+                });
+
+        // Ein Eintrag wird gerade geschrieben (blockiert), zwei füllen die Warteschlange
+        queue.submit("a");
+        waitUntil(() -> queue.size() == 0);
+        queue.submit("b");
+        queue.submit("c");
+
+        assertThrows(GroupCommitQueue.QueueFullException.class, () -> queue.submit("d"));
+        release.countDown();
+        queue.close();
+    }
+
+    @Test
+    void close_shouldDrainQueueAndRejectNewItems() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        GroupCommitQueue<String> queue = new GroupCommitQueue<>("test", 100, 5, Duration.ZERO, Duration.ZERO,
+                batch -> {
+                    await(release);
+                    return batch;
+                });
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            futures.add(queue.submit("item" + i));
+        }
+
+        release.countDown();
+        queue.close();
+
+        assertTrue(futures.stream().allMatch(future -> future.isDone() && !future.isCompletedExceptionally()));
+        assertThrows(GroupCommitQueue.QueueFullException.class, () -> queue.submit("zu spät"));
+    }
+
+    @Test
+    void submit_racingWithClose_shouldCompleteOrRejectEveryItem() throws Exception {
+        for (int round = 0; round < 200; round++) {
+            GroupCommitQueue<Integer> queue = new GroupCommitQueue<>("test", 10_000, 50, Duration.ZERO, Duration.ZERO,
+                    batch -> batch);
+            List<CompletableFuture<Integer>> futures = new CopyOnWriteArrayList<>();
+            CountDownLatch started = new CountDownLatch(2);
+            List<Thread> submitters = new ArrayList<>();
+            for (int t = 0; t < 2; t++) {
+                Thread submitter = new Thread(() -> {
+                    started.countDown();
+                    for (int i = 0; i < 2000; i++) {
+                        try {
+                            futures.add(queue.submit(i));
+                        } catch (GroupCommitQueue.QueueFullException e) {
+                            return;
+                        }
+                    }
+                });
+                submitter.start();
+                submitters.add(submitter);
+            }
+
+            await(started);
+            queue.close();
+            for (Thread submitter : submitters) {
+                submitter.join();
+            }
+
+            // Angenommene Objekte werden geschrieben, auch wenn submit() mit close() überlappt
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Bedingung nicht rechtzeitig erfüllt");
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status;
+import com.example.cityfeedback.usermanagement.domain.model.User;
+import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark für POST /feedback/bulk: Statusübergänge pro Sekunde über die Massenmoderation
+ * im Vergleich zu einzelnen Aufrufen von updateFeedbackStatus.
+ *
+ * Läuft nicht im normalen Build, sondern nur über das Profil "benchmark":
+ * mvn test -Pbenchmark -Dtest=FeedbackBulkModerationBenchmarkTest -Dbenchmark.feedbacks=10000
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=OFF",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=OFF",
+        "logging.level.com.example.cityfeedback=WARN",
+        "logging.level.com.example.cityfeedback.config.LoggingAspect=OFF"
+})
+class FeedbackBulkModerationBenchmarkTest {
+
+    private static final int FEEDBACKS = Integer.getInteger("benchmark.feedbacks", FeedbackService.MAX_BULK_OPERATIONS);
+    private static final int SINGLE_CALLS = 1_000;
+    private static final int ROUNDS = 5;
+    private static final Status[] CYCLE = {Status.INPROGRESS, Status.DONE, Status.OPEN};
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void transitionsPerSecond_bulkVersusSingleCalls() {
+        List<Long> ids = seed();
+
+        // Aufwärmen
+        feedbackService.moderateFeedbacks(operations(ids, Status.INPROGRESS));
+        for (int i = 0; i < SINGLE_CALLS; i++) {
+            feedbackService.updateFeedbackStatus(ids.get(i), Status.DONE);
+        }
+
+        long bulkNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            List<BulkOperationDTO> operations = operations(ids, CYCLE[round % CYCLE.length]);
+            long start = System.nanoTime();
+            FeedbackService.BulkModerationResultDTO result = feedbackService.moderateFeedbacks(operations);
+            bulkNanos += System.nanoTime() - start;
+            assertEquals(ids.size(), result.getUpdated());
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < SINGLE_CALLS; i++) {
+            feedbackService.updateFeedbackStatus(ids.get(i), CYCLE[i % CYCLE.length]);
+        }
+        long singleNanos = System.nanoTime() - start;
+
+        double bulkRate = (double) ids.size() * ROUNDS / (bulkNanos / 1e9);
+        double singleRate = SINGLE_CALLS / (singleNanos / 1e9);
+        System.out.printf("%nStatusübergänge pro Sekunde (%d Feedbacks)%n", ids.size());
+        System.out.printf("%-28s %12.0f%n", "POST /feedback/bulk", bulkRate);
+        System.out.printf("%-28s %12.0f%n", "updateFeedbackStatus einzeln", singleRate);
+    }
+
+    private List<Long> seed() {
+        User user = userRepository.save(new User(new Email("bulk-benchmark@mail.de"), new Password("Abcdef12"), UserRole.STAFF));
+        List<Object[]> rows = new ArrayList<>(FEEDBACKS);
+        for (int i = 0; i < FEEDBACKS; i++) {
+            rows.add(new Object[]{LocalDate.now(), false, user.getId(), "Inhalt " + i, "Benchmark " + i, "VERKEHR", "OPEN"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO feedbacks (feedback_date, is_published, user_id, content, title, category, status) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        return jdbcTemplate.queryForList("SELECT id FROM feedbacks WHERE user_id = ? ORDER BY id", Long.class, user.getId());
+    }
+
+    private static List<BulkOperationDTO> operations(List<Long> ids, Status status) {
+        List<BulkOperationDTO> operations = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            BulkOperationDTO operation = new BulkOperationDTO();
+            operation.id = id;
+            operation.status = status;
+            operations.add(operation);
+        }
+        return operations;
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import com.example.cityfeedback.feedbackmanagement.domain.exceptions.ConcurrentFeedbackModificationException;
+import com.example.cityfeedback.feedbackmanagement.domain.model.Feedback;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackRepository;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status;
+import com.example.cityfeedback.usermanagement.domain.model.User;
+import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stresstest für gleichzeitige Statusübergänge auf demselben Feedback.
+ *
+ * Jeder erfolgreiche Übergang erhöht die Version um genau eins. Gibt es keine verlorenen
+ * Updates, ist die Endversion gleich der Anzahl erfolgreicher Übergänge, jede Version wurde
+ * genau einmal vergeben und der Endzustand entspricht dem Übergang mit der höchsten Version.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=OFF",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=OFF",
+        "logging.level.com.example.cityfeedback=WARN",
+        "logging.level.com.example.cityfeedback.config.LoggingAspect=OFF"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+class FeedbackConcurrencyStressTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 100;
+    private static final Status[] STATUSES = {Status.OPEN, Status.INPROGRESS, Status.DONE};
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private FeedbackStatisticsProjection projection;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User testUser;
+    private static int userCounter = 0;
+
+    @BeforeEach
+    void setUp() {
+        String uniqueEmail = "stress-test" + (userCounter++) + "@mail.de";
+        testUser = userRepository.save(new User(new Email(uniqueEmail), new Password("Abcdef12"), UserRole.STAFF));
+    }
+
+    @Test
+    void concurrentTransitions_shouldNotLoseUpdates() throws Exception {
+        // Arrange
+        Long id = createFeedback().getId();
+        Map<Long, Feedback> resultByVersion = new ConcurrentHashMap<>();
+        AtomicInteger duplicates = new AtomicInteger();
+
+        // Act
+        Result result = run(THREADS, OPERATIONS_PER_THREAD, operation -> {
+            Feedback updated = applyWithService(id, operation);
+            if (resultByVersion.putIfAbsent(updated.getVersion(), updated) != null) {
+                duplicates.incrementAndGet();
+            }
+        });
+
+        // Assert
+        Feedback stored = feedbackRepository.findById(id).orElseThrow();
+        assertEquals(0, duplicates.get(), "Eine Version wurde mehrfach vergeben");
+        assertEquals(result.succeeded, stored.getVersion());
+        Feedback last = resultByVersion.get(stored.getVersion());
+        assertEquals(last.getStatus(), stored.getStatus());
+        assertEquals(last.isPublished(), stored.isPublished());
+        assertEquals(feedbackRepository.countByStatus(), projection.getStatusCounts());
+        assertTrue(result.succeeded > 0);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void throughput_compareAndSetVersusRowLocking() throws Exception {
+        int operations = Integer.getInteger("benchmark.operations", 500);
+        int threads = Integer.getInteger("benchmark.threads", THREADS);
+        Long casId = createFeedback().getId();
+        Long jdbcCasId = createFeedback().getId();
+        Long lockId = createFeedback().getId();
+
+        // Aufwärmen beider Varianten (JIT, Hibernate-Query-Plan-Cache)
+        int warmup = Integer.getInteger("benchmark.warmup", 2000);
+        run(threads, warmup / threads, operation -> applyWithService(casId, operation));
+        run(threads, warmup / threads, operation -> applyWithCompareAndSet(jdbcCasId, operation));
+        run(threads, warmup / threads, operation -> applyWithRowLock(lockId, operation));
+
+        Result service = run(threads, operations, operation -> applyWithService(casId, operation));
+        Result cas = run(threads, operations, operation -> applyWithCompareAndSet(jdbcCasId, operation));
+        Result locking = run(threads, operations, operation -> applyWithRowLock(lockId, operation));
+
+        System.out.printf("%nGleichzeitige Statusübergänge auf einem Feedback (%d Threads x %d)%n", threads, operations);
+        System.out.printf("%-20s %12s %10s %10s %10s%n", "Variante", "Ops/s", "Erfolg", "Abgelehnt", "Konflikt");
+        System.out.printf("%-20s %12.0f %10d %10d %10d%n", "FeedbackService",
+                service.throughput(), service.succeeded, service.rejected, service.conflicts);
+        System.out.printf("%-20s %12.0f %10d %10d %10d%n", "JDBC Compare-and-Set",
+                cas.throughput(), cas.succeeded, cas.rejected, cas.conflicts);
+        System.out.printf("%-20s %12.0f %10d %10d %10d%n", "JDBC FOR UPDATE",
+                locking.throughput(), locking.succeeded, locking.rejected, locking.conflicts);
+
+        assertEquals(service.total, service.succeeded + service.rejected + service.conflicts);
+        assertEquals(cas.total, cas.succeeded + cas.rejected + cas.conflicts);
+        assertEquals(locking.total, locking.succeeded + locking.rejected);
+    }
+
+    private Feedback createFeedback() {
+        FeedbackDTO dto = new FeedbackDTO();
+        dto.userId = testUser.getId();
+        dto.title = "Stresstest";
+        dto.category = Category.VERKEHR;
+        dto.content = "Gleichzeitige Änderungen";
+        return feedbackService.createFeedback(dto);
+    }
+
+    private Feedback applyWithService(Long id, int operation) {
+        return switch (operation % 5) {
+            case 0 -> feedbackService.publishFeedback(id);
+            case 1 -> feedbackService.unpublishFeedback(id);
+            default -> feedbackService.updateFeedbackStatus(id, STATUSES[operation % STATUSES.length]);
+        };
+    }
+
+    /**
+     * Vergleichsvariante mit Versionsprüfung direkt über JDBC (ohne Service, Decorator und Projektionen),
+     * wiederholt bei Versionskonflikt bis zu {@link FeedbackService#MAX_TRANSITION_ATTEMPTS} Mal.
+     */
+    private void applyWithCompareAndSet(Long id, int operation) {
+        for (int attempt = 1; ; attempt++) {
+            Feedback feedback = jdbcTemplate.queryForObject(
+                    "SELECT status, is_published, version FROM feedbacks WHERE id = ?",
+                    (rs, row) -> {
+                        Feedback current = new Feedback();
+                        current.setStatus(Status.valueOf(rs.getString("status")));
+                        current.setPublished(rs.getBoolean("is_published"));
+                        current.setVersion(rs.getLong("version"));
+                        return current;
+                    }, id);
+            applyDomainRule(feedback, operation);
+            int updated = jdbcTemplate.update(
+                    "UPDATE feedbacks SET status = ?, is_published = ?, version = version + 1 WHERE id = ? AND version = ?",
+                    feedback.getStatus().name(), feedback.isPublished(), id, feedback.getVersion());
+            if (updated == 1) {
+                return;
+            }
+            if (attempt == FeedbackService.MAX_TRANSITION_ATTEMPTS) {
+                throw new ConcurrentFeedbackModificationException(id);
+            }
+        }
+    }
+
+    /**
+     * Vergleichsvariante mit pessimistischer Sperre: Zeile sperren, Domain-Regeln anwenden, zurückschreiben.
+     */
+    private void applyWithRowLock(Long id, int operation) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            Feedback feedback = jdbcTemplate.queryForObject(
+                    "SELECT status, is_published FROM feedbacks WHERE id = ? FOR UPDATE",
+                    (rs, row) -> {
+                        Feedback locked = new Feedback();
+                        locked.setStatus(Status.valueOf(rs.getString("status")));
+                        locked.setPublished(rs.getBoolean("is_published"));
+                        return locked;
+                    }, id);
+            applyDomainRule(feedback, operation);
+            jdbcTemplate.update("UPDATE feedbacks SET status = ?, is_published = ?, version = version + 1 WHERE id = ?",
+                    feedback.getStatus().name(), feedback.isPublished(), id);
+        });
+    }
+
+    private static void applyDomainRule(Feedback feedback, int operation) {
+        switch (operation % 5) {
+            case 0 -> feedback.publish();
+            case 1 -> feedback.unpublish();
+            default -> feedback.updateStatus(STATUSES[operation % STATUSES.length]);
+        }
+    }
+
+    private static Result run(int threads, int operationsPerThread, Consumer<Integer> operation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Random random = new Random(t);
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < operationsPerThread; i++) {
+                    try {
+                        operation.accept(random.nextInt(1000));
+                        succeeded.incrementAndGet();
+                    } catch (ConcurrentFeedbackModificationException e) {
+                        conflicts.incrementAndGet();
+                    } catch (IllegalStateException | IllegalArgumentException e) {
+                        // Vom Domain-Modell abgelehnt (z.B. bereits veröffentlicht)
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        return new Result(succeeded.get(), rejected.get(), conflicts.get(), threads * operationsPerThread, elapsed);
+    }
+
+    private static final class Result {
+        private final int succeeded;
+        private final int rejected;
+        private final int conflicts;
+        private final int total;
+        private final long elapsedNanos;
+
+        private Result(int succeeded, int rejected, int conflicts, int total, long elapsedNanos) {
+            this.succeeded = succeeded;
+            this.rejected = rejected;
+            this.conflicts = conflicts;
+            this.total = total;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        private double throughput() {
+            return total / (elapsedNanos / 1e9);
+        }
+    }
+}
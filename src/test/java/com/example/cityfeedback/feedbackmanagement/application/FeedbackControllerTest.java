@@ -5,9 +5,11 @@ import com.example.cityfeedback.feedbackmanagement.domain.model.Comment;
 import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
 import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status;
 import com.example.cityfeedback.feedbackmanagement.infrastructure.FeedbackRepositoryImpl;
+import com.example.cityfeedback.usermanagement.application.AccessTokenService;
 import com.example.cityfeedback.usermanagement.domain.model.User;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserPrincipal;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,6 +33,9 @@ class FeedbackControllerTest {
     @Autowired
     private com.example.cityfeedback.usermanagement.domain.repositories.UserRepository userRepository;
 
+    @Autowired
+    private AccessTokenService accessTokenService;
+
     @Autowired
     private FeedbackRepositoryImpl feedbackRepository;
 
@@ -71,6 +76,78 @@ class FeedbackControllerTest {
         assertNotNull(response.getBody().getId());
     }
 
+    @Test
+    void getFeedbackPage_shouldReturn200AndPage() {
+        // Arrange
+        feedbackService.createFeedback(createFeedbackDTO("Seite 1", Category.VERKEHR));
+        feedbackService.createFeedback(createFeedbackDTO("Seite 2", Category.UMWELT));
+
+        // Act
+        ResponseEntity<Map> response = rest.getForEntity("/feedback?limit=1", Map.class);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, ((java.util.List<?>) response.getBody().get("items")).size());
+        assertNotNull(response.getBody().get("nextCursor"));
+    }
+
+    @Test
+    void streamAllFeedbacks_shouldReturnJsonArray() {
+        // Arrange
+        feedbackService.createFeedback(createFeedbackDTO("Stream 1", Category.VERKEHR));
+        feedbackService.createFeedback(createFeedbackDTO("Stream 2", Category.UMWELT));
+
+        // Act
+        ResponseEntity<Feedback[]> response = rest.getForEntity("/feedback?stream=true", Feedback[].class);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertTrue(java.util.Arrays.stream(response.getBody()).anyMatch(f -> "Stream 1".equals(f.getTitle())));
+        assertTrue(java.util.Arrays.stream(response.getBody()).anyMatch(f -> "Stream 2".equals(f.getTitle())));
+    }
+
+    @Test
+    void streamAllFeedbacks_withNdjsonAccept_shouldReturnOneFeedbackPerLine() {
+        // Arrange
+        feedbackService.createFeedback(createFeedbackDTO("Zeile 1", Category.VERKEHR));
+        feedbackService.createFeedback(createFeedbackDTO("Zeile 2", Category.UMWELT));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(java.util.List.of(MediaType.APPLICATION_NDJSON));
+
+        // Act
+        ResponseEntity<String> response = rest.exchange(
+                "/feedback", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(MediaType.APPLICATION_NDJSON.isCompatibleWith(response.getHeaders().getContentType()));
+        String[] lines = response.getBody().split("\n");
+        assertEquals(feedbackRepository.findAll().size(), lines.length);
+        assertTrue(java.util.Arrays.stream(lines).allMatch(line -> line.startsWith("{") && line.endsWith("}")));
+        assertTrue(response.getBody().contains("\"title\":\"Zeile 2\""));
+    }
+
+    @Test
+    void getAllFeedbacks_withAnyAccept_shouldStillReturnList() {
+        // Arrange
+        feedbackService.createFeedback(createFeedbackDTO("Liste", Category.VERKEHR));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(java.util.List.of(MediaType.ALL));
+
+        // Act
+        ResponseEntity<Feedback[]> response = rest.exchange(
+                "/feedback", HttpMethod.GET, new HttpEntity<>(headers), Feedback[].class);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(MediaType.APPLICATION_JSON.isCompatibleWith(response.getHeaders().getContentType()));
+        assertTrue(response.getBody().length >= 1);
+    }
+
     // ===================================================================
     // Collection Processing Controller Tests - Funktionale Programmierung
     // ===================================================================
@@ -83,8 +160,7 @@ class FeedbackControllerTest {
 
         FeedbackDTO dto2 = createFeedbackDTO("Feedback 2", Category.UMWELT);
         Feedback feedback2 = feedbackService.createFeedback(dto2);
-        feedback2.updateStatus(Status.INPROGRESS);
-        feedbackRepository.save(feedback2);
+        feedbackService.updateFeedbackStatus(feedback2.getId(), Status.INPROGRESS);
 
         // Act: REST-Request
         ResponseEntity<Map> response = rest.getForEntity("/feedback/statistics/status", Map.class);
@@ -176,8 +252,7 @@ class FeedbackControllerTest {
         // Arrange: Erstelle einige Feedbacks
         FeedbackDTO dto1 = createFeedbackDTO("Feedback 1", Category.VERKEHR);
         Feedback feedback1 = feedbackService.createFeedback(dto1);
-        feedback1.publish();
-        feedbackRepository.save(feedback1);
+        feedbackService.publishFeedback(feedback1.getId());
 
         FeedbackDTO dto2 = createFeedbackDTO("Feedback 2", Category.UMWELT);
         feedbackService.createFeedback(dto2);
@@ -249,6 +324,125 @@ class FeedbackControllerTest {
         assertTrue(response.getBody().length >= 2);
     }
 
+    @Test
+    void getCommentsBatch_shouldReturn200AndCommentsPerFeedback() {
+        // Arrange
+        User staffUser = new User(new Email("staff@test.de"), new Password("Abcdef12"), UserRole.STAFF);
+        staffUser = userRepository.save(staffUser);
+
+        Feedback first = feedbackService.createFeedback(createFeedbackDTO("Erstes", Category.VERKEHR));
+        Feedback second = feedbackService.createFeedback(createFeedbackDTO("Zweites", Category.UMWELT));
+        feedbackService.addComment(first.getId(), staffUser.getId(), "Kommentar 1");
+        feedbackService.addComment(first.getId(), staffUser.getId(), "Kommentar 2");
+
+        CommentBatchDTO batchDTO = new CommentBatchDTO();
+        batchDTO.feedbackIds = java.util.List.of(first.getId(), second.getId());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        // Act
+        ResponseEntity<Map> response = rest.postForEntity(
+                "/feedback/comments:batch", new HttpEntity<>(batchDTO, headers), Map.class);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(2, ((java.util.List<?>) response.getBody().get(first.getId().toString())).size());
+        assertTrue(((java.util.List<?>) response.getBody().get(second.getId().toString())).isEmpty());
+    }
+
+    @Test
+    void moderateFeedbacks_shouldReturn200AndResultPerOperation() {
+        // Arrange
+        Feedback feedback = feedbackService.createFeedback(createFeedbackDTO("Moderieren", Category.VERKEHR));
+
+        BulkOperationDTO publish = new BulkOperationDTO();
+        publish.id = feedback.getId();
+        publish.status = Status.INPROGRESS;
+        publish.publish = true;
+        BulkOperationDTO missing = new BulkOperationDTO();
+        missing.id = -1L;
+        missing.status = Status.DONE;
+        BulkModerationDTO bulkDTO = new BulkModerationDTO();
+        bulkDTO.operations = java.util.List.of(publish, missing);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        // Act
+        ResponseEntity<Map> response = rest.postForEntity(
+                "/feedback/bulk", new HttpEntity<>(bulkDTO, headers), Map.class);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().get("updated"));
+        assertEquals(1, response.getBody().get("failed"));
+        java.util.List<Map<String, Object>> items = (java.util.List<Map<String, Object>>) response.getBody().get("items");
+        assertEquals("UPDATED", items.get(0).get("outcome"));
+        assertEquals("INPROGRESS", items.get(0).get("status"));
+        assertEquals("NOT_FOUND", items.get(1).get("outcome"));
+        assertTrue(feedbackService.getFeedbackById(feedback.getId()).isPublished());
+    }
+
+    @Test
+    void getAllFeedbacksWithComments_shouldReturnFeedbacksIncludingComments() {
+        // Arrange
+        User staffUser = new User(new Email("staff@test.de"), new Password("Abcdef12"), UserRole.STAFF);
+        staffUser = userRepository.save(staffUser);
+
+        Feedback feedback = feedbackService.createFeedback(createFeedbackDTO("Mit Kommentar", Category.VERKEHR));
+        feedbackService.addComment(feedback.getId(), staffUser.getId(), "Kommentar");
+
+        // Act
+        ResponseEntity<Map[]> response = rest.getForEntity("/feedback?include=comments", Map[].class);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        Map<?, ?> item = java.util.Arrays.stream(response.getBody())
+                .filter(f -> feedback.getId().equals(((Number) f.get("id")).longValue()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("Mit Kommentar", item.get("title"));
+        assertEquals(1, ((java.util.List<?>) item.get("comments")).size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getFeedbackPageWithComments_shouldPageThroughAllFeedbacksIncludingComments() {
+        // Arrange
+        User staffUser = userRepository.save(new User(new Email("staff-page@test.de"), new Password("Abcdef12"), UserRole.STAFF));
+        Feedback first = feedbackService.createFeedback(createFeedbackDTO("Seite A", Category.VERKEHR));
+        Feedback second = feedbackService.createFeedback(createFeedbackDTO("Seite B", Category.UMWELT));
+        Feedback third = feedbackService.createFeedback(createFeedbackDTO("Seite C", Category.BELEUCHTUNG));
+        feedbackService.addComment(first.getId(), staffUser.getId(), "Kommentar");
+
+        // Act: Alle Seiten mit Seitengröße 2 durchlaufen
+        java.util.List<Map<String, Object>> items = new java.util.ArrayList<>();
+        String cursor = null;
+        do {
+            ResponseEntity<Map> response = rest.getForEntity("/feedback?include=comments&limit=2"
+                    + (cursor == null ? "" : "&after=" + cursor), Map.class);
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            java.util.List<Map<String, Object>> page = (java.util.List<Map<String, Object>>) response.getBody().get("items");
+            assertTrue(page.size() <= 2);
+            items.addAll(page);
+            cursor = (String) response.getBody().get("nextCursor");
+        } while (cursor != null);
+
+        // Assert
+        java.util.List<Long> ids = items.stream().map(f -> ((Number) f.get("id")).longValue()).toList();
+        assertEquals(ids.size(), ids.stream().distinct().count(), "Keine Duplikate über Seitengrenzen");
+        assertTrue(ids.containsAll(java.util.List.of(first.getId(), second.getId(), third.getId())));
+        Map<String, Object> withComment = items.stream()
+                .filter(f -> first.getId().equals(((Number) f.get("id")).longValue()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(1, ((java.util.List<?>) withComment.get("comments")).size());
+    }
+
     @Test
     void deleteFeedback_asAdmin_shouldReturn204() {
         // Arrange
@@ -259,7 +453,7 @@ class FeedbackControllerTest {
         Feedback feedback = feedbackService.createFeedback(dto);
 
         HttpHeaders headers = new HttpHeaders();
-        headers.set("X-Admin-Id", adminUser.getId().toString());
+        headers.setBearerAuth(accessTokenService.issue(adminUser).getToken());
 
         HttpEntity<Void> request = new HttpEntity<>(headers);
 
@@ -274,7 +468,138 @@ class FeedbackControllerTest {
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
     }
 
+    @Test
+    void searchFeedbacks_shouldFindCreatedFeedbackAndIgnoreDeletedOnes() {
+        // Arrange
+        User adminUser = new User(new Email("search-admin@test.de"), new Password("Abcdef12"), UserRole.ADMIN);
+        adminUser = userRepository.save(adminUser);
+        FeedbackDTO dto = createFeedbackDTO("Wasserrohrbruch am Marktplatz", Category.UMWELT);
+        dto.content = "Die Straße ist überflutet";
+        Feedback feedback = feedbackService.createFeedback(dto);
+
+        // Act: mit Tippfehler und ohne Umlaut
+        ResponseEntity<java.util.List> response = rest.getForEntity(
+                "/feedback/search?q=wasserrohrbrcuh strasse", java.util.List.class);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        Map<?, ?> first = (Map<?, ?>) response.getBody().get(0);
+        assertEquals(feedback.getId().intValue(), first.get("id"));
+        assertEquals("Wasserrohrbruch am Marktplatz", first.get("title"));
+        assertNotNull(first.get("score"));
+
+        // Act: nach dem Löschen nicht mehr auffindbar
+        feedbackService.deleteFeedback(new UserPrincipal(adminUser.getId(), adminUser.getRole()), feedback.getId());
+        ResponseEntity<java.util.List> afterDelete = rest.getForEntity(
+                "/feedback/search?q=wasserrohrbruch", java.util.List.class);
+
+        // Assert
+        assertEquals(HttpStatus.OK, afterDelete.getStatusCode());
+        assertTrue(afterDelete.getBody().isEmpty());
+    }
+
+    @Test
+    void searchFeedbacks_withBlankQuery_shouldReturn400() {
+        ResponseEntity<String> response = rest.getForEntity("/feedback/search?q= ", String.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
     // Hilfsmethode
+    @Test
+    void getPublishedFeedbacks_shouldReturnPublishedOnlyWithEtag() {
+        // Arrange
+        Feedback published = feedbackService.createFeedback(createFeedbackDTO("Öffentlich", Category.VERKEHR));
+        feedbackService.publishFeedback(published.getId());
+        feedbackService.createFeedback(createFeedbackDTO("Intern", Category.UMWELT));
+
+        // Act
+        ResponseEntity<Feedback[]> response = rest.getForEntity("/feedback/public", Feedback[].class);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getHeaders().getETag());
+        assertFalse(response.getHeaders().getETag().startsWith("W/"));
+        assertTrue(java.util.Arrays.stream(response.getBody()).allMatch(Feedback::isPublished));
+        assertTrue(java.util.Arrays.stream(response.getBody()).anyMatch(f -> f.getId().equals(published.getId())));
+        assertFalse(java.util.Arrays.stream(response.getBody()).anyMatch(f -> "Intern".equals(f.getTitle())));
+    }
+
+    @Test
+    void getPublishedFeedbacks_withMatchingIfNoneMatch_shouldReturn304UntilFeedChanges() {
+        // Arrange
+        Feedback feedback = feedbackService.createFeedback(createFeedbackDTO("Öffentlich", Category.VERKEHR));
+        feedbackService.publishFeedback(feedback.getId());
+        String etag = rest.getForEntity("/feedback/public", String.class).getHeaders().getETag();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+
+        // Act
+        ResponseEntity<String> notModified = rest.exchange(
+                "/feedback/public", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        feedbackService.updateFeedbackStatus(feedback.getId(), Status.INPROGRESS);
+        ResponseEntity<String> changed = rest.exchange(
+                "/feedback/public", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertNull(notModified.getBody());
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+        assertNotEquals(etag, changed.getHeaders().getETag());
+        assertTrue(changed.getBody().contains("INPROGRESS"));
+    }
+
+    @Test
+    void getPublishedFeedbacks_withGzipAcceptEncoding_shouldReturnCompressedJson() throws Exception {
+        // Arrange
+        Feedback feedback = feedbackService.createFeedback(createFeedbackDTO("Komprimiert", Category.VERKEHR));
+        feedbackService.publishFeedback(feedback.getId());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        // Act
+        ResponseEntity<byte[]> response = rest.exchange(
+                "/feedback/public", HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        try (java.util.zip.GZIPInputStream gzip = new java.util.zip.GZIPInputStream(
+                new java.io.ByteArrayInputStream(response.getBody()))) {
+            String json = new String(gzip.readAllBytes(), java.nio.charset.StandardCharsets.UTF_8);
+            assertTrue(json.contains("Komprimiert"));
+        }
+    }
+
+    @Test
+    void getPublishedFeedbacks_withGzipQualityZero_shouldReturnUncompressedJson() {
+        // Arrange
+        Feedback feedback = feedbackService.createFeedback(createFeedbackDTO("Unkomprimiert", Category.VERKEHR));
+        feedbackService.publishFeedback(feedback.getId());
+
+        for (String acceptEncoding : java.util.List.of("gzip;q=0.0", "gzip; q=0", "br, gzip;q=0.000", "gzip;q=abc")) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+
+            // Act
+            ResponseEntity<String> response = rest.exchange(
+                    "/feedback/public", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+            // Assert
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING), acceptEncoding);
+            assertTrue(response.getBody().contains("Unkomprimiert"), acceptEncoding);
+        }
+
+        HttpHeaders weighted = new HttpHeaders();
+        weighted.set(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.5");
+        ResponseEntity<byte[]> compressed = rest.exchange(
+                "/feedback/public", HttpMethod.GET, new HttpEntity<>(weighted), byte[].class);
+        assertEquals("gzip", compressed.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
     private FeedbackDTO createFeedbackDTO(String title, Category category) {
         FeedbackDTO dto = new FeedbackDTO();
         dto.userId = testUser.getId();
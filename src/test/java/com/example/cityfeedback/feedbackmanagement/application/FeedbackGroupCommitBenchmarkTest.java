@@ -0,0 +1,93 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
+import com.example.cityfeedback.usermanagement.domain.model.User;
+import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark für Lastspitzen: viele parallele Aufrufer legen Feedbacks an, einmal mit je einer
+ * Transaktion pro Aufruf (createFeedback), einmal über den Gruppen-Commit (submitFeedback).
+ *
+ * Läuft nicht im normalen Build, sondern nur über das Profil "benchmark":
+ * mvn test -Pbenchmark -Dtest=FeedbackGroupCommitBenchmarkTest -Dbenchmark.creates=20000 -Dbenchmark.callers=32
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "cityfeedback.group-commit.enabled=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=OFF",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=OFF",
+        "logging.level.com.example.cityfeedback=WARN",
+        "logging.level.com.example.cityfeedback.config.LoggingAspect=OFF"
+})
+class FeedbackGroupCommitBenchmarkTest {
+
+    private static final int CREATES = Integer.getInteger("benchmark.creates", 20_000);
+    private static final int CALLERS = Integer.getInteger("benchmark.callers", 32);
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void createsPerSecond_singleTransactionsVersusGroupCommit() throws Exception {
+        UUID userId = userRepository.save(new User(new Email("group-commit-benchmark@mail.de"),
+                new Password("Abcdef12"), UserRole.CITIZEN)).getId();
+        Consumer<FeedbackDTO> single = feedbackService::createFeedback;
+        Consumer<FeedbackDTO> grouped = dto -> feedbackService.submitFeedback(dto).join();
+
+        // Aufwärmen
+        run(userId, CREATES / 4, single);
+        run(userId, CREATES / 4, grouped);
+
+        double singleRate = run(userId, CREATES, single);
+        double groupedRate = run(userId, CREATES, grouped);
+
+        System.out.printf("%nAngelegte Feedbacks pro Sekunde (%d Aufrufe, %d parallele Aufrufer)%n", CREATES, CALLERS);
+        System.out.printf("%-36s %12.0f%n", "createFeedback (je eine Transaktion)", singleRate);
+        System.out.printf("%-36s %12.0f%n", "submitFeedback (Gruppen-Commit)", groupedRate);
+    }
+
+    private double run(UUID userId, int count, Consumer<FeedbackDTO> create) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<?>> futures = new ArrayList<>(count);
+            long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                FeedbackDTO dto = new FeedbackDTO();
+                dto.userId = userId;
+                dto.title = "Sturm " + i;
+                dto.category = Category.UMWELT;
+                dto.content = "Baum auf Fahrbahn " + i;
+                futures.add(executor.submit(() -> create.accept(dto)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            double rate = count / ((System.nanoTime() - start) / 1e9);
+            assertEquals(count, futures.size());
+            return rate;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import com.example.cityfeedback.feedbackmanagement.domain.model.Comment;
+import com.example.cityfeedback.feedbackmanagement.domain.model.Feedback;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.CommentRepository;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackRepository;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
+import com.example.cityfeedback.usermanagement.domain.exceptions.UnauthorizedException;
+import com.example.cityfeedback.usermanagement.domain.exceptions.UserNotFoundException;
+import com.example.cityfeedback.usermanagement.domain.model.User;
+import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "cityfeedback.group-commit.enabled=true",
+        "cityfeedback.group-commit.batch-size=20",
+        "cityfeedback.group-commit.max-delay=PT0.05S"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class FeedbackGroupCommitTest {
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User citizen;
+    private User staff;
+
+    @BeforeEach
+    void setUp() {
+        citizen = userRepository.save(new User(new Email("group-commit-citizen@mail.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+        staff = userRepository.save(new User(new Email("group-commit-staff@mail.de"), new Password("Abcdef12"), UserRole.STAFF));
+    }
+
+    @Test
+    void submitFeedback_concurrently_shouldCompleteEachCallerWithItsPersistedFeedback() throws Exception {
+        long totalBefore = feedbackService.getFeedbackStatistics().getTotalCount();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<CompletableFuture<Feedback>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 100; i++) {
+                FeedbackDTO dto = dto("Sturm " + i);
+                futures.add(CompletableFuture.supplyAsync(() -> feedbackService.submitFeedback(dto), executor)
+                        .thenCompose(future -> future));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < futures.size(); i++) {
+            Feedback saved = futures.get(i).get();
+            assertEquals("Sturm " + i, saved.getTitle());
+            assertTrue(ids.add(saved.getId()));
+            assertEquals("Sturm " + i, feedbackRepository.findById(saved.getId()).orElseThrow().getTitle());
+        }
+        assertEquals(totalBefore + 100, feedbackService.getFeedbackStatistics().getTotalCount());
+    }
+
+    @Test
+    void submitFeedback_shouldValidateBeforeQueueing() {
+        FeedbackDTO unknownUser = dto("Unbekannt");
+        unknownUser.userId = UUID.randomUUID();
+        FeedbackDTO missingTitle = dto(" ");
+
+        assertThrows(UserNotFoundException.class, () -> feedbackService.submitFeedback(unknownUser));
+        assertThrows(IllegalArgumentException.class, () -> feedbackService.submitFeedback(missingTitle));
+    }
+
+    @Test
+    void submitComment_shouldPersistAndCheckRole() throws Exception {
+        Feedback feedback = feedbackService.createFeedback(dto("Baum umgestürzt"));
+
+        Comment saved = feedbackService.submitComment(feedback.getId(), staff.getId(), "Ist beauftragt")
+                .get(10, TimeUnit.SECONDS);
+
+        assertNotNull(saved.getId());
+        assertEquals(List.of(saved.getId()), commentRepository.findByFeedbackId(feedback.getId()).stream()
+                .map(Comment::getId).toList());
+        assertThrows(UnauthorizedException.class,
+                () -> feedbackService.submitComment(feedback.getId(), citizen.getId(), "Darf ich nicht"));
+    }
+
+    @Test
+    void postFeedback_shouldReturnFeedbackWithIdAfterGroupCommit() {
+        ResponseEntity<Feedback> response = rest.postForEntity("/feedback", dto("Überflutung"), Feedback.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody().getId());
+        assertTrue(feedbackRepository.findById(response.getBody().getId()).isPresent());
+    }
+
+    @Test
+    void postFeedback_withUnknownUser_shouldReturn404WithoutQueueing() {
+        FeedbackDTO dto = dto("Unbekannt");
+        dto.userId = UUID.randomUUID();
+
+        ResponseEntity<String> response = rest.postForEntity("/feedback", dto, String.class);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    private FeedbackDTO dto(String title) {
+        FeedbackDTO dto = new FeedbackDTO();
+        dto.userId = citizen.getId();
+        dto.title = title;
+        dto.category = Category.UMWELT;
+        dto.content = "Inhalt";
+        return dto;
+    }
+}
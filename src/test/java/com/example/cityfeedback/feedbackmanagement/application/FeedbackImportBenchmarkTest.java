@@ -0,0 +1,118 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
+import com.example.cityfeedback.usermanagement.domain.model.User;
+import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark für den Feedback-Import: importierte Zeilen pro Sekunde (CSV und NDJSON)
+ * im Vergleich zu einzelnen Aufrufen von createFeedback.
+ *
+ * Läuft nicht im normalen Build, sondern nur über das Profil "benchmark":
+ * mvn test -Pbenchmark -Dtest=FeedbackImportBenchmarkTest -Dbenchmark.rows=100000
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=OFF",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=OFF",
+        "logging.level.com.example.cityfeedback=WARN",
+        "logging.level.com.example.cityfeedback.config.LoggingAspect=OFF"
+})
+class FeedbackImportBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 100_000);
+    private static final int USERS = 500;
+    private static final int SINGLE_CALLS = 2_000;
+
+    @Autowired
+    private FeedbackImportService feedbackImportService;
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void rowsPerSecond_importVersusSingleCreates() throws IOException {
+        List<UUID> userIds = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            userIds.add(userRepository.save(new User(new Email("import-benchmark" + i + "@mail.de"),
+                    new Password("Abcdef12"), UserRole.CITIZEN)).getId());
+        }
+        byte[] csv = csv(userIds, ROWS);
+        byte[] ndjson = ndjson(userIds, ROWS);
+
+        // Aufwärmen
+        runImport(csv(userIds, 20_000), FeedbackImportReader.Format.CSV);
+        createSingle(userIds, SINGLE_CALLS / 2);
+
+        FeedbackImportService.ImportReportDTO csvReport = runImport(csv, FeedbackImportReader.Format.CSV);
+        FeedbackImportService.ImportReportDTO ndjsonReport = runImport(ndjson, FeedbackImportReader.Format.NDJSON);
+        assertEquals(ROWS, csvReport.getImported());
+        assertEquals(ROWS, ndjsonReport.getImported());
+
+        long start = System.nanoTime();
+        createSingle(userIds, SINGLE_CALLS);
+        double singleRate = SINGLE_CALLS / ((System.nanoTime() - start) / 1e9);
+
+        System.out.printf("%nImportierte Zeilen pro Sekunde (%d Zeilen, %d User)%n", ROWS, USERS);
+        System.out.printf("%-28s %12d%n", "Import CSV", csvReport.getRowsPerSecond());
+        System.out.printf("%-28s %12d%n", "Import NDJSON", ndjsonReport.getRowsPerSecond());
+        System.out.printf("%-28s %12.0f%n", "createFeedback einzeln", singleRate);
+    }
+
+    private FeedbackImportService.ImportReportDTO runImport(byte[] input, FeedbackImportReader.Format format) throws IOException {
+        try (FeedbackImportReader reader = FeedbackImportReader.open(new ByteArrayInputStream(input), format)) {
+            return feedbackImportService.importFeedbacks(reader, progress -> { });
+        }
+    }
+
+    private void createSingle(List<UUID> userIds, int count) {
+        for (int i = 0; i < count; i++) {
+            FeedbackDTO dto = new FeedbackDTO();
+            dto.userId = userIds.get(i % userIds.size());
+            dto.title = "Einzeln " + i;
+            dto.category = Category.UMWELT;
+            dto.content = "Inhalt " + i;
+            feedbackService.createFeedback(dto);
+        }
+    }
+
+    private static byte[] csv(List<UUID> userIds, int rows) {
+        StringBuilder csv = new StringBuilder("userId,title,category,content,feedbackDate,status,published\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append(userIds.get(i % userIds.size())).append(",Altmeldung ").append(i)
+                    .append(",VERKEHR,\"Schlagloch, Hausnummer ").append(i).append("\",2019-06-01,DONE,false\n");
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] ndjson(List<UUID> userIds, int rows) {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            ndjson.append("{\"userId\":\"").append(userIds.get(i % userIds.size()))
+                    .append("\",\"title\":\"Altmeldung ").append(i)
+                    .append("\",\"category\":\"UMWELT\",\"content\":\"Müll an Haltestelle ").append(i)
+                    .append("\",\"feedbackDate\":\"2019-06-01\",\"status\":\"OPEN\",\"published\":false}\n");
+        }
+        return ndjson.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
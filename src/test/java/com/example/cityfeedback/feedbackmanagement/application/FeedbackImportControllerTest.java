@@ -0,0 +1,94 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import com.example.cityfeedback.usermanagement.application.AccessTokenService;
+import com.example.cityfeedback.usermanagement.domain.model.User;
+import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class FeedbackImportControllerTest {
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccessTokenService accessTokenService;
+
+    private User admin;
+    private User citizen;
+
+    @BeforeEach
+    void setUp() {
+        admin = userRepository.save(new User(new Email("import-controller-admin@mail.de"), new Password("Abcdef12"), UserRole.ADMIN));
+        citizen = userRepository.save(new User(new Email("import-controller-citizen@mail.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void postCsv_shouldReturnReport() {
+        String csv = "userId,title,category,content\n"
+                + citizen.getId() + ",Schlagloch,VERKEHR,Tief\n"
+                + citizen.getId() + ",Ohne Kategorie,,Inhalt\n";
+
+        ResponseEntity<Map> response = rest.postForEntity("/admin/feedback-import",
+                new HttpEntity<>(csv, headers(admin, "text/csv", MediaType.APPLICATION_JSON)), Map.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, response.getBody().get("processed"));
+        assertEquals(1, response.getBody().get("imported"));
+        assertEquals(Boolean.TRUE, response.getBody().get("done"));
+        List<Map<String, Object>> errors = (List<Map<String, Object>>) response.getBody().get("errors");
+        assertEquals(3, errors.get(0).get("line"));
+    }
+
+    @Test
+    void postNdjson_withNdjsonAccept_shouldStreamProgressAndReport() {
+        String ndjson = "{\"userId\":\"" + citizen.getId() + "\",\"title\":\"Graffiti\",\"category\":\"VANDALISMUS\",\"content\":\"Am Bahnhof\"}\n";
+
+        ResponseEntity<String> response = rest.postForEntity("/admin/feedback-import",
+                new HttpEntity<>(ndjson, headers(admin, MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_NDJSON)),
+                String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String[] lines = response.getBody().trim().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"done\":false"));
+        assertTrue(lines[1].contains("\"done\":true"));
+        assertTrue(lines[1].contains("\"imported\":1"));
+    }
+
+    @Test
+    void post_asCitizen_shouldReturn403() {
+        ResponseEntity<String> response = rest.postForEntity("/admin/feedback-import",
+                new HttpEntity<>("userId,title,category,content\n", headers(citizen, "text/csv", MediaType.APPLICATION_JSON)),
+                String.class);
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+    }
+
+    private HttpHeaders headers(User user, String contentType, MediaType accept) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessTokenService.issue(user).getToken());
+        headers.setContentType(MediaType.parseMediaType(contentType));
+        headers.setAccept(List.of(accept));
+        return headers;
+    }
+}
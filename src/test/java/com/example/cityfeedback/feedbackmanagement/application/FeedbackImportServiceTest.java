@@ -0,0 +1,151 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import com.example.cityfeedback.feedbackmanagement.domain.model.Feedback;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackRepository;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status;
+import com.example.cityfeedback.usermanagement.domain.exceptions.UnauthorizedException;
+import com.example.cityfeedback.usermanagement.domain.model.User;
+import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserPrincipal;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class FeedbackImportServiceTest {
+
+    @Autowired
+    private FeedbackImportService feedbackImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    private User admin;
+    private User citizen;
+    private static int userCounter = 0;
+
+    @BeforeEach
+    void setUp() {
+        int n = userCounter++;
+        admin = userRepository.save(new User(new Email("import-admin" + n + "@mail.de"), new Password("Abcdef12"), UserRole.ADMIN));
+        citizen = userRepository.save(new User(new Email("import-citizen" + n + "@mail.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+    }
+
+    @Test
+    void importFeedbacks_csv_shouldImportValidRowsAndReportInvalidLines() throws IOException {
+        String csv = "userId,title,category,content,feedbackDate,status,published\n"
+                + citizen.getId() + ",Laterne defekt,BELEUCHTUNG,\"Seit Tagen dunkel, bitte prüfen\",2020-05-01,DONE,true\n"
+                + citizen.getId() + ",\"Zitat \"\"Baustelle\"\"\",verkehr,\"Zeile eins\nZeile zwei\",,,\n"
+                + citizen.getId() + ",Falsche Kategorie,STRASSE,Inhalt,,,\n"
+                + UUID.randomUUID() + ",Unbekannter User,UMWELT,Inhalt,,,\n"
+                + citizen.getId() + ",Zu wenige Spalten\n"
+                + "\n"
+                + citizen.getId() + ",Geschlossen,UMWELT,Inhalt,2021-01-01,CLOSED,true\n";
+
+        FeedbackImportService.ImportReportDTO report = runImport(csv, FeedbackImportReader.Format.CSV);
+
+        assertEquals(6, report.getProcessed());
+        assertEquals(2, report.getImported());
+        assertEquals(4, report.getFailed());
+        assertTrue(report.isDone());
+        assertFalse(report.isErrorsTruncated());
+        // Zeilennummern beziehen sich auf die Datei (Kopfzeile = 1, mehrzeiliger Datensatz ab Zeile 3)
+        assertEquals(List.of(5L, 6L, 7L, 9L), report.getErrors().stream().map(FeedbackImportService.ImportErrorDTO::getLine).toList());
+
+        Map<String, Feedback> imported = feedbackRepository.findByUserId(citizen.getId()).stream()
+                .collect(Collectors.toMap(Feedback::getTitle, feedback -> feedback));
+        Feedback lamp = imported.get("Laterne defekt");
+        assertEquals("Seit Tagen dunkel, bitte prüfen", lamp.getContent());
+        assertEquals(LocalDate.of(2020, 5, 1), lamp.getFeedbackDate());
+        assertEquals(Status.DONE, lamp.getStatus());
+        assertTrue(lamp.isPublished());
+        Feedback quoted = imported.get("Zitat \"Baustelle\"");
+        assertEquals("Zeile eins\nZeile zwei", quoted.getContent());
+        assertEquals(Category.VERKEHR, quoted.getCategory());
+        assertEquals(Status.OPEN, quoted.getStatus());
+        assertEquals(LocalDate.now(), quoted.getFeedbackDate());
+        assertTrue(feedbackRepository.findById(lamp.getId()).isPresent());
+    }
+
+    @Test
+    void importFeedbacks_ndjson_shouldImportValidLines() throws IOException {
+        String ndjson = "{\"userId\":\"" + citizen.getId() + "\",\"title\":\"Müll\",\"category\":\"UMWELT\",\"content\":\"Voll\",\"published\":true}\n"
+                + "{kein json}\n"
+                + "{\"userId\":\"" + citizen.getId() + "\",\"title\":\"\",\"category\":\"UMWELT\",\"content\":\"Ohne Titel\"}\n"
+                + "{\"userId\":\"" + citizen.getId() + "\",\"title\":\"Ohne Kategorie\",\"category\":null,\"content\":\"Inhalt\"}\n";
+
+        FeedbackImportService.ImportReportDTO report = runImport(ndjson, FeedbackImportReader.Format.NDJSON);
+
+        assertEquals(4, report.getProcessed());
+        assertEquals(1, report.getImported());
+        assertEquals(List.of(2L, 3L, 4L), report.getErrors().stream().map(FeedbackImportService.ImportErrorDTO::getLine).toList());
+        assertEquals("Kategorie darf nicht leer sein.", report.getErrors().get(2).getMessage());
+        List<Feedback> imported = feedbackRepository.findByUserId(citizen.getId());
+        assertEquals(1, imported.size());
+        assertTrue(imported.get(0).isPublished());
+    }
+
+    @Test
+    void importFeedbacks_shouldReportProgressPerChunk() throws IOException {
+        StringBuilder csv = new StringBuilder("userId,title,category,content\n");
+        int rows = FeedbackImportService.CHUNK_SIZE * 2 + 500;
+        for (int i = 0; i < rows; i++) {
+            csv.append(citizen.getId()).append(",Titel ").append(i).append(",VERKEHR,Inhalt ").append(i).append('\n');
+        }
+        List<Long> processed = new ArrayList<>();
+
+        FeedbackImportService.ImportReportDTO report;
+        try (FeedbackImportReader reader = feedbackImportService.openImport(principal(admin), toStream(csv.toString()),
+                FeedbackImportReader.Format.CSV)) {
+            report = feedbackImportService.importFeedbacks(reader, progress -> processed.add(progress.getProcessed()));
+        }
+
+        assertEquals(List.of(1000L, 2000L, 2500L), processed);
+        assertEquals(rows, report.getImported());
+        assertEquals(rows, feedbackRepository.findByUserId(citizen.getId()).size());
+    }
+
+    @Test
+    void openImport_shouldRejectNonAdminsAndInvalidHeaders() {
+        assertThrows(UnauthorizedException.class, () -> feedbackImportService.openImport(
+                principal(citizen), toStream("userId,title,category,content\n"), FeedbackImportReader.Format.CSV));
+        assertThrows(IllegalArgumentException.class, () -> feedbackImportService.openImport(
+                principal(admin), toStream("userId,title,content\n"), FeedbackImportReader.Format.CSV));
+    }
+
+    private FeedbackImportService.ImportReportDTO runImport(String input, FeedbackImportReader.Format format) throws IOException {
+        try (FeedbackImportReader reader = feedbackImportService.openImport(principal(admin), toStream(input), format)) {
+            return feedbackImportService.importFeedbacks(reader, progress -> { });
+        }
+    }
+
+    private static ByteArrayInputStream toStream(String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static UserPrincipal principal(User user) {
+        return new UserPrincipal(user.getId(), user.getRole());
+    }
+}
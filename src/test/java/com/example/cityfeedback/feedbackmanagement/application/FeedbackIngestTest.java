@@ -0,0 +1,313 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import com.example.cityfeedback.feedbackmanagement.domain.model.Feedback;
+import com.example.cityfeedback.feedbackmanagement.domain.model.FeedbackSubmission;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackRepository;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackSubmissionRepository;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.SubmissionJournal;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.SubmissionStatus;
+import com.example.cityfeedback.feedbackmanagement.infrastructure.FileSubmissionJournal;
+import com.example.cityfeedback.usermanagement.domain.model.User;
+import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "cityfeedback.ingest.enabled=true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class FeedbackIngestTest {
+
+    private static final Path JOURNAL_DIR = createTempDirectory();
+
+    @DynamicPropertySource
+    static void journalDirectory(DynamicPropertyRegistry registry) {
+        registry.add("cityfeedback.ingest.journal-dir", JOURNAL_DIR::toString);
+    }
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private FeedbackIngest feedbackIngest;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private FeedbackSubmissionRepository submissionRepository;
+
+    @Autowired
+    private FeedbackStatisticsProjection statisticsProjection;
+
+    @Autowired
+    private FeedbackSearchIndex searchIndex;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User citizen;
+    private static int userCounter = 0;
+
+    @BeforeEach
+    void setUp() {
+        citizen = userRepository.save(new User(new Email("ingest-citizen" + (userCounter++) + "@mail.de"),
+                new Password("Abcdef12"), UserRole.CITIZEN));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void postWithRespondAsync_shouldReturn202AndApplyInBackground() {
+        ResponseEntity<Map> response = rest.postForEntity("/feedback", asyncRequest(dto("Ampel ausgefallen")), Map.class);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals("respond-async", response.getHeaders().getFirst("Preference-Applied"));
+        String token = (String) response.getBody().get("token");
+        assertEquals("/feedback/submissions/" + token, response.getHeaders().getLocation().toString());
+
+        Map<String, Object> status = awaitStatus(token, "APPLIED");
+        Long feedbackId = ((Number) status.get("feedbackId")).longValue();
+        assertEquals("Ampel ausgefallen", feedbackRepository.findById(feedbackId).orElseThrow().getTitle());
+    }
+
+    @Test
+    void postWithRespondAsync_shouldValidateSynchronously() {
+        FeedbackDTO unknownUser = dto("Unbekannt");
+        unknownUser.userId = UUID.randomUUID();
+
+        assertEquals(HttpStatus.BAD_REQUEST,
+                rest.postForEntity("/feedback", asyncRequest(dto(" ")), String.class).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND,
+                rest.postForEntity("/feedback", asyncRequest(unknownUser), String.class).getStatusCode());
+        assertEquals(0, feedbackIngest.getPendingCount());
+    }
+
+    @Test
+    void postWithoutPrefer_shouldStillCreateSynchronously() {
+        ResponseEntity<Map> response = rest.postForEntity("/feedback", dto("Sofort"), Map.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody().get("id"));
+    }
+
+    @Test
+    void getSubmission_withUnknownToken_shouldReturn404() {
+        ResponseEntity<String> response = rest.getForEntity("/feedback/submissions/" + UUID.randomUUID(), String.class);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    void start_shouldReplayUnprocessedJournalEntriesAndDeleteSegments() throws IOException {
+        FeedbackService.SubmissionDTO processed = feedbackService.submitFeedbackAsync(dto("Schon gespeichert"));
+        awaitStatus(processed.getToken().toString(), "APPLIED");
+        feedbackIngest.stop();
+
+        // Journal eines abgestürzten Laufs: eine offene Meldung, eine von einem inzwischen gelöschten User
+        FileSubmissionJournal crashed = new FileSubmissionJournal(JOURNAL_DIR, DataSize.ofMegabytes(1), objectMapper);
+        FeedbackSubmission open = new FeedbackSubmission(UUID.randomUUID(), LocalDateTime.now(), citizen.getId(),
+                "Aus dem Journal", Category.VERKEHR, "Inhalt");
+        FeedbackSubmission orphan = new FeedbackSubmission(UUID.randomUUID(), LocalDateTime.now(), UUID.randomUUID(),
+                "Ohne User", Category.VERKEHR, "Inhalt");
+        crashed.append(open);
+        crashed.append(orphan);
+        crashed.close();
+
+        feedbackIngest.start();
+
+        Map<String, Object> applied = awaitStatus(open.getToken().toString(), "APPLIED");
+        assertEquals("Aus dem Journal", feedbackRepository.findById(((Number) applied.get("feedbackId")).longValue())
+                .orElseThrow().getTitle());
+        assertEquals(SubmissionStatus.REJECTED, feedbackService.getSubmission(orphan.getToken()).getStatus());
+        assertEquals(1, feedbackRepository.findByUserId(citizen.getId()).stream()
+                .filter(feedback -> feedback.getTitle().equals("Schon gespeichert")).count());
+        awaitCondition(() -> segmentCount() == 0);
+    }
+
+    @Test
+    void submit_whenAppendClosesSegmentWhileAnotherSubmissionFinishes_shouldKeepSegmentUntilApplied() throws Exception {
+        // Segmentgröße so, dass die zweite Meldung das Segment abschließt
+        Path probeDirectory = Files.createTempDirectory("feedback-journal-probe");
+        FileSubmissionJournal probe = new FileSubmissionJournal(probeDirectory, DataSize.ofMegabytes(1), objectMapper);
+        long segment = probe.append(new FeedbackSubmission(UUID.randomUUID(), LocalDateTime.now(), citizen.getId(),
+                "Meldung A", Category.VERKEHR, "Inhalt"));
+        long lineBytes = Files.size(probeDirectory.resolve("segment-" + segment + ".ndjson"));
+        probe.close();
+
+        Path directory = Files.createTempDirectory("feedback-journal-roll");
+        InterceptingJournal journal = new InterceptingJournal(
+                new FileSubmissionJournal(directory, DataSize.ofBytes(lineBytes * 3 / 2), objectMapper));
+        FeedbackIngest ingest = new FeedbackIngest(journal, submissionRepository, feedbackRepository, userRepository,
+                statisticsProjection, searchIndex, transactionManager, true, 100, 10, Duration.ofSeconds(1));
+        ingest.start();
+        try {
+            FeedbackSubmission first = ingest.submit(feedback("Meldung A"));
+            awaitCondition(() -> ingest.getPendingCount() == 0);
+            Path firstSegment = directory.resolve("segment-" + journal.currentSegment() + ".ndjson");
+
+            // Während B das Segment abschließt, wird eine parallele Meldung C fertig und räumt Segmente auf
+            AtomicBoolean keptWhileClosing = new AtomicBoolean();
+            journal.afterAppend = () -> {
+                journal.afterAppend = () -> { };
+                Thread concurrent = new Thread(() -> ingest.submit(feedback("Meldung C")));
+                concurrent.start();
+                try {
+                    concurrent.join();
+                    awaitCondition(() -> ingest.getPendingCount() == 0);
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                keptWhileClosing.set(Files.exists(firstSegment));
+            };
+            FeedbackSubmission second = ingest.submit(feedback("Meldung B"));
+
+            assertTrue(keptWhileClosing.get(), "Segment mit unverarbeiteter Meldung wurde gelöscht");
+            for (FeedbackSubmission submission : List.of(first, second)) {
+                awaitCondition(() -> ingest.getStatus(submission.getToken()).getStatus() == SubmissionStatus.APPLIED);
+            }
+            awaitCondition(() -> !Files.exists(firstSegment));
+        } finally {
+            ingest.stop();
+        }
+    }
+
+    private Map<String, Object> awaitStatus(String token, String expected) {
+        Map<String, Object>[] last = new Map[1];
+        awaitCondition(() -> {
+            last[0] = rest.getForObject("/feedback/submissions/" + token, Map.class);
+            return expected.equals(last[0].get("status"));
+        });
+        return last[0];
+    }
+
+    private static void awaitCondition(Supplier<Boolean> condition) {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.get()) {
+            assertTrue(System.nanoTime() < deadline, "Bedingung nicht rechtzeitig erfüllt");
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            }
+        }
+    }
+
+    private static long segmentCount() {
+        try (Stream<Path> files = Files.list(JOURNAL_DIR)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("segment-")).count();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Path createTempDirectory() {
+        try {
+            return Files.createTempDirectory("feedback-journal");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Feedback feedback(String title) {
+        return Feedback.create(title, Category.VERKEHR, "Inhalt", citizen.getId());
+    }
+
+    private HttpEntity<FeedbackDTO> asyncRequest(FeedbackDTO dto) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Prefer", "respond-async");
+        return new HttpEntity<>(dto, headers);
+    }
+
+    private FeedbackDTO dto(String title) {
+        FeedbackDTO dto = new FeedbackDTO();
+        dto.userId = citizen.getId();
+        dto.title = title;
+        dto.category = Category.VERKEHR;
+        dto.content = "Inhalt";
+        return dto;
+    }
+
+    /**
+     * Journal, das nach dem Sichern einer Meldung (und ggf. Abschluss des Segments) einen Eingriff erlaubt.
+     */
+    private static class InterceptingJournal implements SubmissionJournal {
+        private final SubmissionJournal delegate;
+        private volatile Runnable afterAppend = () -> { };
+
+        private InterceptingJournal(SubmissionJournal delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public long append(FeedbackSubmission submission, LongConsumer onAppended) {
+            long segment = delegate.append(submission, onAppended);
+            afterAppend.run();
+            return segment;
+        }
+
+        @Override
+        public Map<Long, List<FeedbackSubmission>> readClosedSegments() {
+            return delegate.readClosedSegments();
+        }
+
+        @Override
+        public long currentSegment() {
+            return delegate.currentSegment();
+        }
+
+        @Override
+        public void release(long segment) {
+            delegate.release(segment);
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark für die Volltextsuche im InvertedIndex.
+ *
+ * Läuft nicht im normalen Build, sondern nur über das Profil "benchmark":
+ * mvn test -Pbenchmark -Dbenchmark.docs=1000000
+ *
+ * Baut einen Index mit synthetischen Feedbacks auf (Zipf-verteiltes Vokabular, damit es
+ * wie in echten Texten sehr häufige und sehr seltene Begriffe gibt) und misst die Latenz
+ * für häufige, seltene, vertippte und mehrteilige Suchanfragen (Median und p99).
+ */
+@Tag("benchmark")
+class FeedbackSearchBenchmarkTest {
+
+    private static final int DOCS = Integer.getInteger("benchmark.docs", 1_000_000);
+    private static final int VOCABULARY = 20_000;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    private static final String[] STEMS = {
+            "strasse", "laterne", "ampel", "radweg", "spielplatz", "muell", "baum", "bank", "brunnen",
+            "parkplatz", "haltestelle", "schlagloch", "graffiti", "laerm", "gehweg", "bruecke", "kreuzung",
+            "beleuchtung", "container", "hecke"
+    };
+
+    @Test
+    void queryLatency_atConfiguredIndexSize() {
+        String[] words = vocabulary();
+        double[] cumulative = zipf(VOCABULARY);
+
+        long buildStart = System.nanoTime();
+        InvertedIndex index = new InvertedIndex();
+        int batch = 10_000;
+        for (int from = 0; from < DOCS; from += batch) {
+            int start = from;
+            IntStream.range(start, Math.min(start + batch, DOCS)).parallel()
+                    .mapToObj(id -> document(id, words, cumulative))
+                    .toList()
+                    .forEach(index::put);
+        }
+        double buildSeconds = (System.nanoTime() - buildStart) / 1e9;
+
+        String[][] queries = {
+                {"häufiger Begriff", words[0]},
+                {"mittlerer Begriff", words[200]},
+                {"seltener Begriff", words[VOCABULARY - 1]},
+                {"Tippfehler", typo(words[1234])},
+                {"drei Begriffe", words[3] + " " + words[150] + " " + words[4000]},
+        };
+
+        System.out.printf("%nVolltextsuche bei %,d Dokumenten (Aufbau %.1f s)%n", DOCS, buildSeconds);
+        System.out.printf("%-20s %-32s %10s %10s %8s%n", "Anfrage", "Suchtext", "Median ms", "p99 ms", "Treffer");
+        for (String[] query : queries) {
+            long[] samples = measure(index, query[1]);
+            int hits = index.search(query[1], 20).size();
+            System.out.printf("%-20s %-32s %10.3f %10.3f %8d%n", query[0], query[1],
+                    samples[samples.length / 2] / 1e6, samples[samples.length * 99 / 100] / 1e6, hits);
+            assertTrue(hits > 0, query[1]);
+        }
+        assertEquals(DOCS, index.size());
+    }
+
+    private static long[] measure(InvertedIndex index, String query) {
+        for (int i = 0; i < WARMUP; i++) {
+            index.search(query, 20);
+        }
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            index.search(query, 20);
+            samples[i] = System.nanoTime() - start;
+        }
+        java.util.Arrays.sort(samples);
+        return samples;
+    }
+
+    private static InvertedIndex.Document document(int id, String[] words, double[] cumulative) {
+        Random random = new Random(id);
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            title.append(pick(words, cumulative, random)).append(' ');
+        }
+        StringBuilder content = new StringBuilder();
+        int length = 10 + random.nextInt(30);
+        for (int i = 0; i < length; i++) {
+            content.append(pick(words, cumulative, random)).append(' ');
+        }
+        return InvertedIndex.analyze(id, title.toString(), content.toString());
+    }
+
+    private static String[] vocabulary() {
+        List<String> words = new ArrayList<>(VOCABULARY);
+        for (int i = 0; words.size() < VOCABULARY; i++) {
+            words.add(STEMS[i % STEMS.length] + Integer.toString(i / STEMS.length, 26)
+                    .replace('0', 'q').replace('1', 'w').replace('2', 'x').replace('3', 'y')
+                    .replace('4', 'z').replace('5', 'u').replace('6', 'v').replace('7', 'j')
+                    .replace('8', 'k').replace('9', 'h'));
+        }
+        return words.toArray(String[]::new);
+    }
+
+    private static double[] zipf(int size) {
+        double[] cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            sum += 1.0 / rank;
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static String pick(String[] words, double[] cumulative, Random random) {
+        int index = java.util.Arrays.binarySearch(cumulative, random.nextDouble());
+        return words[Math.min(index < 0 ? -index - 1 : index, words.length - 1)];
+    }
+
+    private static String typo(String word) {
+        int i = word.length() / 2;
+        return word.substring(0, i) + word.charAt(i + 1) + word.charAt(i) + word.substring(i + 2);
+    }
+}
@@ -9,6 +9,7 @@ import com.example.cityfeedback.usermanagement.domain.model.User;
 import com.example.cityfeedback.usermanagement.domain.exceptions.UnauthorizedException;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserPrincipal;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,6 +36,12 @@ class FeedbackServiceTest {
     @Autowired
     private com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackRepository feedbackRepository;
 
+    @Autowired
+    private org.springframework.jdbc.core.JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private jakarta.persistence.EntityManager entityManager;
+
     private User testUser;
     private static int userCounter = 0;
 
@@ -70,8 +77,67 @@ class FeedbackServiceTest {
     }
 
     @Test
-    void getAllFeedbacks_shouldReturnList() {
-        assertNotNull(feedbackService.getAllFeedbacks());
+    @SuppressWarnings("deprecation")
+    void getAllFeedbacks_shouldReturnNewestFirstUpToUnpagedLimit() {
+        // Arrange
+        Feedback older = feedbackService.createFeedback(createFeedbackDTO("Älter", Category.VERKEHR));
+        Feedback newer = feedbackService.createFeedback(createFeedbackDTO("Neuer", Category.UMWELT));
+
+        // Act
+        List<Feedback> feedbacks = feedbackService.getAllFeedbacks();
+
+        // Assert
+        assertTrue(feedbacks.size() <= FeedbackService.UNPAGED_LIMIT);
+        List<Long> ids = feedbacks.stream().map(Feedback::getId).toList();
+        assertTrue(ids.contains(newer.getId()));
+        // Gleiches Datum: neuere IDs kommen zuerst
+        assertTrue(ids.indexOf(newer.getId()) < ids.indexOf(older.getId()));
+    }
+
+    @Test
+    void getFeedbackPage_shouldTraverseAllFeedbacksWithoutDuplicates() {
+        // Arrange
+        Feedback feedback1 = feedbackService.createFeedback(createFeedbackDTO("Seite 1", Category.VERKEHR));
+        Feedback feedback2 = feedbackService.createFeedback(createFeedbackDTO("Seite 2", Category.UMWELT));
+        Feedback feedback3 = feedbackService.createFeedback(createFeedbackDTO("Seite 3", Category.BELEUCHTUNG));
+
+        // Act: Alle Seiten mit Seitengröße 2 durchlaufen
+        List<Long> ids = new java.util.ArrayList<>();
+        String cursor = null;
+        do {
+            FeedbackService.FeedbackPageDTO page = feedbackService.getFeedbackPage(cursor, 2);
+            assertTrue(page.getItems().size() <= 2);
+            page.getItems().forEach(f -> ids.add(f.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(ids.size(), ids.stream().distinct().count(), "Keine Duplikate über Seitengrenzen");
+        assertTrue(ids.containsAll(List.of(feedback1.getId(), feedback2.getId(), feedback3.getId())));
+        // Gleiches Datum: neuere IDs kommen zuerst
+        assertTrue(ids.indexOf(feedback3.getId()) < ids.indexOf(feedback1.getId()));
+    }
+
+    @Test
+    void getFeedbackPage_withInvalidCursor_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> feedbackService.getFeedbackPage("kein-cursor", 10));
+    }
+
+    @Test
+    void getFeedbackPage_withInvalidLimit_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> feedbackService.getFeedbackPage(null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> feedbackService.getFeedbackPage(null, FeedbackService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void getCommentsByFeedbackIds_withTooManyIds_shouldThrow() {
+        List<Long> ids = java.util.stream.LongStream.rangeClosed(1, FeedbackService.UNPAGED_LIMIT + 1)
+                .boxed()
+                .toList();
+
+        assertThrows(IllegalArgumentException.class, () -> feedbackService.getCommentsByFeedbackIds(ids));
+        assertThrows(IllegalArgumentException.class, () -> feedbackService.getCommentsByFeedbackIds(null));
     }
 
     // ===================================================================
@@ -86,16 +152,16 @@ class FeedbackServiceTest {
 
         FeedbackDTO dto2 = createFeedbackDTO("Feedback 2", Category.UMWELT);
         Feedback feedback2 = feedbackService.createFeedback(dto2);
-        feedback2.updateStatus(Status.INPROGRESS);
-        feedbackRepository.save(feedback2);
+        feedbackService.updateFeedbackStatus(feedback2.getId(), Status.INPROGRESS);
 
         FeedbackDTO dto3 = createFeedbackDTO("Feedback 3", Category.BELEUCHTUNG);
         Feedback feedback3 = feedbackService.createFeedback(dto3);
-        feedback3.updateStatus(Status.CLOSED);
-        feedbackRepository.save(feedback3);
+        feedbackService.updateFeedbackStatus(feedback3.getId(), Status.CLOSED);
+        commitTestTransaction();
 
         // Act: Gruppierung nach Status
         Map<Status, Long> statistics = feedbackService.getFeedbackStatusStatistics();
+        feedbackService.deleteFeedbacksByUserId(testUser.getId());
 
         // Assert
         assertNotNull(statistics);
@@ -221,20 +287,20 @@ class FeedbackServiceTest {
         // Arrange
         FeedbackDTO dto1 = createFeedbackDTO("Feedback 1", Category.VERKEHR);
         Feedback feedback1 = feedbackService.createFeedback(dto1);
-        feedback1.publish();
-        feedbackRepository.save(feedback1);
+        feedbackService.publishFeedback(feedback1.getId());
 
         FeedbackDTO dto2 = createFeedbackDTO("Feedback 2", Category.UMWELT);
         Feedback feedback2 = feedbackService.createFeedback(dto2);
-        feedback2.publish();
-        feedback2.updateStatus(Status.CLOSED);
-        feedbackRepository.save(feedback2);
+        feedbackService.publishFeedback(feedback2.getId());
+        feedbackService.updateFeedbackStatus(feedback2.getId(), Status.CLOSED);
 
         FeedbackDTO dto3 = createFeedbackDTO("Feedback 3", Category.BELEUCHTUNG);
         feedbackService.createFeedback(dto3); // Nicht veröffentlicht
+        commitTestTransaction();
 
         // Act: Aggregation/Reduktion
         FeedbackService.FeedbackStatisticsDTO statistics = feedbackService.getFeedbackStatistics();
+        feedbackService.deleteFeedbacksByUserId(testUser.getId());
 
         // Assert
         assertNotNull(statistics);
@@ -414,6 +480,29 @@ class FeedbackServiceTest {
         assertTrue(published.isPublished());
     }
 
+    @Test
+    void getPublishedFeedbacksSnapshot_shouldBeRebuiltWhenPublishedFeedbacksChange() {
+        // Arrange
+        Feedback feedback = feedbackService.createFeedback(createFeedbackDTO("Öffentlich im Cache", Category.VERKEHR));
+        PublicFeedbackCache.Snapshot before = feedbackService.getPublishedFeedbacksSnapshot();
+        assertSame(before, feedbackService.getPublishedFeedbacksSnapshot());
+
+        // Act
+        feedbackService.publishFeedback(feedback.getId());
+        PublicFeedbackCache.Snapshot afterPublish = feedbackService.getPublishedFeedbacksSnapshot();
+        feedbackService.unpublishFeedback(feedback.getId());
+        PublicFeedbackCache.Snapshot afterUnpublish = feedbackService.getPublishedFeedbacksSnapshot();
+
+        // Assert
+        String json = new String(afterPublish.getJson(), java.nio.charset.StandardCharsets.UTF_8);
+        assertTrue(json.contains("Öffentlich im Cache"));
+        assertTrue(afterPublish.getVersion() > before.getVersion());
+        assertNotEquals(before.getEtag(), afterPublish.getEtag());
+        assertFalse(new String(afterUnpublish.getJson(), java.nio.charset.StandardCharsets.UTF_8)
+                .contains("Öffentlich im Cache"));
+        assertEquals(before.getEtag(), afterUnpublish.getEtag());
+    }
+
     @Test
     void unpublishFeedback_shouldSetPublishedToFalse() {
         // Arrange
@@ -431,6 +520,110 @@ class FeedbackServiceTest {
         assertFalse(unpublished.isPublished());
     }
 
+    @Test
+    void publishFeedback_whenClosedBehindCachedState_shouldThrowDomainError() {
+        // Arrange: Feedback liegt als OPEN im Cache, wird aber direkt in der Datenbank geschlossen
+        Feedback feedback = feedbackService.createFeedback(createFeedbackDTO("Veraltet", Category.VERKEHR));
+        assertEquals(Status.OPEN, feedbackService.getFeedbackById(feedback.getId()).getStatus());
+        changeStatusInDatabase(feedback.getId(), "CLOSED");
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+                feedbackService.publishFeedback(feedback.getId()));
+        assertEquals("Geschlossenes Feedback kann nicht veröffentlicht werden.", exception.getMessage());
+        assertEquals(Status.CLOSED, feedbackService.getFeedbackById(feedback.getId()).getStatus());
+    }
+
+    @Test
+    void publishFeedback_afterConcurrentStatusChange_shouldRetryAndKeepBothChanges() {
+        // Arrange: gleichzeitiger Statuswechsel (vertauschbar mit dem Veröffentlichen)
+        Feedback feedback = feedbackService.createFeedback(createFeedbackDTO("Parallel", Category.VERKEHR));
+        feedbackService.getFeedbackById(feedback.getId());
+        changeStatusInDatabase(feedback.getId(), "INPROGRESS");
+
+        // Act
+        Feedback published = feedbackService.publishFeedback(feedback.getId());
+
+        // Assert
+        assertTrue(published.isPublished());
+        assertEquals(Status.INPROGRESS, published.getStatus());
+        assertEquals(2, published.getVersion());
+    }
+
+    @Test
+    void updateFeedbackStatus_afterConcurrentStatusChange_shouldThrowConflict() {
+        // Arrange: gleichzeitiger Statuswechsel würde bei einer Wiederholung überschrieben
+        Feedback feedback = feedbackService.createFeedback(createFeedbackDTO("Konflikt", Category.VERKEHR));
+        feedbackService.getFeedbackById(feedback.getId());
+        changeStatusInDatabase(feedback.getId(), "DONE");
+
+        // Act & Assert
+        assertThrows(com.example.cityfeedback.feedbackmanagement.domain.exceptions.ConcurrentFeedbackModificationException.class,
+                () -> feedbackService.updateFeedbackStatus(feedback.getId(), Status.INPROGRESS));
+        assertEquals(Status.DONE, feedbackService.getFeedbackById(feedback.getId()).getStatus());
+    }
+
+    @Test
+    void moderateFeedbacks_shouldApplyValidOperationsAndReportEachItem() {
+        // Arrange
+        Feedback open = feedbackService.createFeedback(createFeedbackDTO("Offen", Category.VERKEHR));
+        Feedback closed = feedbackService.createFeedback(createFeedbackDTO("Geschlossen", Category.UMWELT));
+        feedbackService.updateFeedbackStatus(closed.getId(), Status.CLOSED);
+        Feedback twice = feedbackService.createFeedback(createFeedbackDTO("Zweimal", Category.VERKEHR));
+
+        List<BulkOperationDTO> operations = List.of(
+                bulkOperation(open.getId(), Status.INPROGRESS, true),
+                bulkOperation(closed.getId(), null, true),
+                bulkOperation(-1L, Status.DONE, null),
+                bulkOperation(twice.getId(), Status.DONE, null),
+                bulkOperation(twice.getId(), null, true),
+                bulkOperation(open.getId(), null, null));
+
+        // Act
+        FeedbackService.BulkModerationResultDTO result = feedbackService.moderateFeedbacks(operations);
+
+        // Assert
+        List<FeedbackService.BulkOutcome> outcomes = result.getItems().stream()
+                .map(FeedbackService.BulkItemResultDTO::getOutcome).toList();
+        assertEquals(List.of(FeedbackService.BulkOutcome.UPDATED, FeedbackService.BulkOutcome.REJECTED,
+                FeedbackService.BulkOutcome.NOT_FOUND, FeedbackService.BulkOutcome.UPDATED,
+                FeedbackService.BulkOutcome.UPDATED, FeedbackService.BulkOutcome.REJECTED), outcomes);
+        assertEquals(3, result.getUpdated());
+        assertEquals(3, result.getFailed());
+
+        Feedback storedOpen = feedbackService.getFeedbackById(open.getId());
+        assertEquals(Status.INPROGRESS, storedOpen.getStatus());
+        assertTrue(storedOpen.isPublished());
+        assertEquals(1, storedOpen.getVersion());
+        assertFalse(feedbackService.getFeedbackById(closed.getId()).isPublished());
+        Feedback storedTwice = feedbackService.getFeedbackById(twice.getId());
+        assertEquals(Status.DONE, storedTwice.getStatus());
+        assertTrue(storedTwice.isPublished());
+        assertEquals(1, storedTwice.getVersion());
+    }
+
+    @Test
+    void moderateFeedbacks_whenPartOfOperationIsRejected_shouldApplyNothingOfIt() {
+        // Arrange: Status wäre erlaubt, Veröffentlichen eines geschlossenen Feedbacks nicht
+        Feedback feedback = feedbackService.createFeedback(createFeedbackDTO("Teilweise", Category.VERKEHR));
+
+        // Act
+        FeedbackService.BulkModerationResultDTO result = feedbackService.moderateFeedbacks(
+                List.of(bulkOperation(feedback.getId(), Status.CLOSED, true)));
+
+        // Assert
+        assertEquals(FeedbackService.BulkOutcome.REJECTED, result.getItems().get(0).getOutcome());
+        assertEquals(Status.OPEN, feedbackService.getFeedbackById(feedback.getId()).getStatus());
+    }
+
+    private static BulkOperationDTO bulkOperation(Long id, Status status, Boolean publish) {
+        BulkOperationDTO operation = new BulkOperationDTO();
+        operation.id = id;
+        operation.status = status;
+        operation.publish = publish;
+        return operation;
+    }
+
     @Test
     void unpublishFeedback_whenNotPublished_shouldThrow() {
         // Arrange
@@ -463,7 +656,7 @@ class FeedbackServiceTest {
         Long feedbackId = feedback.getId();
 
         // Act
-        feedbackService.deleteFeedback(adminUser.getId(), feedbackId);
+        feedbackService.deleteFeedback(principal(adminUser), feedbackId);
 
         // Assert
         assertThrows(FeedbackNotFoundException.class,
@@ -477,7 +670,7 @@ class FeedbackServiceTest {
         // Arrange
         User staffUser = new User(new Email("staff@test.de"), new Password("Abcdef12"), UserRole.STAFF);
         staffUser = userRepository.save(staffUser);
-        final UUID staffUserId = staffUser.getId();
+        final UserPrincipal staffPrincipal = principal(staffUser);
 
         FeedbackDTO dto = createFeedbackDTO("Test Feedback", Category.VERKEHR);
         Feedback feedback = feedbackService.createFeedback(dto);
@@ -485,7 +678,7 @@ class FeedbackServiceTest {
 
         // Act & Assert
         assertThrows(UnauthorizedException.class,
-                () -> feedbackService.deleteFeedback(staffUserId, feedbackId));
+                () -> feedbackService.deleteFeedback(staffPrincipal, feedbackId));
     }
 
     @Test
@@ -493,14 +686,22 @@ class FeedbackServiceTest {
         // Arrange
         User adminUser = new User(new Email("admin@test.de"), new Password("Abcdef12"), UserRole.ADMIN);
         adminUser = userRepository.save(adminUser);
-        final UUID adminUserId = adminUser.getId();
+        final UserPrincipal adminPrincipal = principal(adminUser);
 
         // Act & Assert
         assertThrows(FeedbackNotFoundException.class,
-                () -> feedbackService.deleteFeedback(adminUserId, 99999L));
+                () -> feedbackService.deleteFeedback(adminPrincipal, 99999L));
     }
 
     // Hilfsmethode
+    /**
+     * Die Statistik-Projektion zählt Änderungen erst nach dem Commit.
+     */
+    private static void commitTestTransaction() {
+        org.springframework.test.context.transaction.TestTransaction.flagForCommit();
+        org.springframework.test.context.transaction.TestTransaction.end();
+    }
+
     private FeedbackDTO createFeedbackDTO(String title, Category category) {
         FeedbackDTO dto = new FeedbackDTO();
         dto.userId = testUser.getId();
@@ -509,4 +710,17 @@ class FeedbackServiceTest {
         dto.content = "Test Content";
         return dto;
     }
+
+    /**
+     * Simuliert eine gleichzeitige Änderung direkt in der Datenbank, am Service und Cache vorbei.
+     * Vorher wird geflusht, da INSERTs mit Sequenz-IDs erst beim Flush ausgeführt werden.
+     */
+    private void changeStatusInDatabase(Long feedbackId, String status) {
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE feedbacks SET status = ?, version = version + 1 WHERE id = ?", status, feedbackId);
+    }
+
+    private static UserPrincipal principal(User user) {
+        return new UserPrincipal(user.getId(), user.getRole());
+    }
 }
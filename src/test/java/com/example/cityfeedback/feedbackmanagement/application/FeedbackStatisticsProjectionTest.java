@@ -0,0 +1,192 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import com.example.cityfeedback.feedbackmanagement.domain.model.Feedback;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackRepository;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.FeedbackStatistics;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status;
+import com.example.cityfeedback.usermanagement.domain.model.User;
+import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+class FeedbackStatisticsProjectionTest {
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private FeedbackStatisticsProjection projection;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User testUser;
+    private static int userCounter = 0;
+
+    @BeforeEach
+    void setUp() {
+        String uniqueEmail = "projection-test" + (userCounter++) + "@mail.de";
+        testUser = userRepository.save(new User(new Email(uniqueEmail), new Password("Abcdef12"), UserRole.CITIZEN));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Einige Tests schreiben am Service vorbei; die geteilte Projektion wieder abgleichen
+        projection.reconcile();
+    }
+
+    @Test
+    void serviceWrites_shouldKeepProjectionInSyncWithDatabase() {
+        // Arrange & Act
+        Feedback open = feedbackService.createFeedback(createFeedbackDTO("Offen"));
+        Feedback published = feedbackService.createFeedback(createFeedbackDTO("Veröffentlicht"));
+        feedbackService.publishFeedback(published.getId());
+        Feedback closed = feedbackService.createFeedback(createFeedbackDTO("Geschlossen"));
+        feedbackService.publishFeedback(closed.getId());
+        feedbackService.updateFeedbackStatus(closed.getId(), Status.CLOSED);
+        feedbackService.updateFeedbackStatus(open.getId(), Status.INPROGRESS);
+        feedbackService.deleteFeedbacksByUserId(java.util.UUID.randomUUID());
+
+        // Assert: Projektion entspricht der Aggregation in der Datenbank
+        assertStatisticsEqual(feedbackRepository.aggregateStatistics(), projection.getStatistics());
+        assertEquals(feedbackRepository.countByStatus(), projection.getStatusCounts());
+
+        // Löschen aller Feedbacks des Users
+        feedbackService.deleteFeedbacksByUserId(testUser.getId());
+        assertStatisticsEqual(feedbackRepository.aggregateStatistics(), projection.getStatistics());
+    }
+
+    @Test
+    void rolledBackWrite_shouldNotBeCounted() {
+        // Arrange
+        FeedbackStatistics before = projection.getStatistics();
+
+        // Act: Feedback in einer Transaktion anlegen, die zurückgerollt wird
+        transactionTemplate.executeWithoutResult(status -> {
+            feedbackService.createFeedback(createFeedbackDTO("Wird zurückgerollt"));
+            // Vor dem Commit noch nicht gezählt
+            assertEquals(before.getTotalCount(), projection.getStatistics().getTotalCount());
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertStatisticsEqual(before, projection.getStatistics());
+    }
+
+    @Test
+    void reconcile_shouldCorrectDrift() {
+        // Arrange: Schreibzugriff am Service vorbei
+        Feedback feedback = Feedback.create("Direkt gespeichert", Category.UMWELT, "Inhalt", testUser.getId());
+        feedbackRepository.save(feedback);
+        assertNotEquals(feedbackRepository.aggregateStatistics().getTotalCount(),
+                projection.getStatistics().getTotalCount());
+
+        // Act
+        projection.reconcile();
+
+        // Assert
+        assertStatisticsEqual(feedbackRepository.aggregateStatistics(), projection.getStatistics());
+    }
+
+    @Test
+    void reconcile_shouldCountChangeCommittedDuringReadExactlyOnce() throws Exception {
+        // Arrange: Ein paralleler Schreiber will committen, während der Abgleich die Datenbank liest
+        FeedbackStatisticsProjection[] reconciling = new FeedbackStatisticsProjection[1];
+        Thread[] writer = new Thread[1];
+        FeedbackRepository repository = (FeedbackRepository) java.lang.reflect.Proxy.newProxyInstance(
+                FeedbackRepository.class.getClassLoader(), new Class<?>[]{FeedbackRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("countByStatusPublishedAndDate")) {
+                        writer[0] = startWriter(reconciling[0]);
+                        awaitBlocked(writer[0]);
+                    }
+                    return method.invoke(feedbackRepository, args);
+                });
+        reconciling[0] = new FeedbackStatisticsProjection(repository, transactionManager);
+        long totalBefore = feedbackRepository.aggregateStatistics().getTotalCount();
+
+        // Act
+        reconciling[0].reconcile();
+        writer[0].join(10_000);
+
+        // Assert: genau einmal gezählt, weder im gelesenen Stand noch doppelt
+        assertFalse(writer[0].isAlive());
+        assertEquals(totalBefore + 1, feedbackRepository.aggregateStatistics().getTotalCount());
+        assertStatisticsEqual(feedbackRepository.aggregateStatistics(), reconciling[0].getStatistics());
+        assertEquals(feedbackRepository.countByStatus(), reconciling[0].getStatusCounts());
+    }
+
+    @Test
+    void reconcile_shouldIncludeChangeCommittedBeforeReadExactlyOnce() {
+        // Arrange: Änderung committet und angewendet, bevor der Abgleich liest
+        FeedbackStatisticsProjection fresh = new FeedbackStatisticsProjection(feedbackRepository, transactionManager);
+        fresh.reconcile();
+        transactionTemplate.executeWithoutResult(status -> fresh.recordCreated(feedbackRepository.save(
+                Feedback.create("Vor dem Abgleich", Category.UMWELT, "Inhalt", testUser.getId()))));
+
+        // Act
+        fresh.reconcile();
+
+        // Assert
+        assertStatisticsEqual(feedbackRepository.aggregateStatistics(), fresh.getStatistics());
+        assertEquals(feedbackRepository.countByStatus(), fresh.getStatusCounts());
+    }
+
+    private Thread startWriter(FeedbackStatisticsProjection target) {
+        Feedback concurrent = Feedback.create("Während des Abgleichs", Category.UMWELT, "Inhalt", testUser.getId());
+        Thread thread = new Thread(() -> transactionTemplate.executeWithoutResult(
+                status -> target.recordCreated(feedbackRepository.save(concurrent))));
+        thread.start();
+        return thread;
+    }
+
+    private static void awaitBlocked(Thread thread) throws InterruptedException {
+        // Der Schreiber wartet beim Commit auf den Read-Lock, solange der Abgleich liest
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(Thread.State.WAITING, thread.getState());
+    }
+
+    private void assertStatisticsEqual(FeedbackStatistics expected, FeedbackStatistics actual) {
+        assertEquals(expected.getTotalCount(), actual.getTotalCount());
+        assertEquals(expected.getPublishedCount(), actual.getPublishedCount());
+        assertEquals(expected.getClosedCount(), actual.getClosedCount());
+        assertEquals(expected.getOpenCount(), actual.getOpenCount());
+        assertEquals(expected.getOldestDate(), actual.getOldestDate());
+        assertEquals(expected.getNewestDate(), actual.getNewestDate());
+    }
+
+    private FeedbackDTO createFeedbackDTO(String title) {
+        FeedbackDTO dto = new FeedbackDTO();
+        dto.userId = testUser.getId();
+        dto.title = title;
+        dto.category = Category.VERKEHR;
+        dto.content = "Test Content";
+        return dto;
+    }
+}
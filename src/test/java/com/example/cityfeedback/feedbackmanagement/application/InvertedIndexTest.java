@@ -0,0 +1,139 @@
+package com.example.cityfeedback.feedbackmanagement.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    @Test
+    void tokenize_shouldFoldUmlautsAndRemoveStopWords() {
+        assertEquals(List.of("strasse", "gruenen", "laterne", "kaputt"),
+                GermanTextAnalyzer.tokenize("Die Straße an der grünen Laterne ist KAPUTT!"));
+        assertEquals(GermanTextAnalyzer.tokenize("Strasse"), GermanTextAnalyzer.tokenize("STRASSE"));
+        assertEquals(List.of("cafe"), GermanTextAnalyzer.tokenize("Café"));
+        assertTrue(GermanTextAnalyzer.tokenize(null).isEmpty());
+    }
+
+    @Test
+    void search_shouldRankTitleMatchesAndFrequentTermsHigher() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(InvertedIndex.analyze(1, "Laterne defekt", "Seit Tagen dunkel"));
+        index.put(InvertedIndex.analyze(2, "Schlagloch", "Neben der Laterne ist ein Schlagloch"));
+        index.put(InvertedIndex.analyze(3, "Müll im Park", "Überfüllte Mülleimer"));
+
+        List<InvertedIndex.Hit> hits = index.search("laterne", 10);
+
+        assertEquals(List.of(1L, 2L), hits.stream().map(InvertedIndex.Hit::getFeedbackId).toList());
+        assertTrue(hits.get(0).getScore() > hits.get(1).getScore());
+    }
+
+    @Test
+    void search_shouldTolerateTyposAndUmlautSpellings() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(InvertedIndex.analyze(1, "Straßenbeleuchtung ausgefallen", "Hauptstraße komplett dunkel"));
+        index.put(InvertedIndex.analyze(2, "Parkbank beschädigt", "Lehne abgebrochen"));
+
+        assertEquals(1L, index.search("strassenbeleuchtung", 10).get(0).getFeedbackId());
+        assertEquals(1L, index.search("Strassenbeleuchtnug", 10).get(0).getFeedbackId());
+        assertEquals(2L, index.search("beschaedigt", 10).get(0).getFeedbackId());
+        assertTrue(index.search("fahrrad", 10).isEmpty());
+    }
+
+    @Test
+    void putAndRemove_shouldReplaceAndDeleteDocuments() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(InvertedIndex.analyze(1, "Ampel", "Ampel blinkt"));
+        index.put(InvertedIndex.analyze(1, "Baum", "Baum umgestürzt"));
+        index.put(InvertedIndex.analyze(2, "Ampel", "Ampel ausgefallen"));
+
+        assertEquals(List.of(2L), index.search("ampel", 10).stream().map(InvertedIndex.Hit::getFeedbackId).toList());
+        assertEquals(1L, index.search("baum", 10).get(0).getFeedbackId());
+
+        index.remove(2);
+
+        assertTrue(index.search("ampel", 10).isEmpty());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void search_shouldReturnAtMostLimitHitsInScoreOrder() {
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 1; id <= 50; id++) {
+            index.put(InvertedIndex.analyze(id, "Lärm", "Lärm ".repeat((int) id % 7 + 1) + "Nachbarschaft"));
+        }
+
+        List<InvertedIndex.Hit> hits = index.search("lärm", 5);
+
+        assertEquals(5, hits.size());
+        for (int i = 1; i < hits.size(); i++) {
+            assertTrue(hits.get(i - 1).getScore() >= hits.get(i).getScore());
+        }
+    }
+
+    @Test
+    void search_withPruning_shouldReturnSameTopHitsAsFullEvaluation() {
+        InvertedIndex index = new InvertedIndex();
+        String[] words = {"ampel", "baum", "radweg", "laterne", "brunnen", "spielplatz", "gehweg", "bruecke"};
+        java.util.Random random = new java.util.Random(42);
+        for (long id = 1; id <= 2000; id++) {
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < 5 + random.nextInt(20); i++) {
+                // Schiefe Verteilung: "ampel" sehr häufig, "bruecke" selten
+                content.append(words[(int) (words.length * Math.pow(random.nextDouble(), 3))]).append(' ');
+            }
+            index.put(InvertedIndex.analyze(id, words[random.nextInt(words.length)], content.toString()));
+        }
+
+        for (String query : List.of("ampel", "ampel bruecke", "ampel baum gehweg bruecke", "laterne brunen")) {
+            List<InvertedIndex.Hit> all = index.search(query, 5000);
+            List<InvertedIndex.Hit> top = index.search(query, 10);
+
+            assertEquals(all.subList(0, 10).stream().map(InvertedIndex.Hit::getFeedbackId).toList(),
+                    top.stream().map(InvertedIndex.Hit::getFeedbackId).toList(), query);
+        }
+    }
+
+    @Test
+    void search_afterDeletingMostMatches_shouldKeepScoresPositiveAndOrdered() {
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 1; id <= 100; id++) {
+            index.put(InvertedIndex.analyze(id, "Graffiti", "Graffiti ".repeat((int) id % 5 + 1) + "an der Wand"));
+        }
+        index.put(InvertedIndex.analyze(1000, "Baum", "Ast abgebrochen"));
+        for (long id = 1; id <= 97; id++) {
+            index.remove(id);
+        }
+
+        List<InvertedIndex.Hit> hits = index.search("graffiti", 10);
+
+        assertEquals(List.of(99L, 98L, 100L), hits.stream().map(InvertedIndex.Hit::getFeedbackId).toList());
+        for (int i = 0; i < hits.size(); i++) {
+            assertTrue(hits.get(i).getScore() > 0, "Score " + hits.get(i).getScore());
+            if (i > 0) {
+                assertTrue(hits.get(i - 1).getScore() > hits.get(i).getScore());
+            }
+        }
+    }
+
+    @Test
+    void remove_whenMostDocumentsAreDeleted_shouldCompactIndex() {
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 1; id <= 3000; id++) {
+            index.put(InvertedIndex.analyze(id, id % 2 == 0 ? "Ampel" : "Wasserrohrbruch", "Meldung " + id));
+        }
+        for (long id = 1; id <= 2000; id++) {
+            index.remove(id);
+        }
+
+        assertEquals(1000, index.size());
+        assertTrue(index.tombstones() < 1024, "Tombstones: " + index.tombstones());
+        List<InvertedIndex.Hit> hits = index.search("ampel", 1000);
+        assertEquals(500, hits.size());
+        assertTrue(hits.stream().allMatch(hit -> hit.getFeedbackId() > 2000 && hit.getFeedbackId() % 2 == 0));
+        assertEquals(2999L, index.search("wasserrohrbruch 2999", 1).get(0).getFeedbackId());
+        assertEquals(2999L, index.search("wasserrohrbruhc 2999", 1).get(0).getFeedbackId());
+    }
+}
@@ -4,6 +4,7 @@ import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
 import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -109,4 +110,34 @@ class FeedbackTest {
         assertThrows(IllegalArgumentException.class, 
             () -> Feedback.create("Title", Category.VERKEHR, "", userId));
     }
+
+    @Test
+    void importHistorical_shouldKeepDateStatusAndPublication() {
+        UUID userId = UUID.randomUUID();
+        LocalDate date = LocalDate.of(2019, 3, 14);
+
+        Feedback feedback = Feedback.importHistorical("Alt", Category.VERKEHR, "Content", userId,
+                date, Status.INPROGRESS, true);
+
+        assertEquals(date, feedback.getFeedbackDate());
+        assertEquals(Status.INPROGRESS, feedback.getStatus());
+        assertTrue(feedback.isPublished());
+        assertNull(feedback.getId());
+    }
+
+    @Test
+    void importHistorical_withFutureDateOrPublishedClosed_shouldThrow() {
+        UUID userId = UUID.randomUUID();
+
+        assertThrows(IllegalArgumentException.class, () -> Feedback.importHistorical("Alt", Category.VERKEHR,
+                "Content", userId, LocalDate.now().plusDays(1), null, false));
+        assertThrows(IllegalStateException.class, () -> Feedback.importHistorical("Alt", Category.VERKEHR,
+                "Content", userId, null, Status.CLOSED, true));
+        assertThrows(IllegalArgumentException.class, () -> Feedback.importHistorical(" ", Category.VERKEHR,
+                "Content", userId, null, null, false));
+        assertThrows(IllegalArgumentException.class, () -> Feedback.importHistorical("Alt", null,
+                "Content", userId, null, null, false));
+        assertThrows(IllegalArgumentException.class, () -> Feedback.importHistorical("Alt", Category.VERKEHR,
+                "Content", null, null, null, false));
+    }
 }
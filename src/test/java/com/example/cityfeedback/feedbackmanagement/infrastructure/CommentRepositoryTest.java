@@ -16,7 +16,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -64,6 +66,17 @@ class CommentRepositoryTest {
         assertNotNull(saved.getCreatedAt());
     }
 
+    @Test
+    void saveAll_shouldPersistCommentsInOrderWithIds() {
+        List<Comment> saved = commentRepository.saveAll(List.of(
+                new Comment(testFeedback.getId(), testUser.getId(), "Erster"),
+                new Comment(testFeedback.getId(), testUser.getId(), "Zweiter")));
+
+        assertEquals(List.of("Erster", "Zweiter"), saved.stream().map(Comment::getContent).toList());
+        assertTrue(saved.stream().allMatch(comment -> comment.getId() != null));
+        assertEquals(2, commentRepository.findByFeedbackId(testFeedback.getId()).size());
+    }
+
     @Test
     void findByFeedbackId_shouldReturnCommentsForFeedback() {
         // Arrange
@@ -126,6 +139,49 @@ class CommentRepositoryTest {
         assertTrue(comments.isEmpty());
     }
 
+    @Test
+    void findByFeedbackIds_shouldGroupCommentsPerFeedback() {
+        // Arrange
+        commentRepository.save(new Comment(testFeedback.getId(), testUser.getId(), "Erster Kommentar"));
+        commentRepository.save(new Comment(testFeedback.getId(), testUser.getId(), "Zweiter Kommentar"));
+
+        Feedback otherFeedback = Feedback.create("Anderes Feedback", Category.UMWELT, "Content", testUser.getId());
+        otherFeedback = feedbackRepository.save(otherFeedback);
+        commentRepository.save(new Comment(otherFeedback.getId(), testUser.getId(), "Anderer Kommentar"));
+
+        Feedback withoutComments = Feedback.create("Ohne Kommentare", Category.UMWELT, "Content", testUser.getId());
+        withoutComments = feedbackRepository.save(withoutComments);
+
+        // Act
+        Map<Long, List<Comment>> comments = commentRepository.findByFeedbackIds(
+                List.of(testFeedback.getId(), otherFeedback.getId(), withoutComments.getId()));
+
+        // Assert
+        assertEquals(3, comments.size());
+        assertEquals(List.of("Erster Kommentar", "Zweiter Kommentar"),
+                comments.get(testFeedback.getId()).stream().map(Comment::getContent).toList());
+        assertEquals(1, comments.get(otherFeedback.getId()).size());
+        assertTrue(comments.get(withoutComments.getId()).isEmpty());
+    }
+
+    @Test
+    void findByFeedbackIds_withMoreIdsThanChunkSize_shouldQueryAllChunks() {
+        // Arrange
+        commentRepository.save(new Comment(testFeedback.getId(), testUser.getId(), "Kommentar"));
+        List<Long> ids = new ArrayList<>();
+        for (long id = -CommentRepositoryImpl.IN_CLAUSE_CHUNK_SIZE; id < 0; id++) {
+            ids.add(id);
+        }
+        ids.add(testFeedback.getId());
+
+        // Act
+        Map<Long, List<Comment>> comments = commentRepository.findByFeedbackIds(ids);
+
+        // Assert
+        assertEquals(ids.size(), comments.size());
+        assertEquals(1, comments.get(testFeedback.getId()).size());
+    }
+
     @Test
     void deleteByFeedbackId_shouldDeleteAllCommentsForFeedback() {
         // Arrange
@@ -152,5 +208,29 @@ class CommentRepositoryTest {
         List<Comment> otherComments = commentRepository.findByFeedbackId(otherFeedback.getId());
         assertEquals(1, otherComments.size());
     }
-}
 
+    @Test
+    void deleteByFeedbackUserIds_shouldDeleteCommentsOnAllFeedbacksOfUsers() {
+        // Arrange
+        Feedback secondFeedback = feedbackRepository.save(
+                Feedback.create("Zweites Feedback", Category.UMWELT, "Content", testUser.getId()));
+        commentRepository.save(new Comment(testFeedback.getId(), testUser.getId(), "Kommentar 1"));
+        commentRepository.save(new Comment(secondFeedback.getId(), testUser.getId(), "Kommentar 2"));
+
+        User otherUser = userRepository.save(
+                new User(new Email("other-author@mail.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+        Feedback otherFeedback = feedbackRepository.save(
+                Feedback.create("Fremdes Feedback", Category.VERKEHR, "Content", otherUser.getId()));
+        // Kommentar des Users auf einem fremden Feedback bleibt erhalten
+        commentRepository.save(new Comment(otherFeedback.getId(), testUser.getId(), "Fremder Kommentar"));
+
+        // Act
+        int deleted = commentRepository.deleteByFeedbackUserIds(List.of(testUser.getId()));
+
+        // Assert
+        assertEquals(2, deleted);
+        assertTrue(commentRepository.findByFeedbackId(testFeedback.getId()).isEmpty());
+        assertTrue(commentRepository.findByFeedbackId(secondFeedback.getId()).isEmpty());
+        assertEquals(1, commentRepository.findByFeedbackId(otherFeedback.getId()).size());
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.cityfeedback.feedbackmanagement.infrastructure;
+
+import com.example.cityfeedback.feedbackmanagement.application.FeedbackDTO;
+import com.example.cityfeedback.feedbackmanagement.application.FeedbackService;
+import com.example.cityfeedback.feedbackmanagement.domain.model.Feedback;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackRepository;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status;
+import com.example.cityfeedback.feedbackmanagement.infrastructure.persistence.CommentEntity;
+import com.example.cityfeedback.feedbackmanagement.infrastructure.persistence.CommentJpaRepository;
+import com.example.cityfeedback.feedbackmanagement.infrastructure.persistence.FeedbackEntity;
+import com.example.cityfeedback.feedbackmanagement.infrastructure.persistence.FeedbackJpaRepository;
+import com.example.cityfeedback.usermanagement.domain.model.User;
+import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark für das Einfügen von Feedbacks und Kommentaren: Einzelaufrufe (je eine Transaktion)
+ * sowie Massenpfade (saveAll in einer Transaktion über JPA, insertAll per JDBC-Batch).
+ *
+ * Läuft nicht im normalen Build, sondern nur über das Profil "benchmark":
+ * mvn test -Pbenchmark -Dtest=FeedbackInsertBenchmarkTest -Dbenchmark.inserts=20000
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=OFF",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=OFF",
+        "logging.level.com.example.cityfeedback=WARN",
+        "logging.level.com.example.cityfeedback.config.LoggingAspect=OFF"
+})
+class FeedbackInsertBenchmarkTest {
+
+    private static final int INSERTS = Integer.getInteger("benchmark.inserts", 20_000);
+    private static final int SINGLE_CALLS = 2_000;
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private FeedbackJpaRepository feedbackJpaRepository;
+
+    @Autowired
+    private CommentJpaRepository commentJpaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void insertsPerSecond_singleCallsAndBulkPaths() {
+        User staff = userRepository.save(new User(new Email("insert-benchmark@mail.de"), new Password("Abcdef12"), UserRole.STAFF));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Aufwärmen
+        createFeedbacks(staff.getId(), SINGLE_CALLS / 2);
+        Long warmupFeedbackId = feedbackRepository.findByUserId(staff.getId()).get(0).getId();
+        addComments(warmupFeedbackId, staff.getId(), SINGLE_CALLS / 2);
+        transaction.executeWithoutResult(status -> feedbackJpaRepository.saveAll(feedbackEntities(staff.getId(), INSERTS / 4)));
+        feedbackRepository.insertAll(feedbacks(staff.getId(), INSERTS / 4));
+
+        long start = System.nanoTime();
+        createFeedbacks(staff.getId(), SINGLE_CALLS);
+        double createRate = rate(SINGLE_CALLS, start);
+
+        start = System.nanoTime();
+        addComments(warmupFeedbackId, staff.getId(), SINGLE_CALLS);
+        double commentRate = rate(SINGLE_CALLS, start);
+
+        List<FeedbackEntity> entities = feedbackEntities(staff.getId(), INSERTS);
+        start = System.nanoTime();
+        transaction.executeWithoutResult(status -> feedbackJpaRepository.saveAll(entities));
+        double saveAllRate = rate(INSERTS, start);
+
+        List<CommentEntity> comments = commentEntities(warmupFeedbackId, staff.getId(), INSERTS);
+        start = System.nanoTime();
+        transaction.executeWithoutResult(status -> commentJpaRepository.saveAll(comments));
+        double commentSaveAllRate = rate(INSERTS, start);
+
+        List<Feedback> feedbacks = feedbacks(staff.getId(), INSERTS);
+        start = System.nanoTime();
+        feedbackRepository.insertAll(feedbacks);
+        double insertAllRate = rate(INSERTS, start);
+
+        assertTrue(feedbacks.stream().allMatch(feedback -> feedback.getId() != null));
+        assertTrue(entities.stream().allMatch(entity -> entity.getId() != null));
+
+        System.out.printf("%nEinfügungen pro Sekunde (%d Massen-, %d Einzeleinfügungen)%n", INSERTS, SINGLE_CALLS);
+        System.out.printf("%-36s %12.0f%n", "createFeedback einzeln", createRate);
+        System.out.printf("%-36s %12.0f%n", "addComment einzeln", commentRate);
+        System.out.printf("%-36s %12.0f%n", "Feedback saveAll (eine Transaktion)", saveAllRate);
+        System.out.printf("%-36s %12.0f%n", "Kommentar saveAll (eine Transaktion)", commentSaveAllRate);
+        System.out.printf("%-36s %12.0f%n", "Feedback insertAll (JDBC-Batch)", insertAllRate);
+    }
+
+    private void createFeedbacks(UUID userId, int count) {
+        for (int i = 0; i < count; i++) {
+            FeedbackDTO dto = new FeedbackDTO();
+            dto.userId = userId;
+            dto.title = "Burst " + i;
+            dto.category = Category.VERKEHR;
+            dto.content = "Inhalt " + i;
+            feedbackService.createFeedback(dto);
+        }
+    }
+
+    private void addComments(Long feedbackId, UUID authorId, int count) {
+        for (int i = 0; i < count; i++) {
+            feedbackService.addComment(feedbackId, authorId, "Kommentar " + i);
+        }
+    }
+
+    private static List<FeedbackEntity> feedbackEntities(UUID userId, int count) {
+        List<FeedbackEntity> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entities.add(new FeedbackEntity(null, "Bulk " + i, Category.UMWELT, LocalDate.now(),
+                    "Inhalt " + i, Status.OPEN, false, userId));
+        }
+        return entities;
+    }
+
+    private static List<CommentEntity> commentEntities(Long feedbackId, UUID authorId, int count) {
+        List<CommentEntity> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entities.add(new CommentEntity(null, feedbackId, authorId, "Kommentar " + i, LocalDateTime.now()));
+        }
+        return entities;
+    }
+
+    private static List<Feedback> feedbacks(UUID userId, int count) {
+        List<Feedback> feedbacks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            feedbacks.add(Feedback.create("Import " + i, Category.VERWALTUNG, "Inhalt " + i, userId));
+        }
+        return feedbacks;
+    }
+
+    private static double rate(int count, long startNanos) {
+        return count / ((System.nanoTime() - startNanos) / 1e9);
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.cityfeedback.feedbackmanagement.infrastructure;
+
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.CommentRepository;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark für die Abfragen, die von den Indizes aus V2 profitieren.
+ *
+ * Läuft nicht im normalen Build, sondern nur über das Profil "benchmark":
+ * mvn test -Pbenchmark -Dbenchmark.rows=1000000
+ *
+ * Misst jede Abfrage zuerst ohne Indizes (werden gedroppt) und danach mit den
+ * erneut eingespielten Indizes aus der Migration und gibt den Median der Laufzeiten aus.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class FeedbackQueryBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int USERS = 1_000;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+    private static final String[] STATUSES = {"OPEN", "INPROGRESS", "DONE"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Test
+    void queryLatency_beforeAndAfterIndexes() {
+        seed();
+
+        // Dieselben Abfragen, die die Repositories absetzen, direkt per JDBC (ohne Entity-Mapping).
+        // Der Parameter wechselt pro Durchlauf, damit H2 kein zwischengespeichertes Ergebnis wiederverwendet.
+        Map<String, IntFunction<Integer>> queries = new LinkedHashMap<>();
+        queries.put("feedbacks by user_id", i -> jdbcTemplate.queryForList(
+                "SELECT id FROM feedbacks WHERE user_id = CAST(? AS UUID)", Long.class,
+                userId(i % USERS).toString()).size());
+        queries.put("comments by feedback_id", i -> jdbcTemplate.queryForList(
+                "SELECT id FROM comments WHERE feedback_id = ? ORDER BY created_at", Long.class,
+                (long) (i * 7919L % ROWS) + 1).size());
+        queries.put("published + status, newest 50", i -> jdbcTemplate.queryForList(
+                "SELECT id FROM feedbacks WHERE is_published = TRUE AND status = ? AND feedback_date <= ? " +
+                "ORDER BY feedback_date DESC LIMIT 50", Long.class,
+                STATUSES[i % STATUSES.length], LocalDate.now().minusDays(i)).size());
+        queries.put("count published by status", i -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM feedbacks WHERE is_published = TRUE AND status = ? AND feedback_date >= ?",
+                Integer.class, STATUSES[i % STATUSES.length], LocalDate.now().minusDays(30 + i)));
+
+        jdbcTemplate.execute("DROP INDEX idx_feedbacks_user_id");
+        jdbcTemplate.execute("DROP INDEX idx_feedbacks_published_status_date");
+        jdbcTemplate.execute("DROP INDEX idx_comments_feedback_id_created_at");
+
+        Map<String, Double> before = measureAll(queries);
+
+        new ResourceDatabasePopulator(
+                new ClassPathResource("db/migration/V2__add_feedback_and_comment_indexes.sql")).execute(dataSource);
+        jdbcTemplate.execute("ANALYZE");
+
+        Map<String, Double> after = measureAll(queries);
+
+        System.out.printf("%nFeedback-Abfragen bei %,d Feedbacks / %,d Kommentaren (Median in ms)%n", ROWS, ROWS);
+        System.out.printf("%-32s %12s %12s%n", "Abfrage", "ohne Index", "mit Index");
+        queries.keySet().forEach(name ->
+                System.out.printf("%-32s %12.3f %12.3f%n", name, before.get(name), after.get(name)));
+
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT id FROM feedbacks WHERE user_id = CAST(? AS UUID)", String.class, userId(42).toString());
+        assertTrue(plan.contains("IDX_FEEDBACKS_USER_ID"), plan);
+        assertFalse(feedbackRepository.findByUserId(userId(42)).isEmpty());
+        assertFalse(commentRepository.findByFeedbackId((long) ROWS / 2 + 1).isEmpty());
+    }
+
+    private void seed() {
+        jdbcTemplate.update(
+                "INSERT INTO users (id, email, password, role) " +
+                "SELECT CAST('00000000-0000-0000-0000-' || LPAD(CAST(X AS VARCHAR), 12, '0') AS UUID), " +
+                "'bench' || X || '@mail.de', 'x', 'CITIZEN' FROM SYSTEM_RANGE(0, ?)", USERS - 1);
+
+        jdbcTemplate.update(
+                "INSERT INTO feedbacks (title, category, feedback_date, content, status, is_published, user_id) " +
+                "SELECT 'Feedback ' || X, " +
+                "CASE MOD(X, 5) WHEN 0 THEN 'BELEUCHTUNG' WHEN 1 THEN 'UMWELT' WHEN 2 THEN 'VANDALISMUS' " +
+                "WHEN 3 THEN 'VERKEHR' ELSE 'VERWALTUNG' END, " +
+                "DATEADD('DAY', -MOD(X, 3650), CURRENT_DATE), 'Inhalt ' || X, " +
+                "CASE MOD(X, 4) WHEN 0 THEN 'OPEN' WHEN 1 THEN 'INPROGRESS' WHEN 2 THEN 'DONE' ELSE 'CLOSED' END, " +
+                "MOD(X, 3) = 0, " +
+                "CAST('00000000-0000-0000-0000-' || LPAD(CAST(MOD(X, ?) AS VARCHAR), 12, '0') AS UUID) " +
+                "FROM SYSTEM_RANGE(1, ?)", USERS, ROWS);
+
+        jdbcTemplate.update(
+                "INSERT INTO comments (feedback_id, author_id, content, created_at) " +
+                "SELECT MOD(X * 7919, ?) + 1, CAST('00000000-0000-0000-0000-000000000000' AS UUID), " +
+                "'Kommentar ' || X, DATEADD('MINUTE', X, TIMESTAMP '2024-01-01 00:00:00') " +
+                "FROM SYSTEM_RANGE(1, ?)", ROWS, ROWS);
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private Map<String, Double> measureAll(Map<String, IntFunction<Integer>> queries) {
+        Map<String, Double> result = new LinkedHashMap<>();
+        queries.forEach((name, query) -> result.put(name, medianMillis(query)));
+        return result;
+    }
+
+    private double medianMillis(IntFunction<Integer> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.apply(i);
+        }
+        List<Long> samples = new ArrayList<>();
+        for (int i = WARMUP; i < WARMUP + ITERATIONS; i++) {
+            long start = System.nanoTime();
+            query.apply(i);
+            samples.add(System.nanoTime() - start);
+        }
+        long[] sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+        return sorted[sorted.length / 2] / 1_000_000.0;
+    }
+
+    private static UUID userId(int index) {
+        return UUID.fromString(String.format("00000000-0000-0000-0000-%012d", index));
+    }
+}
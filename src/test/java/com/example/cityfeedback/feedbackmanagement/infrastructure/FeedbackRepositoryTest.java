@@ -3,6 +3,9 @@ package com.example.cityfeedback.feedbackmanagement.infrastructure;
 import com.example.cityfeedback.feedbackmanagement.domain.model.Feedback;
 import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackRepository;
 import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.FeedbackStatistics;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.FeedbackSummary;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status;
 import com.example.cityfeedback.usermanagement.domain.model.User;
 import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
@@ -13,6 +16,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -44,4 +51,153 @@ class FeedbackRepositoryTest {
         assertEquals(user.getId(), saved.getUserId());
     }
 
+    @Test
+    void insertAllAndSave_shouldAssignDistinctIdsFromSequence() {
+        User user = userRepository.save(new User(new Email("sequence@mail.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+
+        Feedback first = feedbackRepository.save(Feedback.create("Vorher", Category.UMWELT, "Inhalt", user.getId()));
+        List<Feedback> batch = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            batch.add(Feedback.create("Batch " + i, Category.VERKEHR, "Inhalt " + i, user.getId()));
+        }
+        feedbackRepository.insertAll(batch);
+        Feedback last = feedbackRepository.save(Feedback.create("Nachher", Category.UMWELT, "Inhalt", user.getId()));
+
+        // JPA und JDBC-Batch teilen sich den ID-Generator, die IDs steigen über beide Pfade
+        List<Long> batchIds = batch.stream().map(Feedback::getId).toList();
+        assertEquals(batchIds.stream().sorted().toList(), batchIds);
+        assertTrue(first.getId() < batchIds.get(0));
+        assertTrue(batchIds.get(batchIds.size() - 1) < last.getId());
+        assertEquals(122, feedbackRepository.findByUserId(user.getId()).size());
+    }
+
+    @Test
+    void findStatesByIds_shouldLoadStatesAcrossInClauseChunks() {
+        User user = userRepository.save(new User(new Email("states@mail.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+        List<Feedback> batch = new ArrayList<>();
+        for (int i = 0; i <= FeedbackRepositoryImpl.IN_CLAUSE_CHUNK_SIZE; i++) {
+            batch.add(Feedback.create("Zustand " + i, Category.VERKEHR, "Inhalt", user.getId()));
+        }
+        batch.get(0).publish();
+        feedbackRepository.insertAll(batch);
+        List<Long> ids = new ArrayList<>(batch.stream().map(Feedback::getId).toList());
+        ids.add(ids.get(0));
+        ids.add(-1L);
+
+        List<Feedback> states = feedbackRepository.findStatesByIds(ids);
+
+        assertEquals(batch.size(), states.size());
+        Feedback first = states.stream().filter(state -> state.getId().equals(ids.get(0))).findFirst().orElseThrow();
+        assertTrue(first.isPublished());
+        assertEquals(Status.OPEN, first.getStatus());
+        assertEquals(0, first.getVersion());
+    }
+
+    @Test
+    void aggregateQueries_shouldMatchSavedFeedbacks() {
+        User user = new User(new Email("aggregate@mail.de"), new Password("Abcdef12"), UserRole.CITIZEN);
+        user = userRepository.save(user);
+
+        FeedbackStatistics before = feedbackRepository.aggregateStatistics();
+        Map<Status, Long> statusBefore = feedbackRepository.countByStatus();
+
+        Feedback published = Feedback.create("Veröffentlicht", Category.VERKEHR, "Inhalt", user.getId());
+        published.publish();
+        feedbackRepository.save(published);
+
+        Feedback closed = Feedback.create("Geschlossen", Category.VERKEHR, "Inhalt", user.getId());
+        closed.close();
+        feedbackRepository.save(closed);
+
+        FeedbackStatistics after = feedbackRepository.aggregateStatistics();
+        Map<Status, Long> statusAfter = feedbackRepository.countByStatus();
+
+        assertEquals(before.getTotalCount() + 2, after.getTotalCount());
+        assertEquals(before.getPublishedCount() + 1, after.getPublishedCount());
+        assertEquals(before.getClosedCount() + 1, after.getClosedCount());
+        assertEquals(before.getOpenCount() + 1, after.getOpenCount());
+        assertNotNull(after.getOldestDate());
+        assertNotNull(after.getNewestDate());
+        assertEquals(statusBefore.getOrDefault(Status.CLOSED, 0L) + 1, statusAfter.get(Status.CLOSED));
+        assertTrue(feedbackRepository.findTitlesByCategory().get(Category.VERKEHR).contains("Geschlossen"));
+    }
+
+    @Test
+    void findPublishedActiveSummaries_shouldFilterAndSortInDatabase() {
+        User user = new User(new Email("summary@mail.de"), new Password("Abcdef12"), UserRole.CITIZEN);
+        user = userRepository.save(user);
+
+        Feedback active = Feedback.create("Aktiv", Category.UMWELT, "Inhalt", user.getId());
+        active.publish();
+        active = feedbackRepository.save(active);
+
+        Feedback newer = Feedback.create("Neuer", Category.VERKEHR, "Inhalt", user.getId());
+        newer.publish();
+        newer.updateStatus(Status.INPROGRESS);
+        newer = feedbackRepository.save(newer);
+
+        Feedback closed = Feedback.create("Geschlossen", Category.UMWELT, "Inhalt", user.getId());
+        closed.publish();
+        closed.close();
+        closed = feedbackRepository.save(closed);
+
+        Feedback unpublished = Feedback.create("Intern", Category.UMWELT, "Inhalt", user.getId());
+        unpublished = feedbackRepository.save(unpublished);
+
+        List<FeedbackSummary> summaries = feedbackRepository.findPublishedActiveSummaries();
+        List<Long> ids = summaries.stream().map(FeedbackSummary::getId).toList();
+
+        assertTrue(ids.contains(active.getId()));
+        assertTrue(ids.contains(newer.getId()));
+        assertFalse(ids.contains(closed.getId()));
+        assertFalse(ids.contains(unpublished.getId()));
+        // Gleiches Datum: höhere ID zuerst
+        assertTrue(ids.indexOf(newer.getId()) < ids.indexOf(active.getId()));
+
+        FeedbackSummary summary = summaries.get(ids.indexOf(newer.getId()));
+        assertEquals("Neuer", summary.getTitle());
+        assertEquals(Category.VERKEHR, summary.getCategory());
+        assertEquals(Status.INPROGRESS, summary.getStatus());
+        assertEquals(newer.getFeedbackDate(), summary.getFeedbackDate());
+    }
+
+    @Test
+    void findById_shouldReturnIndependentCopiesAndSeeSavedChanges() {
+        User user = new User(new Email("cache@mail.de"), new Password("Abcdef12"), UserRole.CITIZEN);
+        user = userRepository.save(user);
+        Feedback saved = feedbackRepository.save(Feedback.create("Cache", Category.UMWELT, "Inhalt", user.getId()));
+
+        Feedback first = feedbackRepository.findById(saved.getId()).orElseThrow();
+        first.publish();  // Änderung ohne save darf den Cache nicht verändern
+        Feedback second = feedbackRepository.findById(saved.getId()).orElseThrow();
+        assertNotSame(first, second);
+        assertFalse(second.isPublished());
+
+        second.publish();
+        feedbackRepository.save(second);
+        assertTrue(feedbackRepository.findById(saved.getId()).orElseThrow().isPublished());
+    }
+
+    @Test
+    void compareAndSetState_shouldOnlyUpdateMatchingVersion() {
+        User user = new User(new Email("transition@mail.de"), new Password("Abcdef12"), UserRole.CITIZEN);
+        user = userRepository.save(user);
+        Feedback feedback = feedbackRepository.save(Feedback.create("Übergang", Category.UMWELT, "Inhalt", user.getId()));
+        assertEquals(0, feedback.getVersion());
+
+        feedback.publish();
+        assertTrue(feedbackRepository.compareAndSetState(feedback, 0));
+        assertFalse(feedbackRepository.compareAndSetState(feedback, 0));
+
+        Feedback reloaded = feedbackRepository.findById(feedback.getId()).orElseThrow();
+        assertTrue(reloaded.isPublished());
+        assertEquals(1, reloaded.getVersion());
+
+        reloaded.close();
+        assertTrue(feedbackRepository.compareAndSetState(reloaded, 1));
+        Feedback closed = feedbackRepository.findById(feedback.getId()).orElseThrow();
+        assertEquals(Status.CLOSED, closed.getStatus());
+        assertFalse(closed.isPublished());
+        assertEquals(2, closed.getVersion());
+    }
 }
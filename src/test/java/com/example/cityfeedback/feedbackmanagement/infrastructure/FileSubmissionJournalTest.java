@@ -0,0 +1,83 @@
+package com.example.cityfeedback.feedbackmanagement.infrastructure;
+
+import com.example.cityfeedback.feedbackmanagement.domain.model.FeedbackSubmission;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileSubmissionJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private FileSubmissionJournal journal(DataSize segmentSize) {
+        return new FileSubmissionJournal(directory, segmentSize, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    void append_shouldBeReadBackAfterClose() {
+        FileSubmissionJournal journal = journal(DataSize.ofMegabytes(1));
+        FeedbackSubmission submission = submission("Laterne");
+
+        long segment = journal.append(submission);
+        assertTrue(journal.readClosedSegments().isEmpty());
+        journal.close();
+
+        Map<Long, List<FeedbackSubmission>> segments = journal.readClosedSegments();
+        assertEquals(List.of(segment), List.copyOf(segments.keySet()));
+        FeedbackSubmission read = segments.get(segment).get(0);
+        assertEquals(submission.getToken(), read.getToken());
+        assertEquals(submission.getUserId(), read.getUserId());
+        assertEquals("Laterne", read.getTitle());
+        assertEquals(Category.BELEUCHTUNG, read.getCategory());
+        assertEquals(submission.getReceivedAt(), read.getReceivedAt());
+        assertTrue(journal.currentSegment() > segment);
+    }
+
+    @Test
+    void append_shouldStartNewSegmentWhenFullAndReleaseOnlyClosedSegments() {
+        FileSubmissionJournal journal = journal(DataSize.ofBytes(1));
+
+        long first = journal.append(submission("Eins"));
+        long second = journal.append(submission("Zwei"));
+
+        assertEquals(first + 1, second);
+        assertEquals(2, journal.readClosedSegments().size());
+        journal.release(first);
+        assertEquals(List.of(second), List.copyOf(journal.readClosedSegments().keySet()));
+    }
+
+    @Test
+    void readClosedSegments_shouldSkipTornLastLine() throws IOException {
+        FileSubmissionJournal journal = journal(DataSize.ofMegabytes(1));
+        long segment = journal.append(submission("Vollständig"));
+        journal.close();
+        Files.writeString(directory.resolve("segment-" + segment + ".ndjson"), "{\"token\":\"abc",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        List<FeedbackSubmission> read = journal.readClosedSegments().get(segment);
+
+        assertEquals(1, read.size());
+        assertEquals("Vollständig", read.get(0).getTitle());
+    }
+
+    private static FeedbackSubmission submission(String title) {
+        return new FeedbackSubmission(UUID.randomUUID(), LocalDateTime.now(), UUID.randomUUID(), title,
+                Category.BELEUCHTUNG, "Inhalt");
+    }
+}
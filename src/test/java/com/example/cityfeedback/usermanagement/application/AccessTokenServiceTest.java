@@ -0,0 +1,92 @@
+package com.example.cityfeedback.usermanagement.application;
+
+import com.example.cityfeedback.usermanagement.domain.exceptions.InvalidCredentialsException;
+import com.example.cityfeedback.usermanagement.domain.model.User;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserPrincipal;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessTokenServiceTest {
+
+    private final AccessTokenService tokens = new AccessTokenService("test-schluessel", Duration.ofMinutes(15));
+
+    @Test
+    void issue_shouldCarryIdAndRole() {
+        User admin = user(UserRole.ADMIN);
+
+        AccessTokenService.IssuedToken issued = tokens.issue(admin);
+        UserPrincipal principal = tokens.verify(issued.getToken());
+
+        assertEquals(admin.getId(), principal.getUserId());
+        assertEquals(UserRole.ADMIN, principal.getRole());
+        assertTrue(issued.getExpiresAt().isAfter(Instant.now().plus(Duration.ofMinutes(14))));
+    }
+
+    @Test
+    void verify_shouldRejectTamperedOrForeignTokens() {
+        User citizen = user(UserRole.CITIZEN);
+        String token = tokens.issue(citizen).getToken();
+        String payload = token.substring(0, token.indexOf('.'));
+        String signature = token.substring(token.indexOf('.') + 1);
+        String elevated = java.util.Base64.getUrlEncoder().withoutPadding().encodeToString(
+                new String(java.util.Base64.getUrlDecoder().decode(payload)).replace("CITIZEN", "ADMIN").getBytes());
+
+        assertThrows(InvalidCredentialsException.class, () -> tokens.verify(elevated + "." + signature));
+        assertThrows(InvalidCredentialsException.class, () -> tokens.verify(payload));
+        assertThrows(InvalidCredentialsException.class, () -> tokens.verify("kein-token"));
+        assertThrows(InvalidCredentialsException.class,
+                () -> new AccessTokenService("anderer-schluessel", Duration.ofMinutes(15)).verify(token));
+    }
+
+    @Test
+    void verify_shouldRejectExpiredTokens() throws InterruptedException {
+        AccessTokenService shortLived = new AccessTokenService("test-schluessel", Duration.ofMillis(1));
+        String token = shortLived.issue(user(UserRole.ADMIN)).getToken();
+
+        Thread.sleep(5);
+
+        assertThrows(InvalidCredentialsException.class, () -> shortLived.verify(token));
+    }
+
+    @Test
+    void revoke_shouldRejectEarlierTokensOfThatUserOnly() throws InterruptedException {
+        User revoked = user(UserRole.ADMIN);
+        User other = user(UserRole.ADMIN);
+        String before = tokens.issue(revoked).getToken();
+        String otherToken = tokens.issue(other).getToken();
+
+        Thread.sleep(2);
+        tokens.revoke(revoked.getId());
+        Thread.sleep(2);
+        String after = tokens.issue(revoked).getToken();
+
+        assertThrows(InvalidCredentialsException.class, () -> tokens.verify(before));
+        assertEquals(revoked.getId(), tokens.verify(after).getUserId());
+        assertEquals(other.getId(), tokens.verify(otherToken).getUserId());
+    }
+
+    @Test
+    void revoke_shouldForgetRevocationsOlderThanTokenLifetime() throws InterruptedException {
+        AccessTokenService shortLived = new AccessTokenService("test-schluessel", Duration.ofMillis(10));
+        shortLived.revoke(UUID.randomUUID());
+
+        Thread.sleep(20);
+        shortLived.revoke(UUID.randomUUID());
+
+        assertEquals(1, shortLived.revocationCount());
+    }
+
+    private static User user(UserRole role) {
+        User user = new User(new Email(role.name().toLowerCase() + "@test.de"), Password.fromHash("hash"), role);
+        user.setId(UUID.randomUUID());
+        return user;
+    }
+}
@@ -8,6 +8,7 @@ import com.example.cityfeedback.usermanagement.domain.exceptions.UnauthorizedExc
 import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserPrincipal;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -88,7 +89,7 @@ class DemoDataServiceTest {
         normalUser = userRepository.save(normalUser);
 
         // Act
-        int deletedCount = demoDataService.deleteAllDemoData(adminUser.getId());
+        int deletedCount = demoDataService.deleteAllDemoData(principal(adminUser)).getDeletedUsers();
 
         // Assert
         assertTrue(deletedCount >= 2);
@@ -123,13 +124,38 @@ class DemoDataServiceTest {
         Long feedbackId = feedback.getId();
 
         // Act
-        demoDataService.deleteAllDemoData(adminUser.getId());
+        demoDataService.deleteAllDemoData(principal(adminUser));
 
         // Assert
         assertThrows(com.example.cityfeedback.feedbackmanagement.domain.exceptions.FeedbackNotFoundException.class,
                 () -> feedbackService.getFeedbackById(feedbackId));
     }
 
+    @Test
+    void deleteAllDemoData_shouldReportDeletedFeedbacksAndComments() {
+        // Arrange
+        User demoUser = userRepository.save(
+                new User(new Email("demo.zaehler@stadt.de"), new Password("Demo123!"), UserRole.CITIZEN));
+        com.example.cityfeedback.feedbackmanagement.application.FeedbackDTO dto =
+                new com.example.cityfeedback.feedbackmanagement.application.FeedbackDTO();
+        dto.userId = demoUser.getId();
+        dto.title = "Demo Feedback";
+        dto.category = Category.UMWELT;
+        dto.content = "Demo Content";
+        Feedback first = feedbackService.createFeedback(dto);
+        feedbackService.createFeedback(dto);
+        feedbackService.addComment(first.getId(), adminUser.getId(), "Demo-Kommentar");
+
+        // Act
+        DemoDataService.DemoDataPurgeDTO result = demoDataService.deleteAllDemoData(principal(adminUser));
+
+        // Assert
+        assertEquals(1, result.getDeletedUsers());
+        assertEquals(2, result.getDeletedFeedbacks());
+        assertEquals(1, result.getDeletedComments());
+        assertTrue(feedbackService.getCommentsByFeedbackId(first.getId()).isEmpty());
+    }
+
     @Test
     void deleteAllDemoData_shouldNotDeleteAdmin() {
         // Arrange: Erstelle Demo-Admin (sollte nicht gelöscht werden)
@@ -137,7 +163,7 @@ class DemoDataServiceTest {
         demoAdmin = userRepository.save(demoAdmin);
 
         // Act
-        demoDataService.deleteAllDemoData(adminUser.getId());
+        demoDataService.deleteAllDemoData(principal(adminUser));
 
         // Assert: Demo-Admin sollte nicht gelöscht werden
         assertTrue(userRepository.findById(demoAdmin.getId()).isPresent());
@@ -148,11 +174,11 @@ class DemoDataServiceTest {
         // Arrange
         User staffUser = new User(new Email("staff@test.de"), new Password("Abcdef12"), UserRole.STAFF);
         staffUser = userRepository.save(staffUser);
-        final java.util.UUID staffUserId = staffUser.getId();
+        final UserPrincipal staffPrincipal = principal(staffUser);
 
         // Act & Assert
         assertThrows(UnauthorizedException.class,
-                () -> demoDataService.deleteAllDemoData(staffUserId));
+                () -> demoDataService.deleteAllDemoData(staffPrincipal));
     }
 
     @Test
@@ -160,7 +186,7 @@ class DemoDataServiceTest {
         // Arrange: Keine Demo-User vorhanden
 
         // Act
-        int deletedCount = demoDataService.deleteAllDemoData(adminUser.getId());
+        int deletedCount = demoDataService.deleteAllDemoData(principal(adminUser)).getDeletedUsers();
 
         // Assert
         assertEquals(0, deletedCount);
@@ -179,7 +205,7 @@ class DemoDataServiceTest {
         normalUser2 = userRepository.save(normalUser2);
 
         // Act
-        int deletedCount = demoDataService.deleteAllDemoData(adminUser.getId());
+        int deletedCount = demoDataService.deleteAllDemoData(principal(adminUser)).getDeletedUsers();
 
         // Assert
         assertEquals(1, deletedCount);
@@ -187,5 +213,8 @@ class DemoDataServiceTest {
         assertTrue(userRepository.findById(normalUser1.getId()).isPresent());
         assertTrue(userRepository.findById(normalUser2.getId()).isPresent());
     }
-}
 
+    private static UserPrincipal principal(User user) {
+        return new UserPrincipal(user.getId(), user.getRole());
+    }
+}
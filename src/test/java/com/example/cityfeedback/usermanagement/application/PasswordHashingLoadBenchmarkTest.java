@@ -0,0 +1,188 @@
+package com.example.cityfeedback.usermanagement.application;
+
+import com.example.cityfeedback.config.BoundedWorkPool;
+import com.example.cityfeedback.feedbackmanagement.domain.model.Feedback;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackRepository;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Status;
+import com.example.cityfeedback.usermanagement.domain.model.User;
+import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Lasttest: Antwortzeiten von GET /feedback/public ohne und während eines Login-Sturms.
+ *
+ * Einige Leser rufen fortlaufend die öffentlichen Feedbacks ab; im zweiten Durchlauf melden sich
+ * zusätzlich viele parallele Clients fortlaufend an (BCrypt im Passwort-Pool). Ausgegeben werden
+ * p50/p99 der Lesezugriffe, erfolgreiche und mit 503 abgelehnte Logins pro Sekunde sowie die
+ * Kennzahlen des Pools. Abgelehnte Clients warten Retry-After ab. Zum Vergleich ohne Zugangskontrolle den Pool groß machen, z.B.
+ * -Dcityfeedback.password.pool.core-fraction=64 -Dcityfeedback.password.pool.queue-per-thread=100000
+ * -Dcityfeedback.password.pool.max-wait=PT0S
+ *
+ * Läuft nicht im normalen Build, sondern nur über das Profil "benchmark":
+ * mvn test -Pbenchmark -Dtest=PasswordHashingLoadBenchmarkTest -Dbenchmark.logins.clients=64 -Dbenchmark.seconds=10
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=OFF",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=OFF",
+        "logging.level.com.example.cityfeedback=WARN",
+        "logging.level.com.example.cityfeedback.config.LoggingAspect=OFF"
+})
+class PasswordHashingLoadBenchmarkTest {
+
+    private static final int LOGIN_CLIENTS = Integer.getInteger("benchmark.logins.clients", 64);
+    private static final int READERS = Integer.getInteger("benchmark.readers", 4);
+    private static final int SECONDS = Integer.getInteger("benchmark.seconds", 10);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private BoundedWorkPool passwordHashingPool;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @Test
+    void publicFeedbackLatency_duringLoginStorm() throws Exception {
+        User citizen = userRepository.save(new User(new Email("login-storm@mail.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+        List<Feedback> feedbacks = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            feedbacks.add(Feedback.importHistorical("Öffentlich " + i, Category.VERKEHR, "Inhalt " + i,
+                    citizen.getId(), LocalDate.now(), Status.DONE, true));
+        }
+        feedbackRepository.insertAll(feedbacks);
+        HttpRequest read = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/feedback/public")).GET().build();
+        HttpRequest login = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/user/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"login-storm@mail.de\",\"password\":\"Abcdef12\"}"))
+                .build();
+        assertEquals(200, client.send(login, HttpResponse.BodyHandlers.discarding()).statusCode());
+
+        run(read, login, 0, Math.max(1, SECONDS / 2)); // Aufwärmen
+        Result baseline = run(read, login, 0, SECONDS);
+        Result storm = run(read, login, LOGIN_CLIENTS, SECONDS);
+
+        BoundedWorkPool.PoolStats pool = passwordHashingPool.stats();
+        System.out.printf("%nGET /feedback/public (%d Leser, je %d s), Pool: %d Threads, Warteschlange %d%n",
+                READERS, SECONDS, pool.getThreads(), pool.getQueueCapacity());
+        System.out.printf("%-28s %10s %10s %10s %12s %12s %14s%n", "", "p50 ms", "p99 ms", "Lesen/s", "Logins/s", "503/s", "max. Warteschl.");
+        print("ohne Logins", baseline);
+        print(LOGIN_CLIENTS + " Login-Clients", storm);
+        System.out.printf("Pool: %d erledigt, %d abgelehnt, %d verfallen, Wartezeit mittel %.1f ms, max %.1f ms%n",
+                pool.getCompleted(), pool.getRejected(), pool.getExpired(), pool.getAverageWaitMillis(), pool.getMaxWaitMillis());
+    }
+
+    private Result run(HttpRequest read, HttpRequest login, int loginClients, int seconds) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong logins = new AtomicLong();
+        AtomicLong overloaded = new AtomicLong();
+        AtomicLong maxQueueDepth = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(READERS + loginClients + 1);
+        try {
+            executor.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    maxQueueDepth.accumulateAndGet(passwordHashingPool.stats().getQueueDepth(), Math::max);
+                    Thread.sleep(5);
+                }
+                return null;
+            });
+            for (int i = 0; i < loginClients; i++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        HttpResponse<Void> response = client.send(login, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() == 200) {
+                            logins.incrementAndGet();
+                        } else if (response.statusCode() == 503) {
+                            // Wie ein gut erzogener Client: Retry-After abwarten statt sofort erneut zu senden
+                            overloaded.incrementAndGet();
+                            long retryAfter = response.headers().firstValueAsLong("Retry-After").orElse(1);
+                            Thread.sleep(Math.min(TimeUnit.SECONDS.toMillis(retryAfter),
+                                    Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()))));
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (int i = 0; i < READERS; i++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        assertEquals(200, client.send(read, HttpResponse.BodyHandlers.discarding()).statusCode());
+                        latencies.add(System.nanoTime() - start);
+                    }
+                    return null;
+                });
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(seconds + 60L, TimeUnit.SECONDS));
+        }
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return new Result(sorted, logins.get() / (double) seconds, overloaded.get() / (double) seconds,
+                sorted.size() / (double) seconds, maxQueueDepth.get());
+    }
+
+    private static void print(String label, Result result) {
+        System.out.printf("%-28s %10.1f %10.1f %10.0f %12.1f %12.1f %14d%n", label,
+                result.percentile(0.50), result.percentile(0.99), result.readsPerSecond,
+                result.loginsPerSecond, result.overloadedPerSecond, result.maxQueueDepth);
+    }
+
+    private static final class Result {
+        private final List<Long> sortedNanos;
+        private final double loginsPerSecond;
+        private final double overloadedPerSecond;
+        private final double readsPerSecond;
+        private final long maxQueueDepth;
+
+        private Result(List<Long> sortedNanos, double loginsPerSecond, double overloadedPerSecond, double readsPerSecond,
+                       long maxQueueDepth) {
+            this.sortedNanos = sortedNanos;
+            this.loginsPerSecond = loginsPerSecond;
+            this.overloadedPerSecond = overloadedPerSecond;
+            this.readsPerSecond = readsPerSecond;
+            this.maxQueueDepth = maxQueueDepth;
+        }
+
+        private double percentile(double p) {
+            if (sortedNanos.isEmpty()) {
+                return Double.NaN;
+            }
+            int index = Math.min(sortedNanos.size() - 1, (int) Math.ceil(p * sortedNanos.size()) - 1);
+            return sortedNanos.get(Math.max(0, index)) / 1_000_000.0;
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.example.cityfeedback.usermanagement.application;
 
+import com.example.cityfeedback.config.BoundedWorkPool;
+import com.example.cityfeedback.usermanagement.domain.exceptions.InvalidCredentialsException;
 import com.example.cityfeedback.usermanagement.domain.model.User;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserPrincipal;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
 import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
+import com.example.cityfeedback.usermanagement.infrastructure.BCryptPasswordHasher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +16,12 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.http.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 import org.springframework.test.annotation.DirtiesContext;
 
@@ -25,6 +35,15 @@ class UserControllerTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AccessTokenService accessTokenService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private BoundedWorkPool passwordHashingPool;
+
     private User adminUser;
     private static int userCounter = 0;
 
@@ -51,6 +70,22 @@ class UserControllerTest {
         assertNotNull(response.getBody().getId());
     }
 
+    @Test
+    void streamAllUsers_shouldReturnJsonArrayAndNdjson() {
+        // Act
+        ResponseEntity<User[]> array = rest.getForEntity("/user?stream=true", User[].class);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+        ResponseEntity<String> ndjson = rest.exchange("/user", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        // Assert
+        assertEquals(HttpStatus.OK, array.getStatusCode());
+        assertTrue(java.util.Arrays.stream(array.getBody()).anyMatch(u -> adminUser.getId().equals(u.getId())));
+        assertEquals(HttpStatus.OK, ndjson.getStatusCode());
+        assertEquals(array.getBody().length, ndjson.getBody().split("\n").length);
+    }
+
     @Test
     void createUserByAdmin_shouldReturn200() {
         // Arrange
@@ -60,7 +95,7 @@ class UserControllerTest {
         dto.role = UserRole.CITIZEN;
 
         HttpHeaders headers = new HttpHeaders();
-        headers.set("X-Admin-Id", adminUser.getId().toString());
+        headers.setBearerAuth(accessTokenService.issue(adminUser).getToken());
         headers.setContentType(MediaType.APPLICATION_JSON);
         HttpEntity<CreateUserByAdminDTO> request = new HttpEntity<>(dto, headers);
 
@@ -73,6 +108,27 @@ class UserControllerTest {
         assertEquals(dto.email, response.getBody().getEmail().getValue());
     }
 
+    @Test
+    void createUserByAdmin_asNonAdmin_shouldReturn403WithoutHashing() {
+        User citizen = userRepository.save(new User(new Email("create-citizen" + (userCounter++) + "@test.de"),
+                new Password("Abcdef12"), UserRole.CITIZEN));
+        CreateUserByAdminDTO dto = new CreateUserByAdminDTO();
+        dto.email = "nicht-erstellt@test.de";
+        dto.password = "Abcdef12";
+        dto.role = UserRole.ADMIN;
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessTokenService.issue(citizen).getToken());
+        long completedBefore = passwordHashingPool.stats().getCompleted();
+
+        ResponseEntity<String> response = rest.postForEntity("/user/admin/create",
+                new HttpEntity<>(dto, headers), String.class);
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        assertEquals(completedBefore, passwordHashingPool.stats().getCompleted());
+        assertEquals(0, passwordHashingPool.stats().getQueueDepth());
+        assertTrue(userRepository.findByEmail(new Email(dto.email)).isEmpty());
+    }
+
     @Test
     void updateRole_shouldReturn200() {
         // Arrange
@@ -83,7 +139,7 @@ class UserControllerTest {
         dto.role = UserRole.STAFF;
 
         HttpHeaders headers = new HttpHeaders();
-        headers.set("X-Admin-Id", adminUser.getId().toString());
+        headers.setBearerAuth(accessTokenService.issue(adminUser).getToken());
         headers.setContentType(MediaType.APPLICATION_JSON);
         HttpEntity<ChangeRoleDTO> request = new HttpEntity<>(dto, headers);
 
@@ -109,7 +165,7 @@ class UserControllerTest {
         dto.password = "NewPass12";
 
         HttpHeaders headers = new HttpHeaders();
-        headers.set("X-Admin-Id", adminUser.getId().toString());
+        headers.setBearerAuth(accessTokenService.issue(adminUser).getToken());
         headers.setContentType(MediaType.APPLICATION_JSON);
         HttpEntity<ChangePasswordDTO> request = new HttpEntity<>(dto, headers);
 
@@ -137,7 +193,7 @@ class UserControllerTest {
         userToDelete = userRepository.save(userToDelete);
 
         HttpHeaders headers = new HttpHeaders();
-        headers.set("X-Admin-Id", adminUser.getId().toString());
+        headers.setBearerAuth(accessTokenService.issue(adminUser).getToken());
         HttpEntity<Void> request = new HttpEntity<>(headers);
 
         // Act
@@ -150,4 +206,146 @@ class UserControllerTest {
         // Assert
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
     }
+
+    @Test
+    void adminEndpoints_withoutValidToken_shouldReturn401AndForNonAdmins403() {
+        User citizen = userRepository.save(new User(new Email("token-citizen" + (userCounter++) + "@test.de"),
+                new Password("Abcdef12"), UserRole.CITIZEN));
+        String adminToken = accessTokenService.issue(adminUser).getToken();
+        String forged = adminToken.substring(0, adminToken.indexOf('.') + 1) + "AAAA";
+
+        assertEquals(HttpStatus.UNAUTHORIZED, deleteUser(citizen, null).getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED, deleteUser(citizen, forged).getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED, deleteUser(citizen, new AccessTokenService("anderer-schluessel",
+                java.time.Duration.ofMinutes(15)).issue(adminUser).getToken()).getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, deleteUser(adminUser, accessTokenService.issue(citizen).getToken()).getStatusCode());
+        assertTrue(userRepository.findById(citizen.getId()).isPresent());
+    }
+
+    @Test
+    void updateRole_shouldRevokeTokensIssuedWithOldRole() throws InterruptedException {
+        User otherAdmin = userRepository.save(new User(new Email("token-admin" + (userCounter++) + "@test.de"),
+                new Password("Abcdef12"), UserRole.ADMIN));
+        User target = userRepository.save(new User(new Email("token-target" + (userCounter++) + "@test.de"),
+                new Password("Abcdef12"), UserRole.CITIZEN));
+        String oldToken = accessTokenService.issue(otherAdmin).getToken();
+
+        ChangeRoleDTO dto = new ChangeRoleDTO();
+        dto.role = UserRole.CITIZEN;
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessTokenService.issue(adminUser).getToken());
+        ResponseEntity<String> demoted = rest.exchange("/user/" + otherAdmin.getId() + "/role", HttpMethod.PUT,
+                new HttpEntity<>(dto, headers), String.class);
+
+        assertEquals(HttpStatus.OK, demoted.getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED, deleteUser(target, oldToken).getStatusCode());
+        Thread.sleep(2); // Tokens aus der Millisekunde des Widerrufs gelten ebenfalls als widerrufen
+        assertEquals(HttpStatus.FORBIDDEN,
+                deleteUser(target, accessTokenService.issue(userRepository.findById(otherAdmin.getId()).orElseThrow()).getToken())
+                        .getStatusCode());
+        assertTrue(userRepository.findById(target.getId()).isPresent());
+    }
+
+    @Test
+    void updateRole_whileLoginWaitsInHashingPool_shouldRevokeTheIssuedToken() throws Exception {
+        User demotedAdmin = userRepository.save(new User(new Email("token-pool" + (userCounter++) + "@test.de"),
+                new Password("Abcdef12"), UserRole.ADMIN));
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<Object>> blockers = new ArrayList<>();
+        for (int i = 0; i < passwordHashingPool.stats().getThreads(); i++) {
+            blockers.add(passwordHashingPool.submit(() -> {
+                try {
+                    return release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }));
+        }
+
+        // Login liest den User (noch ADMIN) und wartet dann auf einen Pool-Thread
+        CompletableFuture<LoginResponseDTO> login;
+        try {
+            login = userService.login(demotedAdmin.getEmail().getValue(), "Abcdef12");
+            userService.updateRole(new UserPrincipal(adminUser.getId(), UserRole.ADMIN),
+                    demotedAdmin.getId(), UserRole.CITIZEN);
+        } finally {
+            release.countDown();
+        }
+        LoginResponseDTO response = login.get(10, TimeUnit.SECONDS);
+        CompletableFuture.allOf(blockers.toArray(CompletableFuture[]::new)).join();
+
+        assertEquals(UserRole.ADMIN, response.role);
+        assertThrows(InvalidCredentialsException.class,
+                () -> accessTokenService.verify(response.accessToken));
+    }
+
+    private ResponseEntity<String> deleteUser(User user, String token) {
+        HttpHeaders headers = new HttpHeaders();
+        if (token != null) {
+            headers.setBearerAuth(token);
+        }
+        return rest.exchange("/user/" + user.getId(), HttpMethod.DELETE, new HttpEntity<>(headers), String.class);
+    }
+
+    @Test
+    void login_shouldVerifyPasswordInHashingPool() {
+        LoginRequestDTO dto = new LoginRequestDTO();
+        dto.email = adminUser.getEmail().getValue();
+        dto.password = "Abcdef12";
+        LoginRequestDTO wrong = new LoginRequestDTO();
+        wrong.email = dto.email;
+        wrong.password = "Falsch123";
+
+        ResponseEntity<java.util.Map> response = rest.postForEntity("/user/login", dto, java.util.Map.class);
+        ResponseEntity<String> rejected = rest.postForEntity("/user/login", wrong, String.class);
+        ResponseEntity<List> pools = rest.getForEntity("/metrics/pools", List.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(adminUser.getId().toString(), response.getBody().get("id"));
+        assertEquals("ADMIN", response.getBody().get("role"));
+        assertFalse(response.getBody().containsKey("password"));
+        assertEquals(UserRole.ADMIN,
+                accessTokenService.verify((String) response.getBody().get("accessToken")).getRole());
+        assertEquals(HttpStatus.UNAUTHORIZED, rejected.getStatusCode());
+        java.util.Map<?, ?> stats = (java.util.Map<?, ?>) pools.getBody().get(0);
+        assertEquals("password-hashing", stats.get("name"));
+        assertEquals(2, ((Number) stats.get("completed")).intValue());
+    }
+
+    @Test
+    void login_withOutdatedHash_shouldUpgradeHashInBackground() throws InterruptedException {
+        String outdatedHash = new BCryptPasswordHasher(4).hash("Abcdef12");
+        User user = userRepository.save(new User(new Email("outdated-hash" + (userCounter++) + "@test.de"),
+                Password.fromHash(outdatedHash), UserRole.CITIZEN));
+        LoginRequestDTO dto = new LoginRequestDTO();
+        dto.email = user.getEmail().getValue();
+        dto.password = "Abcdef12";
+
+        ResponseEntity<String> response = rest.postForEntity("/user/login", dto, String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        Password stored;
+        do {
+            Thread.sleep(20);
+            stored = userRepository.findById(user.getId()).orElseThrow().getPassword();
+        } while (stored.getValue().equals(outdatedHash) && System.nanoTime() < deadline);
+        assertNotEquals(outdatedHash, stored.getValue());
+        assertFalse(stored.needsUpgrade());
+        assertTrue(stored.matches("Abcdef12"));
+        assertEquals(HttpStatus.OK, rest.postForEntity("/user/login", dto, String.class).getStatusCode());
+    }
+
+    @Test
+    void createUser_withInvalidPassword_shouldReturn400() {
+        UserDTO dto = new UserDTO();
+        dto.email = "kurzes-passwort@test.de";
+        dto.password = "abc";
+        dto.role = UserRole.CITIZEN;
+
+        ResponseEntity<String> response = rest.postForEntity("/user", dto, String.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
 }
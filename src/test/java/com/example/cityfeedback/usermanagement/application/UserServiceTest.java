@@ -1,10 +1,17 @@
 package com.example.cityfeedback.usermanagement.application;
 
+import com.example.cityfeedback.feedbackmanagement.application.FeedbackDTO;
+import com.example.cityfeedback.feedbackmanagement.application.FeedbackService;
+import com.example.cityfeedback.feedbackmanagement.domain.model.Feedback;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.CommentRepository;
+import com.example.cityfeedback.feedbackmanagement.domain.repositories.FeedbackRepository;
+import com.example.cityfeedback.feedbackmanagement.domain.valueobjects.Category;
 import com.example.cityfeedback.usermanagement.domain.exceptions.UserNotFoundException;
 import com.example.cityfeedback.usermanagement.domain.exceptions.UnauthorizedException;
 import com.example.cityfeedback.usermanagement.domain.model.User;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
+import com.example.cityfeedback.usermanagement.domain.valueobjects.UserPrincipal;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
 import com.example.cityfeedback.usermanagement.domain.repositories.UserRepository;
 import org.junit.jupiter.api.Test;
@@ -26,6 +33,15 @@ class UserServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
     @Test
     void createUser_shouldPersistUser() {
         Email email = new Email("example@mail.com");
@@ -65,7 +81,7 @@ class UserServiceTest {
         Password newUserPassword = new Password("Abcdef12");
 
         // Act
-        User newUser = userService.createUserByAdmin(admin.getId(), newUserEmail, newUserPassword, UserRole.CITIZEN);
+        User newUser = userService.createUserByAdmin(principal(admin), newUserEmail, newUserPassword, UserRole.CITIZEN);
 
         // Assert
         assertNotNull(newUser.getId());
@@ -78,14 +94,14 @@ class UserServiceTest {
         // Arrange
         User staff = new User(new Email("staff@test.de"), new Password("Abcdef12"), UserRole.STAFF);
         staff = userRepository.save(staff);
-        final UUID staffId = staff.getId();
+        final UserPrincipal staffPrincipal = principal(staff);
 
         Email newUserEmail = new Email("newuser@test.de");
         Password newUserPassword = new Password("Abcdef12");
 
         // Act & Assert
         assertThrows(UnauthorizedException.class,
-                () -> userService.createUserByAdmin(staffId, newUserEmail, newUserPassword, UserRole.CITIZEN));
+                () -> userService.createUserByAdmin(staffPrincipal, newUserEmail, newUserPassword, UserRole.CITIZEN));
     }
 
     @Test
@@ -98,7 +114,7 @@ class UserServiceTest {
         user = userRepository.save(user);
 
         // Act
-        User updated = userService.updateRole(admin.getId(), user.getId(), UserRole.STAFF);
+        User updated = userService.updateRole(principal(admin), user.getId(), UserRole.STAFF);
 
         // Assert
         assertEquals(UserRole.STAFF, updated.getRole());
@@ -109,7 +125,7 @@ class UserServiceTest {
         // Arrange
         User staff = new User(new Email("staff@test.de"), new Password("Abcdef12"), UserRole.STAFF);
         staff = userRepository.save(staff);
-        final UUID staffId = staff.getId();
+        final UserPrincipal staffPrincipal = principal(staff);
 
         User user = new User(new Email("user@test.de"), new Password("Abcdef12"), UserRole.CITIZEN);
         user = userRepository.save(user);
@@ -117,7 +133,25 @@ class UserServiceTest {
 
         // Act & Assert
         assertThrows(UnauthorizedException.class,
-                () -> userService.updateRole(staffId, userId, UserRole.STAFF));
+                () -> userService.updateRole(staffPrincipal, userId, UserRole.STAFF));
+    }
+
+    @Test
+    void updateRoleAndDeleteUser_shouldApplyToCommentPermissionImmediately() {
+        // Arrange
+        User admin = userRepository.save(new User(new Email("admin@test.de"), new Password("Abcdef12"), UserRole.ADMIN));
+        User user = userRepository.save(new User(new Email("user@test.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+        User author = userRepository.save(new User(new Email("author@test.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+        final UUID userId = user.getId();
+        final Long feedbackId = feedbackService.createFeedback(feedbackDto(author.getId(), "Rollenwechsel")).getId();
+        assertThrows(UnauthorizedException.class, () -> feedbackService.addComment(feedbackId, userId, "Noch nicht"));
+
+        // Act & Assert
+        userService.updateRole(principal(admin), userId, UserRole.STAFF);
+        assertNotNull(feedbackService.addComment(feedbackId, userId, "Jetzt als Mitarbeiter").getId());
+
+        userService.deleteUser(principal(admin), userId);
+        assertThrows(UserNotFoundException.class, () -> feedbackService.addComment(feedbackId, userId, "Gelöscht"));
     }
 
     @Test
@@ -157,19 +191,54 @@ class UserServiceTest {
         UUID userIdToDelete = userToDelete.getId();
 
         // Act
-        userService.deleteUser(admin.getId(), userIdToDelete);
+        userService.deleteUser(principal(admin), userIdToDelete);
 
         // Assert
         assertThrows(UserNotFoundException.class,
                 () -> userService.getUserById(userIdToDelete));
     }
 
+    @Test
+    void deleteUser_withFeedbacksAndComments_shouldDeleteThemSetBased() {
+        // Arrange
+        User admin = userRepository.save(new User(new Email("admin@test.de"), new Password("Abcdef12"), UserRole.ADMIN));
+        User author = userRepository.save(new User(new Email("author@test.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+        User other = userRepository.save(new User(new Email("other@test.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+
+        Feedback first = feedbackService.createFeedback(feedbackDto(author.getId(), "Erstes"));
+        Feedback second = feedbackService.createFeedback(feedbackDto(author.getId(), "Zweites"));
+        Feedback foreign = feedbackService.createFeedback(feedbackDto(other.getId(), "Fremdes"));
+        feedbackService.addComment(first.getId(), admin.getId(), "Kommentar 1");
+        feedbackService.addComment(second.getId(), admin.getId(), "Kommentar 2");
+        feedbackService.addComment(foreign.getId(), admin.getId(), "Bleibt bestehen");
+
+        // Act
+        userService.deleteUser(principal(admin), author.getId());
+
+        // Assert
+        assertTrue(userRepository.findById(author.getId()).isEmpty());
+        assertTrue(feedbackRepository.findByUserId(author.getId()).isEmpty());
+        assertTrue(commentRepository.findByFeedbackId(first.getId()).isEmpty());
+        assertTrue(commentRepository.findByFeedbackId(second.getId()).isEmpty());
+        assertTrue(feedbackRepository.findById(foreign.getId()).isPresent());
+        assertEquals(1, commentRepository.findByFeedbackId(foreign.getId()).size());
+    }
+
+    private static FeedbackDTO feedbackDto(UUID userId, String title) {
+        FeedbackDTO dto = new FeedbackDTO();
+        dto.userId = userId;
+        dto.title = title;
+        dto.category = Category.UMWELT;
+        dto.content = "Inhalt";
+        return dto;
+    }
+
     @Test
     void deleteUser_asStaff_shouldThrow() {
         // Arrange
         User staff = new User(new Email("staff@test.de"), new Password("Abcdef12"), UserRole.STAFF);
         staff = userRepository.save(staff);
-        final UUID staffId = staff.getId();
+        final UserPrincipal staffPrincipal = principal(staff);
 
         User userToDelete = new User(new Email("todelete@test.de"), new Password("Abcdef12"), UserRole.CITIZEN);
         userToDelete = userRepository.save(userToDelete);
@@ -177,7 +246,7 @@ class UserServiceTest {
 
         // Act & Assert
         assertThrows(UnauthorizedException.class,
-                () -> userService.deleteUser(staffId, userIdToDelete));
+                () -> userService.deleteUser(staffPrincipal, userIdToDelete));
     }
 
     @Test
@@ -186,10 +255,14 @@ class UserServiceTest {
         User adminUser = new User(new Email("admin@test.de"), new Password("Abcdef12"), UserRole.ADMIN);
         adminUser = userRepository.save(adminUser);
 
-        final UUID adminId = adminUser.getId();
+        final UserPrincipal admin = principal(adminUser);
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class,
-                () -> userService.deleteUser(adminId, adminId));
+                () -> userService.deleteUser(admin, admin.getUserId()));
+    }
+
+    private static UserPrincipal principal(User user) {
+        return new UserPrincipal(user.getId(), user.getRole());
     }
 }
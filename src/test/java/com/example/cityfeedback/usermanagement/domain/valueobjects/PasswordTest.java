@@ -1,5 +1,6 @@
 package com.example.cityfeedback.usermanagement.domain.valueobjects;
 
+import com.example.cityfeedback.usermanagement.domain.services.PasswordHasher;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -40,4 +41,47 @@ class PasswordTest {
     void passwordWithGermanUmlauts_shouldBeValid() {
         assertDoesNotThrow(() -> new Password("Äbcdef12"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void useHasher_shouldBeUsedForHashMatchesAndUpgrade() {
+        PasswordHasher reversing = new PasswordHasher() {
+            @Override
+            public String hash(String rawPassword) {
+                return new StringBuilder(rawPassword).reverse().toString();
+            }
+
+            @Override
+            public boolean matches(String rawPassword, String hashedPassword) {
+                return hash(rawPassword).equals(hashedPassword.replace("alt:", ""));
+            }
+
+            @Override
+            public boolean needsUpgrade(String hashedPassword) {
+                return hashedPassword.startsWith("alt:");
+            }
+        };
+        PasswordHasher previous = Password.getHasher();
+        Password.useHasher(reversing);
+        try {
+            Password password = new Password("Abcdef12");
+
+            assertEquals("21fedcbA", password.getValue());
+            assertTrue(password.matches("Abcdef12"));
+            assertTrue(Password.fromHash("21fedcbA").matches("Abcdef12"));
+            assertFalse(password.needsUpgrade());
+
+            Password outdated = Password.fromHash("alt:21fedcbA");
+            assertTrue(outdated.matches("Abcdef12"));
+            assertTrue(outdated.needsUpgrade());
+            // Passwort-Regeln gelten beim Nachhashen nicht (Altbestand)
+            assertEquals("tla", outdated.rehash("alt").getValue());
+        } finally {
+            Password.useHasher(previous);
+        }
+    }
+
+    @Test
+    void useHasher_withNull_shouldThrow() {
+        assertThrows(NullPointerException.class, () -> Password.useHasher(null));
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.cityfeedback.usermanagement.infrastructure;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BCryptPasswordHasherTest {
+
+    @Test
+    void hash_shouldUseConfiguredCostAndVerify() {
+        BCryptPasswordHasher hasher = new BCryptPasswordHasher(5);
+
+        String hash = hasher.hash("Abcdef12");
+
+        assertTrue(hash.startsWith("$2a$05$"));
+        assertTrue(hasher.matches("Abcdef12", hash));
+        assertFalse(hasher.matches("Abcdef13", hash));
+    }
+
+    @Test
+    void matches_shouldAcceptHashesWithOtherCost() {
+        String oldHash = new BCryptPasswordHasher(4).hash("Abcdef12");
+
+        assertTrue(new BCryptPasswordHasher(6).matches("Abcdef12", oldHash));
+    }
+
+    @Test
+    void needsUpgrade_shouldFlagLowerCostAndForeignHashesOnly() {
+        BCryptPasswordHasher hasher = new BCryptPasswordHasher(6);
+
+        assertTrue(hasher.needsUpgrade(new BCryptPasswordHasher(4).hash("Abcdef12")));
+        assertFalse(hasher.needsUpgrade(hasher.hash("Abcdef12")));
+        assertFalse(hasher.needsUpgrade(new BCryptPasswordHasher(7).hash("Abcdef12")));
+        assertTrue(hasher.needsUpgrade("{MD5}5f4dcc3b5aa765d61d8327deb882cf99"));
+        assertTrue(hasher.needsUpgrade(null));
+    }
+
+    @Test
+    void constructor_withCostOutOfRange_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new BCryptPasswordHasher(3));
+        assertThrows(IllegalArgumentException.class, () -> new BCryptPasswordHasher(32));
+    }
+
+    @Test
+    void costFor_shouldAddOneCostPerDoublingAndRespectBounds() {
+        Duration target = Duration.ofMillis(50);
+
+        // 4 ms bei Kosten 8 -> 8 ms (9), 16 ms (10), 32 ms (11), 64 ms (12) liegt über dem Ziel
+        assertEquals(11, BCryptPasswordHasher.costFor(target, 4_000_000, 4));
+        assertEquals(8, BCryptPasswordHasher.costFor(target, 50_000_000, 4));
+        assertEquals(10, BCryptPasswordHasher.costFor(target, 50_000_000, 10));
+        assertEquals(BCryptPasswordHasher.MIN_COST, BCryptPasswordHasher.costFor(target, 10_000_000_000L, 0));
+        assertEquals(BCryptPasswordHasher.MAX_COST, BCryptPasswordHasher.costFor(Duration.ofDays(365), 1, 4));
+    }
+
+    @Test
+    void calibrate_shouldNotGoBelowMinimum() {
+        assertTrue(BCryptPasswordHasher.calibrate(Duration.ofNanos(1), 6) >= 6);
+    }
+}
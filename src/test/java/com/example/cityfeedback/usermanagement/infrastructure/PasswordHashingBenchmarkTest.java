@@ -0,0 +1,63 @@
+package com.example.cityfeedback.usermanagement.infrastructure;
+
+import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark für das Passwort-Hashing: Dauer von new Password(raw) (Registrierung, Passwortänderung)
+ * und Password.matches (Login) je BCrypt-Kostenfaktor, dazu der auf dieser Hardware kalibrierte Wert.
+ *
+ * Läuft nicht im normalen Build, sondern nur über das Profil "benchmark":
+ * mvn test -Pbenchmark -Dtest=PasswordHashingBenchmarkTest -Dbenchmark.password.min-cost=8 -Dbenchmark.password.max-cost=14
+ */
+@Tag("benchmark")
+class PasswordHashingBenchmarkTest {
+
+    private static final int MIN_COST = Integer.getInteger("benchmark.password.min-cost", 8);
+    private static final int MAX_COST = Integer.getInteger("benchmark.password.max-cost", 14);
+    /** Gesamte Messdauer je Kostenfaktor und Operation. */
+    private static final long BUDGET_NANOS = Duration.ofSeconds(2).toNanos();
+    private static final String RAW = "Abcdef12";
+
+    @AfterAll
+    static void restoreDefaultCost() {
+        Password.useHasher(new BCryptPasswordHasher(10));
+    }
+
+    @Test
+    void hashAndMatch_perCost() {
+        System.out.printf("Kalibriert auf 50 ms: Kostenfaktor %d%n",
+                BCryptPasswordHasher.calibrate(Duration.ofMillis(50), BCryptPasswordHasher.MIN_COST));
+        System.out.printf("%-6s %14s %14s %12s%n", "Kosten", "new Password", "matches", "Logins/s");
+        for (int cost = MIN_COST; cost <= MAX_COST; cost++) {
+            Password.useHasher(new BCryptPasswordHasher(cost));
+            Password password = new Password(RAW); // Aufwärmen
+            assertTrue(password.matches(RAW));
+
+            double hashMillis = measure(() -> new Password(RAW));
+            double matchMillis = measure(() -> assertTrue(password.matches(RAW)));
+            System.out.printf("%-6d %11.2f ms %11.2f ms %12.1f%n", cost, hashMillis, matchMillis, 1000 / matchMillis);
+        }
+    }
+
+    /**
+     * @return Durchschnittliche Dauer in Millisekunden (mindestens 3 Durchläufe, sonst bis das Budget erschöpft ist)
+     */
+    private static double measure(Runnable operation) {
+        int runs = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            operation.run();
+            runs++;
+            elapsed = System.nanoTime() - start;
+        } while (runs < 3 || elapsed < BUDGET_NANOS);
+        return elapsed / 1_000_000.0 / runs;
+    }
+}
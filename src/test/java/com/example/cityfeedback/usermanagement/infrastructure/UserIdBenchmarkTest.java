@@ -0,0 +1,131 @@
+package com.example.cityfeedback.usermanagement.infrastructure;
+
+import com.example.cityfeedback.usermanagement.infrastructure.persistence.UuidV7Generator;
+import org.h2.Driver;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark für User-IDs: zufällige UUIDv4 gegen zeitlich geordnete UUIDv7 als Primärschlüssel.
+ *
+ * Je Variante wird eine Tabelle wie "users" (UUID-Primärschlüssel, eindeutige E-Mail) sowie eine
+ * Tabelle wie "feedbacks" mit Index auf user_id befüllt. Gemessen werden Einfügungen pro Sekunde
+ * sowie Lookups auf zuletzt angelegte und auf zufällige User.
+ * Der Benchmark läuft gegen eine dateibasierte H2-Datenbank mit begrenztem Seiten-Cache (64 MB)
+ * in einem temporären Verzeichnis, damit sich die Lokalität der Schlüssel im Cache auswirkt.
+ * Seitenteilungen zählt H2 nicht; sie zeigen sich nur indirekt in der Einfügerate.
+ *
+ * Läuft nicht im normalen Build, sondern nur über das Profil "benchmark":
+ * mvn test -Pbenchmark -Dtest=UserIdBenchmarkTest -Dbenchmark.users=2000000
+ */
+@Tag("benchmark")
+class UserIdBenchmarkTest {
+
+    private static final int USERS = Integer.getInteger("benchmark.users", 2_000_000);
+    private static final int BATCH_SIZE = 10_000;
+    private static final int LOOKUPS = 200_000;
+    /** Anteil der zuletzt angelegten User, auf die sich die "heißen" Lookups verteilen. */
+    private static final int RECENT_SHARE = 100;
+
+    @TempDir
+    Path directory;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void insertAndLookup_uuidV4VersusV7() {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:file:" + directory.resolve("user-ids") + ";CACHE_SIZE=65536", "sa", "", true);
+        dataSource.setDriverClassName(Driver.class.getName());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        try {
+            compare();
+        } finally {
+            jdbcTemplate.execute("SHUTDOWN");
+            dataSource.destroy();
+        }
+    }
+
+    private void compare() {
+        // Aufwärmen
+        run("v4", USERS / 20, UUID::randomUUID);
+        run("v7", USERS / 20, UuidV7Generator::generate);
+
+        Result v4 = run("v4", USERS, UUID::randomUUID);
+        Result v7 = run("v7", USERS, UuidV7Generator::generate);
+
+        System.out.printf("%nUser-IDs v4 gegen v7 (%d User, %d Lookups)%n", USERS, LOOKUPS);
+        System.out.printf("%-36s %14s %14s%n", "", "UUIDv4", "UUIDv7");
+        System.out.printf("%-36s %14.0f %14.0f%n", "Einfügungen/s (User + Referenz)", v4.insertRate, v7.insertRate);
+        System.out.printf("%-36s %14.0f %14.0f%n", "Lookups/s zuletzt angelegte User", v4.recentLookupRate, v7.recentLookupRate);
+        System.out.printf("%-36s %14.0f %14.0f%n", "Lookups/s zufällige User", v4.randomLookupRate, v7.randomLookupRate);
+    }
+
+    private Result run(String variant, int users, Supplier<UUID> ids) {
+        String userTable = "bench_users_" + variant;
+        String referenceTable = "bench_feedbacks_" + variant;
+        jdbcTemplate.execute("CREATE TABLE " + userTable
+                + " (id UUID PRIMARY KEY, email VARCHAR(255) NOT NULL UNIQUE)");
+        jdbcTemplate.execute("CREATE TABLE " + referenceTable
+                + " (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id UUID NOT NULL, title VARCHAR(255))");
+        jdbcTemplate.execute("CREATE INDEX idx_" + referenceTable + "_user_id ON " + referenceTable + " (user_id)");
+        try {
+            List<UUID> inserted = new ArrayList<>(users);
+            long start = System.nanoTime();
+            for (int offset = 0; offset < users; offset += BATCH_SIZE) {
+                List<Object[]> userRows = new ArrayList<>(BATCH_SIZE);
+                List<Object[]> referenceRows = new ArrayList<>(BATCH_SIZE);
+                for (int i = offset; i < Math.min(users, offset + BATCH_SIZE); i++) {
+                    UUID id = ids.get();
+                    inserted.add(id);
+                    userRows.add(new Object[]{id, "bench" + i + "@mail.de"});
+                    referenceRows.add(new Object[]{id, "Meldung " + i});
+                }
+                jdbcTemplate.batchUpdate("INSERT INTO " + userTable + " (id, email) VALUES (?, ?)", userRows);
+                jdbcTemplate.batchUpdate("INSERT INTO " + referenceTable + " (user_id, title) VALUES (?, ?)", referenceRows);
+            }
+            double insertRate = users / ((System.nanoTime() - start) / 1e9);
+
+            Result result = new Result();
+            result.insertRate = insertRate;
+            int recent = Math.max(1, users / RECENT_SHARE);
+            result.recentLookupRate = lookups(userTable, referenceTable, inserted, users - recent, users);
+            result.randomLookupRate = lookups(userTable, referenceTable, inserted, 0, users);
+            return result;
+        } finally {
+            jdbcTemplate.execute("DROP TABLE " + referenceTable);
+            jdbcTemplate.execute("DROP TABLE " + userTable);
+        }
+    }
+
+    private double lookups(String userTable, String referenceTable, List<UUID> inserted, int from, int to) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String userQuery = "SELECT email FROM " + userTable + " WHERE id = ?";
+        String referenceQuery = "SELECT COUNT(*) FROM " + referenceTable + " WHERE user_id = ?";
+        long start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            UUID id = inserted.get(random.nextInt(from, to));
+            assertNotNull(jdbcTemplate.queryForObject(userQuery, String.class, id));
+            assertEquals(1, jdbcTemplate.queryForObject(referenceQuery, Integer.class, id));
+        }
+        return LOOKUPS / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static class Result {
+        double insertRate;
+        double recentLookupRate;
+        double randomLookupRate;
+    }
+}
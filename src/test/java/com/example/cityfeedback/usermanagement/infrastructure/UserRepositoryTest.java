@@ -5,12 +5,19 @@ import com.example.cityfeedback.usermanagement.domain.repositories.UserRepositor
 import com.example.cityfeedback.usermanagement.domain.valueobjects.Email;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.Password;
 import com.example.cityfeedback.usermanagement.domain.valueobjects.UserRole;
+import com.example.cityfeedback.config.BoundedTtlCache;
+import com.example.cityfeedback.config.CacheRegistry;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -20,6 +27,12 @@ class UserRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CacheRegistry cacheRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void saveAndLoadUser() {
         User user = new User(
@@ -34,6 +47,16 @@ class UserRepositoryTest {
         assertEquals("repotest@mail.de", saved.getEmail().getValue());
     }
 
+    @Test
+    void save_shouldAssignTimeOrderedUuidV7() {
+        User first = userRepository.save(new User(new Email("uuid-first@mail.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+        User second = userRepository.save(new User(new Email("uuid-second@mail.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+
+        assertEquals(7, first.getId().version());
+        assertEquals(7, second.getId().version());
+        assertTrue(Long.compareUnsigned(first.getId().getMostSignificantBits(), second.getId().getMostSignificantBits()) < 0);
+    }
+
     @Test
     void existsByEmail_shouldReturnTrue() {
         Email email = new Email("exists@mail.de");
@@ -47,4 +70,105 @@ class UserRepositoryTest {
     void existsByEmail_shouldReturnFalse() {
         assertFalse(userRepository.existsByEmail(new Email("notfound@mail.de")));
     }
+
+    @Test
+    void findDemoUserIds_shouldMatchDemoPatternsExceptAdmins() {
+        User prefixed = userRepository.save(new User(new Email("demo.repo@stadt.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+        User exampleDomain = userRepository.save(new User(new Email("repo@example.com"), new Password("Abcdef12"), UserRole.STAFF));
+        User admin = userRepository.save(new User(new Email("demo.repoadmin@example.com"), new Password("Abcdef12"), UserRole.ADMIN));
+        User normal = userRepository.save(new User(new Email("nodemo@mail.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+
+        List<UUID> demoUserIds = userRepository.findDemoUserIds();
+
+        assertTrue(demoUserIds.containsAll(List.of(prefixed.getId(), exampleDomain.getId())));
+        assertFalse(demoUserIds.contains(admin.getId()));
+        assertFalse(demoUserIds.contains(normal.getId()));
+    }
+
+    @Test
+    void findDemoUserIds_shouldMatchExampleDomainAnywhereAndUsersWithoutRole() {
+        User subdomain = userRepository.save(new User(new Email("repo@example.com.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+        UUID withoutRole = UUID.randomUUID();
+        jdbcTemplate.update("insert into users (id, email, password, role) values (?, ?, ?, null)",
+                withoutRole, "ohne-rolle@example.com", "$2a$10$abcdefghijklmnopqrstuv");
+        UUID normalWithoutRole = UUID.randomUUID();
+        jdbcTemplate.update("insert into users (id, email, password, role) values (?, ?, ?, null)",
+                normalWithoutRole, "ohne-rolle@mail.de", "$2a$10$abcdefghijklmnopqrstuv");
+
+        List<UUID> demoUserIds = userRepository.findDemoUserIds();
+
+        assertTrue(demoUserIds.containsAll(List.of(subdomain.getId(), withoutRole)));
+        assertFalse(demoUserIds.contains(normalWithoutRole));
+    }
+
+    @Test
+    void deleteAllById_shouldDeleteOnlyGivenUsers() {
+        User first = userRepository.save(new User(new Email("bulk1@mail.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+        User second = userRepository.save(new User(new Email("bulk2@mail.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+        User kept = userRepository.save(new User(new Email("bulk3@mail.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+        userRepository.findById(first.getId()); // im Cache ablegen
+
+        int deleted = userRepository.deleteAllById(List.of(first.getId(), second.getId()));
+
+        assertEquals(2, deleted);
+        assertTrue(userRepository.findById(first.getId()).isEmpty());
+        assertTrue(userRepository.findById(second.getId()).isEmpty());
+        assertTrue(userRepository.findById(kept.getId()).isPresent());
+    }
+
+    @Test
+    void replacePasswordHash_shouldOnlyReplaceExpectedHash() {
+        User user = userRepository.save(new User(new Email("rehash@mail.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+        String oldHash = user.getPassword().getValue();
+        String newHash = new Password("Abcdef12").getValue();
+        userRepository.findById(user.getId()); // im Cache ablegen
+
+        assertTrue(userRepository.replacePasswordHash(user.getId(), oldHash, newHash));
+        assertFalse(userRepository.replacePasswordHash(user.getId(), oldHash, new Password("Abcdef13").getValue()));
+
+        assertEquals(newHash, userRepository.findById(user.getId()).orElseThrow().getPassword().getValue());
+    }
+
+    @Test
+    void findRoleById_shouldFollowRoleChangeAndDeletion() {
+        User user = userRepository.save(new User(new Email("role-cache@mail.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+        assertEquals(UserRole.CITIZEN, userRepository.findRoleById(user.getId()).orElseThrow());
+
+        user.changeRole(UserRole.STAFF);
+        userRepository.save(user);
+        assertEquals(UserRole.STAFF, userRepository.findRoleById(user.getId()).orElseThrow());
+
+        userRepository.delete(user);
+        assertTrue(userRepository.findRoleById(user.getId()).isEmpty());
+        assertFalse(userRepository.existsById(user.getId()));
+        assertFalse(userRepository.existsById(UUID.randomUUID()));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void save_shouldPutRoleAfterCommitWithoutLaterDatabaseLookup() {
+        User user = userRepository.save(new User(new Email("role-commit@mail.de"), new Password("Abcdef12"), UserRole.CITIZEN));
+        try {
+            BoundedTtlCache.CacheStats before = roleCacheStats();
+
+            assertTrue(userRepository.existsById(user.getId()));
+            user.changeRole(UserRole.ADMIN);
+            userRepository.save(user);
+            assertEquals(UserRole.ADMIN, userRepository.findRoleById(user.getId()).orElseThrow());
+
+            BoundedTtlCache.CacheStats after = roleCacheStats();
+            assertEquals(before.getMisses(), after.getMisses());
+            assertEquals(before.getHits() + 2, after.getHits());
+        } finally {
+            userRepository.delete(user);
+        }
+        assertFalse(userRepository.existsById(user.getId()));
+    }
+
+    private BoundedTtlCache.CacheStats roleCacheStats() {
+        return cacheRegistry.stats().stream()
+                .filter(stats -> stats.getName().equals("user-role"))
+                .findFirst()
+                .orElseThrow();
+    }
 }
@@ -0,0 +1,45 @@
+package com.example.cityfeedback.usermanagement.infrastructure.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void generate_shouldSetVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7Generator.generate();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        long timestamp = UuidV7Generator.timestampMillis(uuid);
+        assertTrue(timestamp >= before && timestamp <= after + 1);
+    }
+
+    @Test
+    void generate_shouldBeStrictlyIncreasingAndUnique() {
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            uuids.add(UuidV7Generator.generate());
+        }
+
+        for (int i = 1; i < uuids.size(); i++) {
+            // Byteweiser Vergleich wie im Index (UUID.compareTo vergleicht vorzeichenbehaftet)
+            assertTrue(Long.compareUnsigned(uuids.get(i - 1).getMostSignificantBits(),
+                    uuids.get(i).getMostSignificantBits()) < 0);
+        }
+        assertEquals(uuids.size(), new HashSet<>(uuids).size());
+    }
+
+    @Test
+    void timestampMillis_shouldRejectOtherVersions() {
+        assertThrows(IllegalArgumentException.class, () -> UuidV7Generator.timestampMillis(UUID.randomUUID()));
+    }
+}